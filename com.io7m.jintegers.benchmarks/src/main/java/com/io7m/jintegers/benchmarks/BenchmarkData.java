@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.SplittableRandom;
+
+/**
+ * Functions to produce benchmark input data.
+ */
+
+final class BenchmarkData
+{
+  private static final long SEED = 0x6a696e7465676572L;
+
+  private BenchmarkData()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param size The number of bytes
+   *
+   * @return An array of deterministic pseudo-random bytes
+   */
+
+  static byte[] bytes(
+    final int size)
+  {
+    final byte[] r = new byte[size];
+    new SplittableRandom(SEED).nextBytes(r);
+    return r;
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return An array of deterministic pseudo-random values
+   */
+
+  static short[] shorts(
+    final int count)
+  {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final short[] r = new short[count];
+    for (int index = 0; index < count; ++index) {
+      r[index] = (short) random.nextInt();
+    }
+    return r;
+  }
+
+  /**
+   * @param count The number of values
+   * @param bits  The number of significant bits in each value
+   *
+   * @return An array of deterministic pseudo-random values
+   */
+
+  static int[] ints(
+    final int count,
+    final int bits)
+  {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final int[] r = new int[count];
+    for (int index = 0; index < count; ++index) {
+      r[index] = random.nextInt() >>> (32 - bits);
+    }
+    return r;
+  }
+
+  /**
+   * @param count The number of values
+   * @param bits  The number of significant bits in each value
+   *
+   * @return An array of deterministic pseudo-random values
+   */
+
+  static long[] longs(
+    final int count,
+    final int bits)
+  {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final long[] r = new long[count];
+    for (int index = 0; index < count; ++index) {
+      r[index] = random.nextLong() >>> (64 - bits);
+    }
+    return r;
+  }
+
+  /**
+   * @param count The number of values
+   * @param run   The average length of a run of equal values
+   *
+   * @return An array of deterministic pseudo-random 8-bit values in runs
+   */
+
+  static long[] runs(
+    final int count,
+    final int run)
+  {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final long[] r = new long[count];
+    int index = 0;
+    while (index < count) {
+      final int n = Math.min(count - index, 1 + random.nextInt(2 * run - 1));
+      final long x = random.nextInt(256);
+      for (int k = 0; k < n; ++k) {
+        r[index + k] = x;
+      }
+      index += n;
+    }
+    return r;
+  }
+}
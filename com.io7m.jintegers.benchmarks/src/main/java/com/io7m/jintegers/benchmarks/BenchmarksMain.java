@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the benchmarks with the GC profiler enabled so that allocation rates
+ * are published alongside timings.
+ *
+ * <p>Usage: {@code BenchmarksMain [result.json [include-regex]]}</p>
+ */
+
+public final class BenchmarksMain
+{
+  private BenchmarksMain()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Command-line entry point.
+   *
+   * @param args Command-line arguments
+   *
+   * @throws RunnerException On benchmark failures
+   */
+
+  public static void main(
+    final String[] args)
+    throws RunnerException
+  {
+    final String result =
+      args.length > 0 ? args[0] : "jintegers-benchmarks.json";
+    final String include =
+      args.length > 1 ? args[1] : "com\\.io7m\\.jintegers\\.benchmarks\\..*";
+
+    final Options options =
+      new OptionsBuilder()
+        .include(include)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(result)
+        .build();
+
+    new Runner(options).run();
+  }
+}
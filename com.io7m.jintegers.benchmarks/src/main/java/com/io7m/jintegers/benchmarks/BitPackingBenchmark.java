@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.BitPacking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for packing and unpacking fixed-width values.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BitPackingBenchmark
+{
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The width of each value in bits.
+   */
+
+  @Param({"10", "12", "20", "32"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private int[] values;
+  private int[] output;
+  private byte[] packed;
+  private long[] packedWords;
+  private ByteBuffer packedBuffer;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public BitPackingBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.ints(this.count, this.bits);
+    this.output = new int[this.count];
+
+    final int size = (int) BitPacking.packedLengthBytes(this.count, this.bits);
+    this.packed = new byte[size];
+    BitPacking.packIntArray(
+      this.values, 0, this.packed, 0, this.count, this.bits);
+    this.packedWords =
+      new long[(int) BitPacking.packedLengthLongs(this.count, this.bits)];
+    BitPacking.packIntArray(
+      this.values, 0, this.packedWords, 0, this.count, this.bits);
+    this.packedBuffer = this.bufferKind.allocate(size);
+    this.packedBuffer.put(0, this.packed);
+  }
+
+  /**
+   * Pack values into a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytes()
+  {
+    return BitPacking.packIntArray(
+      this.values, 0, this.packed, 0, this.count, this.bits);
+  }
+
+  /**
+   * Pack values into an array of words.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] packLongs()
+  {
+    return BitPacking.packIntArray(
+      this.values, 0, this.packedWords, 0, this.count, this.bits);
+  }
+
+  /**
+   * Pack values into a buffer.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBuffer()
+  {
+    return BitPacking.packIntArray(
+      this.values, 0, this.packedBuffer, 0, this.count, this.bits);
+  }
+
+  /**
+   * Unpack values from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] unpackBytes()
+  {
+    return BitPacking.unpackIntArray(
+      this.packed, 0, this.output, 0, this.count, this.bits);
+  }
+
+  /**
+   * Unpack values from an array of words.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] unpackLongs()
+  {
+    return BitPacking.unpackIntArray(
+      this.packedWords, 0, this.output, 0, this.count, this.bits);
+  }
+
+  /**
+   * Unpack values from a buffer.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] unpackBuffer()
+  {
+    return BitPacking.unpackIntArray(
+      this.packedBuffer, 0, this.output, 0, this.count, this.bits);
+  }
+
+  /**
+   * Read the last element of a byte array without unpacking the others.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long getBytes()
+  {
+    return BitPacking.get(this.packed, 0, this.count - 1, this.bits);
+  }
+}
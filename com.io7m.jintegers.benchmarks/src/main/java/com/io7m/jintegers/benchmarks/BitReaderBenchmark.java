@@ -0,0 +1,196 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.BitOrder;
+import com.io7m.jintegers.BitReader;
+import com.io7m.jintegers.BitWriter;
+import com.io7m.jintegers.Unsigned8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for reading and writing bit fields, compared against
+ * assembling fields from single bytes.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BitReaderBenchmark
+{
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The bit order of the data.
+   */
+
+  @Param({"MSB_FIRST", "LSB_FIRST"})
+  public BitOrder order;
+
+  /**
+   * The number of bits in each field.
+   */
+
+  @Param({"3", "13", "29"})
+  public int bits;
+
+  /**
+   * The number of fields processed per invocation.
+   */
+
+  @Param({"1024"})
+  public int count;
+
+  private long[] values;
+  private byte[] data;
+  private ByteBuffer dataBuffer;
+  private BitReader arrayReader;
+  private BitReader bufferReader;
+  private BitWriter arrayWriter;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public BitReaderBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.longs(this.count, this.bits);
+
+    final int size = (this.count * this.bits + 7) / 8;
+    this.data = new byte[size];
+    this.arrayWriter = new BitWriter(this.data, 0, this.order);
+    for (final long x : this.values) {
+      this.arrayWriter.writeBits(x, this.bits);
+    }
+    this.arrayWriter.flush();
+
+    this.dataBuffer = this.bufferKind.allocate(size);
+    this.dataBuffer.put(0, this.data);
+    this.arrayReader = new BitReader(this.data, 0, this.order);
+    this.bufferReader = new BitReader(this.dataBuffer, 0, this.order);
+  }
+
+  /**
+   * Read fields from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long readBytes()
+  {
+    final BitReader reader = this.arrayReader.reset(this.data, 0);
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += reader.readBits(this.bits);
+    }
+    return sum;
+  }
+
+  /**
+   * Read fields from a buffer.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long readBuffer()
+  {
+    final BitReader reader = this.bufferReader.reset(this.dataBuffer, 0);
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += reader.readBits(this.bits);
+    }
+    return sum;
+  }
+
+  /**
+   * Write fields into a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int writeBytes()
+  {
+    final BitWriter writer = this.arrayWriter.reset(this.data, 0);
+    for (final long x : this.values) {
+      writer.writeBits(x, this.bits);
+    }
+    return writer.flush();
+  }
+
+  /**
+   * Baseline: assemble each field from the buffer one byte at a time,
+   * most significant bit first.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineUnsigned8()
+  {
+    final ByteBuffer buffer = this.dataBuffer;
+    long sum = 0L;
+    long position = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      long x = 0L;
+      int need = this.bits;
+      while (need > 0) {
+        final int b = Unsigned8.unpackFromBuffer(buffer, (int) (position >>> 3));
+        final int used = (int) (position & 7L);
+        final int take = Math.min(8 - used, need);
+        x = (x << take) | ((b >>> (8 - used - take)) & ((1 << take) - 1));
+        need -= take;
+        position += take;
+      }
+      sum += x;
+    }
+    return sum;
+  }
+}
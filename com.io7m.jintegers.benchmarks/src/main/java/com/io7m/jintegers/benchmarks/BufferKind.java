@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The kinds of buffers exercised by the benchmarks.
+ */
+
+public enum BufferKind
+{
+  /**
+   * Buffers backed by a Java array.
+   */
+
+  HEAP {
+    @Override
+    public ByteBuffer allocate(
+      final int size)
+    {
+      return ByteBuffer.allocate(size);
+    }
+  },
+
+  /**
+   * Buffers backed by native memory.
+   */
+
+  DIRECT {
+    @Override
+    public ByteBuffer allocate(
+      final int size)
+    {
+      return ByteBuffer.allocateDirect(size);
+    }
+  };
+
+  /**
+   * Allocate a buffer of this kind.
+   *
+   * @param size The size in bytes
+   *
+   * @return A new buffer
+   */
+
+  public abstract ByteBuffer allocate(int size);
+}
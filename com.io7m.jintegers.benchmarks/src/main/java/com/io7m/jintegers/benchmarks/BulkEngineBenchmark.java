@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.vector.BulkEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the scalar and vectorized {@link BulkEngine}
+ * implementations. The forked JVM resolves {@code jdk.incubator.vector}
+ * so that both engines are measured on the same hardware; the scalar
+ * engine is the plain {@code Signed*} and {@code ByteSwapping} code.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BulkEngineBenchmark
+{
+  /**
+   * {@code true} if the vectorized engine should be measured.
+   */
+
+  @Param({"false", "true"})
+  public boolean vectorized;
+
+  /**
+   * The width in bytes of each element.
+   */
+
+  @Param({"2", "4", "8"})
+  public int width;
+
+  /**
+   * The byte order of the packed data.
+   */
+
+  @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+  public Endianness endianness;
+
+  /**
+   * The number of elements processed per invocation.
+   */
+
+  @Param({"16", "1024", "4096"})
+  public int count;
+
+  private BulkEngine engine;
+  private ByteOrder order;
+  private short[] shorts;
+  private int[] ints;
+  private long[] longs;
+  private byte[] bytes;
+  private byte[] target;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public BulkEngineBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    if (this.vectorized) {
+      this.engine = BulkEngine.best();
+      if (!this.engine.isVectorized()) {
+        throw new IllegalStateException(
+          "The Vector API is not available in this JVM");
+      }
+    } else {
+      this.engine = BulkEngine.scalar();
+    }
+
+    this.order = this.endianness.order();
+    this.shorts = BenchmarkData.shorts(this.count);
+    this.ints = BenchmarkData.ints(this.count, 32);
+    this.longs = BenchmarkData.longs(this.count, 64);
+    this.bytes = BenchmarkData.bytes(this.count * this.width);
+    this.target = new byte[this.count * this.width];
+  }
+
+  /**
+   * Pack an array of elements.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] pack()
+  {
+    final BulkEngine e = this.engine;
+    final byte[] d = this.target;
+    return switch (this.width) {
+      case 2 -> e.packArray16(this.shorts, 0, d, 0, this.count, this.order);
+      case 4 -> e.packArray32(this.ints, 0, d, 0, this.count, this.order);
+      default -> e.packArray64(this.longs, 0, d, 0, this.count, this.order);
+    };
+  }
+
+  /**
+   * Unpack an array of elements.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public Object unpack()
+  {
+    final BulkEngine e = this.engine;
+    final byte[] s = this.bytes;
+    return switch (this.width) {
+      case 2 -> e.unpackArray16(s, 0, this.shorts, 0, this.count, this.order);
+      case 4 -> e.unpackArray32(s, 0, this.ints, 0, this.count, this.order);
+      default -> e.unpackArray64(s, 0, this.longs, 0, this.count, this.order);
+    };
+  }
+
+  /**
+   * Swap elements in place. The byte order parameter does not apply.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] swap()
+  {
+    final BulkEngine e = this.engine;
+    return switch (this.width) {
+      case 2 -> e.swap16(this.bytes, 0, this.count);
+      case 4 -> e.swap32(this.bytes, 0, this.count);
+      default -> e.swap64(this.bytes, 0, this.count);
+    };
+  }
+
+  /**
+   * Copy and swap elements. The byte order parameter does not apply.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] copySwap()
+  {
+    final BulkEngine e = this.engine;
+    final byte[] s = this.bytes;
+    final byte[] d = this.target;
+    return switch (this.width) {
+      case 2 -> e.copySwap16(s, 0, d, 0, this.count);
+      case 4 -> e.copySwap32(s, 0, d, 0, this.count);
+      default -> e.copySwap64(s, 0, d, 0, this.count);
+    };
+  }
+}
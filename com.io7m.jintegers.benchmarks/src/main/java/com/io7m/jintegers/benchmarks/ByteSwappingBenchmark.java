@@ -0,0 +1,262 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.ByteSwapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for in-place and copying byte swaps of packed integers,
+ * compared against swapping each element with the JDK's
+ * {@code reverseBytes} functions.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ByteSwappingBenchmark
+{
+  private static final VarHandle SHORT =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.nativeOrder());
+  private static final VarHandle INT =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.nativeOrder());
+  private static final VarHandle LONG =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.nativeOrder());
+
+  /**
+   * The width in bytes of each element.
+   */
+
+  @Param({"2", "3", "4", "8"})
+  public int width;
+
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of elements processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private byte[] bytes;
+  private byte[] target;
+  private ByteBuffer buffer;
+  private ByteBuffer bufferTarget;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ByteSwappingBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final int size = this.count * this.width;
+    this.bytes = BenchmarkData.bytes(size);
+    this.target = new byte[size];
+    this.buffer = this.bufferKind.allocate(size);
+    this.buffer.put(0, this.bytes);
+    this.bufferTarget = this.bufferKind.allocate(size);
+  }
+
+  /**
+   * Swap elements in place in a byte array with {@link ByteSwapping}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] swapBytes()
+  {
+    return switch (this.width) {
+      case 2 -> ByteSwapping.swap16(this.bytes, 0, this.count);
+      case 3 -> ByteSwapping.swap24(this.bytes, 0, this.count);
+      case 4 -> ByteSwapping.swap32(this.bytes, 0, this.count);
+      default -> ByteSwapping.swap64(this.bytes, 0, this.count);
+    };
+  }
+
+  /**
+   * Swap elements in place in a buffer with {@link ByteSwapping}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer swapBuffer()
+  {
+    return switch (this.width) {
+      case 2 -> ByteSwapping.swap16(this.buffer, 0, this.count);
+      case 3 -> ByteSwapping.swap24(this.buffer, 0, this.count);
+      case 4 -> ByteSwapping.swap32(this.buffer, 0, this.count);
+      default -> ByteSwapping.swap64(this.buffer, 0, this.count);
+    };
+  }
+
+  /**
+   * Copy and swap elements between byte arrays with {@link ByteSwapping}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] copySwapBytes()
+  {
+    final byte[] s = this.bytes;
+    final byte[] d = this.target;
+    return switch (this.width) {
+      case 2 -> ByteSwapping.copySwap16(s, 0, d, 0, this.count);
+      case 3 -> ByteSwapping.copySwap24(s, 0, d, 0, this.count);
+      case 4 -> ByteSwapping.copySwap32(s, 0, d, 0, this.count);
+      default -> ByteSwapping.copySwap64(s, 0, d, 0, this.count);
+    };
+  }
+
+  /**
+   * Copy and swap elements between buffers with {@link ByteSwapping}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer copySwapBuffer()
+  {
+    final ByteBuffer s = this.buffer;
+    final ByteBuffer d = this.bufferTarget;
+    return switch (this.width) {
+      case 2 -> ByteSwapping.copySwap16(s, 0, d, 0, this.count);
+      case 3 -> ByteSwapping.copySwap24(s, 0, d, 0, this.count);
+      case 4 -> ByteSwapping.copySwap32(s, 0, d, 0, this.count);
+      default -> ByteSwapping.copySwap64(s, 0, d, 0, this.count);
+    };
+  }
+
+  /**
+   * Baseline: swap each element of a byte array in place with a
+   * {@link VarHandle} read, {@code reverseBytes} and a {@link VarHandle}
+   * write.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] baselineVarHandle()
+  {
+    final byte[] b = this.bytes;
+    final int end = this.count * this.width;
+    switch (this.width) {
+      case 2 -> {
+        for (int o = 0; o < end; o += 2) {
+          SHORT.set(b, o, Short.reverseBytes((short) SHORT.get(b, o)));
+        }
+      }
+      case 3 -> {
+        for (int o = 0; o < end; o += 3) {
+          final byte x = b[o];
+          b[o] = b[o + 2];
+          b[o + 2] = x;
+        }
+      }
+      case 4 -> {
+        for (int o = 0; o < end; o += 4) {
+          INT.set(b, o, Integer.reverseBytes((int) INT.get(b, o)));
+        }
+      }
+      default -> {
+        for (int o = 0; o < end; o += 8) {
+          LONG.set(b, o, Long.reverseBytes((long) LONG.get(b, o)));
+        }
+      }
+    }
+    return b;
+  }
+
+  /**
+   * Baseline: swap each element of a buffer in place with an absolute
+   * get, {@code reverseBytes} and an absolute put.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer baselineByteBuffer()
+  {
+    final ByteBuffer b = this.buffer;
+    final int end = this.count * this.width;
+    switch (this.width) {
+      case 2 -> {
+        for (int o = 0; o < end; o += 2) {
+          b.putShort(o, Short.reverseBytes(b.getShort(o)));
+        }
+      }
+      case 3 -> {
+        for (int o = 0; o < end; o += 3) {
+          final byte x = b.get(o);
+          b.put(o, b.get(o + 2));
+          b.put(o + 2, x);
+        }
+      }
+      case 4 -> {
+        for (int o = 0; o < end; o += 4) {
+          b.putInt(o, Integer.reverseBytes(b.getInt(o)));
+        }
+      }
+      default -> {
+        for (int o = 0; o < end; o += 8) {
+          b.putLong(o, Long.reverseBytes(b.getLong(o)));
+        }
+      }
+    }
+    return b;
+  }
+}
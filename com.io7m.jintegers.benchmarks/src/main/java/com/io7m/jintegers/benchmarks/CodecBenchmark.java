@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Signed32Codec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the cost of dispatching through a codec rather than
+ * calling the static methods directly. Compare the results with
+ * {@link Signed32Benchmark}; all codecs share the same structure.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodecBenchmark
+{
+  /**
+   * The byte order of packed values.
+   */
+
+  @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+  public Endianness endianness;
+
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private Signed32Codec codec;
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private int[] values;
+  private int[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public CodecBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final int size = this.count * 4;
+    this.codec = Signed32Codec.forOrder(this.endianness.order());
+    this.bytes = BenchmarkData.bytes(size);
+    this.buffer = this.bufferKind.allocate(size);
+    this.buffer.put(0, this.bytes);
+    this.values = BenchmarkData.ints(this.count, 32);
+    this.output = new int[this.count];
+  }
+
+  /**
+   * Unpack values one at a time through a {@link Signed32Codec}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long codecUnpackBytesSingle()
+  {
+    final Signed32Codec c = this.codec;
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += c.unpackFromBytes(this.bytes, index * 4);
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk through a {@link Signed32Codec}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] codecUnpackBytesBulk()
+  {
+    return this.codec.unpackArray(this.bytes, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Unpack values one at a time from a buffer through a
+   * {@link Signed32Codec}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long codecUnpackBufferSingle()
+  {
+    final Signed32Codec c = this.codec;
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += c.unpackFromBuffer(this.buffer, index * 4);
+    }
+    return sum;
+  }
+
+  /**
+   * Pack values one at a time through a {@link Signed32Codec}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] codecPackBytesSingle()
+  {
+    final Signed32Codec c = this.codec;
+    for (int index = 0; index < this.count; ++index) {
+      c.packToBytes(this.values[index], this.bytes, index * 4);
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Pack values in bulk through a {@link Signed32Codec}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] codecPackBytesBulk()
+  {
+    return this.codec.packArray(this.values, 0, this.bytes, 0, this.count);
+  }
+
+  /**
+   * Unpack values one at a time, looking up the codec for every value.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long codecLookupUnpackBytesSingle()
+  {
+    final ByteOrder order = this.endianness.order();
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      final Signed32Codec c = Signed32Codec.forOrder(order);
+      sum += c.unpackFromBytes(this.bytes, index * 4);
+    }
+    return sum;
+  }
+}
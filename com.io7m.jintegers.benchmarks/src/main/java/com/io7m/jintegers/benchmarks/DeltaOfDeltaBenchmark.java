@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.DeltaOfDeltaDecoder;
+import com.io7m.jintegers.DeltaOfDeltaEncoder;
+import com.io7m.jintegers.Signed64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for delta-of-delta encoding and decoding of timestamps,
+ * compared against writing each timestamp in eight bytes.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeltaOfDeltaBenchmark
+{
+  /**
+   * The number of bits of jitter added to each interval; zero produces
+   * perfectly regular timestamps.
+   */
+
+  @Param({"0", "6", "16"})
+  public int jitter;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"1024"})
+  public int count;
+
+  private long[] values;
+  private byte[] packed;
+  private byte[] plain;
+  private DeltaOfDeltaEncoder encoder;
+  private DeltaOfDeltaDecoder decoder;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public DeltaOfDeltaBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = new long[this.count];
+    if (this.jitter > 0) {
+      this.values = BenchmarkData.longs(this.count, this.jitter);
+    }
+    long x = 1_700_000_000_000L;
+    for (int index = 0; index < this.count; ++index) {
+      x += 10_000L + this.values[index];
+      this.values[index] = x;
+    }
+
+    this.packed = new byte[this.count * 9 + 8];
+    this.encoder = new DeltaOfDeltaEncoder(this.packed, 0);
+    for (final long value : this.values) {
+      this.encoder.append(value);
+    }
+    this.encoder.flush();
+    this.decoder = new DeltaOfDeltaDecoder(this.packed, 0, this.count);
+    this.plain = new byte[this.count * 8];
+  }
+
+  /**
+   * Append values to a delta-of-delta stream.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encode()
+  {
+    final DeltaOfDeltaEncoder e = this.encoder.reset(this.packed, 0);
+    for (final long value : this.values) {
+      e.append(value);
+    }
+    return e.flush();
+  }
+
+  /**
+   * Iterate over the values of a delta-of-delta stream.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long decode()
+  {
+    final DeltaOfDeltaDecoder d =
+      this.decoder.reset(this.packed, 0, this.count);
+    long sum = 0L;
+    while (d.hasNext()) {
+      sum += d.nextLong();
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: write each value in eight bytes with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] baselineSigned64Encode()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      Signed64.packToBytesBigEndian(this.values[index], this.plain, index * 8);
+    }
+    return this.plain;
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.DeltaPacking;
+import com.io7m.jintegers.Signed64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for delta encoding and decoding of increasing values,
+ * compared against storing each value in eight bytes.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeltaPackingBenchmark
+{
+  /**
+   * The number of significant bits in each difference.
+   */
+
+  @Param({"4", "12", "20"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"128", "4096"})
+  public int count;
+
+  private long[] values;
+  private long[] output;
+  private byte[] packed;
+  private byte[] plain;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public DeltaPackingBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.longs(this.count, this.bits);
+    long x = 1_700_000_000_000L;
+    for (int index = 0; index < this.count; ++index) {
+      x += this.values[index];
+      this.values[index] = x;
+    }
+    this.output = new long[this.count];
+
+    this.packed = new byte[(int) DeltaPacking.encodedLengthMax(this.count)];
+    DeltaPacking.encodeLongArray(this.values, 0, this.packed, 0, this.count);
+    this.plain = new byte[this.count * 8];
+    Signed64.packArrayBigEndian(this.values, 0, this.plain, 0, this.count);
+  }
+
+  /**
+   * Encode values with DeltaPacking.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encode()
+  {
+    return DeltaPacking.encodeLongArray(
+      this.values, 0, this.packed, 0, this.count);
+  }
+
+  /**
+   * Decode values with DeltaPacking.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] decode()
+  {
+    DeltaPacking.decodeLongArray(this.packed, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Baseline: decode the same values stored in eight bytes each.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] baselineSigned64Decode()
+  {
+    return Signed64.unpackArrayBigEndian(
+      this.plain, 0, this.output, 0, this.count);
+  }
+}
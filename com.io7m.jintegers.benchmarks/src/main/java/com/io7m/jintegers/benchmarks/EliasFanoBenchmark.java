@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.EliasFano;
+import com.io7m.jintegers.EliasFanoIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Elias-Fano random access, search and iteration,
+ * compared against a plain sorted array.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EliasFanoBenchmark
+{
+  /**
+   * The number of significant bits in each gap between values.
+   */
+
+  @Param({"4", "16"})
+  public int bits;
+
+  /**
+   * The number of values in the sequence.
+   */
+
+  @Param({"65536"})
+  public int count;
+
+  private long[] values;
+  private long[] probes;
+  private int[] indices;
+  private EliasFano sequence;
+  private EliasFanoIterator iterator;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public EliasFanoBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.longs(this.count, this.bits);
+    for (int index = 1; index < this.count; ++index) {
+      this.values[index] += this.values[index - 1];
+    }
+    this.sequence = EliasFano.encode(this.values, 0, this.count);
+    this.iterator = new EliasFanoIterator(this.sequence, 0);
+
+    final long[] random = BenchmarkData.longs(1024, 62);
+    final long last = this.values[this.count - 1];
+    this.probes = new long[random.length];
+    this.indices = new int[random.length];
+    for (int index = 0; index < random.length; ++index) {
+      this.probes[index] = random[index] % (last + 1L);
+      this.indices[index] = (int) (random[index] % this.count);
+    }
+  }
+
+  /**
+   * Read 1024 values at random indices.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long get()
+  {
+    long sum = 0L;
+    for (final int index : this.indices) {
+      sum += this.sequence.get(index);
+    }
+    return sum;
+  }
+
+  /**
+   * Search for 1024 random values.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long nextGEQ()
+  {
+    long sum = 0L;
+    for (final long x : this.probes) {
+      sum += this.sequence.nextGEQ(x);
+    }
+    return sum;
+  }
+
+  /**
+   * Read every value in order.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long iterate()
+  {
+    final EliasFanoIterator iter = this.iterator.reset(this.sequence, 0);
+    long sum = 0L;
+    while (iter.hasNext()) {
+      sum += iter.nextLong();
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: search for 1024 random values in the uncompressed array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineBinarySearch()
+  {
+    long sum = 0L;
+    for (final long x : this.probes) {
+      sum += Arrays.binarySearch(this.values, x);
+    }
+    return sum;
+  }
+}
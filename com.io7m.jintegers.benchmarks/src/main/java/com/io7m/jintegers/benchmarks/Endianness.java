@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import java.nio.ByteOrder;
+
+/**
+ * The byte orders exercised by the benchmarks.
+ */
+
+public enum Endianness
+{
+  /**
+   * Big-endian byte order.
+   */
+
+  BIG_ENDIAN(ByteOrder.BIG_ENDIAN),
+
+  /**
+   * Little-endian byte order.
+   */
+
+  LITTLE_ENDIAN(ByteOrder.LITTLE_ENDIAN);
+
+  private final ByteOrder order;
+
+  Endianness(
+    final ByteOrder inOrder)
+  {
+    this.order = inOrder;
+  }
+
+  /**
+   * @return The JDK byte order
+   */
+
+  public ByteOrder order()
+  {
+    return this.order;
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.BitOrder;
+import com.io7m.jintegers.BitReader;
+import com.io7m.jintegers.BitWriter;
+import com.io7m.jintegers.ExpGolomb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for exponential-Golomb encoding and decoding, compared
+ * against reading the prefix one bit at a time.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExpGolombBenchmark
+{
+  /**
+   * The number of significant bits in each value.
+   */
+
+  @Param({"4", "12", "24"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"1024"})
+  public int count;
+
+  private int[] values;
+  private int[] output;
+  private byte[] encoded;
+  private BitReader reader;
+  private BitWriter writer;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ExpGolombBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.ints(this.count, this.bits);
+    this.output = new int[this.count];
+
+    long size = 0L;
+    for (final int x : this.values) {
+      size += ExpGolomb.encodedBitsUnsigned(x);
+    }
+    this.encoded = new byte[(int) ((size + 7L) >>> 3)];
+    this.writer = new BitWriter(this.encoded, 0, BitOrder.MSB_FIRST);
+    ExpGolomb.encodeUnsignedArray(this.values, 0, this.writer, this.count);
+    this.writer.flush();
+    this.reader = new BitReader(this.encoded, 0, BitOrder.MSB_FIRST);
+  }
+
+  /**
+   * Encode values into a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encode()
+  {
+    this.writer.reset(this.encoded, 0);
+    return ExpGolomb.encodeUnsignedArray(
+      this.values, 0, this.writer, this.count).flush();
+  }
+
+  /**
+   * Decode values from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] decode()
+  {
+    this.reader.reset(this.encoded, 0);
+    return ExpGolomb.decodeUnsignedArray(
+      this.reader, this.output, 0, this.count);
+  }
+
+  /**
+   * Baseline: decode values reading the prefix one bit at a time.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] baselineBitByBit()
+  {
+    final BitReader r = this.reader.reset(this.encoded, 0);
+    for (int index = 0; index < this.count; ++index) {
+      int z = 0;
+      while (!r.readBit()) {
+        ++z;
+      }
+      this.output[index] = (int) (((1L << z) | r.readBits(z)) - 1L);
+    }
+    return this.output;
+  }
+}
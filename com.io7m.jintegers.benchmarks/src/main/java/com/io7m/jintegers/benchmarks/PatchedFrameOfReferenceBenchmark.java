@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.BitPacking;
+import com.io7m.jintegers.PatchedFrameOfReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for patched frame-of-reference encoding and decoding,
+ * compared against plain bit packing at the widest width.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PatchedFrameOfReferenceBenchmark
+{
+  /**
+   * One value in this many is replaced by a 32-bit outlier.
+   */
+
+  @Param({"16", "128"})
+  public int outlierEvery;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"1024"})
+  public int count;
+
+  private int[] values;
+  private int[] output;
+  private byte[] packed;
+  private byte[] plain;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public PatchedFrameOfReferenceBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.ints(this.count, 10);
+    final int[] outliers = BenchmarkData.ints(this.count, 32);
+    for (int index = 0; index < this.count; index += this.outlierEvery) {
+      this.values[index] = outliers[index];
+    }
+    this.output = new int[this.count];
+
+    this.packed =
+      new byte[(int) PatchedFrameOfReference.encodedLengthMaxInts(this.count)];
+    PatchedFrameOfReference.encodeIntArray(
+      this.values, 0, this.packed, 0, this.count);
+    this.plain = new byte[(int) BitPacking.packedLengthBytes(this.count, 32)];
+    BitPacking.packIntArray(this.values, 0, this.plain, 0, this.count, 32);
+  }
+
+  /**
+   * Encode values with PFOR.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encode()
+  {
+    return PatchedFrameOfReference.encodeIntArray(
+      this.values, 0, this.packed, 0, this.count);
+  }
+
+  /**
+   * Decode values with PFOR.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] decode()
+  {
+    PatchedFrameOfReference.decodeIntArray(
+      this.packed, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Baseline: unpack the same values packed at 32 bits.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] baselineBitPackingDecode()
+  {
+    return BitPacking.unpackIntArray(
+      this.plain, 0, this.output, 0, this.count, 32);
+  }
+}
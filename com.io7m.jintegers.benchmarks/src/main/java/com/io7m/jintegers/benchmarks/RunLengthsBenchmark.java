@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.RunLengthReader;
+import com.io7m.jintegers.RunLengths;
+import com.io7m.jintegers.VarInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for run-length encoding and decoding, compared against
+ * LEB128.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RunLengthsBenchmark
+{
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The average length of a run of equal values.
+   */
+
+  @Param({"1", "16", "256"})
+  public int run;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"1024"})
+  public int count;
+
+  private long[] values;
+  private long[] output;
+  private byte[] encoded;
+  private byte[] packedEncoded;
+  private ByteBuffer packedBuffer;
+  private RunLengthReader reader;
+  private byte[] leb128;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public RunLengthsBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.runs(this.count, this.run);
+    this.output = new long[this.count];
+
+    this.encoded =
+      new byte[(int) RunLengths.encodedLength(this.values, 0, this.count)];
+    RunLengths.encodeLongArray(this.values, 0, this.encoded, 0, this.count);
+    this.reader = new RunLengthReader(this.encoded, 0, this.count);
+
+    final byte[] packed = new byte[this.count];
+    for (int index = 0; index < this.count; ++index) {
+      packed[index] = (byte) this.values[index];
+    }
+    this.packedEncoded =
+      new byte[(int) RunLengths.encodedLengthPacked(packed, 0, this.count, 1)];
+    RunLengths.encodePacked(packed, 0, this.packedEncoded, 0, this.count, 1);
+    this.packedBuffer = this.bufferKind.allocate(this.count);
+
+    this.leb128 = new byte[this.count * VarInts.LONG_LENGTH_MAX];
+    VarInts.encodeLongArray(this.values, 0, this.leb128, 0, this.count);
+  }
+
+  /**
+   * Encode values into a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encodeBytes()
+  {
+    return RunLengths.encodeLongArray(
+      this.values, 0, this.encoded, 0, this.count);
+  }
+
+  /**
+   * Decode values from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] decodeBytes()
+  {
+    RunLengths.decodeLongArray(this.encoded, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Skip every value with a reader, without expanding the runs.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int skip()
+  {
+    return this.reader.reset(this.encoded, 0, this.count).skip(this.count);
+  }
+
+  /**
+   * Decode packed 8-bit elements into a buffer.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer decodePackedBuffer()
+  {
+    RunLengths.decodePacked(
+      this.packedEncoded, 0, this.packedBuffer, 0, this.count, 1);
+    return this.packedBuffer;
+  }
+
+  /**
+   * Baseline: decode the same values from LEB128 with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] baselineVarIntsDecode()
+  {
+    VarInts.decodeLongArray(this.leb128, 0, this.output, 0, this.count);
+    return this.output;
+  }
+}
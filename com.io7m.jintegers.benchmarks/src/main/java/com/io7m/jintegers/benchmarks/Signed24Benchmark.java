@@ -0,0 +1,421 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Signed24;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for signed 24-bit integer packing and unpacking. The JDK has
+ * no 24-bit accessors, so the baselines assemble values from single bytes,
+ * or from an overlapping 32-bit {@link VarHandle} read; the input arrays
+ * carry one byte of padding to permit the latter.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Signed24Benchmark
+{
+  private static final VarHandle INT_BE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * The byte order of packed values.
+   */
+
+  @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+  public Endianness endianness;
+
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private boolean big;
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private int[] values;
+  private int[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public Signed24Benchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final int size = this.count * 3;
+    this.big = this.endianness == Endianness.BIG_ENDIAN;
+    this.bytes = BenchmarkData.bytes(size + 1);
+    this.buffer = this.bufferKind.allocate(size + 1);
+    this.buffer.order(this.endianness.order());
+    this.buffer.put(0, this.bytes);
+    this.values = BenchmarkData.ints(this.count, 24);
+    this.output = new int[this.count];
+  }
+
+  /**
+   * Unpack values one at a time from a byte array with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBytesSingle()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed24.unpackFromBytesBigEndian(this.bytes, index * 3);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed24.unpackFromBytesLittleEndian(this.bytes, index * 3);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk from a byte array with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] unpackBytesBulk()
+  {
+    if (this.big) {
+      return Signed24.unpackArrayBigEndian(
+        this.bytes, 0, this.output, 0, this.count);
+    }
+    return Signed24.unpackArrayLittleEndian(
+      this.bytes, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Unpack values one at a time from a buffer with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBufferSingle()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed24.unpackFromBufferBigEndian(this.buffer, index * 3);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed24.unpackFromBufferLittleEndian(this.buffer, index * 3);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk from a buffer with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] unpackBufferBulk()
+  {
+    if (this.big) {
+      return Signed24.unpackArrayBigEndian(
+        this.buffer, 0, this.output, 0, this.count);
+    }
+    return Signed24.unpackArrayLittleEndian(
+      this.buffer, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Pack values one at a time into a byte array with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesSingle()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        Signed24.packToBytesBigEndian(
+          this.values[index], this.bytes, index * 3);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        Signed24.packToBytesLittleEndian(
+          this.values[index], this.bytes, index * 3);
+      }
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Pack values in bulk into a byte array with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesBulk()
+  {
+    if (this.big) {
+      return Signed24.packArrayBigEndian(
+        this.values, 0, this.bytes, 0, this.count);
+    }
+    return Signed24.packArrayLittleEndian(
+      this.values, 0, this.bytes, 0, this.count);
+  }
+
+  /**
+   * Pack values one at a time into a buffer with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBufferSingle()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        Signed24.packToBufferBigEndian(
+          this.values[index], this.buffer, index * 3);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        Signed24.packToBufferLittleEndian(
+          this.values[index], this.buffer, index * 3);
+      }
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Pack values in bulk into a buffer with Signed24.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBufferBulk()
+  {
+    if (this.big) {
+      return Signed24.packArrayBigEndian(
+        this.values, 0, this.buffer, 0, this.count);
+    }
+    return Signed24.packArrayLittleEndian(
+      this.values, 0, this.buffer, 0, this.count);
+  }
+
+  /**
+   * Baseline: three {@link ByteBuffer#get(int)} calls per value.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineByteBufferGet()
+  {
+    final ByteBuffer b = this.buffer;
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        final int o = index * 3;
+        final int x =
+          ((b.get(o) & 0xff) << 16)
+            | ((b.get(o + 1) & 0xff) << 8)
+            | (b.get(o + 2) & 0xff);
+        sum += (x << 8) >> 8;
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        final int o = index * 3;
+        final int x =
+          ((b.get(o + 2) & 0xff) << 16)
+            | ((b.get(o + 1) & 0xff) << 8)
+            | (b.get(o) & 0xff);
+        sum += (x << 8) >> 8;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: an overlapping {@link ByteBuffer#getInt(int)} per value.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineByteBufferGetInt()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += this.buffer.getInt(index * 3) >> 8;
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += (this.buffer.getInt(index * 3) << 8) >> 8;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: an overlapping byte array view {@link VarHandle} read per
+   * value.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineVarHandleGet()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += (int) INT_BE.get(this.bytes, index * 3) >> 8;
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += ((int) INT_LE.get(this.bytes, index * 3) << 8) >> 8;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: three {@link DataInputStream#readUnsignedByte()} calls per
+   * value.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public long baselineDataInputStream()
+    throws IOException
+  {
+    final DataInputStream stream =
+      new DataInputStream(
+        new ByteArrayInputStream(this.bytes, 0, this.count * 3));
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        final int x =
+          (stream.readUnsignedByte() << 16)
+            | (stream.readUnsignedByte() << 8)
+            | stream.readUnsignedByte();
+        sum += (x << 8) >> 8;
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        final int x =
+          stream.readUnsignedByte()
+            | (stream.readUnsignedByte() << 8)
+            | (stream.readUnsignedByte() << 16);
+        sum += (x << 8) >> 8;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: three {@link DataOutputStream#writeByte(int)} calls per value.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public byte[] baselineDataOutputStream()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytesOut =
+      new ByteArrayOutputStream(this.count * 3);
+    final DataOutputStream stream = new DataOutputStream(bytesOut);
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        final int x = this.values[index];
+        stream.writeByte(x >> 16);
+        stream.writeByte(x >> 8);
+        stream.writeByte(x);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        final int x = this.values[index];
+        stream.writeByte(x);
+        stream.writeByte(x >> 8);
+        stream.writeByte(x >> 16);
+      }
+    }
+    return bytesOut.toByteArray();
+  }
+}
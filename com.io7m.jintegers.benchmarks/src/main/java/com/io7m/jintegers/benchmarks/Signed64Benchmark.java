@@ -0,0 +1,413 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Signed64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for signed 64-bit integer packing and unpacking,
+ * compared against the equivalent JDK operations.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Signed64Benchmark
+{
+  private static final VarHandle LONG_BE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * The byte order of packed values.
+   */
+
+  @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+  public Endianness endianness;
+
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private boolean big;
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private long[] values;
+  private long[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public Signed64Benchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final int size = this.count * 8;
+    this.big = this.endianness == Endianness.BIG_ENDIAN;
+    this.bytes = BenchmarkData.bytes(size);
+    this.buffer = this.bufferKind.allocate(size);
+    this.buffer.order(this.endianness.order());
+    this.buffer.put(0, this.bytes);
+    this.values = BenchmarkData.longs(this.count, 64);
+    this.output = new long[this.count];
+  }
+
+  /**
+   * Unpack values one at a time from a byte array with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBytesSingle()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed64.unpackFromBytesBigEndian(this.bytes, index * 8);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed64.unpackFromBytesLittleEndian(this.bytes, index * 8);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk from a byte array with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] unpackBytesBulk()
+  {
+    if (this.big) {
+      return Signed64.unpackArrayBigEndian(
+        this.bytes, 0, this.output, 0, this.count);
+    }
+    return Signed64.unpackArrayLittleEndian(
+      this.bytes, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Unpack values one at a time from a buffer with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBufferSingle()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed64.unpackFromBufferBigEndian(this.buffer, index * 8);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Signed64.unpackFromBufferLittleEndian(this.buffer, index * 8);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk from a buffer with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] unpackBufferBulk()
+  {
+    if (this.big) {
+      return Signed64.unpackArrayBigEndian(
+        this.buffer, 0, this.output, 0, this.count);
+    }
+    return Signed64.unpackArrayLittleEndian(
+      this.buffer, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Pack values one at a time into a byte array with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesSingle()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        Signed64.packToBytesBigEndian(
+          this.values[index], this.bytes, index * 8);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        Signed64.packToBytesLittleEndian(
+          this.values[index], this.bytes, index * 8);
+      }
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Pack values in bulk into a byte array with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesBulk()
+  {
+    if (this.big) {
+      return Signed64.packArrayBigEndian(
+        this.values, 0, this.bytes, 0, this.count);
+    }
+    return Signed64.packArrayLittleEndian(
+      this.values, 0, this.bytes, 0, this.count);
+  }
+
+  /**
+   * Pack values one at a time into a buffer with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBufferSingle()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        Signed64.packToBufferBigEndian(
+          this.values[index], this.buffer, index * 8);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        Signed64.packToBufferLittleEndian(
+          this.values[index], this.buffer, index * 8);
+      }
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Pack values in bulk into a buffer with Signed64.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBufferBulk()
+  {
+    if (this.big) {
+      return Signed64.packArrayBigEndian(
+        this.values, 0, this.buffer, 0, this.count);
+    }
+    return Signed64.packArrayLittleEndian(
+      this.values, 0, this.buffer, 0, this.count);
+  }
+
+  /**
+   * Baseline: {@link ByteBuffer#getLong(int)} in the requested order.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineByteBufferGetLong()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += this.buffer.getLong(index * 8);
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: {@link ByteBuffer#putLong(int, long)} in the requested order.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer baselineByteBufferPutLong()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      this.buffer.putLong(index * 8, this.values[index]);
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Baseline: a bulk get through a {@code LongBuffer} view.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] baselineByteBufferViewGet()
+  {
+    this.buffer.asLongBuffer().get(0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Baseline: byte array view {@link VarHandle} reads.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineVarHandleGet()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += (long) LONG_BE.get(this.bytes, index * 8);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += (long) LONG_LE.get(this.bytes, index * 8);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: byte array view {@link VarHandle} writes.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] baselineVarHandleSet()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        LONG_BE.set(this.bytes, index * 8, this.values[index]);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        LONG_LE.set(this.bytes, index * 8, this.values[index]);
+      }
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Baseline: {@link DataInputStream} reads, reversed for little-endian.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public long baselineDataInputStream()
+    throws IOException
+  {
+    final DataInputStream stream =
+      new DataInputStream(
+        new ByteArrayInputStream(this.bytes, 0, this.count * 8));
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += stream.readLong();
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Long.reverseBytes(stream.readLong());
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: {@link DataOutputStream} writes, reversed for little-endian.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public byte[] baselineDataOutputStream()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytesOut =
+      new ByteArrayOutputStream(this.count * 8);
+    final DataOutputStream stream = new DataOutputStream(bytesOut);
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        stream.writeLong(this.values[index]);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        stream.writeLong(Long.reverseBytes(this.values[index]));
+      }
+    }
+    return bytesOut.toByteArray();
+  }
+}
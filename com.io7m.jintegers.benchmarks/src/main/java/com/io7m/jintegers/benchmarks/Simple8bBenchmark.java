@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Simple8b;
+import com.io7m.jintegers.VarInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Simple-8b encoding and decoding, compared against
+ * LEB128.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Simple8bBenchmark
+{
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of significant bits in each value.
+   */
+
+  @Param({"2", "8", "20"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"1024"})
+  public int count;
+
+  private long[] values;
+  private long[] output;
+  private byte[] packed;
+  private ByteBuffer packedBuffer;
+  private byte[] leb128;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public Simple8bBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.longs(this.count, this.bits);
+    this.output = new long[this.count];
+
+    final int size = Simple8b.encodedWords(this.values, 0, this.count) * 8;
+    this.packed = new byte[size];
+    Simple8b.encodeLongArray(this.values, 0, this.packed, 0, this.count);
+    this.packedBuffer = this.bufferKind.allocate(size);
+    this.packedBuffer.put(0, this.packed);
+
+    this.leb128 = new byte[this.count * VarInts.LONG_LENGTH_MAX];
+    VarInts.encodeLongArray(this.values, 0, this.leb128, 0, this.count);
+  }
+
+  /**
+   * Encode values into a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encodeBytes()
+  {
+    return Simple8b.encodeLongArray(
+      this.values, 0, this.packed, 0, this.count);
+  }
+
+  /**
+   * Decode values from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] decodeBytes()
+  {
+    Simple8b.decodeLongArray(this.packed, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Decode values from a buffer.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] decodeBuffer()
+  {
+    Simple8b.decodeLongArray(
+      this.packedBuffer, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Baseline: decode the same values from LEB128 with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] baselineVarIntsDecode()
+  {
+    VarInts.decodeLongArray(this.leb128, 0, this.output, 0, this.count);
+    return this.output;
+  }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Unsigned32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for unsigned 32-bit integer packing and unpacking,
+ * compared against the equivalent JDK operations.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Unsigned32Benchmark
+{
+  private static final VarHandle INT_BE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * The byte order of packed values.
+   */
+
+  @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+  public Endianness endianness;
+
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private boolean big;
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private long[] values;
+  private long[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public Unsigned32Benchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    final int size = this.count * 4;
+    this.big = this.endianness == Endianness.BIG_ENDIAN;
+    this.bytes = BenchmarkData.bytes(size);
+    this.buffer = this.bufferKind.allocate(size);
+    this.buffer.order(this.endianness.order());
+    this.buffer.put(0, this.bytes);
+    this.values = BenchmarkData.longs(this.count, 32);
+    this.output = new long[this.count];
+  }
+
+  /**
+   * Unpack values one at a time from a byte array with Unsigned32.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBytesSingle()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Unsigned32.unpackFromBytesBigEndian(this.bytes, index * 4);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Unsigned32.unpackFromBytesLittleEndian(this.bytes, index * 4);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk from a byte array with Unsigned32.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] unpackBytesBulk()
+  {
+    if (this.big) {
+      return Unsigned32.unpackArrayBigEndian(
+        this.bytes, 0, this.output, 0, this.count);
+    }
+    return Unsigned32.unpackArrayLittleEndian(
+      this.bytes, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Unpack values one at a time from a buffer with Unsigned32.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBufferSingle()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Unsigned32.unpackFromBufferBigEndian(this.buffer, index * 4);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += Unsigned32.unpackFromBufferLittleEndian(this.buffer, index * 4);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Pack values one at a time into a byte array with Unsigned32.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesSingle()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        Unsigned32.packToBytesBigEndian(
+          this.values[index], this.bytes, index * 4);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        Unsigned32.packToBytesLittleEndian(
+          this.values[index], this.bytes, index * 4);
+      }
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Pack values in bulk into a byte array with Unsigned32.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesBulk()
+  {
+    if (this.big) {
+      return Unsigned32.packArrayBigEndian(
+        this.values, 0, this.bytes, 0, this.count);
+    }
+    return Unsigned32.packArrayLittleEndian(
+      this.values, 0, this.bytes, 0, this.count);
+  }
+
+  /**
+   * Pack values one at a time into a buffer with Unsigned32.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBufferSingle()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        Unsigned32.packToBufferBigEndian(
+          this.values[index], this.buffer, index * 4);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        Unsigned32.packToBufferLittleEndian(
+          this.values[index], this.buffer, index * 4);
+      }
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Baseline: {@link ByteBuffer#getInt(int)} in the requested order.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineByteBufferGetInt()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += (this.buffer.getInt(index * 4) & 0xffffffffL);
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: {@link ByteBuffer#putInt(int, int)} in the requested order.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer baselineByteBufferPutInt()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      this.buffer.putInt(index * 4, (int) this.values[index]);
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Baseline: byte array view {@link VarHandle} reads.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineVarHandleGet()
+  {
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += ((int) INT_BE.get(this.bytes, index * 4) & 0xffffffffL);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += ((int) INT_LE.get(this.bytes, index * 4) & 0xffffffffL);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: byte array view {@link VarHandle} writes.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] baselineVarHandleSet()
+  {
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        INT_BE.set(this.bytes, index * 4, (int) this.values[index]);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        INT_LE.set(this.bytes, index * 4, (int) this.values[index]);
+      }
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Baseline: {@link DataInputStream} reads, reversed for little-endian.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public long baselineDataInputStream()
+    throws IOException
+  {
+    final DataInputStream stream =
+      new DataInputStream(
+        new ByteArrayInputStream(this.bytes, 0, this.count * 4));
+    long sum = 0L;
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        sum += (stream.readInt() & 0xffffffffL);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        sum += (Integer.reverseBytes(stream.readInt()) & 0xffffffffL);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: {@link DataOutputStream} writes, reversed for little-endian.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public byte[] baselineDataOutputStream()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytesOut =
+      new ByteArrayOutputStream(this.count * 4);
+    final DataOutputStream stream = new DataOutputStream(bytesOut);
+    if (this.big) {
+      for (int index = 0; index < this.count; ++index) {
+        stream.writeInt((int) this.values[index]);
+      }
+    } else {
+      for (int index = 0; index < this.count; ++index) {
+        stream.writeInt(Integer.reverseBytes((int) this.values[index]));
+      }
+    }
+    return bytesOut.toByteArray();
+  }
+}
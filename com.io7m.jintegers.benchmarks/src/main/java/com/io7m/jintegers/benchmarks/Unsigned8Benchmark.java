@@ -0,0 +1,289 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.Unsigned8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for unsigned 8-bit integer packing and unpacking, compared
+ * against the equivalent JDK operations. Single bytes have no byte order.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class Unsigned8Benchmark
+{
+  private static final VarHandle BYTE =
+    MethodHandles.arrayElementVarHandle(byte[].class);
+
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private int[] values;
+  private int[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public Unsigned8Benchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.bytes = BenchmarkData.bytes(this.count);
+    this.buffer = this.bufferKind.allocate(this.count);
+    this.buffer.put(0, this.bytes);
+    this.values = BenchmarkData.ints(this.count, 8);
+    this.output = new int[this.count];
+  }
+
+  /**
+   * Unpack values one at a time from a byte array with Unsigned8.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBytesSingle()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += Unsigned8.unpackFromBytes(this.bytes, index);
+    }
+    return sum;
+  }
+
+  /**
+   * Unpack values in bulk from a byte array with Unsigned8.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] unpackBytesBulk()
+  {
+    return Unsigned8.unpackArray(this.bytes, 0, this.output, 0, this.count);
+  }
+
+  /**
+   * Unpack values one at a time from a buffer with Unsigned8.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long unpackBufferSingle()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += Unsigned8.unpackFromBuffer(this.buffer, index);
+    }
+    return sum;
+  }
+
+  /**
+   * Pack values one at a time into a byte array with Unsigned8.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesSingle()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      Unsigned8.packToBytes(this.values[index], this.bytes, index);
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Pack values in bulk into a byte array with Unsigned8.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] packBytesBulk()
+  {
+    return Unsigned8.packArray(this.values, 0, this.bytes, 0, this.count);
+  }
+
+  /**
+   * Pack values one at a time into a buffer with Unsigned8.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer packBufferSingle()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      Unsigned8.packToBuffer(this.values[index], this.buffer, index);
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Baseline: {@link ByteBuffer#get(int)}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineByteBufferGet()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += this.buffer.get(index) & 0xff;
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: {@link ByteBuffer#put(int, byte)}.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public ByteBuffer baselineByteBufferPut()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      this.buffer.put(index, (byte) this.values[index]);
+    }
+    return this.buffer;
+  }
+
+  /**
+   * Baseline: array element {@link VarHandle} reads.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long baselineVarHandleGet()
+  {
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += (byte) BYTE.get(this.bytes, index) & 0xff;
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: array element {@link VarHandle} writes.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public byte[] baselineVarHandleSet()
+  {
+    for (int index = 0; index < this.count; ++index) {
+      BYTE.set(this.bytes, index, (byte) this.values[index]);
+    }
+    return this.bytes;
+  }
+
+  /**
+   * Baseline: {@link DataInputStream#readUnsignedByte()}.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public long baselineDataInputStream()
+    throws IOException
+  {
+    final DataInputStream stream =
+      new DataInputStream(new ByteArrayInputStream(this.bytes, 0, this.count));
+    long sum = 0L;
+    for (int index = 0; index < this.count; ++index) {
+      sum += stream.readUnsignedByte();
+    }
+    return sum;
+  }
+
+  /**
+   * Baseline: {@link DataOutputStream#writeByte(int)}.
+   *
+   * @return A value to be consumed by the harness
+   *
+   * @throws IOException On I/O errors
+   */
+
+  @Benchmark
+  public byte[] baselineDataOutputStream()
+    throws IOException
+  {
+    final ByteArrayOutputStream bytesOut =
+      new ByteArrayOutputStream(this.count);
+    final DataOutputStream stream = new DataOutputStream(bytesOut);
+    for (int index = 0; index < this.count; ++index) {
+      stream.writeByte(this.values[index]);
+    }
+    return bytesOut.toByteArray();
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.GroupVarInts;
+import com.io7m.jintegers.StreamVByte;
+import com.io7m.jintegers.VarInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for group varint and Stream VByte encoding and decoding,
+ * compared against LEB128.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VByteBenchmark
+{
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of significant bits in each value.
+   */
+
+  @Param({"8", "20", "32"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private int[] values;
+  private int[] output;
+  private byte[] group;
+  private ByteBuffer groupBuffer;
+  private byte[] stream;
+  private ByteBuffer streamBuffer;
+  private byte[] leb128;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public VByteBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.ints(this.count, this.bits);
+    this.output = new int[this.count];
+
+    final int size = (int) GroupVarInts.encodedLengthMax(this.count);
+    this.group = new byte[size];
+    GroupVarInts.encodeIntArray(this.values, 0, this.group, 0, this.count);
+    this.groupBuffer = this.bufferKind.allocate(size);
+    this.groupBuffer.put(0, this.group);
+
+    this.stream = new byte[size];
+    StreamVByte.encodeIntArray(this.values, 0, this.stream, 0, this.count);
+    this.streamBuffer = this.bufferKind.allocate(size);
+    this.streamBuffer.put(0, this.stream);
+
+    this.leb128 = new byte[this.count * VarInts.INT_LENGTH_MAX];
+    VarInts.encodeIntArray(this.values, 0, this.leb128, 0, this.count);
+  }
+
+  /**
+   * Decode values from a byte array with GroupVarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] groupDecodeBytes()
+  {
+    GroupVarInts.decodeIntArray(this.group, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Decode values from a buffer with GroupVarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] groupDecodeBuffer()
+  {
+    GroupVarInts.decodeIntArray(
+      this.groupBuffer, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Encode values into a byte array with GroupVarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int groupEncodeBytes()
+  {
+    return GroupVarInts.encodeIntArray(
+      this.values, 0, this.group, 0, this.count);
+  }
+
+  /**
+   * Decode values from a byte array with StreamVByte.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] streamDecodeBytes()
+  {
+    StreamVByte.decodeIntArray(this.stream, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Decode values from a buffer with StreamVByte.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] streamDecodeBuffer()
+  {
+    StreamVByte.decodeIntArray(
+      this.streamBuffer, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Encode values into a byte array with StreamVByte.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int streamEncodeBytes()
+  {
+    return StreamVByte.encodeIntArray(
+      this.values, 0, this.stream, 0, this.count);
+  }
+
+  /**
+   * Baseline: decode the same values from LEB128 with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] baselineVarIntsDecode()
+  {
+    VarInts.decodeIntArray(this.leb128, 0, this.output, 0, this.count);
+    return this.output;
+  }
+}
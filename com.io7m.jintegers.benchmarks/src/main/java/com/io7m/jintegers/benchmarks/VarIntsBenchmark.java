@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.VarInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for variable-length integer encoding and decoding, compared
+ * against a conventional byte-at-a-time decoder.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VarIntsBenchmark
+{
+  /**
+   * The kind of buffer used by the buffer benchmarks.
+   */
+
+  @Param({"HEAP", "DIRECT"})
+  public BufferKind bufferKind;
+
+  /**
+   * The number of significant bits in each value.
+   */
+
+  @Param({"7", "28", "63"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024"})
+  public int count;
+
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private long[] values;
+  private long[] output;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public VarIntsBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = BenchmarkData.longs(this.count, this.bits);
+    this.output = new long[this.count];
+    this.bytes = new byte[this.count * VarInts.LONG_LENGTH_MAX];
+    VarInts.encodeLongArray(this.values, 0, this.bytes, 0, this.count);
+    this.buffer = this.bufferKind.allocate(this.bytes.length);
+    this.buffer.put(0, this.bytes);
+  }
+
+  /**
+   * Decode values one at a time from a byte array with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long decodeBytesSingle()
+  {
+    long sum = 0L;
+    int offset = 0;
+    for (int index = 0; index < this.count; ++index) {
+      final long x = VarInts.decodeLong(this.bytes, offset);
+      offset += VarInts.encodedLengthLong(x);
+      sum += x;
+    }
+    return sum;
+  }
+
+  /**
+   * Decode values in bulk from a byte array with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] decodeBytesBulk()
+  {
+    VarInts.decodeLongArray(this.bytes, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Decode values in bulk from a buffer with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] decodeBufferBulk()
+  {
+    VarInts.decodeLongArray(this.buffer, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Encode values in bulk into a byte array with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encodeBytesBulk()
+  {
+    return VarInts.encodeLongArray(this.values, 0, this.bytes, 0, this.count);
+  }
+
+  /**
+   * Encode values in bulk into a buffer with VarInts.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int encodeBufferBulk()
+  {
+    return VarInts.encodeLongArray(this.values, 0, this.buffer, 0, this.count);
+  }
+
+  /**
+   * Baseline: a loop that examines the continuation bit of each byte.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public long[] baselineByteLoop()
+  {
+    int offset = 0;
+    for (int index = 0; index < this.count; ++index) {
+      long r = 0L;
+      int shift = 0;
+      while (true) {
+        final byte b = this.bytes[offset];
+        ++offset;
+        r |= (long) (b & 0x7f) << shift;
+        if (b >= 0) {
+          break;
+        }
+        shift += 7;
+      }
+      this.output[index] = r;
+    }
+    return this.output;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.benchmarks;
+
+import com.io7m.jintegers.GroupVarInts;
+import com.io7m.jintegers.StreamVByte;
+import com.io7m.jintegers.vector.BulkEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the table-driven and shuffle-based group varint and
+ * Stream VByte decoders of the scalar and vectorized {@link BulkEngine}
+ * implementations.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VectorVByteBenchmark
+{
+  /**
+   * {@code true} if the vectorized engine should be measured.
+   */
+
+  @Param({"false", "true"})
+  public boolean vectorized;
+
+  /**
+   * The number of significant bits in each value.
+   */
+
+  @Param({"8", "20", "32"})
+  public int bits;
+
+  /**
+   * The number of values processed per invocation.
+   */
+
+  @Param({"16", "1024", "4096"})
+  public int count;
+
+  private BulkEngine engine;
+  private int[] output;
+  private byte[] group;
+  private byte[] stream;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public VectorVByteBenchmark()
+  {
+
+  }
+
+  /**
+   * Allocate the benchmark inputs.
+   */
+
+  @Setup
+  public void setup()
+  {
+    if (this.vectorized) {
+      this.engine = BulkEngine.best();
+      if (!this.engine.isVectorized()) {
+        throw new IllegalStateException(
+          "The Vector API is not available in this JVM");
+      }
+    } else {
+      this.engine = BulkEngine.scalar();
+    }
+
+    final int[] values = BenchmarkData.ints(this.count, this.bits);
+    this.output = new int[this.count];
+
+    final int size = (int) GroupVarInts.encodedLengthMax(this.count);
+    this.group = new byte[size];
+    GroupVarInts.encodeIntArray(values, 0, this.group, 0, this.count);
+    this.stream = new byte[size];
+    StreamVByte.encodeIntArray(values, 0, this.stream, 0, this.count);
+  }
+
+  /**
+   * Decode group varint values from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] groupDecode()
+  {
+    this.engine.decodeGroupVarInts(this.group, 0, this.output, 0, this.count);
+    return this.output;
+  }
+
+  /**
+   * Decode Stream VByte values from a byte array.
+   *
+   * @return A value to be consumed by the harness
+   */
+
+  @Benchmark
+  public int[] streamDecode()
+  {
+    this.engine.decodeStreamVByte(this.stream, 0, this.output, 0, this.count);
+    return this.output;
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+/**
+ * The order in which the bits of a bit stream are stored in each byte.
+ *
+ * @see BitReader
+ * @see BitWriter
+ */
+
+public enum BitOrder
+{
+  /**
+   * The first bit of the stream is the most significant bit of the first
+   * byte, and a field is stored with its most significant bit first.
+   * This is the order used by most network protocols and media formats.
+   */
+
+  MSB_FIRST,
+
+  /**
+   * The first bit of the stream is the least significant bit of the
+   * first byte, and a field is stored with its least significant bit
+   * first. This is the order used by DEFLATE and by {@link BitPacking}.
+   */
+
+  LSB_FIRST
+}
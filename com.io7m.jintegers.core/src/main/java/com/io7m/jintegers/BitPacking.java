@@ -0,0 +1,1167 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to pack integers of any fixed width into a contiguous bit
+ * stream.
+ * </p>
+ * <p>
+ * Element {@code i} of a stream of {@code width}-bit values occupies bits
+ * {@code [i * width, (i + 1) * width)} of the stream, least significant
+ * bit first. When the stream is stored in a {@code long[]}, bit {@code b}
+ * is bit {@code b % 64} of word {@code b / 64}. When it is stored in a
+ * {@code byte[]} or {@link ByteBuffer}, bit {@code b} is bit
+ * {@code b % 8} of byte {@code b / 8}, so the byte form is the
+ * little-endian serialization of the word form. The byte order of a
+ * {@link ByteBuffer} is ignored.
+ * </p>
+ * <p>
+ * Packing keeps only the low {@code width} bits of each value, and
+ * clears the unused high bits of the final byte or word. Unpacking
+ * either zero-extends or, in the {@code Signed} functions, sign-extends
+ * each value. Any single element can be read with the {@code get}
+ * functions without unpacking the elements before it.
+ * </p>
+ * <p>
+ * Packing accumulates values into a 64-bit register and stores each
+ * word once it is full; unpacking reads each element with a single
+ * unaligned 8-byte load (a ninth byte is needed only for widths above
+ * 57). Neither direction examines individual bytes except at the end of
+ * a byte stream.
+ * </p>
+ */
+
+public final class BitPacking
+{
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private BitPacking()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param count The number of values
+   * @param width The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The number of bytes occupied by {@code count} packed values
+   */
+
+  public static long packedLengthBytes(
+    final int count,
+    final int width)
+  {
+    checkWidth(width, 64);
+    checkCount(count);
+    return ((long) count * (long) width + 7L) >>> 3;
+  }
+
+  /**
+   * @param count The number of values
+   * @param width The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The number of words occupied by {@code count} packed values
+   */
+
+  public static long packedLengthLongs(
+    final int count,
+    final int width)
+  {
+    checkWidth(width, 64);
+    checkCount(count);
+    return ((long) count * (long) width + 63L) >>> 6;
+  }
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, packedLengthBytes(count, width), (long) dst.length);
+
+    final long mask = mask(width);
+    long acc = 0L;
+    int bits = 0;
+    int o = dstOff;
+    for (int k = 0; k < count; ++k) {
+      final long v = src[srcOff + k] & mask;
+      acc |= v << bits;
+      bits += width;
+      if (bits >= 64) {
+        LONG_LE.set(dst, o, acc);
+        o += 8;
+        bits -= 64;
+        acc = spill(v, width, bits);
+      }
+    }
+    putTail(dst, o, acc, bits);
+    return dst;
+  }
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkWidth(width, 32);
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, packedLengthBytes(count, width), (long) dst.length);
+
+    final long mask = mask(width);
+    long acc = 0L;
+    int bits = 0;
+    int o = dstOff;
+    for (int k = 0; k < count; ++k) {
+      final long v = src[srcOff + k] & mask;
+      acc |= v << bits;
+      bits += width;
+      if (bits >= 64) {
+        LONG_LE.set(dst, o, acc);
+        o += 8;
+        bits -= 64;
+        acc = spill(v, width, bits);
+      }
+    }
+    putTail(dst, o, acc, bits);
+    return dst;
+  }
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   * @param width    The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packLongArray(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, packedLengthBytes(count, width), (long) dst.limit());
+
+    final boolean little = dst.order().equals(ByteOrder.LITTLE_ENDIAN);
+    final long mask = mask(width);
+    long acc = 0L;
+    int bits = 0;
+    int o = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final long v = src[srcOff + k] & mask;
+      acc |= v << bits;
+      bits += width;
+      if (bits >= 64) {
+        dst.putLong(o, little ? acc : Long.reverseBytes(acc));
+        o += 8;
+        bits -= 64;
+        acc = spill(v, width, bits);
+      }
+    }
+    putTail(dst, o, acc, bits);
+    return dst;
+  }
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   * @param width    The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkWidth(width, 32);
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, packedLengthBytes(count, width), (long) dst.limit());
+
+    final boolean little = dst.order().equals(ByteOrder.LITTLE_ENDIAN);
+    final long mask = mask(width);
+    long acc = 0L;
+    int bits = 0;
+    int o = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final long v = src[srcOff + k] & mask;
+      acc |= v << bits;
+      bits += width;
+      if (bits >= 64) {
+        dst.putLong(o, little ? acc : Long.reverseBytes(acc));
+        o += 8;
+        bits -= 64;
+        acc = spill(v, width, bits);
+      }
+    }
+    putTail(dst, o, acc, bits);
+    return dst;
+  }
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination words
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] packLongArray(
+    final long[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, packedLengthLongs(count, width), (long) dst.length);
+
+    final long mask = mask(width);
+    long acc = 0L;
+    int bits = 0;
+    int o = dstOff;
+    for (int k = 0; k < count; ++k) {
+      final long v = src[srcOff + k] & mask;
+      acc |= v << bits;
+      bits += width;
+      if (bits >= 64) {
+        dst[o] = acc;
+        ++o;
+        bits -= 64;
+        acc = spill(v, width, bits);
+      }
+    }
+    if (bits > 0) {
+      dst[o] = acc;
+    }
+    return dst;
+  }
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination words
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] packIntArray(
+    final int[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkWidth(width, 32);
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, packedLengthLongs(count, width), (long) dst.length);
+
+    final long mask = mask(width);
+    long acc = 0L;
+    int bits = 0;
+    int o = dstOff;
+    for (int k = 0; k < count; ++k) {
+      final long v = src[srcOff + k] & mask;
+      acc |= v << bits;
+      bits += width;
+      if (bits >= 64) {
+        dst[o] = acc;
+        ++o;
+        bits -= 64;
+        acc = spill(v, width, bits);
+      }
+    }
+    if (bits > 0) {
+      dst[o] = acc;
+    }
+    return dst;
+  }
+
+  /**
+   * Unpack {@code count} zero-extended values from {@code src}, starting
+   * at {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The packed data
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackLongs(src, srcOff, dst, dstOff, count, width, false);
+  }
+
+  /**
+   * Unpack {@code count} sign-extended values from {@code src}.
+   *
+   * @param src    The packed data
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   *
+   * @see #unpackLongArray(byte[], int, long[], int, int, int)
+   */
+
+  public static long[] unpackSignedLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackLongs(src, srcOff, dst, dstOff, count, width, true);
+  }
+
+  /**
+   * Unpack {@code count} zero-extended values from {@code src}, starting
+   * at {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The packed data
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackInts(src, srcOff, dst, dstOff, count, width, false);
+  }
+
+  /**
+   * Unpack {@code count} sign-extended values from {@code src}.
+   *
+   * @param src    The packed data
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   *
+   * @see #unpackIntArray(byte[], int, int[], int, int, int)
+   */
+
+  public static int[] unpackSignedIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackInts(src, srcOff, dst, dstOff, count, width, true);
+  }
+
+  /**
+   * Unpack {@code count} zero-extended values from {@code src}, starting
+   * at {@code srcIndex}, into {@code dst} starting at {@code dstOff}.
+   * The ranges are checked once for the whole batch.
+   *
+   * @param src      The packed data
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   * @param width    The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackLongs(src, srcIndex, dst, dstOff, count, width, false);
+  }
+
+  /**
+   * Unpack {@code count} sign-extended values from {@code src}.
+   *
+   * @param src      The packed data
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   * @param width    The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   *
+   * @see #unpackLongArray(ByteBuffer, int, long[], int, int, int)
+   */
+
+  public static long[] unpackSignedLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackLongs(src, srcIndex, dst, dstOff, count, width, true);
+  }
+
+  /**
+   * Unpack {@code count} zero-extended values from {@code src}, starting
+   * at {@code srcIndex}, into {@code dst} starting at {@code dstOff}.
+   * The ranges are checked once for the whole batch.
+   *
+   * @param src      The packed data
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   * @param width    The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackInts(src, srcIndex, dst, dstOff, count, width, false);
+  }
+
+  /**
+   * Unpack {@code count} sign-extended values from {@code src}.
+   *
+   * @param src      The packed data
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   * @param width    The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   *
+   * @see #unpackIntArray(ByteBuffer, int, int[], int, int, int)
+   */
+
+  public static int[] unpackSignedIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackInts(src, srcIndex, dst, dstOff, count, width, true);
+  }
+
+  /**
+   * Unpack {@code count} zero-extended values from {@code src}, starting
+   * at {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The packed words
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackLongArray(
+    final long[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackLongs(src, srcOff, dst, dstOff, count, width, false);
+  }
+
+  /**
+   * Unpack {@code count} sign-extended values from {@code src}.
+   *
+   * @param src    The packed words
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return {@code dst}
+   *
+   * @see #unpackLongArray(long[], int, long[], int, int, int)
+   */
+
+  public static long[] unpackSignedLongArray(
+    final long[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackLongs(src, srcOff, dst, dstOff, count, width, true);
+  }
+
+  /**
+   * Unpack {@code count} zero-extended values from {@code src}, starting
+   * at {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * ranges are checked once for the whole batch.
+   *
+   * @param src    The packed words
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackIntArray(
+    final long[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackInts(src, srcOff, dst, dstOff, count, width, false);
+  }
+
+  /**
+   * Unpack {@code count} sign-extended values from {@code src}.
+   *
+   * @param src    The packed words
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param width  The width of each value in bits, in {@code [1, 32]}
+   *
+   * @return {@code dst}
+   *
+   * @see #unpackIntArray(long[], int, int[], int, int, int)
+   */
+
+  public static int[] unpackSignedIntArray(
+    final long[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    return unpackInts(src, srcOff, dst, dstOff, count, width, true);
+  }
+
+  /**
+   * Read the zero-extended element {@code index} of the packed values
+   * that start at {@code srcOff}, without reading any other element.
+   *
+   * @param src    The packed data
+   * @param srcOff The starting index in {@code src}
+   * @param index  The element index
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the element lies outside
+   *                                   {@code src}
+   */
+
+  public static long get(
+    final byte[] src,
+    final int srcOff,
+    final int index,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkElement(srcOff, index, width, 3, src.length);
+    return bits(src, srcOff, (long) index * (long) width, width);
+  }
+
+  /**
+   * Read the sign-extended element {@code index} of the packed values
+   * that start at {@code srcOff}.
+   *
+   * @param src    The packed data
+   * @param srcOff The starting index in {@code src}
+   * @param index  The element index
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The value
+   *
+   * @see #get(byte[], int, int, int)
+   */
+
+  public static long getSigned(
+    final byte[] src,
+    final int srcOff,
+    final int index,
+    final int width)
+  {
+    return signExtend(get(src, srcOff, index, width), width);
+  }
+
+  /**
+   * Read the zero-extended element {@code index} of the packed values
+   * that start at {@code srcIndex}, without reading any other element.
+   *
+   * @param src      The packed data
+   * @param srcIndex The starting index in {@code src}
+   * @param index    The element index
+   * @param width    The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the element lies outside
+   *                                   {@code src}
+   */
+
+  public static long get(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int index,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkElement(srcIndex, index, width, 3, src.limit());
+    return bits(src, srcIndex, (long) index * (long) width, width);
+  }
+
+  /**
+   * Read the sign-extended element {@code index} of the packed values
+   * that start at {@code srcIndex}.
+   *
+   * @param src      The packed data
+   * @param srcIndex The starting index in {@code src}
+   * @param index    The element index
+   * @param width    The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The value
+   *
+   * @see #get(ByteBuffer, int, int, int)
+   */
+
+  public static long getSigned(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int index,
+    final int width)
+  {
+    return signExtend(get(src, srcIndex, index, width), width);
+  }
+
+  /**
+   * Read the zero-extended element {@code index} of the packed values
+   * that start at {@code srcOff}, without reading any other element.
+   *
+   * @param src    The packed words
+   * @param srcOff The starting index in {@code src}
+   * @param index  The element index
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the element lies outside
+   *                                   {@code src}
+   */
+
+  public static long get(
+    final long[] src,
+    final int srcOff,
+    final int index,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkElement(srcOff, index, width, 6, src.length);
+    return bits(src, srcOff, (long) index * (long) width, width);
+  }
+
+  /**
+   * Read the sign-extended element {@code index} of the packed values
+   * that start at {@code srcOff}.
+   *
+   * @param src    The packed words
+   * @param srcOff The starting index in {@code src}
+   * @param index  The element index
+   * @param width  The width of each value in bits, in {@code [1, 64]}
+   *
+   * @return The value
+   *
+   * @see #get(long[], int, int, int)
+   */
+
+  public static long getSigned(
+    final long[] src,
+    final int srcOff,
+    final int index,
+    final int width)
+  {
+    return signExtend(get(src, srcOff, index, width), width);
+  }
+
+  private static void checkWidth(
+    final int width,
+    final int max)
+  {
+    if (width < 1 || width > max) {
+      throw new IllegalArgumentException(
+        "Width must be in [1, " + max + "] (is " + width + ")");
+    }
+  }
+
+  private static void checkCount(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + count + ")");
+    }
+  }
+
+  /**
+   * Check that the element {@code index} lies within a container of
+   * {@code length} units of {@code 2 ^ unitShift} bits.
+   */
+
+  private static void checkElement(
+    final int offset,
+    final int index,
+    final int width,
+    final int unitShift,
+    final int length)
+  {
+    checkWidth(width, 64);
+    Objects.checkIndex(index, Integer.MAX_VALUE);
+    final long last = ((long) index * (long) width + width - 1L) >>> unitShift;
+    Objects.checkFromIndexSize((long) offset, last + 1L, (long) length);
+  }
+
+  private static long mask(
+    final int width)
+  {
+    checkWidth(width, 64);
+    return -1L >>> (64 - width);
+  }
+
+  private static long signExtend(
+    final long x,
+    final int width)
+  {
+    final int shift = 64 - width;
+    return (x << shift) >> shift;
+  }
+
+  /**
+   * @return The bits of {@code v} that did not fit in the word just
+   * stored, given that {@code bits} of them remain
+   */
+
+  private static long spill(
+    final long v,
+    final int width,
+    final int bits)
+  {
+    if (bits == 0) {
+      return 0L;
+    }
+    return v >>> (width - bits);
+  }
+
+  private static void putTail(
+    final byte[] dst,
+    final int offset,
+    final long acc,
+    final int bits)
+  {
+    int o = offset;
+    for (int shift = 0; shift < bits; shift += 8) {
+      dst[o] = (byte) (acc >> shift);
+      ++o;
+    }
+  }
+
+  private static void putTail(
+    final ByteBuffer dst,
+    final int index,
+    final long acc,
+    final int bits)
+  {
+    int o = index;
+    for (int shift = 0; shift < bits; shift += 8) {
+      dst.put(o, (byte) (acc >> shift));
+      ++o;
+    }
+  }
+
+  private static long bits(
+    final byte[] src,
+    final int srcOff,
+    final long bit,
+    final int width)
+  {
+    final int b = srcOff + (int) (bit >>> 3);
+    final int s = (int) bit & 7;
+    long x;
+    if (src.length - b >= 8) {
+      x = (long) LONG_LE.get(src, b) >>> s;
+      if (s + width > 64) {
+        x |= (long) (src[b + 8] & 0xff) << (64 - s);
+      }
+    } else {
+      x = 0L;
+      final int n = (s + width + 7) >>> 3;
+      for (int k = 0; k < n; ++k) {
+        x |= (long) (src[b + k] & 0xff) << (k * 8);
+      }
+      x >>>= s;
+    }
+    return x & mask(width);
+  }
+
+  private static long bits(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long bit,
+    final int width)
+  {
+    final int b = srcIndex + (int) (bit >>> 3);
+    final int s = (int) bit & 7;
+    long x;
+    if (src.limit() - b >= 8) {
+      final long w = src.getLong(b);
+      if (src.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+        x = w >>> s;
+      } else {
+        x = Long.reverseBytes(w) >>> s;
+      }
+      if (s + width > 64) {
+        x |= (long) (src.get(b + 8) & 0xff) << (64 - s);
+      }
+    } else {
+      x = 0L;
+      final int n = (s + width + 7) >>> 3;
+      for (int k = 0; k < n; ++k) {
+        x |= (long) (src.get(b + k) & 0xff) << (k * 8);
+      }
+      x >>>= s;
+    }
+    return x & mask(width);
+  }
+
+  private static long bits(
+    final long[] src,
+    final int srcOff,
+    final long bit,
+    final int width)
+  {
+    final int j = srcOff + (int) (bit >>> 6);
+    final int s = (int) bit & 63;
+    long x = src[j] >>> s;
+    if (s + width > 64) {
+      x |= src[j + 1] << (64 - s);
+    }
+    return x & mask(width);
+  }
+
+  private static long[] unpackLongs(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, packedLengthBytes(count, width), (long) src.length);
+
+    long bit = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = bits(src, srcOff, bit, width);
+      dst[dstOff + k] = signed ? signExtend(x, width) : x;
+      bit += width;
+    }
+    return dst;
+  }
+
+  private static long[] unpackLongs(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, packedLengthBytes(count, width), (long) src.limit());
+
+    long bit = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = bits(src, srcIndex, bit, width);
+      dst[dstOff + k] = signed ? signExtend(x, width) : x;
+      bit += width;
+    }
+    return dst;
+  }
+
+  private static long[] unpackLongs(
+    final long[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final int width,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, packedLengthLongs(count, width), (long) src.length);
+
+    long bit = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = bits(src, srcOff, bit, width);
+      dst[dstOff + k] = signed ? signExtend(x, width) : x;
+      bit += width;
+    }
+    return dst;
+  }
+
+  private static int[] unpackInts(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkWidth(width, 32);
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, packedLengthBytes(count, width), (long) src.length);
+
+    long bit = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = bits(src, srcOff, bit, width);
+      dst[dstOff + k] = (int) (signed ? signExtend(x, width) : x);
+      bit += width;
+    }
+    return dst;
+  }
+
+  private static int[] unpackInts(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkWidth(width, 32);
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, packedLengthBytes(count, width), (long) src.limit());
+
+    long bit = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = bits(src, srcIndex, bit, width);
+      dst[dstOff + k] = (int) (signed ? signExtend(x, width) : x);
+      bit += width;
+    }
+    return dst;
+  }
+
+  private static int[] unpackInts(
+    final long[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int width,
+    final boolean signed)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkWidth(width, 32);
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, packedLengthLongs(count, width), (long) src.length);
+
+    long bit = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = bits(src, srcOff, bit, width);
+      dst[dstOff + k] = (int) (signed ? signExtend(x, width) : x);
+      bit += width;
+    }
+    return dst;
+  }
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A reader of bit fields from a {@code byte[]} or a {@link ByteBuffer},
+ * in either {@link BitOrder}.
+ * </p>
+ * <p>
+ * The reader keeps up to 64 bits of the stream in an accumulator. When
+ * a read needs more bits than the accumulator holds, the accumulator is
+ * refilled with a single unaligned 8-byte load, after which it holds at
+ * least 57 bits; only the last few bytes of the data are loaded one at a
+ * time. {@link #readBits(int)} and {@link #peekBits(int)} therefore
+ * handle fields of up to 57 bits with a fixed number of shifts and
+ * masks.
+ * </p>
+ * <p>
+ * The reader keeps its position separately from the buffer: the
+ * buffer's own position and {@link ByteBuffer#order()} are never read
+ * or modified. Reads stop at the end of the array or at the buffer's
+ * limit. A reader can be pointed at new data with
+ * {@link #reset(byte[], int)} or {@link #reset(ByteBuffer, int)}, so a
+ * single instance can be reused without allocating. Readers are not
+ * thread-safe.
+ * </p>
+ */
+
+public final class BitReader
+{
+  /**
+   * The maximum number of bits in a single field.
+   */
+
+  public static final int FIELD_BITS_MAX = 57;
+
+  private static final VarHandle ARRAY_BE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_LE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private final BitOrder order;
+  private final boolean msb;
+  private byte[] array;
+  private ByteBuffer buffer;
+  private int start;
+  private int position;
+  private int end;
+  private long bits;
+  private int available;
+
+  /**
+   * Create a reader over {@code inArray}, starting at {@code offset}.
+   *
+   * @param inArray The source array
+   * @param offset  The starting index in {@code inArray}
+   * @param inOrder The bit order of the data
+   */
+
+  public BitReader(
+    final byte[] inArray,
+    final int offset,
+    final BitOrder inOrder)
+  {
+    this.order = Objects.requireNonNull(inOrder, "Order");
+    this.msb = inOrder == BitOrder.MSB_FIRST;
+    this.reset(inArray, offset);
+  }
+
+  /**
+   * Create a reader over {@code inBuffer}, starting at {@code index}.
+   *
+   * @param inBuffer The source buffer
+   * @param index    The starting index in {@code inBuffer}
+   * @param inOrder  The bit order of the data
+   */
+
+  public BitReader(
+    final ByteBuffer inBuffer,
+    final int index,
+    final BitOrder inOrder)
+  {
+    this.order = Objects.requireNonNull(inOrder, "Order");
+    this.msb = inOrder == BitOrder.MSB_FIRST;
+    this.reset(inBuffer, index);
+  }
+
+  /**
+   * Start reading {@code newArray} at {@code offset}. The bit order is
+   * unchanged.
+   *
+   * @param newArray The source array
+   * @param offset   The starting index in {@code newArray}
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code offset} is negative or
+   *                                   greater than the array length
+   */
+
+  public BitReader reset(
+    final byte[] newArray,
+    final int offset)
+  {
+    this.array = Objects.requireNonNull(newArray, "Source");
+    this.buffer = null;
+    this.start = Objects.checkIndex(offset, newArray.length + 1);
+    this.position = offset;
+    this.end = newArray.length;
+    this.bits = 0L;
+    this.available = 0;
+    return this;
+  }
+
+  /**
+   * Start reading {@code newBuffer} at {@code index}. The bit order is
+   * unchanged.
+   *
+   * @param newBuffer The source buffer
+   * @param index     The starting index in {@code newBuffer}
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is negative or
+   *                                   greater than the buffer's limit
+   */
+
+  public BitReader reset(
+    final ByteBuffer newBuffer,
+    final int index)
+  {
+    this.array = null;
+    this.buffer = Objects.requireNonNull(newBuffer, "Source");
+    this.start = Objects.checkIndex(index, newBuffer.limit() + 1);
+    this.position = index;
+    this.end = newBuffer.limit();
+    this.bits = 0L;
+    this.available = 0;
+    return this;
+  }
+
+  /**
+   * @return The bit order of the data
+   */
+
+  public BitOrder order()
+  {
+    return this.order;
+  }
+
+  /**
+   * @return The number of bits read or skipped since the starting index
+   */
+
+  public long bitPosition()
+  {
+    return ((long) (this.position - this.start) << 3) - this.available;
+  }
+
+  /**
+   * @return The number of bits between the current bit position and the
+   * end of the data
+   */
+
+  public long bitsRemaining()
+  {
+    return ((long) (this.end - this.position) << 3) + this.available;
+  }
+
+  /**
+   * Read a field of {@code n} bits.
+   *
+   * @param n The number of bits, in {@code [0, 57]}
+   *
+   * @return The field, zero-extended
+   *
+   * @throws IllegalArgumentException  If {@code n} is out of range
+   * @throws IndexOutOfBoundsException If fewer than {@code n} bits
+   *                                   remain; nothing is read
+   */
+
+  public long readBits(
+    final int n)
+  {
+    final long r = this.peekBits(n);
+    if (this.msb) {
+      this.bits <<= n;
+    } else {
+      this.bits >>>= n;
+    }
+    this.available -= n;
+    return r;
+  }
+
+  /**
+   * Read a field of {@code n} bits without advancing the bit position.
+   *
+   * @param n The number of bits, in {@code [0, 57]}
+   *
+   * @return The field, zero-extended
+   *
+   * @throws IllegalArgumentException  If {@code n} is out of range
+   * @throws IndexOutOfBoundsException If fewer than {@code n} bits
+   *                                   remain
+   */
+
+  public long peekBits(
+    final int n)
+  {
+    checkBits(n);
+    if (this.available < n) {
+      this.refill(n);
+    }
+    if (this.msb) {
+      return (this.bits >>> 1) >>> (63 - n);
+    }
+    return this.bits & ~(-1L << n);
+  }
+
+  /**
+   * Read a single bit.
+   *
+   * @return {@code true} if the bit is set
+   *
+   * @throws IndexOutOfBoundsException If no bits remain
+   */
+
+  public boolean readBit()
+  {
+    return this.readBits(1) != 0L;
+  }
+
+  /**
+   * Advance the bit position by {@code n} bits. Whole bytes are skipped
+   * without being read.
+   *
+   * @param n The number of bits
+   *
+   * @return this
+   *
+   * @throws IllegalArgumentException  If {@code n} is negative
+   * @throws IndexOutOfBoundsException If fewer than {@code n} bits
+   *                                   remain; nothing is skipped
+   */
+
+  public BitReader skipBits(
+    final long n)
+  {
+    if (n < 0L) {
+      throw new IllegalArgumentException(
+        "Bit count must be non-negative (is " + n + ")");
+    }
+    if (n <= FIELD_BITS_MAX) {
+      this.readBits((int) n);
+      return this;
+    }
+    final long remaining = this.bitsRemaining();
+    if (n > remaining) {
+      throw new IndexOutOfBoundsException(
+        "Cannot skip " + n + " bits with " + remaining + " bits remaining");
+    }
+
+    final long rest = n - this.available;
+    this.position += (int) (rest >>> 3);
+    this.bits = 0L;
+    this.available = 0;
+    this.readBits((int) (rest & 7L));
+    return this;
+  }
+
+  /**
+   * Read a unary code: count the zero bits before the next set bit, and
+   * consume both the zero bits and the set bit. The accumulator is
+   * searched with a single leading or trailing zero count, so a code
+   * costs a constant amount of work for every 57 bits it spans.
+   *
+   * @return The number of zero bits before the set bit
+   *
+   * @throws IndexOutOfBoundsException If no set bit remains; nothing is
+   *                                   read
+   */
+
+  public long readUnary()
+  {
+    final long savedBits = this.bits;
+    final int savedAvailable = this.available;
+    final int savedPosition = this.position;
+
+    long n = 0L;
+    while (true) {
+      if (this.available < FIELD_BITS_MAX) {
+        this.fill();
+      }
+      final long x = this.bits;
+      final int a = this.available;
+      final int z = this.msb
+        ? Long.numberOfLeadingZeros(x)
+        : Long.numberOfTrailingZeros(x);
+      if (z < a) {
+        this.bits = this.msb ? (x << z) << 1 : (x >>> z) >>> 1;
+        this.available = a - z - 1;
+        return n + z;
+      }
+      if (a == 0) {
+        this.bits = savedBits;
+        this.available = savedAvailable;
+        this.position = savedPosition;
+        throw new IndexOutOfBoundsException(
+          "Truncated unary code at index " + savedPosition);
+      }
+      n += a;
+      this.bits = 0L;
+      this.available = 0;
+    }
+  }
+
+  /**
+   * Skip the bits that remain in the current byte, if any, so that the
+   * next read starts at a byte boundary.
+   *
+   * @return this
+   */
+
+  public BitReader alignToByte()
+  {
+    return this.skipBits(this.available & 7);
+  }
+
+  private static void checkBits(
+    final int n)
+  {
+    if (n < 0 || n > FIELD_BITS_MAX) {
+      throw new IllegalArgumentException(
+        "Bit count must be in [0, 57] (is " + n + ")");
+    }
+  }
+
+  /**
+   * Load at least {@code n} bits into the accumulator.
+   */
+
+  private void refill(
+    final int n)
+  {
+    this.fill();
+    if (this.available < n) {
+      throw new IndexOutOfBoundsException(
+        "Truncated bit stream at index " + this.position);
+    }
+  }
+
+  /**
+   * Load as many bytes as fit into the accumulator, assuming that it
+   * holds no more than 56 bits. Loading does not change the bit position.
+   * Bits past the last whole byte of a wide load are left in the
+   * accumulator; the next load ORs the same bits into the same places.
+   */
+
+  private void fill()
+  {
+    long x = this.bits;
+    int a = this.available;
+    int p = this.position;
+    if (this.end - p >= 8) {
+      final long w = this.load(p);
+      x |= this.msb ? w >>> a : w << a;
+      final int bytes = (64 - a) >>> 3;
+      p += bytes;
+      a += bytes << 3;
+    } else {
+      while (a <= 56 && p < this.end) {
+        final long b = this.byteAt(p);
+        x |= this.msb ? b << (56 - a) : b << a;
+        a += 8;
+        ++p;
+      }
+    }
+    this.bits = x;
+    this.available = a;
+    this.position = p;
+  }
+
+  private long load(
+    final int index)
+  {
+    final byte[] a = this.array;
+    if (a != null) {
+      return this.msb
+        ? (long) ARRAY_BE.get(a, index)
+        : (long) ARRAY_LE.get(a, index);
+    }
+    return this.msb
+      ? (long) BUFFER_BE.get(this.buffer, index)
+      : (long) BUFFER_LE.get(this.buffer, index);
+  }
+
+  private long byteAt(
+    final int index)
+  {
+    final byte[] a = this.array;
+    if (a != null) {
+      return a[index] & 0xffL;
+    }
+    return this.buffer.get(index) & 0xffL;
+  }
+}
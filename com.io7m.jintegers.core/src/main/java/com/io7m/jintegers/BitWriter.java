@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A writer of bit fields into a {@code byte[]} or a {@link ByteBuffer},
+ * in either {@link BitOrder}.
+ * </p>
+ * <p>
+ * The writer collects bits in a 64-bit accumulator and stores it with a
+ * single unaligned 8-byte store each time it fills, so
+ * {@link #writeBits(long, int)} handles fields of up to 57 bits with a
+ * fixed number of shifts and masks. Bits that do not yet fill a whole
+ * accumulator are written by {@link #flush()}; writing may continue
+ * after a flush.
+ * </p>
+ * <p>
+ * The writer keeps its position separately from the buffer: the
+ * buffer's own position and {@link ByteBuffer#order()} are never read
+ * or modified. Writes stop at the end of the array or at the buffer's
+ * limit, and no byte past the last byte of the stream is ever written.
+ * A writer can be pointed at a new destination with
+ * {@link #reset(byte[], int)} or {@link #reset(ByteBuffer, int)}, so a
+ * single instance can be reused without allocating. Writers are not
+ * thread-safe.
+ * </p>
+ */
+
+public final class BitWriter
+{
+  private static final VarHandle ARRAY_BE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle ARRAY_LE =
+    MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_BE =
+    MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LE =
+    MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private final BitOrder order;
+  private final boolean msb;
+  private byte[] array;
+  private ByteBuffer buffer;
+  private int start;
+  private int position;
+  private int end;
+  private long bits;
+  private int count;
+
+  /**
+   * Create a writer into {@code inArray}, starting at {@code offset}.
+   *
+   * @param inArray The destination array
+   * @param offset  The starting index in {@code inArray}
+   * @param inOrder The bit order of the data
+   */
+
+  public BitWriter(
+    final byte[] inArray,
+    final int offset,
+    final BitOrder inOrder)
+  {
+    this.order = Objects.requireNonNull(inOrder, "Order");
+    this.msb = inOrder == BitOrder.MSB_FIRST;
+    this.reset(inArray, offset);
+  }
+
+  /**
+   * Create a writer into {@code inBuffer}, starting at {@code index}.
+   *
+   * @param inBuffer The destination buffer
+   * @param index    The starting index in {@code inBuffer}
+   * @param inOrder  The bit order of the data
+   */
+
+  public BitWriter(
+    final ByteBuffer inBuffer,
+    final int index,
+    final BitOrder inOrder)
+  {
+    this.order = Objects.requireNonNull(inOrder, "Order");
+    this.msb = inOrder == BitOrder.MSB_FIRST;
+    this.reset(inBuffer, index);
+  }
+
+  /**
+   * Start writing into {@code newArray} at {@code offset}, discarding
+   * any bits not yet flushed. The bit order is unchanged.
+   *
+   * @param newArray The destination array
+   * @param offset   The starting index in {@code newArray}
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code offset} is negative or
+   *                                   greater than the array length
+   */
+
+  public BitWriter reset(
+    final byte[] newArray,
+    final int offset)
+  {
+    this.array = Objects.requireNonNull(newArray, "Destination");
+    this.buffer = null;
+    this.start = Objects.checkIndex(offset, newArray.length + 1);
+    this.position = offset;
+    this.end = newArray.length;
+    this.bits = 0L;
+    this.count = 0;
+    return this;
+  }
+
+  /**
+   * Start writing into {@code newBuffer} at {@code index}, discarding
+   * any bits not yet flushed. The bit order is unchanged.
+   *
+   * @param newBuffer The destination buffer
+   * @param index     The starting index in {@code newBuffer}
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is negative or
+   *                                   greater than the buffer's limit
+   */
+
+  public BitWriter reset(
+    final ByteBuffer newBuffer,
+    final int index)
+  {
+    this.array = null;
+    this.buffer = Objects.requireNonNull(newBuffer, "Destination");
+    this.start = Objects.checkIndex(index, newBuffer.limit() + 1);
+    this.position = index;
+    this.end = newBuffer.limit();
+    this.bits = 0L;
+    this.count = 0;
+    return this;
+  }
+
+  /**
+   * @return The bit order of the data
+   */
+
+  public BitOrder order()
+  {
+    return this.order;
+  }
+
+  /**
+   * @return The number of bits written since the starting index
+   */
+
+  public long bitPosition()
+  {
+    return ((long) (this.position - this.start) << 3) + this.count;
+  }
+
+  /**
+   * Write the low {@code n} bits of {@code value}. Higher bits of
+   * {@code value} are ignored.
+   *
+   * @param value The field
+   * @param n     The number of bits, in {@code [0, 57]}
+   *
+   * @return this
+   *
+   * @throws IllegalArgumentException  If {@code n} is out of range
+   * @throws IndexOutOfBoundsException If the destination has no room
+   *                                   for the field; nothing is written
+   */
+
+  public BitWriter writeBits(
+    final long value,
+    final int n)
+  {
+    if (n < 0 || n > BitReader.FIELD_BITS_MAX) {
+      throw new IllegalArgumentException(
+        "Bit count must be in [0, 57] (is " + n + ")");
+    }
+    this.checkRoom(n);
+
+    final long v = value & ~(-1L << n);
+    final int c = this.count;
+    final int free = 64 - c;
+    if (n < free) {
+      this.bits |= this.msb ? v << (free - n) : v << c;
+      this.count = c + n;
+      return this;
+    }
+
+    final int rest = n - free;
+    if (this.msb) {
+      this.store(this.bits | (v >>> rest));
+      this.bits = rest == 0 ? 0L : v << (64 - rest);
+    } else {
+      this.store(this.bits | (v << c));
+      this.bits = v >>> free;
+    }
+    this.position += 8;
+    this.count = rest;
+    return this;
+  }
+
+  /**
+   * Write a single bit.
+   *
+   * @param bit The bit
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If the destination has no room
+   *                                   for the bit; nothing is written
+   */
+
+  public BitWriter writeBit(
+    final boolean bit)
+  {
+    return this.writeBits(bit ? 1L : 0L, 1);
+  }
+
+  /**
+   * Write a unary code: {@code q} zero bits followed by a set bit.
+   *
+   * @param q The number of zero bits
+   *
+   * @return this
+   *
+   * @throws IllegalArgumentException  If {@code q} is negative
+   * @throws IndexOutOfBoundsException If the destination has no room
+   *                                   for the code; nothing is written
+   */
+
+  public BitWriter writeUnary(
+    final long q)
+  {
+    if (q < 0L) {
+      throw new IllegalArgumentException(
+        "Bit count must be non-negative (is " + q + ")");
+    }
+    this.checkRoom(q + 1L);
+
+    long r = q;
+    while (r > 56L) {
+      this.writeBits(0L, 56);
+      r -= 56L;
+    }
+    final int k = (int) r;
+    return this.writeBits(this.msb ? 1L : 1L << k, k + 1);
+  }
+
+  /**
+   * Write zero bits up to the next byte boundary, if the bit position
+   * is not already at one.
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If the destination has no room
+   *                                   for the bits
+   */
+
+  public BitWriter alignToByte()
+  {
+    return this.writeBits(0L, -this.count & 7);
+  }
+
+  /**
+   * Write the bits that do not yet fill the accumulator, padding the
+   * last byte with zero bits. The bit position is unchanged, so writing
+   * may continue and later bits will fill in the padding.
+   *
+   * @return The index following the last byte of the stream
+   *
+   * @throws IndexOutOfBoundsException If the destination has no room
+   *                                   for the bits; nothing is written
+   */
+
+  public int flush()
+  {
+    final int bytes = (this.count + 7) >>> 3;
+    final int p = this.position;
+    Objects.checkFromIndexSize(p, bytes, this.end);
+
+    final long x = this.bits;
+    for (int k = 0; k < bytes; ++k) {
+      final long b = this.msb ? x >>> (56 - (k << 3)) : x >>> (k << 3);
+      this.putByte(p + k, (byte) b);
+    }
+    return p + bytes;
+  }
+
+  /**
+   * Check that {@code n} more bits, treated as an unsigned number, fit
+   * between the bit position and the end of the destination.
+   *
+   * @param n The number of bits
+   *
+   * @throws IndexOutOfBoundsException If the bits do not fit
+   */
+
+  void checkRoom(
+    final long n)
+  {
+    final long free = ((long) (this.end - this.position) << 3) - this.count;
+    if (Long.compareUnsigned(n, free) > 0) {
+      throw new IndexOutOfBoundsException(
+        "No room for " + Long.toUnsignedString(n) + " bits at index "
+          + this.position);
+    }
+  }
+
+  private void store(
+    final long x)
+  {
+    final byte[] a = this.array;
+    if (a != null) {
+      if (this.msb) {
+        ARRAY_BE.set(a, this.position, x);
+      } else {
+        ARRAY_LE.set(a, this.position, x);
+      }
+    } else if (this.msb) {
+      BUFFER_BE.set(this.buffer, this.position, x);
+    } else {
+      BUFFER_LE.set(this.buffer, this.position, x);
+    }
+  }
+
+  private void putByte(
+    final int index,
+    final byte b)
+  {
+    final byte[] a = this.array;
+    if (a != null) {
+      a[index] = b;
+    } else {
+      this.buffer.put(index, b);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to validate a whole frame of packed integers at once.
+ * </p>
+ * <p>
+ * A decoder that reads many fixed-width fields from one region can check
+ * the region once with these functions, and then use the
+ * {@code Unchecked} functions of {@link Signed16}, {@link Signed24},
+ * {@link Signed32}, {@link Signed64}, {@link Unsigned16} and
+ * {@link Unsigned32} for the individual fields.
+ * </p>
+ */
+
+public final class BoundsChecks
+{
+  private BoundsChecks()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Check that {@code buffer} contains {@code size} bytes starting at
+   * {@code offset}.
+   *
+   * @param buffer The array
+   * @param offset The starting offset
+   * @param size   The size of the frame in bytes
+   *
+   * @return {@code offset}
+   *
+   * @throws IndexOutOfBoundsException If the frame is out of bounds
+   */
+
+  public static int checkFrame(
+    final byte[] buffer,
+    final int offset,
+    final int size)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return Objects.checkFromIndexSize(offset, size, buffer.length);
+  }
+
+  /**
+   * Check that {@code buffer} contains {@code size} bytes starting at
+   * {@code index}, before the buffer's limit.
+   *
+   * @param buffer The buffer
+   * @param index  The starting index
+   * @param size   The size of the frame in bytes
+   *
+   * @return {@code index}
+   *
+   * @throws IndexOutOfBoundsException If the frame is out of bounds
+   */
+
+  public static int checkFrame(
+    final ByteBuffer buffer,
+    final int index,
+    final int size)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    return Objects.checkFromIndexSize(index, size, buffer.limit());
+  }
+
+  /**
+   * Check that {@code buffer} contains {@code count} packed integers of
+   * {@code width} bytes each, starting at {@code offset}. The total size
+   * is computed without overflow.
+   *
+   * @param buffer The array
+   * @param offset The starting offset
+   * @param count  The number of integers
+   * @param width  The width of each integer in bytes
+   *
+   * @return {@code offset}
+   *
+   * @throws IndexOutOfBoundsException If the frame is out of bounds
+   */
+
+  public static int checkElements(
+    final byte[] buffer,
+    final int offset,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * (long) width, (long) buffer.length);
+    return offset;
+  }
+
+  /**
+   * Check that {@code buffer} contains {@code count} packed integers of
+   * {@code width} bytes each, starting at {@code index}, before the
+   * buffer's limit. The total size is computed without overflow.
+   *
+   * @param buffer The buffer
+   * @param index  The starting index
+   * @param count  The number of integers
+   * @param width  The width of each integer in bytes
+   *
+   * @return {@code index}
+   *
+   * @throws IndexOutOfBoundsException If the frame is out of bounds
+   */
+
+  public static int checkElements(
+    final ByteBuffer buffer,
+    final int index,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(
+      (long) index, (long) count * (long) width, (long) buffer.limit());
+    return index;
+  }
+}
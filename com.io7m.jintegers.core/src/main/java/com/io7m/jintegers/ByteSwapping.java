@@ -0,0 +1,666 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Functions to reverse the byte order of whole regions of packed 16, 24,
+ * 32 and 64-bit integers, either in place or while copying to another
+ * region.
+ * </p>
+ * <p>
+ * Swapping a region in place converts every element from big-endian to
+ * little-endian or back, without an unpack/pack round trip per element.
+ * The 16, 32 and 64-bit functions work a 64-bit word at a time and fall
+ * back to single elements only for the tail of the region. The
+ * {@link ByteBuffer} functions ignore the buffers' own
+ * {@link ByteBuffer#order()} and position, and work on both heap and
+ * direct buffers.
+ * </p>
+ * <p>
+ * Each function checks its ranges once: it throws
+ * {@link IndexOutOfBoundsException} if a region of {@code count} elements
+ * at the given offset does not fit in the array or buffer.
+ * </p>
+ */
+
+public final class ByteSwapping
+{
+  private static final ByteOrder NATIVE = ByteOrder.nativeOrder();
+
+  private static final VarHandle SHORT =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, NATIVE);
+  private static final VarHandle INT =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, NATIVE);
+  private static final VarHandle LONG =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, NATIVE);
+
+  private static final long LANES_16 = 0x00ff00ff00ff00ffL;
+
+  private ByteSwapping()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param x A 64-bit word
+   *
+   * @return {@code x} with the bytes reversed within each 16-bit lane
+   */
+
+  private static long swapLanes16(
+    final long x)
+  {
+    return ((x & LANES_16) << 8) | ((x >>> 8) & LANES_16);
+  }
+
+  /**
+   * @param x A 64-bit word
+   *
+   * @return {@code x} with the bytes reversed within each 32-bit lane
+   */
+
+  private static long swapLanes32(
+    final long x)
+  {
+    return Long.rotateLeft(Long.reverseBytes(x), 32);
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 16-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static byte[] swap16(
+    final byte[] data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 2L, (long) data.length);
+
+    final int end = offset + (count * 2);
+    int o = offset;
+    for (; end - o >= 8; o += 8) {
+      LONG.set(data, o, swapLanes16((long) LONG.get(data, o)));
+    }
+    for (; o < end; o += 2) {
+      SHORT.set(data, o, Short.reverseBytes((short) SHORT.get(data, o)));
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 16-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] copySwap16(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 2L, (long) src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 2L, (long) dst.length);
+
+    final int size = count * 2;
+    int k = 0;
+    for (; size - k >= 8; k += 8) {
+      final long x = (long) LONG.get(src, srcOff + k);
+      LONG.set(dst, dstOff + k, swapLanes16(x));
+    }
+    for (; k < size; k += 2) {
+      final short x = (short) SHORT.get(src, srcOff + k);
+      SHORT.set(dst, dstOff + k, Short.reverseBytes(x));
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 24-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static byte[] swap24(
+    final byte[] data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 3L, (long) data.length);
+
+    final int end = offset + (count * 3);
+    for (int o = offset; o < end; o += 3) {
+      final byte t = data[o];
+      data[o] = data[o + 2];
+      data[o + 2] = t;
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 24-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] copySwap24(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 3L, (long) src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 3L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      final int s = srcOff + (k * 3);
+      final int d = dstOff + (k * 3);
+      final byte b0 = src[s];
+      final byte b1 = src[s + 1];
+      final byte b2 = src[s + 2];
+      dst[d] = b2;
+      dst[d + 1] = b1;
+      dst[d + 2] = b0;
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 32-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static byte[] swap32(
+    final byte[] data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 4L, (long) data.length);
+
+    final int end = offset + (count * 4);
+    int o = offset;
+    for (; end - o >= 8; o += 8) {
+      LONG.set(data, o, swapLanes32((long) LONG.get(data, o)));
+    }
+    for (; o < end; o += 4) {
+      INT.set(data, o, Integer.reverseBytes((int) INT.get(data, o)));
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 32-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] copySwap32(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 4L, (long) src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 4L, (long) dst.length);
+
+    final int size = count * 4;
+    int k = 0;
+    for (; size - k >= 8; k += 8) {
+      final long x = (long) LONG.get(src, srcOff + k);
+      LONG.set(dst, dstOff + k, swapLanes32(x));
+    }
+    for (; k < size; k += 4) {
+      final int x = (int) INT.get(src, srcOff + k);
+      INT.set(dst, dstOff + k, Integer.reverseBytes(x));
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 64-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static byte[] swap64(
+    final byte[] data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 8L, (long) data.length);
+
+    final int end = offset + (count * 8);
+    for (int o = offset; o < end; o += 8) {
+      LONG.set(data, o, Long.reverseBytes((long) LONG.get(data, o)));
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 64-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] copySwap64(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 8L, (long) src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 8L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      final long x = (long) LONG.get(src, srcOff + (k * 8));
+      LONG.set(dst, dstOff + (k * 8), Long.reverseBytes(x));
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 16-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The buffer
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static ByteBuffer swap16(
+    final ByteBuffer data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 2L, (long) data.limit());
+
+    final int end = offset + (count * 2);
+    int o = offset;
+    for (; end - o >= 8; o += 8) {
+      data.putLong(o, swapLanes16(data.getLong(o)));
+    }
+    for (; o < end; o += 2) {
+      data.putShort(o, Short.reverseBytes(data.getShort(o)));
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 16-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source buffer
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination buffer
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer copySwap16(
+    final ByteBuffer src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 2L, (long) src.limit());
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 2L, (long) dst.limit());
+
+    /*
+     * Reading in one byte order and writing in the other already reverses
+     * each word, so the swap is only needed when the orders agree.
+     */
+
+    final boolean same = src.order().equals(dst.order());
+
+    final int size = count * 2;
+    int k = 0;
+    for (; size - k >= 8; k += 8) {
+      final long x = swapLanes16(src.getLong(srcOff + k));
+      dst.putLong(dstOff + k, same ? x : Long.reverseBytes(x));
+    }
+    for (; k < size; k += 2) {
+      final short x = src.getShort(srcOff + k);
+      dst.putShort(dstOff + k, same ? Short.reverseBytes(x) : x);
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 24-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The buffer
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static ByteBuffer swap24(
+    final ByteBuffer data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 3L, (long) data.limit());
+
+    final int end = offset + (count * 3);
+    for (int o = offset; o < end; o += 3) {
+      final byte t = data.get(o);
+      data.put(o, data.get(o + 2));
+      data.put(o + 2, t);
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 24-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source buffer
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination buffer
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer copySwap24(
+    final ByteBuffer src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 3L, (long) src.limit());
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 3L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      final int s = srcOff + (k * 3);
+      final int d = dstOff + (k * 3);
+      final byte b0 = src.get(s);
+      final byte b1 = src.get(s + 1);
+      final byte b2 = src.get(s + 2);
+      dst.put(d, b2);
+      dst.put(d + 1, b1);
+      dst.put(d + 2, b0);
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 32-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The buffer
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static ByteBuffer swap32(
+    final ByteBuffer data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 4L, (long) data.limit());
+
+    final int end = offset + (count * 4);
+    int o = offset;
+    for (; end - o >= 8; o += 8) {
+      data.putLong(o, swapLanes32(data.getLong(o)));
+    }
+    for (; o < end; o += 4) {
+      data.putInt(o, Integer.reverseBytes(data.getInt(o)));
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 32-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source buffer
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination buffer
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer copySwap32(
+    final ByteBuffer src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 4L, (long) src.limit());
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 4L, (long) dst.limit());
+
+    /*
+     * Reading in one byte order and writing in the other already reverses
+     * each word, so the swap is only needed when the orders agree.
+     */
+
+    final boolean same = src.order().equals(dst.order());
+
+    final int size = count * 4;
+    int k = 0;
+    for (; size - k >= 8; k += 8) {
+      final long x = swapLanes32(src.getLong(srcOff + k));
+      dst.putLong(dstOff + k, same ? x : Long.reverseBytes(x));
+    }
+    for (; k < size; k += 4) {
+      final int x = src.getInt(srcOff + k);
+      dst.putInt(dstOff + k, same ? Integer.reverseBytes(x) : x);
+    }
+    return dst;
+  }
+
+  /**
+   * Reverse the byte order of {@code count} packed 64-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The buffer
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   */
+
+  public static ByteBuffer swap64(
+    final ByteBuffer data,
+    final int offset,
+    final int count)
+  {
+    Objects.requireNonNull(data, "Data");
+    Objects.checkFromIndexSize(
+      (long) offset, (long) count * 8L, (long) data.limit());
+
+    final int end = offset + (count * 8);
+    for (int o = offset; o < end; o += 8) {
+      data.putLong(o, Long.reverseBytes(data.getLong(o)));
+    }
+    return data;
+  }
+
+  /**
+   * Copy {@code count} packed 64-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source buffer
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination buffer
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer copySwap64(
+    final ByteBuffer src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 8L, (long) src.limit());
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 8L, (long) dst.limit());
+
+    /*
+     * Reading in one byte order and writing in the other already reverses
+     * each word, so the swap is only needed when the orders agree.
+     */
+
+    final boolean same = src.order().equals(dst.order());
+
+    for (int k = 0; k < count; ++k) {
+      final long x = src.getLong(srcOff + (k * 8));
+      dst.putLong(dstOff + (k * 8), same ? Long.reverseBytes(x) : x);
+    }
+    return dst;
+  }
+}
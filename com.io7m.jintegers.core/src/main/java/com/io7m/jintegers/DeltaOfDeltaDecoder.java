@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>
+ * A decoder for streams written by {@link DeltaOfDeltaEncoder}.
+ * </p>
+ * <p>
+ * The decoder is an iterator over the values of the stream;
+ * {@link #nextLong()} allocates nothing. It can be pointed at a new
+ * stream with {@link #reset(byte[], int, int)}. Decoders are not
+ * thread-safe.
+ * </p>
+ */
+
+public final class DeltaOfDeltaDecoder implements PrimitiveIterator.OfLong
+{
+  private byte[] buffer;
+  private int position;
+  private long bits;
+  private int available;
+  private int remaining;
+  private boolean first;
+  private long previous;
+  private long delta;
+
+  /**
+   * Create a decoder for the {@code count} values written into
+   * {@code inBuffer} starting at {@code offset}.
+   *
+   * @param inBuffer The source array
+   * @param offset   The starting index in {@code inBuffer}
+   * @param count    The number of values in the stream
+   */
+
+  public DeltaOfDeltaDecoder(
+    final byte[] inBuffer,
+    final int offset,
+    final int count)
+  {
+    this.reset(inBuffer, offset, count);
+  }
+
+  /**
+   * Start decoding the {@code count} values written into
+   * {@code newBuffer} starting at {@code offset}.
+   *
+   * @param newBuffer The source array
+   * @param offset    The starting index in {@code newBuffer}
+   * @param count     The number of values in the stream
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code offset} is negative or
+   *                                   greater than the array length
+   * @throws IllegalArgumentException  If {@code count} is negative
+   */
+
+  public DeltaOfDeltaDecoder reset(
+    final byte[] newBuffer,
+    final int offset,
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + count + ")");
+    }
+    this.buffer = Objects.requireNonNull(newBuffer, "Buffer");
+    this.position = Objects.checkIndex(offset, newBuffer.length + 1);
+    this.bits = 0L;
+    this.available = 0;
+    this.remaining = count;
+    this.first = true;
+    this.previous = 0L;
+    this.delta = 0L;
+    return this;
+  }
+
+  /**
+   * @return The number of values not yet decoded
+   */
+
+  public int remaining()
+  {
+    return this.remaining;
+  }
+
+  @Override
+  public boolean hasNext()
+  {
+    return this.remaining > 0;
+  }
+
+  /**
+   * Decode the next value.
+   *
+   * @return The value
+   *
+   * @throws NoSuchElementException    If all values have been decoded
+   * @throws IndexOutOfBoundsException If the stream is truncated
+   */
+
+  @Override
+  public long nextLong()
+  {
+    if (this.remaining == 0) {
+      throw new NoSuchElementException();
+    }
+
+    final long value;
+    if (this.first) {
+      value = (this.take(32) << 32) | this.take(32);
+      this.first = false;
+    } else {
+      final long dd;
+      if (this.take(1) == 0L) {
+        dd = 0L;
+      } else if (this.take(1) == 0L) {
+        dd = signExtend(this.take(7), 7);
+      } else if (this.take(1) == 0L) {
+        dd = signExtend(this.take(9), 9);
+      } else if (this.take(1) == 0L) {
+        dd = signExtend(this.take(12), 12);
+      } else {
+        dd = (this.take(32) << 32) | this.take(32);
+      }
+      this.delta += dd;
+      value = this.previous + this.delta;
+    }
+    this.previous = value;
+    --this.remaining;
+    return value;
+  }
+
+  private static long signExtend(
+    final long x,
+    final int n)
+  {
+    return (x << (64 - n)) >> (64 - n);
+  }
+
+  /**
+   * Read the next {@code n} bits, {@code n <= 32}.
+   */
+
+  private long take(
+    final int n)
+  {
+    if (this.available < n) {
+      this.refill(n);
+    }
+    this.available -= n;
+    return (this.bits >>> this.available) & (-1L >>> (64 - n));
+  }
+
+  private void refill(
+    final int n)
+  {
+    final byte[] b = this.buffer;
+    long x = this.bits;
+    int a = this.available;
+    int p = this.position;
+    while (a <= 56 && p < b.length) {
+      x = (x << 8) | (b[p] & 0xffL);
+      a += 8;
+      ++p;
+    }
+    if (a < n) {
+      throw new IndexOutOfBoundsException(
+        "Truncated stream at index " + p);
+    }
+    this.bits = x;
+    this.available = a;
+    this.position = p;
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * A streaming delta-of-delta encoder for timestamps and other values
+ * that increase at a nearly regular interval.
+ * </p>
+ * <p>
+ * The first value is written as 64 raw bits. Every following value is
+ * written as the difference {@code D} between its delta from the
+ * previous value and the previous delta (the delta before the second
+ * value is taken to be zero), using a prefix code:
+ * </p>
+ * <ul>
+ * <li>{@code 0} if {@code D} is zero,</li>
+ * <li>{@code 10} and 7 bits if {@code D} is in {@code [-64, 63]},</li>
+ * <li>{@code 110} and 9 bits if {@code D} is in {@code [-256, 255]},</li>
+ * <li>{@code 1110} and 12 bits if {@code D} is in {@code [-2048, 2047]},</li>
+ * <li>{@code 1111} and 64 bits otherwise.</li>
+ * </ul>
+ * <p>
+ * Payloads are two's complement and all bits are written most
+ * significant bit first. Arithmetic wraps, so any sequence of values
+ * round-trips exactly. A value that arrives at exactly the expected
+ * interval therefore costs a single bit. The stream does not record how
+ * many values it holds; readers must be told {@link #count()}.
+ * </p>
+ * <p>
+ * The encoder writes into a caller-supplied array and allocates nothing
+ * per value. It can be pointed at a new array with
+ * {@link #reset(byte[], int)}. Encoders are not thread-safe.
+ * </p>
+ *
+ * @see DeltaOfDeltaDecoder
+ */
+
+public final class DeltaOfDeltaEncoder
+{
+  private byte[] buffer;
+  private int start;
+  private int position;
+  private long bits;
+  private int pending;
+  private int count;
+  private long previous;
+  private long delta;
+
+  /**
+   * Create an encoder that writes into {@code inBuffer} starting at
+   * {@code offset}.
+   *
+   * @param inBuffer The destination array
+   * @param offset   The starting index in {@code inBuffer}
+   */
+
+  public DeltaOfDeltaEncoder(
+    final byte[] inBuffer,
+    final int offset)
+  {
+    this.reset(inBuffer, offset);
+  }
+
+  /**
+   * Discard all state and start a new stream in {@code newBuffer} at
+   * {@code offset}.
+   *
+   * @param newBuffer The destination array
+   * @param offset    The starting index in {@code newBuffer}
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code offset} is negative or
+   *                                   greater than the array length
+   */
+
+  public DeltaOfDeltaEncoder reset(
+    final byte[] newBuffer,
+    final int offset)
+  {
+    this.buffer = Objects.requireNonNull(newBuffer, "Buffer");
+    this.start = Objects.checkIndex(offset, newBuffer.length + 1);
+    this.position = offset;
+    this.bits = 0L;
+    this.pending = 0;
+    this.count = 0;
+    this.previous = 0L;
+    this.delta = 0L;
+    return this;
+  }
+
+  /**
+   * @return The number of values appended since the last reset
+   */
+
+  public int count()
+  {
+    return this.count;
+  }
+
+  /**
+   * @return The number of bits written since the last reset
+   */
+
+  public long bitLength()
+  {
+    return ((long) (this.position - this.start) << 3) + this.pending;
+  }
+
+  /**
+   * Append {@code value} to the stream. If there is not enough room in
+   * the array, nothing is written and the encoder is unchanged.
+   *
+   * @param value The value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If the value does not fit in the
+   *                                   array
+   */
+
+  public DeltaOfDeltaEncoder append(
+    final long value)
+  {
+    if (this.count == 0) {
+      this.require(64);
+      this.put(value >>> 32, 32);
+      this.put(value, 32);
+    } else {
+      final long d = value - this.previous;
+      final long dd = d - this.delta;
+      if (dd == 0L) {
+        this.require(1);
+        this.put(0L, 1);
+      } else if (dd >= -64L && dd <= 63L) {
+        this.require(9);
+        this.put((0b10L << 7) | (dd & 0x7fL), 9);
+      } else if (dd >= -256L && dd <= 255L) {
+        this.require(12);
+        this.put((0b110L << 9) | (dd & 0x1ffL), 12);
+      } else if (dd >= -2048L && dd <= 2047L) {
+        this.require(16);
+        this.put((0b1110L << 12) | (dd & 0xfffL), 16);
+      } else {
+        this.require(68);
+        this.put(0b1111L, 4);
+        this.put(dd >>> 32, 32);
+        this.put(dd, 32);
+      }
+      this.delta = d;
+    }
+    this.previous = value;
+    ++this.count;
+    return this;
+  }
+
+  /**
+   * Write any bits of a partially filled final byte, padding it with
+   * zero bits. Values can still be appended afterwards; the padding is
+   * then overwritten.
+   *
+   * @return The index in the array following the last byte written
+   */
+
+  public int flush()
+  {
+    if (this.pending == 0) {
+      return this.position;
+    }
+    this.buffer[this.position] = (byte) (this.bits << (8 - this.pending));
+    return this.position + 1;
+  }
+
+  private void require(
+    final int n)
+  {
+    final long room = (long) (this.buffer.length - this.position) << 3;
+    if (room < (long) this.pending + n) {
+      throw new IndexOutOfBoundsException(
+        "Buffer full at index " + this.position
+          + ": " + n + " bits needed, " + (room - this.pending)
+          + " bits remain");
+    }
+  }
+
+  /**
+   * Write the low {@code n} bits of {@code value}, {@code n <= 56}.
+   */
+
+  private void put(
+    final long value,
+    final int n)
+  {
+    final long b = (this.bits << n) | (value & (-1L >>> (64 - n)));
+    int k = this.pending + n;
+    int p = this.position;
+    while (k >= 8) {
+      k -= 8;
+      this.buffer[p] = (byte) (b >> k);
+      ++p;
+    }
+    this.bits = b;
+    this.pending = k;
+    this.position = p;
+  }
+}
@@ -0,0 +1,690 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Delta encoding of sorted or slowly changing 64-bit integers, such as
+ * timestamps and sequence numbers.
+ * </p>
+ * <p>
+ * Values are encoded in blocks of {@link #BLOCK_SIZE}; a final block may
+ * be shorter. Each block consists of a one-byte bit width {@code w} in
+ * {@code [0, 64]}, the first value of the block as a zigzag
+ * {@link VarInts} value, and then the zigzag encoded differences between
+ * each following value and its predecessor, packed at width {@code w}
+ * with {@link BitPacking}. Differences are computed with wrapping
+ * arithmetic, so any sequence of values round-trips exactly, and a block
+ * of equal values has width zero and no packed data. Each block can be
+ * decoded without reference to the blocks before it.
+ * </p>
+ * <p>
+ * Decoding unpacks the differences of a block directly into the
+ * destination array and then replaces them with a running sum in a
+ * single pass.
+ * </p>
+ */
+
+public final class DeltaPacking
+{
+  /**
+   * The number of values in each block.
+   */
+
+  public static final int BLOCK_SIZE = 128;
+
+  private DeltaPacking()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The largest number of bytes that {@code count} values can
+   * require
+   */
+
+  public static long encodedLengthMax(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + count + ")");
+    }
+    final long blocks = ((long) count + BLOCK_SIZE - 1L) / BLOCK_SIZE;
+    return blocks * (1L + VarInts.LONG_LENGTH_MAX)
+      + ((long) count - blocks) * 8L;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    long r = 0L;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = srcOff + k;
+      long acc = 0L;
+      for (int j = 1; j < n; ++j) {
+        acc |= VarInts.zigZagEncodeLong(src[o + j] - src[o + j - 1]);
+      }
+      r += blockLength(src[o], n, 64 - Long.numberOfLeadingZeros(acc));
+    }
+    return r;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    long r = 0L;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = srcOff + k;
+      long acc = 0L;
+      for (int j = 1; j < n; ++j) {
+        acc |= VarInts.zigZagEncodeLong(
+          (long) src[o + j] - (long) src[o + j - 1]);
+      }
+      r += blockLength(src[o], n, 64 - Long.numberOfLeadingZeros(acc));
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (dstOff < 0 || (long) dst.length - dstOff < encodedLengthMax(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff, encodedLength(src, srcOff, count), (long) dst.length);
+    }
+
+    final long[] deltas = new long[BLOCK_SIZE - 1];
+    int p = dstOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = srcOff + k;
+      final int width = deltas(src, o, n, deltas);
+      dst[p] = (byte) width;
+      p = VarInts.encodeSignedLong(src[o], dst, p + 1);
+      if (width > 0) {
+        BitPacking.packLongArray(deltas, 0, dst, p, n - 1, width);
+        p += payloadLength(n, width);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. The
+   * values are widened to 64 bits, so the encoding is the same as that of
+   * {@link #encodeLongArray(long[], int, byte[], int, int)}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (dstOff < 0 || (long) dst.length - dstOff < encodedLengthMax(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff, encodedLength(src, srcOff, count), (long) dst.length);
+    }
+
+    final long[] deltas = new long[BLOCK_SIZE - 1];
+    int p = dstOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = srcOff + k;
+      final int width = deltas(src, o, n, deltas);
+      dst[p] = (byte) width;
+      p = VarInts.encodeSignedLong(src[o], dst, p + 1);
+      if (width > 0) {
+        BitPacking.packLongArray(deltas, 0, dst, p, n - 1, width);
+        p += payloadLength(n, width);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    final int limit = dst.limit();
+    if (dstIndex < 0 || (long) limit - dstIndex < encodedLengthMax(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstIndex, encodedLength(src, srcOff, count), (long) limit);
+    }
+
+    final long[] deltas = new long[BLOCK_SIZE - 1];
+    int p = dstIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = srcOff + k;
+      final int width = deltas(src, o, n, deltas);
+      dst.put(p, (byte) width);
+      p = VarInts.encodeSignedLong(src[o], dst, p + 1);
+      if (width > 0) {
+        BitPacking.packLongArray(deltas, 0, dst, p, n - 1, width);
+        p += payloadLength(n, width);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @see #encodeIntArray(int[], int, byte[], int, int)
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    final int limit = dst.limit();
+    if (dstIndex < 0 || (long) limit - dstIndex < encodedLengthMax(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstIndex, encodedLength(src, srcOff, count), (long) limit);
+    }
+
+    final long[] deltas = new long[BLOCK_SIZE - 1];
+    int p = dstIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = srcOff + k;
+      final int width = deltas(src, o, n, deltas);
+      dst.put(p, (byte) width);
+      p = VarInts.encodeSignedLong(src[o], dst, p + 1);
+      if (width > 0) {
+        BitPacking.packLongArray(deltas, 0, dst, p, n - 1, width);
+        p += payloadLength(n, width);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block header is malformed
+   */
+
+  public static int decodeLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int width = width(src[Objects.checkIndex(p, src.length)], p);
+      final long first = VarInts.decodeSignedLong(src, p + 1);
+      p += 1 + VarInts.encodedLengthSignedLong(first);
+      dst[o] = first;
+      if (width == 0) {
+        Arrays.fill(dst, o + 1, o + n, first);
+      } else {
+        BitPacking.unpackLongArray(src, p, dst, o + 1, n - 1, width);
+        p += payloadLength(n, width);
+        prefixSum(dst, o, n);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. Each
+   * value is truncated to its low 32 bits, which is exact for data
+   * encoded from {@code int} values.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block header is malformed
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int width = width(src[Objects.checkIndex(p, src.length)], p);
+      final long wide = VarInts.decodeSignedLong(src, p + 1);
+      final int first = (int) wide;
+      p += 1 + VarInts.encodedLengthSignedLong(wide);
+      dst[o] = first;
+      if (width == 0) {
+        Arrays.fill(dst, o + 1, o + n, first);
+      } else if (width <= 32) {
+        BitPacking.unpackIntArray(src, p, dst, o + 1, n - 1, width);
+        p += payloadLength(n, width);
+        prefixSum(dst, o, n);
+      } else {
+        int x = first;
+        for (int j = 1; j < n; ++j) {
+          final long z = BitPacking.get(src, p, j - 1, width);
+          x += (int) VarInts.zigZagDecodeLong(z);
+          dst[o + j] = x;
+        }
+        p += payloadLength(n, width);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block header is malformed
+   */
+
+  public static int decodeLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int width = width(src.get(Objects.checkIndex(p, src.limit())), p);
+      final long first = VarInts.decodeSignedLong(src, p + 1);
+      p += 1 + VarInts.encodedLengthSignedLong(first);
+      dst[o] = first;
+      if (width == 0) {
+        Arrays.fill(dst, o + 1, o + n, first);
+      } else {
+        BitPacking.unpackLongArray(src, p, dst, o + 1, n - 1, width);
+        p += payloadLength(n, width);
+        prefixSum(dst, o, n);
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block header is malformed
+   *
+   * @see #decodeIntArray(byte[], int, int[], int, int)
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int width = width(src.get(Objects.checkIndex(p, src.limit())), p);
+      final long wide = VarInts.decodeSignedLong(src, p + 1);
+      final int first = (int) wide;
+      p += 1 + VarInts.encodedLengthSignedLong(wide);
+      dst[o] = first;
+      if (width == 0) {
+        Arrays.fill(dst, o + 1, o + n, first);
+      } else if (width <= 32) {
+        BitPacking.unpackIntArray(src, p, dst, o + 1, n - 1, width);
+        p += payloadLength(n, width);
+        prefixSum(dst, o, n);
+      } else {
+        int x = first;
+        for (int j = 1; j < n; ++j) {
+          final long z = BitPacking.get(src, p, j - 1, width);
+          x += (int) VarInts.zigZagDecodeLong(z);
+          dst[o + j] = x;
+        }
+        p += payloadLength(n, width);
+      }
+    }
+    return p;
+  }
+
+  private static long blockLength(
+    final long first,
+    final int n,
+    final int width)
+  {
+    return 1L
+      + VarInts.encodedLengthSignedLong(first)
+      + payloadLength(n, width);
+  }
+
+  /**
+   * @return The number of bytes occupied by the {@code n - 1} packed
+   * differences of a block of {@code n} values
+   */
+
+  private static int payloadLength(
+    final int n,
+    final int width)
+  {
+    return ((n - 1) * width + 7) >>> 3;
+  }
+
+  private static int width(
+    final byte header,
+    final int index)
+  {
+    final int width = header & 0xff;
+    if (width > 64) {
+      throw new IllegalArgumentException(
+        "Malformed block header at index " + index + ": width " + width);
+    }
+    return width;
+  }
+
+  /**
+   * Write the zigzag encoded differences of the block of {@code n}
+   * values at {@code offset} into {@code deltas}.
+   *
+   * @return The number of bits needed to hold the largest difference
+   */
+
+  private static int deltas(
+    final long[] src,
+    final int offset,
+    final int n,
+    final long[] deltas)
+  {
+    long acc = 0L;
+    for (int j = 1; j < n; ++j) {
+      final long z =
+        VarInts.zigZagEncodeLong(src[offset + j] - src[offset + j - 1]);
+      deltas[j - 1] = z;
+      acc |= z;
+    }
+    return 64 - Long.numberOfLeadingZeros(acc);
+  }
+
+  private static int deltas(
+    final int[] src,
+    final int offset,
+    final int n,
+    final long[] deltas)
+  {
+    long acc = 0L;
+    for (int j = 1; j < n; ++j) {
+      final long z = VarInts.zigZagEncodeLong(
+        (long) src[offset + j] - (long) src[offset + j - 1]);
+      deltas[j - 1] = z;
+      acc |= z;
+    }
+    return 64 - Long.numberOfLeadingZeros(acc);
+  }
+
+  /**
+   * Replace the zigzag encoded differences following {@code dst[offset]}
+   * with the values they describe.
+   */
+
+  private static void prefixSum(
+    final long[] dst,
+    final int offset,
+    final int n)
+  {
+    long x = dst[offset];
+    for (int j = offset + 1; j < offset + n; ++j) {
+      final long z = dst[j];
+      x += (z >>> 1) ^ -(z & 1L);
+      dst[j] = x;
+    }
+  }
+
+  private static void prefixSum(
+    final int[] dst,
+    final int offset,
+    final int n)
+  {
+    int x = dst[offset];
+    for (int j = offset + 1; j < offset + n; ++j) {
+      final int z = dst[j];
+      x += (z >>> 1) ^ -(z & 1);
+      dst[j] = x;
+    }
+  }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * An Elias-Fano encoded non-decreasing sequence of non-negative
+ * {@code long} values.
+ * </p>
+ * <p>
+ * For {@code n} values no greater than {@code u}, each value is split
+ * into {@code l = floor(log2(u / n))} low bits, stored with
+ * {@link BitPacking}, and the remaining high bits, stored in unary as a
+ * bit vector of about {@code 2n} bits. The sequence therefore occupies
+ * about {@code 2 + l} bits per value, plus a select index of one
+ * {@code long} per 256 set and 256 clear bits of the bit vector.
+ * </p>
+ * <p>
+ * {@link #get(int)} and {@link #nextGEQ(long)} jump through the select
+ * index and then scan a bounded number of words. Sequential reads are
+ * provided by {@code EliasFanoIterator}. Sequences are immutable and may
+ * be shared between threads.
+ * </p>
+ * <p>
+ * The serialized form, written by {@link #encodeToBuffer(ByteBuffer, int)},
+ * is the value count as a {@link Signed32}, {@code l} as an
+ * {@link Unsigned8}, the number of bit vector words as a
+ * {@link Signed32}, the packed low bits and then the bit vector, each
+ * word as a {@link Signed64}. All values are little-endian. The select
+ * index is rebuilt when a sequence is decoded.
+ * </p>
+ */
+
+public final class EliasFano
+{
+  private static final int SAMPLE_SHIFT = 8;
+  private static final int HEADER_SIZE = 9;
+
+  private final int size;
+  private final int lowBits;
+  private final long[] lower;
+  private final long[] upper;
+  private final long[] ones;
+  private final long[] zeros;
+
+  private EliasFano(
+    final int inSize,
+    final int inLowBits,
+    final long[] inLower,
+    final long[] inUpper)
+  {
+    this.size = inSize;
+    this.lowBits = inLowBits;
+    this.lower = inLower;
+    this.upper = inUpper;
+
+    final long clear = ((long) inUpper.length << 6) - inSize;
+    this.ones = new long[(inSize + 255) >>> SAMPLE_SHIFT];
+    this.zeros = new long[(int) ((clear + 255L) >>> SAMPLE_SHIFT)];
+    this.sample();
+  }
+
+  /**
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return An encoded sequence
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   * @throws IllegalArgumentException  If a value is negative or less
+   *                                   than its predecessor
+   */
+
+  public static EliasFano encode(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    long previous = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOff + k];
+      if (x < previous) {
+        throw new IllegalArgumentException(
+          "Values must be non-negative and non-decreasing (index "
+            + (srcOff + k) + " is " + x + ")");
+      }
+      previous = x;
+    }
+
+    final long ratio = count == 0 ? 0L : previous / count;
+    final int l = ratio == 0L ? 0 : 63 - Long.numberOfLeadingZeros(ratio);
+
+    final long[] low;
+    if (l == 0) {
+      low = new long[0];
+    } else {
+      low = new long[(int) BitPacking.packedLengthLongs(count, l)];
+      BitPacking.packLongArray(src, srcOff, low, 0, count, l);
+    }
+
+    final long bits = (long) count + (previous >>> l) + 1L;
+    final long[] high = new long[(int) ((bits + 63L) >>> 6)];
+    for (int k = 0; k < count; ++k) {
+      final long p = (src[srcOff + k] >>> l) + k;
+      high[(int) (p >>> 6)] |= 1L << p;
+    }
+    return new EliasFano(count, l, low, high);
+  }
+
+  /**
+   * Decode a sequence serialized by
+   * {@link #encodeToBuffer(ByteBuffer, int)} starting at
+   * {@code srcIndex}. The buffer's position and byte order are ignored.
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   *
+   * @return A decoded sequence
+   *
+   * @throws IndexOutOfBoundsException If the data lies outside
+   *                                   {@code src}
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  public static EliasFano decodeFromBuffer(
+    final ByteBuffer src,
+    final int srcIndex)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcIndex, HEADER_SIZE, src.limit());
+
+    final int count = Signed32.unpackFromBufferLittleEndian(src, srcIndex);
+    final int l = Unsigned8.unpackFromBuffer(src, srcIndex + 4);
+    final int words = Signed32.unpackFromBufferLittleEndian(src, srcIndex + 5);
+    if (count < 0 || l > 63 || words < 0) {
+      throw new IllegalArgumentException(
+        "Malformed header at index " + srcIndex);
+    }
+
+    final long lowWords =
+      l == 0 ? 0L : BitPacking.packedLengthLongs(count, l);
+    Objects.checkFromIndexSize(
+      (long) srcIndex + HEADER_SIZE,
+      (lowWords + words) * 8L,
+      (long) src.limit());
+
+    final long[] low = new long[(int) lowWords];
+    final long[] high = new long[words];
+    final int at = srcIndex + HEADER_SIZE;
+    Signed64.unpackArrayLittleEndian(src, at, low, 0, low.length);
+    Signed64.unpackArrayLittleEndian(
+      src, at + low.length * 8, high, 0, words);
+
+    long set = 0L;
+    for (final long w : high) {
+      set += Long.bitCount(w);
+    }
+    if (set != count) {
+      throw new IllegalArgumentException(
+        "Malformed bit vector at index " + srcIndex
+          + ": " + set + " bits set for " + count + " values");
+    }
+    return new EliasFano(count, l, low, high);
+  }
+
+  /**
+   * @return The number of bytes written by
+   * {@link #encodeToBuffer(ByteBuffer, int)}
+   */
+
+  public long encodedLength()
+  {
+    return HEADER_SIZE + ((long) this.lower.length + this.upper.length) * 8L;
+  }
+
+  /**
+   * Serialize the sequence into {@code dst} starting at {@code dstIndex}.
+   * The buffer's position and byte order are ignored.
+   *
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @throws IndexOutOfBoundsException If the encoding does not fit in
+   *                                   {@code dst}; nothing is written
+   */
+
+  public int encodeToBuffer(
+    final ByteBuffer dst,
+    final int dstIndex)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(
+      (long) dstIndex, this.encodedLength(), (long) dst.limit());
+
+    Signed32.packToBufferLittleEndian(this.size, dst, dstIndex);
+    Unsigned8.packToBuffer(this.lowBits, dst, dstIndex + 4);
+    Signed32.packToBufferLittleEndian(this.upper.length, dst, dstIndex + 5);
+    final int at = dstIndex + HEADER_SIZE;
+    Signed64.packArrayLittleEndian(
+      this.lower, 0, dst, at, this.lower.length);
+    Signed64.packArrayLittleEndian(
+      this.upper, 0, dst, at + this.lower.length * 8, this.upper.length);
+    return at + (this.lower.length + this.upper.length) * 8;
+  }
+
+  /**
+   * @return The number of values in the sequence
+   */
+
+  public int size()
+  {
+    return this.size;
+  }
+
+  /**
+   * @return The number of low bits stored for each value
+   */
+
+  public int lowBits()
+  {
+    return this.lowBits;
+  }
+
+  /**
+   * @param index The value index
+   *
+   * @return The value at {@code index}
+   *
+   * @throws IndexOutOfBoundsException If {@code index} is not in
+   *                                   {@code [0, size())}
+   */
+
+  public long get(
+    final int index)
+  {
+    Objects.checkIndex(index, this.size);
+    return ((this.select(this.ones, index, 0L) - index) << this.lowBits)
+      | this.low(index);
+  }
+
+  /**
+   * Find the first value that is greater than or equal to {@code x}.
+   *
+   * @param x The value to search for
+   *
+   * @return The index of the first value not less than {@code x}, or
+   * {@link #size()} if every value is less than {@code x}
+   */
+
+  public int nextGEQ(
+    final long x)
+  {
+    if (x <= 0L) {
+      return 0;
+    }
+
+    final long high = x >>> this.lowBits;
+    final long bits = (long) this.upper.length << 6;
+    if (high > bits - this.size) {
+      return this.size;
+    }
+
+    long p = 0L;
+    int index = 0;
+    if (high > 0L) {
+      p = this.select(this.zeros, high - 1L, -1L) + 1L;
+      index = (int) (p - high);
+      if (index == this.size) {
+        return index;
+      }
+    }
+
+    int wi = (int) (p >>> 6);
+    long w = this.upper[wi] & (-1L << p);
+    while (index < this.size) {
+      while (w == 0L) {
+        w = this.upper[++wi];
+      }
+      final long q = ((long) wi << 6) + Long.numberOfTrailingZeros(w);
+      final long value = ((q - index) << this.lowBits) | this.low(index);
+      if (value >= x) {
+        return index;
+      }
+      w &= w - 1L;
+      ++index;
+    }
+    return this.size;
+  }
+
+  /**
+   * @param index The value index
+   *
+   * @return The position of the set bit for the value at {@code index}
+   */
+
+  long position(
+    final int index)
+  {
+    return this.select(this.ones, index, 0L);
+  }
+
+  /**
+   * @param index The word index
+   *
+   * @return The word {@code index} of the high bit vector
+   */
+
+  long upperWord(
+    final int index)
+  {
+    return this.upper[index];
+  }
+
+  /**
+   * @param index The value index
+   *
+   * @return The low bits of the value at {@code index}
+   */
+
+  long low(
+    final int index)
+  {
+    final int l = this.lowBits;
+    if (l == 0) {
+      return 0L;
+    }
+
+    final long p = (long) index * l;
+    final int wi = (int) (p >>> 6);
+    final int s = (int) (p & 63L);
+    long x = this.lower[wi] >>> s;
+    if (s + l > 64) {
+      x |= this.lower[wi + 1] << (64 - s);
+    }
+    return x & (-1L >>> (64 - l));
+  }
+
+  /**
+   * Find the position of set bit {@code rank} of the bit vector, or of
+   * clear bit {@code rank} if {@code flip} is {@code -1}.
+   */
+
+  private long select(
+    final long[] samples,
+    final long rank,
+    final long flip)
+  {
+    final long p = samples[(int) (rank >>> SAMPLE_SHIFT)];
+    long r = rank & ((1L << SAMPLE_SHIFT) - 1L);
+    int wi = (int) (p >>> 6);
+    long w = (this.upper[wi] ^ flip) & (-1L << p);
+    while (true) {
+      final int c = Long.bitCount(w);
+      if (r < c) {
+        return ((long) wi << 6) + selectInWord(w, (int) r);
+      }
+      r -= c;
+      w = this.upper[++wi] ^ flip;
+    }
+  }
+
+  private static int selectInWord(
+    final long w,
+    final int rank)
+  {
+    long x = w;
+    for (int k = 0; k < rank; ++k) {
+      x &= x - 1L;
+    }
+    return Long.numberOfTrailingZeros(x);
+  }
+
+  private void sample()
+  {
+    final long mask = (1L << SAMPLE_SHIFT) - 1L;
+    long seenOnes = 0L;
+    long seenZeros = 0L;
+    for (int wi = 0; wi < this.upper.length; ++wi) {
+      final long w = this.upper[wi];
+      final long base = (long) wi << 6;
+      final int c = Long.bitCount(w);
+
+      final long nextOne = (seenOnes + mask) & ~mask;
+      for (long r = nextOne; r < seenOnes + c; r += 1L << SAMPLE_SHIFT) {
+        this.ones[(int) (r >>> SAMPLE_SHIFT)] =
+          base + selectInWord(w, (int) (r - seenOnes));
+      }
+      final long nextZero = (seenZeros + mask) & ~mask;
+      for (long r = nextZero; r < seenZeros + 64 - c; r += 1L << SAMPLE_SHIFT) {
+        this.zeros[(int) (r >>> SAMPLE_SHIFT)] =
+          base + selectInWord(~w, (int) (r - seenZeros));
+      }
+      seenOnes += c;
+      seenZeros += 64 - c;
+    }
+  }
+}
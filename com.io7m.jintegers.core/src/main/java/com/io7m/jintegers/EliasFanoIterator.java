@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>
+ * A sequential reader for an {@link EliasFano} sequence.
+ * </p>
+ * <p>
+ * The iterator walks the high bit vector of the sequence word by word,
+ * so {@link #nextLong()} costs a constant amount of work per value and
+ * allocates nothing. {@link #skipTo(long)} jumps forward through the
+ * sequence's select index. Iterators are not thread-safe.
+ * </p>
+ */
+
+public final class EliasFanoIterator implements PrimitiveIterator.OfLong
+{
+  private EliasFano sequence;
+  private int index;
+  private int wordIndex;
+  private long word;
+
+  /**
+   * Create an iterator positioned at the value {@code inIndex} of
+   * {@code inSequence}.
+   *
+   * @param inSequence The sequence
+   * @param inIndex    The index of the first value to be read
+   */
+
+  public EliasFanoIterator(
+    final EliasFano inSequence,
+    final int inIndex)
+  {
+    this.reset(inSequence, inIndex);
+  }
+
+  /**
+   * Position the iterator at the value {@code newIndex} of
+   * {@code newSequence}.
+   *
+   * @param newSequence The sequence
+   * @param newIndex    The index of the next value to be read
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code newIndex} is not in
+   *                                   {@code [0, size()]}
+   */
+
+  public EliasFanoIterator reset(
+    final EliasFano newSequence,
+    final int newIndex)
+  {
+    this.sequence = Objects.requireNonNull(newSequence, "Sequence");
+    final int size = newSequence.size();
+    this.index = Objects.checkIndex(newIndex, size + 1);
+    if (newIndex < size) {
+      final long p = newSequence.position(newIndex);
+      this.wordIndex = (int) (p >>> 6);
+      this.word = newSequence.upperWord(this.wordIndex) & (-1L << p);
+    } else {
+      this.wordIndex = 0;
+      this.word = 0L;
+    }
+    return this;
+  }
+
+  /**
+   * Position the iterator at the first value that is greater than or
+   * equal to {@code x}, searching the whole sequence.
+   *
+   * @param x The value to search for
+   *
+   * @return this
+   *
+   * @see EliasFano#nextGEQ(long)
+   */
+
+  public EliasFanoIterator skipTo(
+    final long x)
+  {
+    return this.reset(this.sequence, this.sequence.nextGEQ(x));
+  }
+
+  /**
+   * @return The index of the next value to be read
+   */
+
+  public int index()
+  {
+    return this.index;
+  }
+
+  @Override
+  public boolean hasNext()
+  {
+    return this.index < this.sequence.size();
+  }
+
+  /**
+   * Read the next value.
+   *
+   * @return The value
+   *
+   * @throws NoSuchElementException If all values have been read
+   */
+
+  @Override
+  public long nextLong()
+  {
+    final EliasFano s = this.sequence;
+    final int i = this.index;
+    if (i >= s.size()) {
+      throw new NoSuchElementException();
+    }
+
+    long w = this.word;
+    while (w == 0L) {
+      w = s.upperWord(++this.wordIndex);
+    }
+    final long q = ((long) this.wordIndex << 6) + Long.numberOfTrailingZeros(w);
+    this.word = w & (w - 1L);
+    this.index = i + 1;
+    return ((q - i) << s.lowBits()) | s.low(i);
+  }
+}
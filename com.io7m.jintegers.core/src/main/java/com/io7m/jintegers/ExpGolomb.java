@@ -0,0 +1,335 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Order-0 exponential-Golomb codes, as used for the {@code ue(v)} and
+ * {@code se(v)} fields of H.264 and H.265 headers.
+ * </p>
+ * <p>
+ * An unsigned value {@code x} is written as {@code x + 1} in binary,
+ * {@code z + 1} bits long, preceded by {@code z} zero bits: {@code 0}
+ * is {@code 1}, {@code 1} is {@code 010}, {@code 2} is {@code 011} and
+ * {@code 3} is {@code 00100}. {@code int} values are unsigned here, so
+ * every value has a code of at most 65 bits. A signed value {@code k}
+ * is written as the unsigned value {@code 2k - 1} if {@code k} is
+ * positive and {@code -2k} otherwise.
+ * </p>
+ * <p>
+ * Codes are read from a {@link BitReader} and written to a
+ * {@link BitWriter}. The prefix is read with
+ * {@link BitReader#readUnary()}, which finds it with one leading zero
+ * count, and the rest with one {@link BitReader#readBits(int)}, so each
+ * code is decoded in constant time. In {@link BitOrder#LSB_FIRST}
+ * streams the code is the prefix, the set bit, and the remaining
+ * {@code z} bits as a single field.
+ * </p>
+ */
+
+public final class ExpGolomb
+{
+  private static final long UNSIGNED_MAX = 0xffffffffL;
+  private static final long SIGNED_MAX = 0x100000000L;
+
+  private ExpGolomb()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param x The value, as an unsigned integer
+   *
+   * @return The number of bits in the unsigned code for {@code x}
+   */
+
+  public static int encodedBitsUnsigned(
+    final int x)
+  {
+    return codeBits(Integer.toUnsignedLong(x));
+  }
+
+  /**
+   * @param k The value
+   *
+   * @return The number of bits in the signed code for {@code k}
+   */
+
+  public static int encodedBitsSigned(
+    final int k)
+  {
+    return codeBits(signedCode(k));
+  }
+
+  /**
+   * Write the unsigned code for {@code x}.
+   *
+   * @param dst The bit stream
+   * @param x   The value, as an unsigned integer
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the stream has no room for the
+   *                                   code; nothing is written
+   */
+
+  public static BitWriter writeUnsigned(
+    final BitWriter dst,
+    final int x)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    return writeCode(dst, Integer.toUnsignedLong(x));
+  }
+
+  /**
+   * Write the signed code for {@code k}.
+   *
+   * @param dst The bit stream
+   * @param k   The value
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the stream has no room for the
+   *                                   code; nothing is written
+   */
+
+  public static BitWriter writeSigned(
+    final BitWriter dst,
+    final int k)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    return writeCode(dst, signedCode(k));
+  }
+
+  /**
+   * Read an unsigned code.
+   *
+   * @param src The bit stream
+   *
+   * @return The value, as an unsigned integer
+   *
+   * @throws IndexOutOfBoundsException If the stream is truncated
+   * @throws IllegalArgumentException  If the code does not fit in 32
+   *                                   bits
+   */
+
+  public static int readUnsigned(
+    final BitReader src)
+  {
+    Objects.requireNonNull(src, "Source");
+    return (int) readCode(src, UNSIGNED_MAX);
+  }
+
+  /**
+   * Read a signed code.
+   *
+   * @param src The bit stream
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the stream is truncated
+   * @throws IllegalArgumentException  If the code does not fit in 32
+   *                                   bits
+   */
+
+  public static int readSigned(
+    final BitReader src)
+  {
+    Objects.requireNonNull(src, "Source");
+    final long c = readCode(src, SIGNED_MAX);
+    return (int) ((c & 1L) != 0L ? (c + 1L) >>> 1 : -(c >>> 1));
+  }
+
+  /**
+   * Write the unsigned codes for {@code count} values from {@code src},
+   * starting at {@code srcOff}.
+   *
+   * @param src    The values, as unsigned integers
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The bit stream
+   * @param count  The number of values
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream runs out of room
+   */
+
+  public static BitWriter encodeUnsignedArray(
+    final int[] src,
+    final int srcOff,
+    final BitWriter dst,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    for (int k = 0; k < count; ++k) {
+      writeCode(dst, Integer.toUnsignedLong(src[srcOff + k]));
+    }
+    return dst;
+  }
+
+  /**
+   * Write the signed codes for {@code count} values from {@code src},
+   * starting at {@code srcOff}.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The bit stream
+   * @param count  The number of values
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream runs out of room
+   */
+
+  public static BitWriter encodeSignedArray(
+    final int[] src,
+    final int srcOff,
+    final BitWriter dst,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    for (int k = 0; k < count; ++k) {
+      writeCode(dst, signedCode(src[srcOff + k]));
+    }
+    return dst;
+  }
+
+  /**
+   * Read {@code count} unsigned codes into {@code dst} starting at
+   * {@code dstOff}. If the stream is truncated or malformed, an exception
+   * is raised and the values decoded so far have already been written to
+   * {@code dst}.
+   *
+   * @param src    The bit stream
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream is truncated
+   * @throws IllegalArgumentException  If a code does not fit in 32 bits
+   */
+
+  public static int[] decodeUnsignedArray(
+    final BitReader src,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (int) readCode(src, UNSIGNED_MAX);
+    }
+    return dst;
+  }
+
+  /**
+   * Read {@code count} signed codes into {@code dst} starting at
+   * {@code dstOff}. If the stream is truncated or malformed, an exception
+   * is raised and the values decoded so far have already been written to
+   * {@code dst}.
+   *
+   * @param src    The bit stream
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream is truncated
+   * @throws IllegalArgumentException  If a code does not fit in 32 bits
+   */
+
+  public static int[] decodeSignedArray(
+    final BitReader src,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      final long c = readCode(src, SIGNED_MAX);
+      dst[dstOff + k] =
+        (int) ((c & 1L) != 0L ? (c + 1L) >>> 1 : -(c >>> 1));
+    }
+    return dst;
+  }
+
+  private static long signedCode(
+    final int k)
+  {
+    return k > 0 ? 2L * k - 1L : -2L * k;
+  }
+
+  private static int codeBits(
+    final long c)
+  {
+    return 2 * (63 - Long.numberOfLeadingZeros(c + 1L)) + 1;
+  }
+
+  /**
+   * Write the code for {@code c}, which is at most {@code 2^32}.
+   */
+
+  private static BitWriter writeCode(
+    final BitWriter dst,
+    final long c)
+  {
+    final long v = c + 1L;
+    final int z = 63 - Long.numberOfLeadingZeros(v);
+    dst.checkRoom(2L * z + 1L);
+    return dst.writeUnary(z).writeBits(v, z);
+  }
+
+  private static long readCode(
+    final BitReader src,
+    final long max)
+  {
+    final long z = src.readUnary();
+    if (z > 32L) {
+      throw new IllegalArgumentException(
+        "Exp-Golomb prefix of " + z + " bits is too long");
+    }
+    final long c = ((1L << z) | src.readBits((int) z)) - 1L;
+    if (c > max) {
+      throw new IllegalArgumentException(
+        "Exp-Golomb code " + c + " does not fit in 32 bits");
+    }
+    return c;
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Group varint encoding of unsigned 32-bit integers.
+ * </p>
+ * <p>
+ * Values are encoded in groups of four. Each group is a control byte
+ * followed by the four values in little-endian order, each occupying
+ * between 1 and 4 bytes. Each 2-bit field of the control byte, starting
+ * with the least significant, holds the number of bytes of the
+ * corresponding value minus one. A final group of fewer than four values
+ * leaves the unused fields of its control byte zero and has no data
+ * bytes for them.
+ * </p>
+ * <p>
+ * Unlike {@link VarInts}, the lengths of all four values in a group are
+ * known from one table lookup, and each value is decoded with a single
+ * 4-byte load and a mask, so decoding does not branch per byte. Signed
+ * values of small magnitude should first be mapped with
+ * {@link VarInts#zigZagEncodeInt(int)}.
+ * </p>
+ *
+ * @see StreamVByte
+ */
+
+public final class GroupVarInts
+{
+  private GroupVarInts()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The largest number of bytes that {@code count} values can
+   * require
+   */
+
+  public static long encodedLengthMax(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + count + ")");
+    }
+    return (long) VByteCoding.controlLength(count) + (long) count * 4L;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    return (long) VByteCoding.controlLength(count)
+      + VByteCoding.dataLength(src, srcOff, count);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    VByteCoding.checkRoom(src, srcOff, dstOff, dst.length, count);
+
+    final int wideEnd = count - 3;
+    int p = dstOff;
+    for (int k = 0; k < count; k += 4) {
+      final int n = Math.min(4, count - k);
+      final int controlAt = p;
+      int control = 0;
+      ++p;
+      for (int j = 0; j < n; ++j) {
+        final int x = src[srcOff + k + j];
+        final int length = VByteCoding.byteLength(x);
+        control |= (length - 1) << (j * 2);
+        if (k + j < wideEnd) {
+          VByteCoding.putWide(dst, p, x);
+        } else {
+          VByteCoding.putNarrow(dst, p, x, length);
+        }
+        p += length;
+      }
+      dst[controlAt] = (byte) control;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the values decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcOff, 0, src.length);
+
+    final int limit = src.length;
+    int p = srcOff;
+    int k = 0;
+    while (count - k >= 4 && limit - p >= 17) {
+      final int control = src[p] & 0xff;
+      final int d = p + 1;
+      p = d + VByteCoding.getGroup(src, d, control, dst, dstOff + k);
+      k += 4;
+    }
+
+    while (k < count) {
+      if (p >= limit) {
+        throw VByteCoding.truncated(p);
+      }
+      final int control = src[p] & 0xff;
+      ++p;
+      final int n = Math.min(4, count - k);
+      p = VByteCoding.getPartialGroup(src, p, control, dst, dstOff + k, n);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values, treated as unsigned
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    VByteCoding.checkRoom(src, srcOff, dstIndex, dst.limit(), count);
+
+    final int wideEnd = count - 3;
+    int p = dstIndex;
+    for (int k = 0; k < count; k += 4) {
+      final int n = Math.min(4, count - k);
+      final int controlAt = p;
+      int control = 0;
+      ++p;
+      for (int j = 0; j < n; ++j) {
+        final int x = src[srcOff + k + j];
+        final int length = VByteCoding.byteLength(x);
+        control |= (length - 1) << (j * 2);
+        if (k + j < wideEnd) {
+          VByteCoding.putWide(dst, p, x);
+        } else {
+          VByteCoding.putNarrow(dst, p, x, length);
+        }
+        p += length;
+      }
+      dst.put(controlAt, (byte) control);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the values decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcIndex, 0, src.limit());
+
+    final int limit = src.limit();
+    int p = srcIndex;
+    int k = 0;
+    while (count - k >= 4 && limit - p >= 17) {
+      final int control = src.get(p) & 0xff;
+      final int d = p + 1;
+      p = d + VByteCoding.getGroup(src, d, control, dst, dstOff + k);
+      k += 4;
+    }
+
+    while (k < count) {
+      if (p >= limit) {
+        throw VByteCoding.truncated(p);
+      }
+      final int control = src.get(p) & 0xff;
+      ++p;
+      final int n = Math.min(4, count - k);
+      p = VByteCoding.getPartialGroup(src, p, control, dst, dstOff + k, n);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * Check that {@code count} values fit at {@code index}. The exact
+   * encoded size is computed only if the worst case does not fit.
+   */
+}
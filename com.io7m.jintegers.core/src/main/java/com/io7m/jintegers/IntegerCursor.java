@@ -0,0 +1,691 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A cursor that reads and writes packed integers in a {@link ByteBuffer}
+ * using a fixed byte order, advancing its own position after each value.
+ * </p>
+ * <p>
+ * The cursor keeps its position separately from the buffer: the buffer's
+ * own position, mark and {@link ByteBuffer#order()} are never read or
+ * modified after {@link #reset(ByteBuffer)}. Individual reads and writes
+ * are bounds-checked by the buffer's absolute accessors; callers decoding
+ * a fixed-size record can check the whole record once with
+ * {@link #require(int)}. A cursor can be pointed at a new buffer with
+ * {@link #reset(ByteBuffer)}, so a single instance can be reused without
+ * allocating.
+ * </p>
+ * <p>
+ * Cursors are not thread-safe.
+ * </p>
+ *
+ * @see Signed16Codec
+ * @see Signed24Codec
+ * @see Signed32Codec
+ * @see Signed64Codec
+ * @see Unsigned8Codec
+ * @see Unsigned16Codec
+ * @see Unsigned32Codec
+ */
+
+public final class IntegerCursor
+{
+  private final ByteOrder order;
+  private final boolean big;
+  private final Unsigned8Codec u8;
+  private final Signed16Codec s16;
+  private final Unsigned16Codec u16;
+  private final Signed24Codec s24;
+  private final Signed32Codec s32;
+  private final Unsigned32Codec u32;
+  private final Signed64Codec s64;
+  private ByteBuffer buffer;
+  private int position;
+
+  /**
+   * Create a cursor over {@code inBuffer}, starting at the buffer's
+   * current position.
+   *
+   * @param inBuffer The buffer
+   * @param inOrder  The byte order used for all values
+   */
+
+  public IntegerCursor(
+    final ByteBuffer inBuffer,
+    final ByteOrder inOrder)
+  {
+    this.order = Objects.requireNonNull(inOrder, "Order");
+    this.big = inOrder.equals(ByteOrder.BIG_ENDIAN);
+    this.u8 = Unsigned8Codec.forOrder(inOrder);
+    this.s16 = Signed16Codec.forOrder(inOrder);
+    this.u16 = Unsigned16Codec.forOrder(inOrder);
+    this.s24 = Signed24Codec.forOrder(inOrder);
+    this.s32 = Signed32Codec.forOrder(inOrder);
+    this.u32 = Unsigned32Codec.forOrder(inOrder);
+    this.s64 = Signed64Codec.forOrder(inOrder);
+    this.reset(inBuffer);
+  }
+
+  /**
+   * Point the cursor at {@code newBuffer}, starting at the buffer's
+   * current position. The byte order is unchanged.
+   *
+   * @param newBuffer The buffer
+   *
+   * @return this
+   */
+
+  public IntegerCursor reset(
+    final ByteBuffer newBuffer)
+  {
+    this.buffer = Objects.requireNonNull(newBuffer, "Buffer");
+    this.position = newBuffer.position();
+    return this;
+  }
+
+  /**
+   * @return The byte order used for all values
+   */
+
+  public ByteOrder order()
+  {
+    return this.order;
+  }
+
+  /**
+   * @return The underlying buffer
+   */
+
+  public ByteBuffer buffer()
+  {
+    return this.buffer;
+  }
+
+  /**
+   * @return The index of the next byte to be read or written
+   */
+
+  public int position()
+  {
+    return this.position;
+  }
+
+  /**
+   * Set the index of the next byte to be read or written.
+   *
+   * @param newPosition The new position
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code newPosition} is negative
+   *                                   or greater than the buffer's limit
+   */
+
+  public IntegerCursor position(
+    final int newPosition)
+  {
+    this.position =
+      Objects.checkIndex(newPosition, this.buffer.limit() + 1);
+    return this;
+  }
+
+  /**
+   * @return The number of bytes between the position and the buffer's
+   * limit
+   */
+
+  public int remaining()
+  {
+    return Math.max(0, this.buffer.limit() - this.position);
+  }
+
+  /**
+   * Check that at least {@code bytes} bytes remain. A caller decoding a
+   * fixed-size record can call this once before reading the fields of
+   * the record.
+   *
+   * @param bytes The number of bytes
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than {@code bytes} bytes
+   *                                   remain
+   */
+
+  public IntegerCursor require(
+    final int bytes)
+  {
+    Objects.checkFromIndexSize(this.position, bytes, this.buffer.limit());
+    return this;
+  }
+
+  /**
+   * Advance the position by {@code bytes}.
+   *
+   * @param bytes The number of bytes
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than {@code bytes} bytes
+   *                                   remain
+   */
+
+  public IntegerCursor skip(
+    final int bytes)
+  {
+    this.require(bytes);
+    this.position += bytes;
+    return this;
+  }
+
+  /**
+   * Read an unsigned 8-bit integer at the current position and
+   * advance the position by 1.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 1 bytes remain
+   */
+
+  public int readU8()
+  {
+    final int p = this.position;
+    final int r = this.u8.unpackFromBuffer(this.buffer, p);
+    this.position = p + 1;
+    return r;
+  }
+
+  /**
+   * Read a signed 16-bit integer at the current position and
+   * advance the position by 2.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 2 bytes remain
+   */
+
+  public int readS16()
+  {
+    final int p = this.position;
+    final int r = this.s16.unpackFromBuffer(this.buffer, p);
+    this.position = p + 2;
+    return r;
+  }
+
+  /**
+   * Read an unsigned 16-bit integer at the current position and
+   * advance the position by 2.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 2 bytes remain
+   */
+
+  public int readU16()
+  {
+    final int p = this.position;
+    final int r = this.u16.unpackFromBuffer(this.buffer, p);
+    this.position = p + 2;
+    return r;
+  }
+
+  /**
+   * Read a signed 24-bit integer at the current position and
+   * advance the position by 3.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 3 bytes remain
+   */
+
+  public int readS24()
+  {
+    final int p = this.position;
+    final int r = this.s24.unpackFromBuffer(this.buffer, p);
+    this.position = p + 3;
+    return r;
+  }
+
+  /**
+   * Read a signed 32-bit integer at the current position and
+   * advance the position by 4.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 4 bytes remain
+   */
+
+  public int readS32()
+  {
+    final int p = this.position;
+    final int r = this.s32.unpackFromBuffer(this.buffer, p);
+    this.position = p + 4;
+    return r;
+  }
+
+  /**
+   * Read an unsigned 32-bit integer at the current position and
+   * advance the position by 4.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 4 bytes remain
+   */
+
+  public long readU32()
+  {
+    final int p = this.position;
+    final long r = this.u32.unpackFromBuffer(this.buffer, p);
+    this.position = p + 4;
+    return r;
+  }
+
+  /**
+   * Read a signed 64-bit integer at the current position and
+   * advance the position by 8.
+   *
+   * @return The integer value
+   *
+   * @throws IndexOutOfBoundsException If fewer than 8 bytes remain
+   */
+
+  public long readS64()
+  {
+    final int p = this.position;
+    final long r = this.s64.unpackFromBuffer(this.buffer, p);
+    this.position = p + 8;
+    return r;
+  }
+
+  /**
+   * Write an unsigned 8-bit integer at the current position and
+   * advance the position by 1.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 1 bytes remain
+   */
+
+  public IntegerCursor writeU8(
+    final int x)
+  {
+    final int p = this.position;
+    this.u8.packToBuffer(x, this.buffer, p);
+    this.position = p + 1;
+    return this;
+  }
+
+  /**
+   * Write a signed 16-bit integer at the current position and
+   * advance the position by 2.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 2 bytes remain
+   */
+
+  public IntegerCursor writeS16(
+    final int x)
+  {
+    final int p = this.position;
+    this.s16.packToBuffer(x, this.buffer, p);
+    this.position = p + 2;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 16-bit integer at the current position and
+   * advance the position by 2.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 2 bytes remain
+   */
+
+  public IntegerCursor writeU16(
+    final int x)
+  {
+    final int p = this.position;
+    this.u16.packToBuffer(x, this.buffer, p);
+    this.position = p + 2;
+    return this;
+  }
+
+  /**
+   * Write a signed 24-bit integer at the current position and
+   * advance the position by 3.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 3 bytes remain
+   */
+
+  public IntegerCursor writeS24(
+    final int x)
+  {
+    final int p = this.position;
+    this.s24.packToBuffer(x, this.buffer, p);
+    this.position = p + 3;
+    return this;
+  }
+
+  /**
+   * Write a signed 32-bit integer at the current position and
+   * advance the position by 4.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 4 bytes remain
+   */
+
+  public IntegerCursor writeS32(
+    final int x)
+  {
+    final int p = this.position;
+    this.s32.packToBuffer(x, this.buffer, p);
+    this.position = p + 4;
+    return this;
+  }
+
+  /**
+   * Write an unsigned 32-bit integer at the current position and
+   * advance the position by 4.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 4 bytes remain
+   */
+
+  public IntegerCursor writeU32(
+    final long x)
+  {
+    final int p = this.position;
+    this.u32.packToBuffer(x, this.buffer, p);
+    this.position = p + 4;
+    return this;
+  }
+
+  /**
+   * Write a signed 64-bit integer at the current position and
+   * advance the position by 8.
+   *
+   * @param x The integer value
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If fewer than 8 bytes remain
+   */
+
+  public IntegerCursor writeS64(
+    final long x)
+  {
+    final int p = this.position;
+    this.s64.packToBuffer(x, this.buffer, p);
+    this.position = p + 8;
+    return this;
+  }
+
+  /**
+   * Read {@code count} signed 16-bit integers into {@code dst} starting at
+   * {@code dstOff}, and advance the position by {@code count * 2}.
+   *
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of integers
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code dst} is too small
+   */
+
+  public short[] readS16Array(
+    final short[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed16.unpackArrayBigEndian(this.buffer, p, dst, dstOff, count);
+    } else {
+      Signed16.unpackArrayLittleEndian(this.buffer, p, dst, dstOff, count);
+    }
+    this.position = p + (count * 2);
+    return dst;
+  }
+
+  /**
+   * Write {@code count} signed 16-bit integers from {@code src} starting at
+   * {@code srcOff}, and advance the position by {@code count * 2}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of integers
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code src} is too small
+   */
+
+  public IntegerCursor writeS16Array(
+    final short[] src,
+    final int srcOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed16.packArrayBigEndian(src, srcOff, this.buffer, p, count);
+    } else {
+      Signed16.packArrayLittleEndian(src, srcOff, this.buffer, p, count);
+    }
+    this.position = p + (count * 2);
+    return this;
+  }
+
+  /**
+   * Read {@code count} signed 24-bit integers into {@code dst} starting at
+   * {@code dstOff}, and advance the position by {@code count * 3}.
+   *
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of integers
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code dst} is too small
+   */
+
+  public int[] readS24Array(
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed24.unpackArrayBigEndian(this.buffer, p, dst, dstOff, count);
+    } else {
+      Signed24.unpackArrayLittleEndian(this.buffer, p, dst, dstOff, count);
+    }
+    this.position = p + (count * 3);
+    return dst;
+  }
+
+  /**
+   * Write {@code count} signed 24-bit integers from {@code src} starting at
+   * {@code srcOff}, and advance the position by {@code count * 3}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of integers
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code src} is too small
+   */
+
+  public IntegerCursor writeS24Array(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed24.packArrayBigEndian(src, srcOff, this.buffer, p, count);
+    } else {
+      Signed24.packArrayLittleEndian(src, srcOff, this.buffer, p, count);
+    }
+    this.position = p + (count * 3);
+    return this;
+  }
+
+  /**
+   * Read {@code count} signed 32-bit integers into {@code dst} starting at
+   * {@code dstOff}, and advance the position by {@code count * 4}.
+   *
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of integers
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code dst} is too small
+   */
+
+  public int[] readS32Array(
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed32.unpackArrayBigEndian(this.buffer, p, dst, dstOff, count);
+    } else {
+      Signed32.unpackArrayLittleEndian(this.buffer, p, dst, dstOff, count);
+    }
+    this.position = p + (count * 4);
+    return dst;
+  }
+
+  /**
+   * Write {@code count} signed 32-bit integers from {@code src} starting at
+   * {@code srcOff}, and advance the position by {@code count * 4}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of integers
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code src} is too small
+   */
+
+  public IntegerCursor writeS32Array(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed32.packArrayBigEndian(src, srcOff, this.buffer, p, count);
+    } else {
+      Signed32.packArrayLittleEndian(src, srcOff, this.buffer, p, count);
+    }
+    this.position = p + (count * 4);
+    return this;
+  }
+
+  /**
+   * Read {@code count} signed 64-bit integers into {@code dst} starting at
+   * {@code dstOff}, and advance the position by {@code count * 8}.
+   *
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of integers
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code dst} is too small
+   */
+
+  public long[] readS64Array(
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed64.unpackArrayBigEndian(this.buffer, p, dst, dstOff, count);
+    } else {
+      Signed64.unpackArrayLittleEndian(this.buffer, p, dst, dstOff, count);
+    }
+    this.position = p + (count * 8);
+    return dst;
+  }
+
+  /**
+   * Write {@code count} signed 64-bit integers from {@code src} starting at
+   * {@code srcOff}, and advance the position by {@code count * 8}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of integers
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If too few bytes remain, or
+   *                                   {@code src} is too small
+   */
+
+  public IntegerCursor writeS64Array(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    final int p = this.position;
+    if (this.big) {
+      Signed64.packArrayBigEndian(src, srcOff, this.buffer, p, count);
+    } else {
+      Signed64.packArrayLittleEndian(src, srcOff, this.buffer, p, count);
+    }
+    this.position = p + (count * 8);
+    return this;
+  }
+}
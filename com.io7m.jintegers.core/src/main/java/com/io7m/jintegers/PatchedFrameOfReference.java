@@ -0,0 +1,883 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Patched frame-of-reference (PFOR) encoding of 32-bit and 64-bit
+ * integers.
+ * </p>
+ * <p>
+ * Values are encoded in blocks of {@link #BLOCK_SIZE}; a final block may
+ * be shorter. Each value of a block is stored as its unsigned offset
+ * from the block minimum, and the low {@code b} bits of every offset are
+ * packed with {@link BitPacking}. Offsets that do not fit in {@code b}
+ * bits are exceptions: their positions and remaining high bits are
+ * stored after the packed data. The width {@code b} is chosen per block
+ * to minimize the encoded size, so a few outliers no longer force a wide
+ * width on the whole block.
+ * </p>
+ * <p>
+ * A block is laid out as follows, with all multi-byte fields
+ * little-endian:
+ * </p>
+ * <ul>
+ * <li>an {@link Unsigned16} header holding {@code b} in the low byte and
+ * the exception count {@code e} in the high byte,</li>
+ * <li>the block minimum, as a {@link Signed32} for {@code int} data or a
+ * {@link Signed64} for {@code long} data,</li>
+ * <li>the packed low bits of the offsets,</li>
+ * <li>{@code e} exception positions, each an {@link Unsigned8},</li>
+ * <li>{@code e} exception high parts ({@code offset >>> b}), each a
+ * {@link Signed32} or {@link Signed64}.</li>
+ * </ul>
+ * <p>
+ * Decoding unpacks the low bits of a block straight into the destination
+ * array, ORs the high parts into the exception positions, and adds the
+ * minimum back in one pass; no step branches per value.
+ * </p>
+ */
+
+public final class PatchedFrameOfReference
+{
+  /**
+   * The number of values in each block.
+   */
+
+  public static final int BLOCK_SIZE = 128;
+
+  private static final int INT_HEADER = 6;
+  private static final int LONG_HEADER = 10;
+
+  private PatchedFrameOfReference()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param count The number of {@code int} values
+   *
+   * @return The largest number of bytes that {@code count} values can
+   * require
+   */
+
+  public static long encodedLengthMaxInts(
+    final int count)
+  {
+    return blocks(count) * INT_HEADER + (long) count * 4L;
+  }
+
+  /**
+   * @param count The number of {@code long} values
+   *
+   * @return The largest number of bytes that {@code count} values can
+   * require
+   */
+
+  public static long encodedLengthMaxLongs(
+    final int count)
+  {
+    return blocks(count) * LONG_HEADER + (long) count * 8L;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    final int[] offsets = new int[BLOCK_SIZE];
+    final int[] positions = new int[BLOCK_SIZE];
+    final int[] highs = new int[BLOCK_SIZE];
+    final int[] lengths = new int[33];
+    long r = 0L;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      offsets(src, srcOff + k, n, offsets);
+      final int width = width(offsets, n, lengths);
+      final int e = exceptions(offsets, n, width, positions, highs);
+      r += INT_HEADER + payloadLength(n, width) + e * 5L;
+    }
+    return r;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    final long[] offsets = new long[BLOCK_SIZE];
+    final int[] positions = new int[BLOCK_SIZE];
+    final long[] highs = new long[BLOCK_SIZE];
+    final int[] lengths = new int[65];
+    long r = 0L;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      offsets(src, srcOff + k, n, offsets);
+      final int width = width(offsets, n, lengths);
+      final int e = exceptions(offsets, n, width, positions, highs);
+      r += LONG_HEADER + payloadLength(n, width) + e * 9L;
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (dstOff < 0
+      || (long) dst.length - dstOff < encodedLengthMaxInts(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff, encodedLength(src, srcOff, count), (long) dst.length);
+    }
+
+    final int[] offsets = new int[BLOCK_SIZE];
+    final int[] positions = new int[BLOCK_SIZE];
+    final int[] highs = new int[BLOCK_SIZE];
+    final int[] lengths = new int[33];
+    int p = dstOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int min = offsets(src, srcOff + k, n, offsets);
+      final int width = width(offsets, n, lengths);
+      final int e = exceptions(offsets, n, width, positions, highs);
+      Unsigned16.packToBytesLittleEndian(width | (e << 8), dst, p);
+      Signed32.packToBytesLittleEndian(min, dst, p + 2);
+      p += INT_HEADER;
+      if (width > 0) {
+        BitPacking.packIntArray(offsets, 0, dst, p, n, width);
+        p += payloadLength(n, width);
+      }
+      Unsigned8.packArray(positions, 0, dst, p, e);
+      p += e;
+      Signed32.packArrayLittleEndian(highs, 0, dst, p, e);
+      p += e * 4;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (dstOff < 0
+      || (long) dst.length - dstOff < encodedLengthMaxLongs(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff, encodedLength(src, srcOff, count), (long) dst.length);
+    }
+
+    final long[] offsets = new long[BLOCK_SIZE];
+    final int[] positions = new int[BLOCK_SIZE];
+    final long[] highs = new long[BLOCK_SIZE];
+    final int[] lengths = new int[65];
+    int p = dstOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final long min = offsets(src, srcOff + k, n, offsets);
+      final int width = width(offsets, n, lengths);
+      final int e = exceptions(offsets, n, width, positions, highs);
+      Unsigned16.packToBytesLittleEndian(width | (e << 8), dst, p);
+      Signed64.packToBytesLittleEndian(min, dst, p + 2);
+      p += LONG_HEADER;
+      if (width > 0) {
+        BitPacking.packLongArray(offsets, 0, dst, p, n, width);
+        p += payloadLength(n, width);
+      }
+      Unsigned8.packArray(positions, 0, dst, p, e);
+      p += e;
+      Signed64.packArrayLittleEndian(highs, 0, dst, p, e);
+      p += e * 8;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    final int limit = dst.limit();
+    if (dstIndex < 0
+      || (long) limit - dstIndex < encodedLengthMaxInts(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstIndex, encodedLength(src, srcOff, count), (long) limit);
+    }
+
+    final int[] offsets = new int[BLOCK_SIZE];
+    final int[] positions = new int[BLOCK_SIZE];
+    final int[] highs = new int[BLOCK_SIZE];
+    final int[] lengths = new int[33];
+    int p = dstIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int min = offsets(src, srcOff + k, n, offsets);
+      final int width = width(offsets, n, lengths);
+      final int e = exceptions(offsets, n, width, positions, highs);
+      Unsigned16.packToBufferLittleEndian(width | (e << 8), dst, p);
+      Signed32.packToBufferLittleEndian(min, dst, p + 2);
+      p += INT_HEADER;
+      if (width > 0) {
+        BitPacking.packIntArray(offsets, 0, dst, p, n, width);
+        p += payloadLength(n, width);
+      }
+      for (int j = 0; j < e; ++j) {
+        Unsigned8.packToBuffer(positions[j], dst, p + j);
+      }
+      p += e;
+      Signed32.packArrayLittleEndian(highs, 0, dst, p, e);
+      p += e * 4;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    final int limit = dst.limit();
+    if (dstIndex < 0
+      || (long) limit - dstIndex < encodedLengthMaxLongs(count)) {
+      Objects.checkFromIndexSize(
+        (long) dstIndex, encodedLength(src, srcOff, count), (long) limit);
+    }
+
+    final long[] offsets = new long[BLOCK_SIZE];
+    final int[] positions = new int[BLOCK_SIZE];
+    final long[] highs = new long[BLOCK_SIZE];
+    final int[] lengths = new int[65];
+    int p = dstIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final long min = offsets(src, srcOff + k, n, offsets);
+      final int width = width(offsets, n, lengths);
+      final int e = exceptions(offsets, n, width, positions, highs);
+      Unsigned16.packToBufferLittleEndian(width | (e << 8), dst, p);
+      Signed64.packToBufferLittleEndian(min, dst, p + 2);
+      p += LONG_HEADER;
+      if (width > 0) {
+        BitPacking.packLongArray(offsets, 0, dst, p, n, width);
+        p += payloadLength(n, width);
+      }
+      for (int j = 0; j < e; ++j) {
+        Unsigned8.packToBuffer(positions[j], dst, p + j);
+      }
+      p += e;
+      Signed64.packArrayLittleEndian(highs, 0, dst, p, e);
+      p += e * 8;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block is malformed
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int header = Unsigned16.unpackFromBytesLittleEndian(src, p);
+      final int width = header & 0xff;
+      final int e = checkHeader(width, header >>> 8, 32, n, p);
+      final int min = Signed32.unpackFromBytesLittleEndian(src, p + 2);
+      p += INT_HEADER;
+      if (width == 0) {
+        Arrays.fill(dst, o, o + n, 0);
+      } else {
+        BitPacking.unpackIntArray(src, p, dst, o, n, width);
+        p += payloadLength(n, width);
+      }
+      Objects.checkFromIndexSize(p, e * 5, src.length);
+      final int h = p + e;
+      for (int j = 0; j < e; ++j) {
+        final int at = checkPosition(src[p + j] & 0xff, n, p + j);
+        dst[o + at] |= Signed32.unpackFromBytesLittleEndian(src, h + j * 4)
+          << width;
+      }
+      p = h + e * 4;
+      for (int j = o; j < o + n; ++j) {
+        dst[j] += min;
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block is malformed
+   */
+
+  public static int decodeLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int header = Unsigned16.unpackFromBytesLittleEndian(src, p);
+      final int width = header & 0xff;
+      final int e = checkHeader(width, header >>> 8, 64, n, p);
+      final long min = Signed64.unpackFromBytesLittleEndian(src, p + 2);
+      p += LONG_HEADER;
+      if (width == 0) {
+        Arrays.fill(dst, o, o + n, 0L);
+      } else {
+        BitPacking.unpackLongArray(src, p, dst, o, n, width);
+        p += payloadLength(n, width);
+      }
+      Objects.checkFromIndexSize(p, e * 9, src.length);
+      final int h = p + e;
+      for (int j = 0; j < e; ++j) {
+        final int at = checkPosition(src[p + j] & 0xff, n, p + j);
+        dst[o + at] |= Signed64.unpackFromBytesLittleEndian(src, h + j * 8)
+          << width;
+      }
+      p = h + e * 8;
+      for (int j = o; j < o + n; ++j) {
+        dst[j] += min;
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block is malformed
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int header = Unsigned16.unpackFromBufferLittleEndian(src, p);
+      final int width = header & 0xff;
+      final int e = checkHeader(width, header >>> 8, 32, n, p);
+      final int min = Signed32.unpackFromBufferLittleEndian(src, p + 2);
+      p += INT_HEADER;
+      if (width == 0) {
+        Arrays.fill(dst, o, o + n, 0);
+      } else {
+        BitPacking.unpackIntArray(src, p, dst, o, n, width);
+        p += payloadLength(n, width);
+      }
+      Objects.checkFromIndexSize(p, e * 5, src.limit());
+      final int h = p + e;
+      for (int j = 0; j < e; ++j) {
+        final int at =
+          checkPosition(Unsigned8.unpackFromBuffer(src, p + j), n, p + j);
+        dst[o + at] |= Signed32.unpackFromBufferLittleEndian(src, h + j * 4)
+          << width;
+      }
+      p = h + e * 4;
+      for (int j = o; j < o + n; ++j) {
+        dst[j] += min;
+      }
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the blocks decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a block is malformed
+   */
+
+  public static int decodeLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcIndex;
+    for (int k = 0; k < count; k += BLOCK_SIZE) {
+      final int n = Math.min(BLOCK_SIZE, count - k);
+      final int o = dstOff + k;
+      final int header = Unsigned16.unpackFromBufferLittleEndian(src, p);
+      final int width = header & 0xff;
+      final int e = checkHeader(width, header >>> 8, 64, n, p);
+      final long min = Signed64.unpackFromBufferLittleEndian(src, p + 2);
+      p += LONG_HEADER;
+      if (width == 0) {
+        Arrays.fill(dst, o, o + n, 0L);
+      } else {
+        BitPacking.unpackLongArray(src, p, dst, o, n, width);
+        p += payloadLength(n, width);
+      }
+      Objects.checkFromIndexSize(p, e * 9, src.limit());
+      final int h = p + e;
+      for (int j = 0; j < e; ++j) {
+        final int at =
+          checkPosition(Unsigned8.unpackFromBuffer(src, p + j), n, p + j);
+        dst[o + at] |= Signed64.unpackFromBufferLittleEndian(src, h + j * 8)
+          << width;
+      }
+      p = h + e * 8;
+      for (int j = o; j < o + n; ++j) {
+        dst[j] += min;
+      }
+    }
+    return p;
+  }
+
+  private static long blocks(
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + count + ")");
+    }
+    return ((long) count + BLOCK_SIZE - 1L) / BLOCK_SIZE;
+  }
+
+  private static int payloadLength(
+    final int n,
+    final int width)
+  {
+    return (n * width + 7) >>> 3;
+  }
+
+  private static int checkHeader(
+    final int width,
+    final int exceptions,
+    final int widthMax,
+    final int n,
+    final int index)
+  {
+    if (width > widthMax
+      || exceptions > n
+      || (width == widthMax && exceptions > 0)) {
+      throw new IllegalArgumentException(
+        "Malformed block header at index " + index
+          + ": width " + width + ", " + exceptions + " exceptions");
+    }
+    return exceptions;
+  }
+
+  private static int checkPosition(
+    final int position,
+    final int n,
+    final int index)
+  {
+    if (position >= n) {
+      throw new IllegalArgumentException(
+        "Malformed exception position at index " + index
+          + ": " + position + " in a block of " + n);
+    }
+    return position;
+  }
+
+  /**
+   * Write the offsets of the {@code n} values at {@code offset} from
+   * their minimum into {@code offsets}.
+   *
+   * @return The minimum
+   */
+
+  private static int offsets(
+    final int[] src,
+    final int offset,
+    final int n,
+    final int[] offsets)
+  {
+    int min = src[offset];
+    for (int j = 1; j < n; ++j) {
+      min = Math.min(min, src[offset + j]);
+    }
+    for (int j = 0; j < n; ++j) {
+      offsets[j] = src[offset + j] - min;
+    }
+    return min;
+  }
+
+  private static long offsets(
+    final long[] src,
+    final int offset,
+    final int n,
+    final long[] offsets)
+  {
+    long min = src[offset];
+    for (int j = 1; j < n; ++j) {
+      min = Math.min(min, src[offset + j]);
+    }
+    for (int j = 0; j < n; ++j) {
+      offsets[j] = src[offset + j] - min;
+    }
+    return min;
+  }
+
+  /**
+   * Choose the width that minimizes the size of a block, counting each
+   * exception as a position byte plus a four-byte high part. The bit lengths of
+   * the offsets are counted in the scratch array {@code lengths}.
+   */
+
+  private static int width(
+    final int[] offsets,
+    final int n,
+    final int[] lengths)
+  {
+    Arrays.fill(lengths, 0);
+    for (int j = 0; j < n; ++j) {
+      ++lengths[32 - Integer.numberOfLeadingZeros(offsets[j])];
+    }
+    return cheapest(lengths, 32, n, 40);
+  }
+
+  /**
+   * Choose the width that minimizes the size of a block, counting each
+   * exception as a position byte plus an eight-byte high part. The bit lengths of
+   * the offsets are counted in the scratch array {@code lengths}.
+   */
+
+  private static int width(
+    final long[] offsets,
+    final int n,
+    final int[] lengths)
+  {
+    Arrays.fill(lengths, 0);
+    for (int j = 0; j < n; ++j) {
+      ++lengths[64 - Long.numberOfLeadingZeros(offsets[j])];
+    }
+    return cheapest(lengths, 64, n, 72);
+  }
+
+  /**
+   * @param lengths       The number of offsets of each bit length
+   * @param widthMax      The largest bit length
+   * @param n             The number of values in the block
+   * @param exceptionBits The size of one exception in bits
+   *
+   * @return The width that minimizes the encoded size
+   */
+
+  private static int cheapest(
+    final int[] lengths,
+    final int widthMax,
+    final int n,
+    final int exceptionBits)
+  {
+    int top = widthMax;
+    while (top > 0 && lengths[top] == 0) {
+      --top;
+    }
+
+    int best = top;
+    long bestCost = (long) n * top;
+    int exceptions = 0;
+    for (int w = top - 1; w >= 0; --w) {
+      exceptions += lengths[w + 1];
+      final long cost = (long) n * w + (long) exceptions * exceptionBits;
+      if (cost < bestCost) {
+        best = w;
+        bestCost = cost;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Find the offsets that do not fit in {@code width} bits, storing their
+   * positions and high parts.
+   *
+   * @return The number of exceptions
+   */
+
+  private static int exceptions(
+    final int[] offsets,
+    final int n,
+    final int width,
+    final int[] positions,
+    final int[] highs)
+  {
+    if (width == 32) {
+      return 0;
+    }
+    int e = 0;
+    for (int j = 0; j < n; ++j) {
+      final int high = offsets[j] >>> width;
+      if (high != 0) {
+        positions[e] = j;
+        highs[e] = high;
+        ++e;
+      }
+    }
+    return e;
+  }
+
+  private static int exceptions(
+    final long[] offsets,
+    final int n,
+    final int width,
+    final int[] positions,
+    final long[] highs)
+  {
+    if (width == 64) {
+      return 0;
+    }
+    int e = 0;
+    for (int j = 0; j < n; ++j) {
+      final long high = offsets[j] >>> width;
+      if (high != 0L) {
+        positions[e] = j;
+        highs[e] = high;
+        ++e;
+      }
+    }
+    return e;
+  }
+}
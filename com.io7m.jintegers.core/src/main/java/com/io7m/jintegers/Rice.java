@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * Rice codes: Golomb codes with a divisor of {@code 2^k}, as used for
+ * the residuals of lossless audio formats such as FLAC.
+ * </p>
+ * <p>
+ * An unsigned value {@code x} is written as the quotient
+ * {@code x >>> k} in unary, that many zero bits followed by a set bit,
+ * and then the low {@code k} bits of {@code x} as a single field.
+ * {@code int} values are unsigned here. A signed value is first mapped
+ * with {@link VarInts#zigZagEncodeInt(int)}, so values of small
+ * magnitude have short codes.
+ * </p>
+ * <p>
+ * Codes are read from a {@link BitReader} and written to a
+ * {@link BitWriter}. The quotient is read with
+ * {@link BitReader#readUnary()}, which finds it with one leading zero
+ * count, and the remainder with one {@link BitReader#readBits(int)}, so
+ * a code is decoded in constant time unless its quotient is longer than
+ * the reader's 57-bit accumulator.
+ * </p>
+ */
+
+public final class Rice
+{
+  private static final long UNSIGNED_MAX = 0xffffffffL;
+
+  private Rice()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param x The value, as an unsigned integer
+   * @param k The parameter, in {@code [0, 31]}
+   *
+   * @return The number of bits in the unsigned code for {@code x}
+   */
+
+  public static long encodedBitsUnsigned(
+    final int x,
+    final int k)
+  {
+    checkParameter(k);
+    return (Integer.toUnsignedLong(x) >>> k) + 1L + k;
+  }
+
+  /**
+   * @param x The value
+   * @param k The parameter, in {@code [0, 31]}
+   *
+   * @return The number of bits in the signed code for {@code x}
+   */
+
+  public static long encodedBitsSigned(
+    final int x,
+    final int k)
+  {
+    return encodedBitsUnsigned(VarInts.zigZagEncodeInt(x), k);
+  }
+
+  /**
+   * Write the unsigned code for {@code x}.
+   *
+   * @param dst The bit stream
+   * @param x   The value, as an unsigned integer
+   * @param k   The parameter, in {@code [0, 31]}
+   *
+   * @return {@code dst}
+   *
+   * @throws IllegalArgumentException  If {@code k} is out of range
+   * @throws IndexOutOfBoundsException If the stream has no room for the
+   *                                   code; nothing is written
+   */
+
+  public static BitWriter writeUnsigned(
+    final BitWriter dst,
+    final int x,
+    final int k)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkParameter(k);
+    return writeCode(dst, x, k);
+  }
+
+  /**
+   * Write the signed code for {@code x}.
+   *
+   * @param dst The bit stream
+   * @param x   The value
+   * @param k   The parameter, in {@code [0, 31]}
+   *
+   * @return {@code dst}
+   *
+   * @throws IllegalArgumentException  If {@code k} is out of range
+   * @throws IndexOutOfBoundsException If the stream has no room for the
+   *                                   code; nothing is written
+   */
+
+  public static BitWriter writeSigned(
+    final BitWriter dst,
+    final int x,
+    final int k)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkParameter(k);
+    return writeCode(dst, VarInts.zigZagEncodeInt(x), k);
+  }
+
+  /**
+   * Read an unsigned code.
+   *
+   * @param src The bit stream
+   * @param k   The parameter, in {@code [0, 31]}
+   *
+   * @return The value, as an unsigned integer
+   *
+   * @throws IndexOutOfBoundsException If the stream is truncated
+   * @throws IllegalArgumentException  If {@code k} is out of range or
+   *                                   the code does not fit in 32 bits
+   */
+
+  public static int readUnsigned(
+    final BitReader src,
+    final int k)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkParameter(k);
+    return readCode(src, k);
+  }
+
+  /**
+   * Read a signed code.
+   *
+   * @param src The bit stream
+   * @param k   The parameter, in {@code [0, 31]}
+   *
+   * @return The value
+   *
+   * @throws IndexOutOfBoundsException If the stream is truncated
+   * @throws IllegalArgumentException  If {@code k} is out of range or
+   *                                   the code does not fit in 32 bits
+   */
+
+  public static int readSigned(
+    final BitReader src,
+    final int k)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkParameter(k);
+    return VarInts.zigZagDecodeInt(readCode(src, k));
+  }
+
+  /**
+   * Write the unsigned codes for {@code count} values from {@code src},
+   * starting at {@code srcOff}.
+   *
+   * @param src    The values, as unsigned integers
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The bit stream
+   * @param count  The number of values
+   * @param k      The parameter, in {@code [0, 31]}
+   *
+   * @return {@code dst}
+   *
+   * @throws IllegalArgumentException  If {@code k} is out of range
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream runs out of room
+   */
+
+  public static BitWriter encodeUnsignedArray(
+    final int[] src,
+    final int srcOff,
+    final BitWriter dst,
+    final int count,
+    final int k)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    checkParameter(k);
+
+    for (int index = 0; index < count; ++index) {
+      writeCode(dst, src[srcOff + index], k);
+    }
+    return dst;
+  }
+
+  /**
+   * Write the signed codes for {@code count} values from {@code src},
+   * starting at {@code srcOff}.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The bit stream
+   * @param count  The number of values
+   * @param k      The parameter, in {@code [0, 31]}
+   *
+   * @return {@code dst}
+   *
+   * @throws IllegalArgumentException  If {@code k} is out of range
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream runs out of room
+   */
+
+  public static BitWriter encodeSignedArray(
+    final int[] src,
+    final int srcOff,
+    final BitWriter dst,
+    final int count,
+    final int k)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    checkParameter(k);
+
+    for (int index = 0; index < count; ++index) {
+      writeCode(dst, VarInts.zigZagEncodeInt(src[srcOff + index]), k);
+    }
+    return dst;
+  }
+
+  /**
+   * Read {@code count} unsigned codes into {@code dst} starting at
+   * {@code dstOff}. If the stream is truncated or malformed, an exception
+   * is raised and the values decoded so far have already been written to
+   * {@code dst}.
+   *
+   * @param src    The bit stream
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param k      The parameter, in {@code [0, 31]}
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream is truncated
+   * @throws IllegalArgumentException  If {@code k} is out of range or a
+   *                                   code does not fit in 32 bits
+   */
+
+  public static int[] decodeUnsignedArray(
+    final BitReader src,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int k)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    checkParameter(k);
+
+    for (int index = 0; index < count; ++index) {
+      dst[dstOff + index] = readCode(src, k);
+    }
+    return dst;
+  }
+
+  /**
+   * Read {@code count} signed codes into {@code dst} starting at
+   * {@code dstOff}. If the stream is truncated or malformed, an exception
+   * is raised and the values decoded so far have already been written to
+   * {@code dst}.
+   *
+   * @param src    The bit stream
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   * @param k      The parameter, in {@code [0, 31]}
+   *
+   * @return {@code dst}
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the stream is truncated
+   * @throws IllegalArgumentException  If {@code k} is out of range or a
+   *                                   code does not fit in 32 bits
+   */
+
+  public static int[] decodeSignedArray(
+    final BitReader src,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final int k)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    checkParameter(k);
+
+    for (int index = 0; index < count; ++index) {
+      dst[dstOff + index] = VarInts.zigZagDecodeInt(readCode(src, k));
+    }
+    return dst;
+  }
+
+  private static void checkParameter(
+    final int k)
+  {
+    if (k < 0 || k > 31) {
+      throw new IllegalArgumentException(
+        "Parameter must be in [0, 31] (is " + k + ")");
+    }
+  }
+
+  private static BitWriter writeCode(
+    final BitWriter dst,
+    final int x,
+    final int k)
+  {
+    final long q = Integer.toUnsignedLong(x) >>> k;
+    dst.checkRoom(q + 1L + k);
+    return dst.writeUnary(q).writeBits(x, k);
+  }
+
+  private static int readCode(
+    final BitReader src,
+    final int k)
+  {
+    final long q = src.readUnary();
+    if (q > UNSIGNED_MAX >>> k) {
+      throw new IllegalArgumentException(
+        "Rice quotient " + q + " does not fit in 32 bits");
+    }
+    return (int) ((q << k) | src.readBits(k));
+  }
+}
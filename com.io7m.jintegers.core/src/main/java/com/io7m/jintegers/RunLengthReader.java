@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>
+ * A reader for integer data written by {@link RunLengths}.
+ * </p>
+ * <p>
+ * The reader is an iterator over the values of the encoded data, but it
+ * also exposes the runs themselves: {@link #runValue()} and
+ * {@link #runLength()} describe the current run, and {@link #skip(int)}
+ * and {@link #skipRun()} advance past values by reading only the run
+ * headers. {@link #read(long[], int, int)} fills each run with a single
+ * bulk store. No method allocates. A reader can be pointed at new data
+ * with {@link #reset(byte[], int, int)}. Readers are not thread-safe.
+ * </p>
+ */
+
+public final class RunLengthReader implements PrimitiveIterator.OfLong
+{
+  private byte[] buffer;
+  private int position;
+  private int remaining;
+  private int run;
+  private long value;
+
+  /**
+   * Create a reader for the {@code count} values encoded into
+   * {@code inBuffer} starting at {@code offset}.
+   *
+   * @param inBuffer The source array
+   * @param offset   The starting index in {@code inBuffer}
+   * @param count    The number of values in the data
+   */
+
+  public RunLengthReader(
+    final byte[] inBuffer,
+    final int offset,
+    final int count)
+  {
+    this.reset(inBuffer, offset, count);
+  }
+
+  /**
+   * Start reading the {@code count} values encoded into
+   * {@code newBuffer} starting at {@code offset}.
+   *
+   * @param newBuffer The source array
+   * @param offset    The starting index in {@code newBuffer}
+   * @param count     The number of values in the data
+   *
+   * @return this
+   *
+   * @throws IndexOutOfBoundsException If {@code offset} is negative or
+   *                                   greater than the array length
+   * @throws IllegalArgumentException  If {@code count} is negative
+   */
+
+  public RunLengthReader reset(
+    final byte[] newBuffer,
+    final int offset,
+    final int count)
+  {
+    if (count < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + count + ")");
+    }
+    this.buffer = Objects.requireNonNull(newBuffer, "Buffer");
+    this.position = Objects.checkIndex(offset, newBuffer.length + 1);
+    this.remaining = count;
+    this.run = 0;
+    this.value = 0L;
+    return this;
+  }
+
+  /**
+   * @return The number of values not yet read or skipped
+   */
+
+  public int remaining()
+  {
+    return this.remaining;
+  }
+
+  /**
+   * @return The index in the source array following the last byte read
+   */
+
+  public int position()
+  {
+    return this.position;
+  }
+
+  @Override
+  public boolean hasNext()
+  {
+    return this.remaining > 0;
+  }
+
+  /**
+   * Read the next value.
+   *
+   * @return The value
+   *
+   * @throws NoSuchElementException    If all values have been read
+   * @throws IndexOutOfBoundsException If the data is truncated
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  @Override
+  public long nextLong()
+  {
+    this.current();
+    --this.run;
+    --this.remaining;
+    return this.value;
+  }
+
+  /**
+   * @return The value of the current run
+   *
+   * @throws NoSuchElementException    If all values have been read
+   * @throws IndexOutOfBoundsException If the data is truncated
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  public long runValue()
+  {
+    this.current();
+    return this.value;
+  }
+
+  /**
+   * @return The number of values left in the current run, or {@code 0}
+   * if all values have been read
+   *
+   * @throws IndexOutOfBoundsException If the data is truncated
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  public int runLength()
+  {
+    if (this.remaining == 0) {
+      return 0;
+    }
+    this.current();
+    return this.run;
+  }
+
+  /**
+   * Skip the values left in the current run.
+   *
+   * @return The number of values skipped, or {@code 0} if all values
+   * have been read
+   *
+   * @throws IndexOutOfBoundsException If the data is truncated
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  public int skipRun()
+  {
+    final int n = this.runLength();
+    this.run -= n;
+    this.remaining -= n;
+    return n;
+  }
+
+  /**
+   * Skip up to {@code n} values. Runs that are skipped entirely are not
+   * expanded.
+   *
+   * @param n The number of values to skip
+   *
+   * @return The number of values skipped, which is less than {@code n}
+   * only if the end of the data was reached
+   *
+   * @throws IndexOutOfBoundsException If the data is truncated
+   * @throws IllegalArgumentException  If {@code n} is negative or the
+   *                                   data is malformed
+   */
+
+  public int skip(
+    final int n)
+  {
+    checkCount(n);
+
+    int k = 0;
+    while (k < n && this.remaining > 0) {
+      this.current();
+      final int take = Math.min(this.run, n - k);
+      this.run -= take;
+      this.remaining -= take;
+      k += take;
+    }
+    return k;
+  }
+
+  /**
+   * Read up to {@code count} values into {@code dst} starting at
+   * {@code dstOff}.
+   *
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The maximum number of values to read
+   *
+   * @return The number of values read, which is less than {@code count}
+   * only if the end of the data was reached
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the data is truncated
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  public int read(
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int k = 0;
+    while (k < count && this.remaining > 0) {
+      this.current();
+      final int take = Math.min(this.run, count - k);
+      final int at = dstOff + k;
+      Arrays.fill(dst, at, at + take, this.value);
+      this.run -= take;
+      this.remaining -= take;
+      k += take;
+    }
+    return k;
+  }
+
+  /**
+   * Read up to {@code count} values into {@code dst} starting at
+   * {@code dstOff}. Each value is truncated to its low 32 bits, which is
+   * exact for data encoded from {@code int} values.
+   *
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The maximum number of values to read
+   *
+   * @return The number of values read, which is less than {@code count}
+   * only if the end of the data was reached
+   *
+   * @throws IndexOutOfBoundsException If the range is out of bounds or
+   *                                   the data is truncated
+   * @throws IllegalArgumentException  If the data is malformed
+   */
+
+  public int read(
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int k = 0;
+    while (k < count && this.remaining > 0) {
+      this.current();
+      final int take = Math.min(this.run, count - k);
+      final int at = dstOff + k;
+      Arrays.fill(dst, at, at + take, (int) this.value);
+      this.run -= take;
+      this.remaining -= take;
+      k += take;
+    }
+    return k;
+  }
+
+  private static void checkCount(
+    final int n)
+  {
+    if (n < 0) {
+      throw new IllegalArgumentException(
+        "Count must be non-negative (is " + n + ")");
+    }
+  }
+
+  /**
+   * Ensure that the current run has at least one value left, reading
+   * the next run header if necessary.
+   */
+
+  private void current()
+  {
+    if (this.remaining == 0) {
+      throw new NoSuchElementException();
+    }
+    if (this.run == 0) {
+      final byte[] b = this.buffer;
+      int p = this.position;
+      final long x = VarInts.decodeSignedLong(b, p);
+      p += VarInts.encodedLengthSignedLong(x);
+      final int n = RunLengths.checkRun(
+        VarInts.decodeInt(b, p), this.remaining, p);
+      p += VarInts.encodedLengthInt(n);
+      this.value = x;
+      this.run = n;
+      this.position = p;
+    }
+  }
+}
@@ -0,0 +1,711 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Run-length encoding of integers and of fixed-width packed elements.
+ * </p>
+ * <p>
+ * Integer data is encoded as a sequence of runs, each the run's value as
+ * a zigzag {@link VarInts} value followed by the run's length as an
+ * unsigned {@link VarInts} value. {@code int} values are widened, so
+ * {@code int} and {@code long} data with the same values encode
+ * identically.
+ * </p>
+ * <p>
+ * Packed data, such as a buffer of values written with
+ * {@link Unsigned8} or {@link Unsigned16}, is treated as a sequence of
+ * opaque elements of {@code width} bytes, for {@code width} in
+ * {@code [1, 8]}. Each run is the raw bytes of one element followed by
+ * the run's length as an unsigned {@link VarInts} value.
+ * </p>
+ * <p>
+ * The encoded form is always written to and read from a {@code byte[]}.
+ * Decoding fills each run with a single bulk store. A
+ * {@link RunLengthReader} reads integer data run by run and can skip
+ * whole runs without expanding them.
+ * </p>
+ */
+
+public final class RunLengths
+{
+  private RunLengths()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    long r = 0L;
+    int k = 0;
+    while (k < count) {
+      final long x = src[srcOff + k];
+      final int n = runLength(src, srcOff + k, count - k);
+      r += VarInts.encodedLengthSignedLong(x) + VarInts.encodedLengthInt(n);
+      k += n;
+    }
+    return r;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    long r = 0L;
+    int k = 0;
+    while (k < count) {
+      final int x = src[srcOff + k];
+      final int n = runLength(src, srcOff + k, count - k);
+      r += VarInts.encodedLengthSignedLong(x) + VarInts.encodedLengthInt(n);
+      k += n;
+    }
+    return r;
+  }
+
+  /**
+   * @param src    The packed elements
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of elements
+   * @param width  The size of each element in bytes, in {@code [1, 8]}
+   *
+   * @return The number of bytes required to encode the elements
+   */
+
+  public static long encodedLengthPacked(
+    final byte[] src,
+    final int srcOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkPacked(srcOff, count, width, src.length);
+
+    long r = 0L;
+    int k = 0;
+    while (k < count) {
+      final int n = runLength(src, srcOff + k * width, count - k, width);
+      r += width + VarInts.encodedLengthInt(n);
+      k += n;
+    }
+    return r;
+  }
+
+  /**
+   * @param src      The packed elements
+   * @param srcIndex The starting index in {@code src}
+   * @param count    The number of elements
+   * @param width    The size of each element in bytes, in {@code [1, 8]}
+   *
+   * @return The number of bytes required to encode the elements
+   */
+
+  public static long encodedLengthPacked(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    checkPacked(srcIndex, count, width, src.limit());
+
+    long r = 0L;
+    int k = 0;
+    while (k < count) {
+      final int n = runLength(src, srcIndex + k * width, count - k, width);
+      r += width + VarInts.encodedLengthInt(n);
+      k += n;
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (!worstCaseFits(dstOff, dst.length, count, VarInts.LONG_LENGTH_MAX)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff, encodedLength(src, srcOff, count), (long) dst.length);
+    }
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final long x = src[srcOff + k];
+      final int n = runLength(src, srcOff + k, count - k);
+      p = VarInts.encodeSignedLong(x, dst, p);
+      p = VarInts.encodeInt(n, dst, p);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (!worstCaseFits(dstOff, dst.length, count, VarInts.INT_LENGTH_MAX)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff, encodedLength(src, srcOff, count), (long) dst.length);
+    }
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final int x = src[srcOff + k];
+      final int n = runLength(src, srcOff + k, count - k);
+      p = VarInts.encodeSignedLong(x, dst, p);
+      p = VarInts.encodeInt(n, dst, p);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} elements of {@code width} bytes from
+   * {@code src}, starting at {@code srcOff}, into {@code dst} starting at
+   * {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The packed elements
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   * @param width  The size of each element in bytes, in {@code [1, 8]}
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodePacked(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkPacked(srcOff, count, width, src.length);
+    if (!worstCaseFits(dstOff, dst.length, count, width)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff,
+        encodedLengthPacked(src, srcOff, count, width),
+        (long) dst.length);
+    }
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final int at = srcOff + k * width;
+      final int n = runLength(src, at, count - k, width);
+      System.arraycopy(src, at, dst, p, width);
+      p = VarInts.encodeInt(n, dst, p + width);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} elements of {@code width} bytes from
+   * {@code src}, starting at {@code srcIndex}, into {@code dst} starting
+   * at {@code dstOff}. The buffer's position is ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * buffer or array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The packed elements
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of elements
+   * @param width    The size of each element in bytes, in {@code [1, 8]}
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodePacked(
+    final ByteBuffer src,
+    final int srcIndex,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkPacked(srcIndex, count, width, src.limit());
+    if (!worstCaseFits(dstOff, dst.length, count, width)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff,
+        encodedLengthPacked(src, srcIndex, count, width),
+        (long) dst.length);
+    }
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final int at = srcIndex + k * width;
+      final int n = runLength(src, at, count - k, width);
+      src.get(at, dst, p, width);
+      p = VarInts.encodeInt(n, dst, p + width);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the runs decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a run is empty or extends
+   *                                   past {@code count} values
+   */
+
+  public static int decodeLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      final long x = VarInts.decodeSignedLong(src, p);
+      p += VarInts.encodedLengthSignedLong(x);
+      final int n = checkRun(VarInts.decodeInt(src, p), count - k, p);
+      p += VarInts.encodedLengthInt(n);
+      final int at = dstOff + k;
+      Arrays.fill(dst, at, at + n, x);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. Each
+   * value is truncated to its low 32 bits, which is exact for data
+   * encoded from {@code int} values.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the runs decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a run is empty or extends
+   *                                   past {@code count} values
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      final long x = VarInts.decodeSignedLong(src, p);
+      p += VarInts.encodedLengthSignedLong(x);
+      final int n = checkRun(VarInts.decodeInt(src, p), count - k, p);
+      p += VarInts.encodedLengthInt(n);
+      final int at = dstOff + k;
+      Arrays.fill(dst, at, at + n, (int) x);
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} elements of {@code width} bytes from
+   * {@code src}, starting at {@code srcOff}, into {@code dst} starting at
+   * {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the runs decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   * @param width  The size of each element in bytes, in {@code [1, 8]}
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a run is empty or extends
+   *                                   past {@code count} elements
+   */
+
+  public static int decodePacked(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkPacked(dstOff, count, width, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      Objects.checkFromIndexSize(p, width, src.length);
+      final int value = p;
+      p += width;
+      final int n = checkRun(VarInts.decodeInt(src, p), count - k, p);
+      p += VarInts.encodedLengthInt(n);
+
+      final int at = dstOff + k * width;
+      final int size = n * width;
+      if (width == 1) {
+        Arrays.fill(dst, at, at + n, src[value]);
+      } else {
+        System.arraycopy(src, value, dst, at, width);
+        for (int done = width; done < size; done += done) {
+          System.arraycopy(dst, at, dst, at + done, Math.min(done, size - done));
+        }
+      }
+      k += n;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} elements of {@code width} bytes from
+   * {@code src}, starting at {@code srcOff}, into {@code dst} starting at
+   * {@code dstIndex}. The buffer's position is ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the runs decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source array
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of elements
+   * @param width    The size of each element in bytes, in {@code [1, 8]}
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If a run is empty or extends
+   *                                   past {@code count} elements
+   */
+
+  public static int decodePacked(
+    final byte[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final int width)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    checkPacked(dstIndex, count, width, dst.limit());
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      Objects.checkFromIndexSize(p, width, src.length);
+      final int value = p;
+      p += width;
+      final int n = checkRun(VarInts.decodeInt(src, p), count - k, p);
+      p += VarInts.encodedLengthInt(n);
+
+      final int at = dstIndex + k * width;
+      final int size = n * width;
+      dst.put(at, src, value, width);
+      for (int done = width; done < size; done += done) {
+        dst.put(at + done, dst, at, Math.min(done, size - done));
+      }
+      k += n;
+    }
+    return p;
+  }
+
+  private static void checkPacked(
+    final int index,
+    final int count,
+    final int width,
+    final int length)
+  {
+    if (width < 1 || width > 8) {
+      throw new IllegalArgumentException(
+        "Width must be in [1, 8] (is " + width + ")");
+    }
+    Objects.checkFromIndexSize(
+      (long) index, (long) count * (long) width, (long) length);
+  }
+
+  /**
+   * A run of {@code n} values never needs more than {@code n} bytes for
+   * its length, so {@code count} values never need more than
+   * {@code count * (valueMax + 1)} bytes, where {@code valueMax} is the
+   * largest encoding of one value or element.
+   *
+   * @return {@code true} if the worst case fits between {@code index} and
+   * {@code limit}, in which case the exact length need not be computed
+   */
+
+  private static boolean worstCaseFits(
+    final int index,
+    final int limit,
+    final int count,
+    final int valueMax)
+  {
+    return index >= 0
+      && (long) limit - index >= (long) count * (valueMax + 1L);
+  }
+
+  static int checkRun(
+    final int n,
+    final int remaining,
+    final int index)
+  {
+    if (n <= 0 || n > remaining) {
+      throw new IllegalArgumentException(
+        "Malformed run length at index " + index + ": "
+          + Integer.toUnsignedString(n) + " with " + remaining
+          + " values remaining");
+    }
+    return n;
+  }
+
+  private static int runLength(
+    final long[] src,
+    final int offset,
+    final int remaining)
+  {
+    final long x = src[offset];
+    int n = 1;
+    while (n < remaining && src[offset + n] == x) {
+      ++n;
+    }
+    return n;
+  }
+
+  private static int runLength(
+    final int[] src,
+    final int offset,
+    final int remaining)
+  {
+    final int x = src[offset];
+    int n = 1;
+    while (n < remaining && src[offset + n] == x) {
+      ++n;
+    }
+    return n;
+  }
+
+  private static int runLength(
+    final byte[] src,
+    final int offset,
+    final int remaining,
+    final int width)
+  {
+    final long x = element(src, offset, width);
+    int n = 1;
+    while (n < remaining && element(src, offset + n * width, width) == x) {
+      ++n;
+    }
+    return n;
+  }
+
+  private static int runLength(
+    final ByteBuffer src,
+    final int offset,
+    final int remaining,
+    final int width)
+  {
+    final long x = element(src, offset, width);
+    int n = 1;
+    while (n < remaining && element(src, offset + n * width, width) == x) {
+      ++n;
+    }
+    return n;
+  }
+
+  private static long element(
+    final byte[] src,
+    final int offset,
+    final int width)
+  {
+    long r = 0L;
+    for (int k = 0; k < width; ++k) {
+      r = (r << 8) | (src[offset + k] & 0xffL);
+    }
+    return r;
+  }
+
+  private static long element(
+    final ByteBuffer src,
+    final int offset,
+    final int width)
+  {
+    long r = 0L;
+    for (int k = 0; k < width; ++k) {
+      r = (r << 8) | (src.get(offset + k) & 0xffL);
+    }
+    return r;
+  }
+}
@@ -19,6 +19,8 @@ package com.io7m.jintegers;
 import java.util.Objects;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -28,6 +30,19 @@ import java.nio.ByteOrder;
 
 public final class Signed16
 {
+  private static final VarHandle SHORT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_SHORT_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_SHORT_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Signed16()
   {
     throw new UnreachableCodeException();
@@ -73,9 +88,37 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + r.length + ")");
     }
 
-    final short x = (short) i;
-    r[0] = (byte) (x >> 8);
-    r[1] = (byte) (x & 0xff);
+    SHORT_BE.set(r, 0, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    SHORT_BE.set(r, offset, (short) i);
     return r;
   }
 
@@ -100,8 +143,11 @@ public final class Signed16
     Objects.requireNonNull(r, "Buffer");
 
     final short x = (short) i;
-    r.put(index + 0, (byte) (x >> 8));
-    r.put(index + 1, (byte) (x & 0xff));
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      r.putShort(index, x);
+    } else {
+      r.putShort(index, Short.reverseBytes(x));
+    }
     return r;
   }
 
@@ -147,9 +193,37 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + r.length + ")");
     }
 
-    final short x = (short) i;
-    r[0] = (byte) (x & 0xff);
-    r[1] = (byte) (x >> 8);
+    SHORT_LE.set(r, 0, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    SHORT_LE.set(r, offset, (short) i);
     return r;
   }
 
@@ -175,8 +249,11 @@ public final class Signed16
     Objects.requireNonNull(r, "Buffer");
 
     final short x = (short) i;
-    r.put(index + 0, (byte) (x & 0xff));
-    r.put(index + 1, (byte) (x >> 8));
+    if (r.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      r.putShort(index, x);
+    } else {
+      r.putShort(index, Short.reverseBytes(x));
+    }
     return r;
   }
 
@@ -200,10 +277,8 @@ public final class Signed16
   {
     Objects.requireNonNull(r, "Buffer");
 
-    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return packToBufferBigEndian(i, r, index);
-    }
-    return packToBufferLittleEndian(i, r, index);
+    r.putShort(index, (short) i);
+    return r;
   }
 
   /**
@@ -231,10 +306,33 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + buffer.length + ")");
     }
 
-    short r = 0;
-    r |= buffer[0] << 8;
-    r |= buffer[1] & 0xff;
-    return r;
+    return (short) SHORT_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 16 bit integer value.
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) SHORT_BE.get(buffer, offset);
   }
 
   /**
@@ -255,10 +353,11 @@ public final class Signed16
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    short r = 0;
-    r |= buffer.get(index + 0) << 8;
-    r |= buffer.get(index + 1) & 0xff;
-    return r;
+    final short x = buffer.getShort(index);
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return x;
+    }
+    return Short.reverseBytes(x);
   }
 
   /**
@@ -279,10 +378,7 @@ public final class Signed16
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(buffer, index);
-    }
-    return unpackFromBufferLittleEndian(buffer, index);
+    return buffer.getShort(index);
   }
 
   /**
@@ -310,10 +406,33 @@ public final class Signed16
         "Buffer.length must be >= 2 (is " + buffer.length + ")");
     }
 
-    short r = 0;
-    r |= buffer[0] & 0xff;
-    r |= buffer[1] << 8;
-    return r;
+    return (short) SHORT_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 16 bit integer value.
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) SHORT_LE.get(buffer, offset);
   }
 
   /**
@@ -335,9 +454,443 @@ public final class Signed16
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    short r = 0;
-    r |= buffer.get(index + 0) & 0xff;
-    r |= buffer.get(index + 1) << 8;
-    return r;
+    final short x = buffer.getShort(index);
+    if (buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x;
+    }
+    return Short.reverseBytes(x);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final short[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 2L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      SHORT_BE.set(dst, dstOff + (k * 2), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static short[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final short[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 2L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (short) SHORT_BE.get(src, srcOff + (k * 2));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final short[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 2L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      SHORT_LE.set(dst, dstOff + (k * 2), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static short[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final short[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 2L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (short) SHORT_LE.get(src, srcOff + (k * 2));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a big-endian encoding such that the most significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final short[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 2L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_SHORT_BE.set(dst, dstIndex + (k * 2), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static short[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final short[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 2L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (short) BUFFER_SHORT_BE.get(src, srcIndex + (k * 2));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a little-endian encoding such that the least significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final short[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 2L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_SHORT_LE.set(dst, dstIndex + (k * 2), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static short[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final short[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 2L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (short) BUFFER_SHORT_LE.get(src, srcIndex + (k * 2));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      SHORT_BE.set(r, offset, (short) i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      SHORT_LE.set(r, offset, (short) i);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 16 bit integer value
+     */
+
+    public static int unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (short) SHORT_BE.get(buffer, offset);
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 16 bit integer value
+     */
+
+    public static int unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (short) SHORT_LE.get(buffer, offset);
+    }
   }
 }
@@ -19,6 +19,8 @@ package com.io7m.jintegers;
 import java.util.Objects;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -28,11 +30,43 @@ import java.nio.ByteOrder;
 
 public final class Signed24
 {
+  private static final VarHandle INT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Signed24()
   {
     throw new UnreachableCodeException();
   }
 
+  /**
+   * The bulk functions decode 24-bit values with overlapping 4-byte loads.
+   * A load for element {@code k} reads one byte past the end of that
+   * element, so it may only be used when that byte still lies within the
+   * array or buffer.
+   *
+   * @param index The index of the first element
+   * @param count The number of elements
+   * @param limit The exclusive upper bound of readable bytes
+   *
+   * @return The number of leading elements that can use a 4-byte load
+   */
+
+  private static int wideCount(
+    final int index,
+    final int count,
+    final int limit)
+  {
+    final int room = limit - index - 4;
+    if (room < 0) {
+      return 0;
+    }
+    return Math.min(count, (room / 3) + 1);
+  }
+
   /**
    * <p>
    * Pack {@code i} into a byte buffer {@code b} using a big-endian
@@ -79,6 +113,38 @@ public final class Signed24
     return r;
   }
 
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 3 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, r.length);
+
+    r[offset + 0] = (byte) (i >> 16);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i & 0xff);
+    return r;
+  }
+
   /**
    * <p>
    * Pack {@code i} into a byte buffer {@code r} using a big-endian
@@ -153,6 +219,38 @@ public final class Signed24
     return r;
   }
 
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 3 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, r.length);
+
+    r[offset + 0] = (byte) (i & 0xff);
+    r[offset + 1] = (byte) (i >> 8);
+    r[offset + 2] = (byte) (i >> 16);
+    return r;
+  }
+
   /**
    * <p>
    * Pack {@code i} into a byte buffer {@code r} using a
@@ -238,6 +336,35 @@ public final class Signed24
     return r0 | r1 | r2;
   }
 
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 3 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 24 bit integer value.
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+
+    final int r0 = (buffer[offset + 0] << 16);
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = (buffer[offset + 2] & 0xff);
+    return r0 | r1 | r2;
+  }
+
   /**
    * <p>
    * Unpack an integer from {@code buffer} assuming a big-endian encoding
@@ -318,6 +445,35 @@ public final class Signed24
     return r0 | r1 | r2;
   }
 
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 3 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 24 bit integer value.
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 3, buffer.length);
+
+    final int r0 = (buffer[offset + 0] & 0xff);
+    final int r1 = (buffer[offset + 1] & 0xff) << 8;
+    final int r2 = buffer[offset + 2] << 16;
+    return r0 | r1 | r2;
+  }
+
   /**
    * <p>
    * Unpack an integer from {@code buffer} assuming a little-endian
@@ -342,4 +498,534 @@ public final class Signed24
     final int r2 = buffer.get(index + 2) << 16;
     return r0 | r1 | r2;
   }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 3L, (long) dst.length);
+
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      INT_BE.set(dst, dstOff + (k * 3), src[srcOff + k] << 8);
+    }
+    for (int k = wide; k < count; ++k) {
+      final int x = src[srcOff + k];
+      final int o = dstOff + (k * 3);
+      dst[o + 0] = (byte) (x >> 16);
+      dst[o + 1] = (byte) (x >> 8);
+      dst[o + 2] = (byte) x;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 3L, (long) src.length);
+
+    final int wide = wideCount(srcOff, count, src.length);
+    for (int k = 0; k < wide; ++k) {
+      dst[dstOff + k] = (int) INT_BE.get(src, srcOff + (k * 3)) >> 8;
+    }
+    for (int k = wide; k < count; ++k) {
+      final int o = srcOff + (k * 3);
+      int r = src[o + 0] << 16;
+      r |= (src[o + 1] & 0xff) << 8;
+      r |= (src[o + 2] & 0xff);
+      dst[dstOff + k] = r;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 3L, (long) dst.length);
+
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      INT_LE.set(dst, dstOff + (k * 3), src[srcOff + k]);
+    }
+    for (int k = wide; k < count; ++k) {
+      final int x = src[srcOff + k];
+      final int o = dstOff + (k * 3);
+      dst[o + 0] = (byte) x;
+      dst[o + 1] = (byte) (x >> 8);
+      dst[o + 2] = (byte) (x >> 16);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 3L, (long) src.length);
+
+    final int wide = wideCount(srcOff, count, src.length);
+    for (int k = 0; k < wide; ++k) {
+      dst[dstOff + k] = (int) INT_LE.get(src, srcOff + (k * 3)) << 8 >> 8;
+    }
+    for (int k = wide; k < count; ++k) {
+      final int o = srcOff + (k * 3);
+      int r = (src[o + 0] & 0xff);
+      r |= (src[o + 1] & 0xff) << 8;
+      r |= src[o + 2] << 16;
+      dst[dstOff + k] = r;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a big-endian encoding such that the most significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * All values except the last are written with a single 4-byte store
+   * whose extra byte is overwritten by the following value. No byte
+   * outside the destination range is modified.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 3L, (long) dst.limit());
+
+    final boolean swap = !dst.order().equals(ByteOrder.BIG_ENDIAN);
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      int x = src[srcOff + k] << 8;
+      if (swap) {
+        x = Integer.reverseBytes(x);
+      }
+      dst.putInt(dstIndex + (k * 3), x);
+    }
+    for (int k = wide; k < count; ++k) {
+      packToBufferBigEndian(src[srcOff + k], dst, dstIndex + (k * 3));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * Each value is read with a single 4-byte load followed by a
+   * sign-extending shift, except at the end of the buffer where there is
+   * no room for the extra byte.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 3L, (long) src.limit());
+
+    final boolean swap = !src.order().equals(ByteOrder.BIG_ENDIAN);
+    final int wide = wideCount(srcIndex, count, src.limit());
+    for (int k = 0; k < wide; ++k) {
+      int x = src.getInt(srcIndex + (k * 3));
+      if (swap) {
+        x = Integer.reverseBytes(x);
+      }
+      dst[dstOff + k] = x >> 8;
+    }
+    for (int k = wide; k < count; ++k) {
+      dst[dstOff + k] = unpackFromBufferBigEndian(src, srcIndex + (k * 3));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a little-endian encoding such that the least significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * All values except the last are written with a single 4-byte store
+   * whose extra byte is overwritten by the following value. No byte
+   * outside the destination range is modified.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 3L, (long) dst.limit());
+
+    final boolean swap = !dst.order().equals(ByteOrder.LITTLE_ENDIAN);
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      int x = src[srcOff + k];
+      if (swap) {
+        x = Integer.reverseBytes(x);
+      }
+      dst.putInt(dstIndex + (k * 3), x);
+    }
+    for (int k = wide; k < count; ++k) {
+      packToBufferLittleEndian(src[srcOff + k], dst, dstIndex + (k * 3));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * Each value is read with a single 4-byte load followed by a
+   * sign-extending shift, except at the end of the buffer where there is
+   * no room for the extra byte.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 3L, (long) src.limit());
+
+    final boolean swap = !src.order().equals(ByteOrder.LITTLE_ENDIAN);
+    final int wide = wideCount(srcIndex, count, src.limit());
+    for (int k = 0; k < wide; ++k) {
+      int x = src.getInt(srcIndex + (k * 3));
+      if (swap) {
+        x = Integer.reverseBytes(x);
+      }
+      dst[dstOff + k] = x << 8 >> 8;
+    }
+    for (int k = wide; k < count; ++k) {
+      dst[dstOff + k] = unpackFromBufferLittleEndian(src, srcIndex + (k * 3));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message, and possibly after some bytes have
+   * been written.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      r[offset + 0] = (byte) (i >> 16);
+      r[offset + 1] = (byte) (i >> 8);
+      r[offset + 2] = (byte) (i & 0xff);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      r[offset + 0] = (byte) (i & 0xff);
+      r[offset + 1] = (byte) (i >> 8);
+      r[offset + 2] = (byte) (i >> 16);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 24 bit integer value
+     */
+
+    public static int unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      final int r0 = (buffer[offset + 0] << 16);
+      final int r1 = (buffer[offset + 1] & 0xff) << 8;
+      final int r2 = (buffer[offset + 2] & 0xff);
+      return r0 | r1 | r2;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 24 bit integer value
+     */
+
+    public static int unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      final int r0 = (buffer[offset + 0] & 0xff);
+      final int r1 = (buffer[offset + 1] & 0xff) << 8;
+      final int r2 = buffer[offset + 2] << 16;
+      return r0 | r1 | r2;
+    }
+  }
 }
@@ -19,6 +19,8 @@ package com.io7m.jintegers;
 import java.util.Objects;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -28,6 +30,19 @@ import java.nio.ByteOrder;
 
 public final class Signed32
 {
+  private static final VarHandle INT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_INT_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_INT_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Signed32()
   {
     throw new UnreachableCodeException();
@@ -73,14 +88,37 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + r.length + ")");
     }
 
-    int x = i;
-    r[3] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[0] = (byte) (x & 0xff);
+    INT_BE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    INT_BE.set(r, offset, i);
     return r;
   }
 
@@ -104,14 +142,11 @@ public final class Signed32
   {
     Objects.requireNonNull(r, "Buffer");
 
-    int x = i;
-    r.put(index + 3, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 2, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 1, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 0, (byte) (x & 0xff));
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      r.putInt(index, i);
+    } else {
+      r.putInt(index, Integer.reverseBytes(i));
+    }
     return r;
   }
 
@@ -157,14 +192,37 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + r.length + ")");
     }
 
-    int x = i;
-    r[0] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[3] = (byte) (x & 0xff);
+    INT_LE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    INT_LE.set(r, offset, i);
     return r;
   }
 
@@ -189,14 +247,11 @@ public final class Signed32
   {
     Objects.requireNonNull(r, "Buffer");
 
-    int x = i;
-    r.put(index + 0, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 1, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 2, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 3, (byte) (x & 0xff));
+    if (r.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      r.putInt(index, i);
+    } else {
+      r.putInt(index, Integer.reverseBytes(i));
+    }
     return r;
   }
 
@@ -220,10 +275,8 @@ public final class Signed32
   {
     Objects.requireNonNull(r, "Buffer");
 
-    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return packToBufferBigEndian(i, r, index);
-    }
-    return packToBufferLittleEndian(i, r, index);
+    r.putInt(index, i);
+    return r;
   }
 
   /**
@@ -252,15 +305,33 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + buffer.length + ")");
     }
 
-    int r = 0;
-    r |= buffer[0] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[3] & 0xFF;
-    return r;
+    return (int) INT_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 32 bit integer value.
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) INT_BE.get(buffer, offset);
   }
 
   /**
@@ -281,14 +352,11 @@ public final class Signed32
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    int r = (buffer.get(index) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 1) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 2) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 3) & 0xff);
-    return r;
+    final int x = buffer.getInt(index);
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return x;
+    }
+    return Integer.reverseBytes(x);
   }
 
   /**
@@ -309,10 +377,7 @@ public final class Signed32
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(buffer, index);
-    }
-    return unpackFromBufferLittleEndian(buffer, index);
+    return buffer.getInt(index);
   }
 
   /**
@@ -341,15 +406,33 @@ public final class Signed32
         "Buffer.length must be >= 4 (is " + buffer.length + ")");
     }
 
-    int r = 0;
-    r |= buffer[3] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[0] & 0xFF;
-    return r;
+    return (int) INT_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 32 bit integer value.
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) INT_LE.get(buffer, offset);
   }
 
   /**
@@ -371,13 +454,443 @@ public final class Signed32
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    int r = (buffer.get(index + 3) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 2) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 1) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 0) & 0xff);
-    return r;
+    final int x = buffer.getInt(index);
+    if (buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x;
+    }
+    return Integer.reverseBytes(x);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 4L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      INT_BE.set(dst, dstOff + (k * 4), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 4L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (int) INT_BE.get(src, srcOff + (k * 4));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 4L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      INT_LE.set(dst, dstOff + (k * 4), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 4L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (int) INT_LE.get(src, srcOff + (k * 4));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a big-endian encoding such that the most significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 4L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_INT_BE.set(dst, dstIndex + (k * 4), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 4L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (int) BUFFER_INT_BE.get(src, srcIndex + (k * 4));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a little-endian encoding such that the least significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 4L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_INT_LE.set(dst, dstIndex + (k * 4), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 4L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (int) BUFFER_INT_LE.get(src, srcIndex + (k * 4));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      INT_BE.set(r, offset, i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      INT_LE.set(r, offset, i);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 32 bit integer value
+     */
+
+    public static int unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (int) INT_BE.get(buffer, offset);
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 32 bit integer value
+     */
+
+    public static int unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (int) INT_LE.get(buffer, offset);
+    }
   }
 }
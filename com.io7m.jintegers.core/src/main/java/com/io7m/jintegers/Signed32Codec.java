@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * 32-bit integer packing/unpacking functions for a fixed byte order.
+ * </p>
+ * <p>
+ * The byte order is resolved once by {@link #forOrder(ByteOrder)} rather
+ * than on every call, and the returned instance is always one of two
+ * final implementations. A call site that only ever sees one byte order
+ * is therefore monomorphic and can be inlined.
+ * </p>
+ *
+ * @see Signed32
+ */
+
+public abstract class Signed32Codec
+{
+  private static final Signed32Codec BIG_ENDIAN = new BigEndian();
+  private static final Signed32Codec LITTLE_ENDIAN = new LittleEndian();
+
+  private Signed32Codec()
+  {
+
+  }
+
+  /**
+   * @param order The byte order
+   *
+   * @return A codec that uses the byte order {@code order}
+   */
+
+  public static Signed32Codec forOrder(
+    final ByteOrder order)
+  {
+    Objects.requireNonNull(order, "Order");
+
+    if (order.equals(ByteOrder.BIG_ENDIAN)) {
+      return BIG_ENDIAN;
+    }
+    return LITTLE_ENDIAN;
+  }
+
+  /**
+   * @return The byte order used by this codec
+   */
+
+  public abstract ByteOrder order();
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code index}. The
+   * buffer's own {@link ByteBuffer#order()} is ignored.
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public abstract ByteBuffer packToBuffer(
+    int i,
+    ByteBuffer r,
+    int index);
+
+  /**
+   * Unpack a 32 bit integer from {@code buffer} starting at
+   * {@code index}. The buffer's own {@link ByteBuffer#order()} is
+   * ignored.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 32 bit integer value.
+   */
+
+  public abstract int unpackFromBuffer(
+    ByteBuffer buffer,
+    int index);
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code r[0]}.
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   *
+   * @see Signed32#packToBytesBigEndian(int, byte[])
+   * @see Signed32#packToBytesLittleEndian(int, byte[])
+   */
+
+  public abstract byte[] packToBytes(
+    int i,
+    byte[] r);
+
+  /**
+   * Unpack a 32 bit integer from {@code buffer} starting at
+   * {@code buffer[0]}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit integer value.
+   *
+   * @see Signed32#unpackFromBytesBigEndian(byte[])
+   * @see Signed32#unpackFromBytesLittleEndian(byte[])
+   */
+
+  public abstract int unpackFromBytes(
+    byte[] buffer);
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code r[offset]}.
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   *
+   * @see Signed32#packToBytesBigEndian(int, byte[], int)
+   * @see Signed32#packToBytesLittleEndian(int, byte[], int)
+   */
+
+  public abstract byte[] packToBytes(
+    int i,
+    byte[] r,
+    int offset);
+
+  /**
+   * Unpack a 32 bit integer from {@code buffer} starting at
+   * {@code buffer[offset]}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 32 bit integer value.
+   *
+   * @see Signed32#unpackFromBytesBigEndian(byte[], int)
+   * @see Signed32#unpackFromBytesLittleEndian(byte[], int)
+   */
+
+  public abstract int unpackFromBytes(
+    byte[] buffer,
+    int offset);
+
+  /**
+   * Pack {@code count} values from {@code src} into {@code dst}.
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed32#packArrayBigEndian(int[], int, byte[], int, int)
+   * @see Signed32#packArrayLittleEndian(int[], int, byte[], int, int)
+   */
+
+  public abstract byte[] packArray(
+    int[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Unpack {@code count} values from {@code src} into {@code dst}.
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed32#unpackArrayBigEndian(byte[], int, int[], int, int)
+   * @see Signed32#unpackArrayLittleEndian(byte[], int, int[], int, int)
+   */
+
+  public abstract int[] unpackArray(
+    byte[] src,
+    int srcOff,
+    int[] dst,
+    int dstOff,
+    int count);
+
+  private static final class BigEndian extends Signed32Codec
+  {
+    private static final VarHandle BUFFER =
+      MethodHandles.byteBufferViewVarHandle(
+        int[].class, ByteOrder.BIG_ENDIAN);
+
+    BigEndian()
+    {
+
+    }
+
+    @Override
+    public ByteOrder order()
+    {
+      return ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public ByteBuffer packToBuffer(
+      final int i,
+      final ByteBuffer r,
+      final int index)
+    {
+      Objects.requireNonNull(r, "Buffer");
+      BUFFER.set(r, index, i);
+      return r;
+    }
+
+    @Override
+    public int unpackFromBuffer(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      Objects.requireNonNull(buffer, "Buffer");
+      return (int) BUFFER.get(buffer, index);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r)
+    {
+      return Signed32.packToBytesBigEndian(i, r);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer)
+    {
+      return Signed32.unpackFromBytesBigEndian(buffer);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      return Signed32.packToBytesBigEndian(i, r, offset);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer,
+      final int offset)
+    {
+      return Signed32.unpackFromBytesBigEndian(buffer, offset);
+    }
+
+    @Override
+    public byte[] packArray(
+      final int[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed32.packArrayBigEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed32.unpackArrayBigEndian(src, srcOff, dst, dstOff, count);
+    }
+  }
+
+  private static final class LittleEndian extends Signed32Codec
+  {
+    private static final VarHandle BUFFER =
+      MethodHandles.byteBufferViewVarHandle(
+        int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    LittleEndian()
+    {
+
+    }
+
+    @Override
+    public ByteOrder order()
+    {
+      return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public ByteBuffer packToBuffer(
+      final int i,
+      final ByteBuffer r,
+      final int index)
+    {
+      Objects.requireNonNull(r, "Buffer");
+      BUFFER.set(r, index, i);
+      return r;
+    }
+
+    @Override
+    public int unpackFromBuffer(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      Objects.requireNonNull(buffer, "Buffer");
+      return (int) BUFFER.get(buffer, index);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r)
+    {
+      return Signed32.packToBytesLittleEndian(i, r);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer)
+    {
+      return Signed32.unpackFromBytesLittleEndian(buffer);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      return Signed32.packToBytesLittleEndian(i, r, offset);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer,
+      final int offset)
+    {
+      return Signed32.unpackFromBytesLittleEndian(buffer, offset);
+    }
+
+    @Override
+    public byte[] packArray(
+      final int[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed32.packArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed32.unpackArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+  }
+}
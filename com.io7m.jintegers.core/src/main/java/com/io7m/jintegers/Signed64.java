@@ -19,6 +19,8 @@ package com.io7m.jintegers;
 import java.util.Objects;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -28,6 +30,19 @@ import java.nio.ByteOrder;
 
 public final class Signed64
 {
+  private static final VarHandle LONG_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_LONG_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LONG_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Signed64()
   {
     throw new UnreachableCodeException();
@@ -73,22 +88,37 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + r.length + ")");
     }
 
-    long x = i;
-    r[7] = (byte) (x & 0xff);
-    x >>= 8;
-    r[6] = (byte) (x & 0xff);
-    x >>= 8;
-    r[5] = (byte) (x & 0xff);
-    x >>= 8;
-    r[4] = (byte) (x & 0xff);
-    x >>= 8;
-    r[3] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[0] = (byte) (x & 0xff);
+    LONG_BE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    LONG_BE.set(r, offset, i);
     return r;
   }
 
@@ -112,22 +142,11 @@ public final class Signed64
   {
     Objects.requireNonNull(r, "Buffer");
 
-    long x = i;
-    r.put(index + 7, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 6, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 5, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 4, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 3, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 2, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 1, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 0, (byte) (x & 0xff));
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      r.putLong(index, i);
+    } else {
+      r.putLong(index, Long.reverseBytes(i));
+    }
     return r;
   }
 
@@ -173,22 +192,37 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + r.length + ")");
     }
 
-    long x = i;
-    r[0] = (byte) (x & 0xff);
-    x >>= 8;
-    r[1] = (byte) (x & 0xff);
-    x >>= 8;
-    r[2] = (byte) (x & 0xff);
-    x >>= 8;
-    r[3] = (byte) (x & 0xff);
-    x >>= 8;
-    r[4] = (byte) (x & 0xff);
-    x >>= 8;
-    r[5] = (byte) (x & 0xff);
-    x >>= 8;
-    r[6] = (byte) (x & 0xff);
-    x >>= 8;
-    r[7] = (byte) (x & 0xff);
+    LONG_LE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    LONG_LE.set(r, offset, i);
     return r;
   }
 
@@ -213,22 +247,11 @@ public final class Signed64
   {
     Objects.requireNonNull(r, "Buffer");
 
-    long x = i;
-    r.put(index + 0, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 1, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 2, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 3, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 4, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 5, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 6, (byte) (x & 0xff));
-    x >>= 8;
-    r.put(index + 7, (byte) (x & 0xff));
+    if (r.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      r.putLong(index, i);
+    } else {
+      r.putLong(index, Long.reverseBytes(i));
+    }
     return r;
   }
 
@@ -252,10 +275,8 @@ public final class Signed64
   {
     Objects.requireNonNull(r, "Buffer");
 
-    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return packToBufferBigEndian(i, r, index);
-    }
-    return packToBufferLittleEndian(i, r, index);
+    r.putLong(index, i);
+    return r;
   }
 
   /**
@@ -284,23 +305,33 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + buffer.length + ")");
     }
 
-    long r = 0;
-    r |= buffer[0] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[3] & 0xFF;
-    r <<= 8;
-    r |= buffer[4] & 0xFF;
-    r <<= 8;
-    r |= buffer[5] & 0xFF;
-    r <<= 8;
-    r |= buffer[6] & 0xFF;
-    r <<= 8;
-    r |= buffer[7] & 0xFF;
-    return r;
+    return (long) LONG_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 64 bit integer value.
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) LONG_BE.get(buffer, offset);
   }
 
   /**
@@ -321,22 +352,11 @@ public final class Signed64
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    long r = (buffer.get(index) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 1) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 2) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 3) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 4) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 5) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 6) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 7) & 0xff);
-    return r;
+    final long x = buffer.getLong(index);
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return x;
+    }
+    return Long.reverseBytes(x);
   }
 
   /**
@@ -357,10 +377,7 @@ public final class Signed64
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(buffer, index);
-    }
-    return unpackFromBufferLittleEndian(buffer, index);
+    return buffer.getLong(index);
   }
 
   /**
@@ -389,23 +406,33 @@ public final class Signed64
         "Buffer.length must be >= 8 (is " + buffer.length + ")");
     }
 
-    long r = 0;
-    r |= buffer[7] & 0xFF;
-    r <<= 8;
-    r |= buffer[6] & 0xFF;
-    r <<= 8;
-    r |= buffer[5] & 0xFF;
-    r <<= 8;
-    r |= buffer[4] & 0xFF;
-    r <<= 8;
-    r |= buffer[3] & 0xFF;
-    r <<= 8;
-    r |= buffer[2] & 0xFF;
-    r <<= 8;
-    r |= buffer[1] & 0xFF;
-    r <<= 8;
-    r |= buffer[0] & 0xFF;
-    return r;
+    return (long) LONG_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 64 bit integer value.
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) LONG_LE.get(buffer, offset);
   }
 
   /**
@@ -427,21 +454,443 @@ public final class Signed64
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    long r = (buffer.get(index + 7) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 6) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 5) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 4) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 3) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 2) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 1) & 0xff);
-    r <<= 8;
-    r += (buffer.get(index + 0) & 0xff);
-    return r;
+    final long x = buffer.getLong(index);
+    if (buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x;
+    }
+    return Long.reverseBytes(x);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 8L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      LONG_BE.set(dst, dstOff + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 8L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (long) LONG_BE.get(src, srcOff + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 8L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      LONG_LE.set(dst, dstOff + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 8L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (long) LONG_LE.get(src, srcOff + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a big-endian encoding such that the most significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 8L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_LONG_BE.set(dst, dstIndex + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 8L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (long) BUFFER_LONG_BE.get(src, srcIndex + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a little-endian encoding such that the least significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 8L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_LONG_LE.set(dst, dstIndex + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 8L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (long) BUFFER_LONG_LE.get(src, srcIndex + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      LONG_BE.set(r, offset, i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      LONG_LE.set(r, offset, i);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 64 bit integer value
+     */
+
+    public static long unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (long) LONG_BE.get(buffer, offset);
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 64 bit integer value
+     */
+
+    public static long unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (long) LONG_LE.get(buffer, offset);
+    }
   }
 }
@@ -0,0 +1,396 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * 64-bit integer packing/unpacking functions for a fixed byte order.
+ * </p>
+ * <p>
+ * The byte order is resolved once by {@link #forOrder(ByteOrder)} rather
+ * than on every call, and the returned instance is always one of two
+ * final implementations. A call site that only ever sees one byte order
+ * is therefore monomorphic and can be inlined.
+ * </p>
+ *
+ * @see Signed64
+ */
+
+public abstract class Signed64Codec
+{
+  private static final Signed64Codec BIG_ENDIAN = new BigEndian();
+  private static final Signed64Codec LITTLE_ENDIAN = new LittleEndian();
+
+  private Signed64Codec()
+  {
+
+  }
+
+  /**
+   * @param order The byte order
+   *
+   * @return A codec that uses the byte order {@code order}
+   */
+
+  public static Signed64Codec forOrder(
+    final ByteOrder order)
+  {
+    Objects.requireNonNull(order, "Order");
+
+    if (order.equals(ByteOrder.BIG_ENDIAN)) {
+      return BIG_ENDIAN;
+    }
+    return LITTLE_ENDIAN;
+  }
+
+  /**
+   * @return The byte order used by this codec
+   */
+
+  public abstract ByteOrder order();
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code index}. The
+   * buffer's own {@link ByteBuffer#order()} is ignored.
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public abstract ByteBuffer packToBuffer(
+    long i,
+    ByteBuffer r,
+    int index);
+
+  /**
+   * Unpack a 64 bit integer from {@code buffer} starting at
+   * {@code index}. The buffer's own {@link ByteBuffer#order()} is
+   * ignored.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 64 bit integer value.
+   */
+
+  public abstract long unpackFromBuffer(
+    ByteBuffer buffer,
+    int index);
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code r[0]}.
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   *
+   * @see Signed64#packToBytesBigEndian(long, byte[])
+   * @see Signed64#packToBytesLittleEndian(long, byte[])
+   */
+
+  public abstract byte[] packToBytes(
+    long i,
+    byte[] r);
+
+  /**
+   * Unpack a 64 bit integer from {@code buffer} starting at
+   * {@code buffer[0]}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 64 bit integer value.
+   *
+   * @see Signed64#unpackFromBytesBigEndian(byte[])
+   * @see Signed64#unpackFromBytesLittleEndian(byte[])
+   */
+
+  public abstract long unpackFromBytes(
+    byte[] buffer);
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code r[offset]}.
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   *
+   * @see Signed64#packToBytesBigEndian(long, byte[], int)
+   * @see Signed64#packToBytesLittleEndian(long, byte[], int)
+   */
+
+  public abstract byte[] packToBytes(
+    long i,
+    byte[] r,
+    int offset);
+
+  /**
+   * Unpack a 64 bit integer from {@code buffer} starting at
+   * {@code buffer[offset]}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 64 bit integer value.
+   *
+   * @see Signed64#unpackFromBytesBigEndian(byte[], int)
+   * @see Signed64#unpackFromBytesLittleEndian(byte[], int)
+   */
+
+  public abstract long unpackFromBytes(
+    byte[] buffer,
+    int offset);
+
+  /**
+   * Pack {@code count} values from {@code src} into {@code dst}.
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed64#packArrayBigEndian(long[], int, byte[], int, int)
+   * @see Signed64#packArrayLittleEndian(long[], int, byte[], int, int)
+   */
+
+  public abstract byte[] packArray(
+    long[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Unpack {@code count} values from {@code src} into {@code dst}.
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed64#unpackArrayBigEndian(byte[], int, long[], int, int)
+   * @see Signed64#unpackArrayLittleEndian(byte[], int, long[], int, int)
+   */
+
+  public abstract long[] unpackArray(
+    byte[] src,
+    int srcOff,
+    long[] dst,
+    int dstOff,
+    int count);
+
+  private static final class BigEndian extends Signed64Codec
+  {
+    private static final VarHandle BUFFER =
+      MethodHandles.byteBufferViewVarHandle(
+        long[].class, ByteOrder.BIG_ENDIAN);
+
+    BigEndian()
+    {
+
+    }
+
+    @Override
+    public ByteOrder order()
+    {
+      return ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public ByteBuffer packToBuffer(
+      final long i,
+      final ByteBuffer r,
+      final int index)
+    {
+      Objects.requireNonNull(r, "Buffer");
+      BUFFER.set(r, index, i);
+      return r;
+    }
+
+    @Override
+    public long unpackFromBuffer(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      Objects.requireNonNull(buffer, "Buffer");
+      return (long) BUFFER.get(buffer, index);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final long i,
+      final byte[] r)
+    {
+      return Signed64.packToBytesBigEndian(i, r);
+    }
+
+    @Override
+    public long unpackFromBytes(
+      final byte[] buffer)
+    {
+      return Signed64.unpackFromBytesBigEndian(buffer);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      return Signed64.packToBytesBigEndian(i, r, offset);
+    }
+
+    @Override
+    public long unpackFromBytes(
+      final byte[] buffer,
+      final int offset)
+    {
+      return Signed64.unpackFromBytesBigEndian(buffer, offset);
+    }
+
+    @Override
+    public byte[] packArray(
+      final long[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed64.packArrayBigEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final byte[] src,
+      final int srcOff,
+      final long[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed64.unpackArrayBigEndian(src, srcOff, dst, dstOff, count);
+    }
+  }
+
+  private static final class LittleEndian extends Signed64Codec
+  {
+    private static final VarHandle BUFFER =
+      MethodHandles.byteBufferViewVarHandle(
+        long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    LittleEndian()
+    {
+
+    }
+
+    @Override
+    public ByteOrder order()
+    {
+      return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public ByteBuffer packToBuffer(
+      final long i,
+      final ByteBuffer r,
+      final int index)
+    {
+      Objects.requireNonNull(r, "Buffer");
+      BUFFER.set(r, index, i);
+      return r;
+    }
+
+    @Override
+    public long unpackFromBuffer(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      Objects.requireNonNull(buffer, "Buffer");
+      return (long) BUFFER.get(buffer, index);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final long i,
+      final byte[] r)
+    {
+      return Signed64.packToBytesLittleEndian(i, r);
+    }
+
+    @Override
+    public long unpackFromBytes(
+      final byte[] buffer)
+    {
+      return Signed64.unpackFromBytesLittleEndian(buffer);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      return Signed64.packToBytesLittleEndian(i, r, offset);
+    }
+
+    @Override
+    public long unpackFromBytes(
+      final byte[] buffer,
+      final int offset)
+    {
+      return Signed64.unpackFromBytesLittleEndian(buffer, offset);
+    }
+
+    @Override
+    public byte[] packArray(
+      final long[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed64.packArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public long[] unpackArray(
+      final byte[] src,
+      final int srcOff,
+      final long[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Signed64.unpackArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+  }
+}
@@ -0,0 +1,998 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Simple-8b encoding of unsigned integers smaller than
+ * 2<sup>60</sup>.
+ * </p>
+ * <p>
+ * Each 64-bit word holds a 4-bit selector in its top four bits and a
+ * number of equal-width values in its low 60 bits, the first value in
+ * the least significant bits. The selectors are:
+ * </p>
+ * <table>
+ * <caption>Selectors</caption>
+ * <tr><th>Selector</th><th>Values</th><th>Bits</th></tr>
+ * <tr><td>0</td><td>240</td><td>0</td></tr>
+ * <tr><td>1</td><td>120</td><td>0</td></tr>
+ * <tr><td>2</td><td>60</td><td>1</td></tr>
+ * <tr><td>3</td><td>30</td><td>2</td></tr>
+ * <tr><td>4</td><td>20</td><td>3</td></tr>
+ * <tr><td>5</td><td>15</td><td>4</td></tr>
+ * <tr><td>6</td><td>12</td><td>5</td></tr>
+ * <tr><td>7</td><td>10</td><td>6</td></tr>
+ * <tr><td>8</td><td>8</td><td>7</td></tr>
+ * <tr><td>9</td><td>7</td><td>8</td></tr>
+ * <tr><td>10</td><td>6</td><td>10</td></tr>
+ * <tr><td>11</td><td>5</td><td>12</td></tr>
+ * <tr><td>12</td><td>4</td><td>15</td></tr>
+ * <tr><td>13</td><td>3</td><td>20</td></tr>
+ * <tr><td>14</td><td>2</td><td>30</td></tr>
+ * <tr><td>15</td><td>1</td><td>60</td></tr>
+ * </table>
+ * <p>
+ * Selectors 0 and 1 encode runs of zeros. The encoder greedily picks the
+ * selector that packs the most values into each word; the final word may
+ * be only partly used, so decoders must be told the number of values.
+ * {@code int} values are widened as unsigned.
+ * </p>
+ * <p>
+ * Words are stored in {@code long[]} arrays directly, and in
+ * {@code byte[]} arrays and {@link ByteBuffer}s as big-endian
+ * {@link Signed64} values regardless of the platform or buffer byte
+ * order, so that encoded data is portable.
+ * </p>
+ * <p>
+ * The decoder fills runs of zeros directly and dispatches on the
+ * selector of each other full word to a loop with a constant count and
+ * width, which the compiler can unroll.
+ * </p>
+ */
+
+public final class Simple8b
+{
+  /**
+   * The largest value that can be encoded.
+   */
+
+  public static final long VALUE_MAX = (1L << 60) - 1L;
+
+  /**
+   * The layout of each selector: the number of values in bits 8 and up,
+   * and the width of each value in bits 0-7.
+   */
+
+  private static final int[] LAYOUTS = {
+    240 << 8,
+    120 << 8,
+    (60 << 8) | 1,
+    (30 << 8) | 2,
+    (20 << 8) | 3,
+    (15 << 8) | 4,
+    (12 << 8) | 5,
+    (10 << 8) | 6,
+    (8 << 8) | 7,
+    (7 << 8) | 8,
+    (6 << 8) | 10,
+    (5 << 8) | 12,
+    (4 << 8) | 15,
+    (3 << 8) | 20,
+    (2 << 8) | 30,
+    (1 << 8) | 60,
+  };
+
+  private Simple8b()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of words required to encode the values
+   *
+   * @throws IllegalArgumentException If a value is negative or greater
+   *                                  than {@link #VALUE_MAX}
+   */
+
+  public static int encodedWords(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    int words = 0;
+    int k = 0;
+    while (k < count) {
+      k += consumed(word(src, srcOff + k, count - k), count - k);
+      ++words;
+    }
+    return words;
+  }
+
+  /**
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of words required to encode the values
+   */
+
+  public static int encodedWords(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    int words = 0;
+    int k = 0;
+    while (k < count) {
+      k += consumed(word(src, srcOff + k, count - k), count - k);
+      ++words;
+    }
+    return words;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into words of {@code dst} starting at
+   * {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination words
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last word written
+   *
+   * @throws IllegalArgumentException If a value is negative or greater
+   *                                  than {@link #VALUE_MAX}; nothing
+   *                                  is written in that case
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkRoom(src, srcOff, count, dstOff, dst.length, 1);
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final long w = word(src, srcOff + k, count - k);
+      dst[p] = w;
+      ++p;
+      k += consumed(w, count - k);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into words of {@code dst} starting at
+   * {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination words
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last word written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkRoom(src, srcOff, count, dstOff, dst.length, 1);
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final long w = word(src, srcOff + k, count - k);
+      dst[p] = w;
+      ++p;
+      k += consumed(w, count - k);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @throws IllegalArgumentException If a value is negative or greater
+   *                                  than {@link #VALUE_MAX}; nothing
+   *                                  is written in that case
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkRoom(src, srcOff, count, dstOff, dst.length, 8);
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final long w = word(src, srcOff + k, count - k);
+      Signed64.packToBytesBigEndian(w, dst, p);
+      p += 8;
+      k += consumed(w, count - k);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkRoom(src, srcOff, count, dstOff, dst.length, 8);
+
+    int p = dstOff;
+    int k = 0;
+    while (k < count) {
+      final long w = word(src, srcOff + k, count - k);
+      Signed64.packToBytesBigEndian(w, dst, p);
+      p += 8;
+      k += consumed(w, count - k);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @throws IllegalArgumentException If a value is negative or greater
+   *                                  than {@link #VALUE_MAX}; nothing
+   *                                  is written in that case
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkRoom(src, srcOff, count, dstIndex, dst.limit(), 8);
+
+    int p = dstIndex;
+    int k = 0;
+    while (k < count) {
+      final long w = word(src, srcOff + k, count - k);
+      Signed64.packToBufferBigEndian(w, dst, p);
+      p += 8;
+      k += consumed(w, count - k);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values, treated as unsigned
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    checkRoom(src, srcOff, count, dstIndex, dst.limit(), 8);
+
+    int p = dstIndex;
+    int k = 0;
+    while (k < count) {
+      final long w = word(src, srcOff + k, count - k);
+      Signed64.packToBufferBigEndian(w, dst, p);
+      p += 8;
+      k += consumed(w, count - k);
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from the words of {@code src}, starting
+   * at {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the words decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source words
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last word read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      final long w = src[Objects.checkIndex(p, src.length)];
+      k += unpack(w, dst, dstOff + k, count - k);
+      ++p;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from the words of {@code src}, starting
+   * at {@code srcOff}, into {@code dst} starting at {@code dstOff}. Each
+   * value is truncated to its low 32 bits, which is exact for data
+   * encoded from {@code int} values.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the words decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source words
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last word read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final long[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      final long w = src[Objects.checkIndex(p, src.length)];
+      k += unpack(w, dst, dstOff + k, count - k);
+      ++p;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the words decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      final long w = Signed64.unpackFromBytesBigEndian(src, p);
+      k += unpack(w, dst, dstOff + k, count - k);
+      p += 8;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}. Each
+   * value is truncated to its low 32 bits, which is exact for data
+   * encoded from {@code int} values.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the words decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcOff;
+    int k = 0;
+    while (k < count) {
+      final long w = Signed64.unpackFromBytesBigEndian(src, p);
+      k += unpack(w, dst, dstOff + k, count - k);
+      p += 8;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the words decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcIndex;
+    int k = 0;
+    while (k < count) {
+      final long w = Signed64.unpackFromBufferBigEndian(src, p);
+      k += unpack(w, dst, dstOff + k, count - k);
+      p += 8;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated,
+   * an exception is raised and the words decoded so far have already
+   * been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   *
+   * @see #decodeIntArray(byte[], int, int[], int, int)
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    int p = srcIndex;
+    int k = 0;
+    while (k < count) {
+      final long w = Signed64.unpackFromBufferBigEndian(src, p);
+      k += unpack(w, dst, dstOff + k, count - k);
+      p += 8;
+    }
+    return p;
+  }
+
+  /**
+   * @return The number of values that the word {@code w} holds, given
+   * that {@code remaining} values remain
+   */
+
+  private static int consumed(
+    final long w,
+    final int remaining)
+  {
+    return Math.min(LAYOUTS[(int) (w >>> 60)] >>> 8, remaining);
+  }
+
+  /**
+   * Pack as many of the {@code remaining} values at {@code offset} as
+   * possible into one word, using the first selector for which every
+   * value it would hold fits. The widths increase and the counts
+   * decrease with the selector, so values accepted for one selector fit
+   * every later one.
+   */
+
+  /**
+   * Check that the words for {@code count} values fit between
+   * {@code index} and {@code limit}, where a word occupies
+   * {@code wordSize} elements of the destination. The exact number of
+   * words is only computed when one word per value does not fit; the
+   * values are range checked either way, so that nothing is written if
+   * one of them cannot be encoded.
+   */
+
+  private static void checkRoom(
+    final long[] src,
+    final int srcOff,
+    final int count,
+    final int index,
+    final int limit,
+    final int wordSize)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (index < 0 || (long) limit - index < (long) count * wordSize) {
+      Objects.checkFromIndexSize(
+        (long) index,
+        (long) encodedWords(src, srcOff, count) * wordSize,
+        (long) limit);
+      return;
+    }
+
+    long bits = 0L;
+    for (int k = 0; k < count; ++k) {
+      bits |= src[srcOff + k];
+    }
+    if ((bits & ~VALUE_MAX) != 0L) {
+      for (int k = 0; k < count; ++k) {
+        if ((src[srcOff + k] & ~VALUE_MAX) != 0L) {
+          throw outOfRange(src, srcOff + k);
+        }
+      }
+    }
+  }
+
+  /**
+   * Check that the words for {@code count} values fit between
+   * {@code index} and {@code limit}, where a word occupies
+   * {@code wordSize} elements of the destination. The exact number of
+   * words is only computed when one word per value does not fit.
+   */
+
+  private static void checkRoom(
+    final int[] src,
+    final int srcOff,
+    final int count,
+    final int index,
+    final int limit,
+    final int wordSize)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (index < 0 || (long) limit - index < (long) count * wordSize) {
+      Objects.checkFromIndexSize(
+        (long) index,
+        (long) encodedWords(src, srcOff, count) * wordSize,
+        (long) limit);
+    }
+  }
+
+  private static IllegalArgumentException outOfRange(
+    final long[] src,
+    final int index)
+  {
+    return new IllegalArgumentException(
+      "Value at index " + index + " is out of range: " + src[index]);
+  }
+
+  private static long word(
+    final long[] src,
+    final int offset,
+    final int remaining)
+  {
+    int s = 0;
+    int j = 0;
+    while (true) {
+      final int n = Math.min(LAYOUTS[s] >>> 8, remaining);
+      final int b = LAYOUTS[s] & 0xff;
+      while (j < n && bitLength(src[offset + j]) <= b) {
+        ++j;
+      }
+      if (j >= n) {
+        long w = (long) s << 60;
+        if (b > 0) {
+          for (int k = 0; k < n; ++k) {
+            w |= src[offset + k] << (k * b);
+          }
+        }
+        return w;
+      }
+      if (s == 15) {
+        throw outOfRange(src, offset + j);
+      }
+      ++s;
+    }
+  }
+
+  private static long word(
+    final int[] src,
+    final int offset,
+    final int remaining)
+  {
+    int s = 0;
+    int j = 0;
+    while (true) {
+      final int n = Math.min(LAYOUTS[s] >>> 8, remaining);
+      final int b = LAYOUTS[s] & 0xff;
+      while (j < n && bitLength(src[offset + j] & 0xffffffffL) <= b) {
+        ++j;
+      }
+      if (j >= n) {
+        long w = (long) s << 60;
+        if (b > 0) {
+          for (int k = 0; k < n; ++k) {
+            w |= (src[offset + k] & 0xffffffffL) << (k * b);
+          }
+        }
+        return w;
+      }
+      ++s;
+    }
+  }
+
+  private static int bitLength(
+    final long x)
+  {
+    return 64 - Long.numberOfLeadingZeros(x);
+  }
+
+  /**
+   * Unpack the values of the word {@code w}, of which at most
+   * {@code remaining} are wanted, into {@code dst} at {@code offset}.
+   *
+   * @return The number of values unpacked
+   */
+
+  private static int unpack(
+    final long w,
+    final long[] dst,
+    final int offset,
+    final int remaining)
+  {
+    final int s = (int) (w >>> 60);
+    final int n = LAYOUTS[s] >>> 8;
+    if (remaining < n) {
+      unpackRun(w, dst, offset, remaining, LAYOUTS[s] & 0xff);
+      return remaining;
+    }
+    if (s < 2) {
+      Arrays.fill(dst, offset, offset + n, 0L);
+      return n;
+    }
+    switch (s) {
+      case 2:
+        unpackRun(w, dst, offset, 60, 1);
+        break;
+      case 3:
+        unpackRun(w, dst, offset, 30, 2);
+        break;
+      case 4:
+        unpackRun(w, dst, offset, 20, 3);
+        break;
+      case 5:
+        unpackRun(w, dst, offset, 15, 4);
+        break;
+      case 6:
+        unpackRun(w, dst, offset, 12, 5);
+        break;
+      case 7:
+        unpackRun(w, dst, offset, 10, 6);
+        break;
+      case 8:
+        unpackRun(w, dst, offset, 8, 7);
+        break;
+      case 9:
+        unpackRun(w, dst, offset, 7, 8);
+        break;
+      case 10:
+        unpackRun(w, dst, offset, 6, 10);
+        break;
+      case 11:
+        unpackRun(w, dst, offset, 5, 12);
+        break;
+      case 12:
+        unpackRun(w, dst, offset, 4, 15);
+        break;
+      case 13:
+        unpackRun(w, dst, offset, 3, 20);
+        break;
+      default:
+        unpackRun(w, dst, offset, n, LAYOUTS[s] & 0xff);
+        break;
+    }
+    return n;
+  }
+
+  private static int unpack(
+    final long w,
+    final int[] dst,
+    final int offset,
+    final int remaining)
+  {
+    final int s = (int) (w >>> 60);
+    final int n = LAYOUTS[s] >>> 8;
+    if (remaining < n) {
+      unpackRun(w, dst, offset, remaining, LAYOUTS[s] & 0xff);
+      return remaining;
+    }
+    if (s < 2) {
+      Arrays.fill(dst, offset, offset + n, 0);
+      return n;
+    }
+    switch (s) {
+      case 2:
+        unpackRun(w, dst, offset, 60, 1);
+        break;
+      case 3:
+        unpackRun(w, dst, offset, 30, 2);
+        break;
+      case 4:
+        unpackRun(w, dst, offset, 20, 3);
+        break;
+      case 5:
+        unpackRun(w, dst, offset, 15, 4);
+        break;
+      case 6:
+        unpackRun(w, dst, offset, 12, 5);
+        break;
+      case 7:
+        unpackRun(w, dst, offset, 10, 6);
+        break;
+      case 8:
+        unpackRun(w, dst, offset, 8, 7);
+        break;
+      case 9:
+        unpackRun(w, dst, offset, 7, 8);
+        break;
+      case 10:
+        unpackRun(w, dst, offset, 6, 10);
+        break;
+      case 11:
+        unpackRun(w, dst, offset, 5, 12);
+        break;
+      case 12:
+        unpackRun(w, dst, offset, 4, 15);
+        break;
+      case 13:
+        unpackRun(w, dst, offset, 3, 20);
+        break;
+      default:
+        unpackRun(w, dst, offset, n, LAYOUTS[s] & 0xff);
+        break;
+    }
+    return n;
+  }
+
+  private static void unpackRun(
+    final long w,
+    final long[] dst,
+    final int offset,
+    final int n,
+    final int b)
+  {
+    final long mask = (1L << b) - 1L;
+    for (int k = 0; k < n; ++k) {
+      dst[offset + k] = (w >>> (k * b)) & mask;
+    }
+  }
+
+  private static void unpackRun(
+    final long w,
+    final int[] dst,
+    final int offset,
+    final int n,
+    final int b)
+  {
+    final long mask = (1L << b) - 1L;
+    for (int k = 0; k < n; ++k) {
+      dst[offset + k] = (int) ((w >>> (k * b)) & mask);
+    }
+  }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Stream VByte encoding of unsigned 32-bit integers.
+ * </p>
+ * <p>
+ * The encoding uses the same control bytes and value layout as
+ * {@link GroupVarInts}, but stores all of the control bytes first,
+ * followed by all of the data bytes. For {@code count} values there are
+ * {@code (count + 3) / 4} control bytes. Because the next control byte
+ * never depends on the data before it, the decoder can look up the
+ * layout of a group while the values of the previous group are still
+ * being loaded.
+ * </p>
+ *
+ * @see GroupVarInts
+ */
+
+public final class StreamVByte
+{
+  private StreamVByte()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return The largest number of bytes that {@code count} values can
+   * require
+   */
+
+  public static long encodedLengthMax(
+    final int count)
+  {
+    return GroupVarInts.encodedLengthMax(count);
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLength(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    return GroupVarInts.encodedLength(src, srcOff, count);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    VByteCoding.checkRoom(src, srcOff, dstOff, dst.length, count);
+
+    final int wideEnd = count - 3;
+    int c = dstOff;
+    int p = dstOff + VByteCoding.controlLength(count);
+    for (int k = 0; k < count; k += 4) {
+      final int n = Math.min(4, count - k);
+      int control = 0;
+      for (int j = 0; j < n; ++j) {
+        final int x = src[srcOff + k + j];
+        final int length = VByteCoding.byteLength(x);
+        control |= (length - 1) << (j * 2);
+        if (k + j < wideEnd) {
+          VByteCoding.putWide(dst, p, x);
+        } else {
+          VByteCoding.putNarrow(dst, p, x, length);
+        }
+        p += length;
+      }
+      dst[c] = (byte) control;
+      ++c;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range and the control bytes are checked once. If
+   * the data is truncated, an exception is raised and the values decoded
+   * so far have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    final int controls = VByteCoding.controlLength(count);
+    Objects.checkFromIndexSize(srcOff, controls, src.length);
+    return decode(src, srcOff, srcOff + controls, dst, dstOff, count);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values whose control bytes start at
+   * {@code controlIndex} and whose data starts at {@code dataIndex}, into
+   * {@code dst} starting at {@code dstOff}. This allows decoding to resume
+   * part way through a stream: after {@code n} values, where {@code n} is
+   * a multiple of 4, the remaining control bytes start {@code n / 4}
+   * bytes after the first.
+   * </p>
+   * <p>
+   * The destination range and the control bytes are checked once. If
+   * the data is truncated, an exception is raised and the values decoded
+   * so far have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src          The source array
+   * @param controlIndex The index of the first control byte in {@code src}
+   * @param dataIndex    The index of the first data byte in {@code src}
+   * @param dst          The destination array
+   * @param dstOff       The starting index in {@code dst}
+   * @param count        The number of values
+   *
+   * @return The index in {@code src} following the last data byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int controlIndex,
+    final int dataIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    final int limit = src.length;
+    Objects.checkFromIndexSize(
+      controlIndex, VByteCoding.controlLength(count), limit);
+    Objects.checkFromIndexSize(dataIndex, 0, limit);
+    return decode(src, controlIndex, dataIndex, dst, dstOff, count);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values, treated as unsigned
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    VByteCoding.checkRoom(src, srcOff, dstIndex, dst.limit(), count);
+
+    final int wideEnd = count - 3;
+    int c = dstIndex;
+    int p = dstIndex + VByteCoding.controlLength(count);
+    for (int k = 0; k < count; k += 4) {
+      final int n = Math.min(4, count - k);
+      int control = 0;
+      for (int j = 0; j < n; ++j) {
+        final int x = src[srcOff + k + j];
+        final int length = VByteCoding.byteLength(x);
+        control |= (length - 1) << (j * 2);
+        if (k + j < wideEnd) {
+          VByteCoding.putWide(dst, p, x);
+        } else {
+          VByteCoding.putNarrow(dst, p, x, length);
+        }
+        p += length;
+      }
+      dst.put(c, (byte) control);
+      ++c;
+    }
+    return p;
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position and byte order are ignored.
+   * </p>
+   * <p>
+   * The destination range and the control bytes are checked once. If
+   * the data is truncated, an exception is raised and the values decoded
+   * so far have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    final int controls = VByteCoding.controlLength(count);
+    Objects.checkFromIndexSize(srcIndex, controls, src.limit());
+    return decode(src, srcIndex, srcIndex + controls, dst, dstOff, count);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values whose control bytes start at
+   * {@code controlIndex} and whose data starts at {@code dataIndex}, into
+   * {@code dst} starting at {@code dstOff}. This allows decoding to resume
+   * part way through a stream: after {@code n} values, where {@code n} is
+   * a multiple of 4, the remaining control bytes start {@code n / 4}
+   * bytes after the first. The buffer's position and byte order are
+   * ignored.
+   * </p>
+   * <p>
+   * The destination range and the control bytes are checked once. If
+   * the data is truncated, an exception is raised and the values decoded
+   * so far have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src          The source buffer
+   * @param controlIndex The index of the first control byte in {@code src}
+   * @param dataIndex    The index of the first data byte in {@code src}
+   * @param dst          The destination array
+   * @param dstOff       The starting index in {@code dst}
+   * @param count        The number of values
+   *
+   * @return The index in {@code src} following the last data byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int controlIndex,
+    final int dataIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    final int limit = src.limit();
+    Objects.checkFromIndexSize(
+      controlIndex, VByteCoding.controlLength(count), limit);
+    Objects.checkFromIndexSize(dataIndex, 0, limit);
+    return decode(src, controlIndex, dataIndex, dst, dstOff, count);
+  }
+
+  private static int decode(
+    final byte[] src,
+    final int controlIndex,
+    final int dataIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int limit = src.length;
+    int c = controlIndex;
+    int p = dataIndex;
+    int k = 0;
+    while (count - k >= 4 && limit - p >= 16) {
+      final int control = src[c] & 0xff;
+      p += VByteCoding.getGroup(src, p, control, dst, dstOff + k);
+      ++c;
+      k += 4;
+    }
+
+    while (k < count) {
+      final int control = src[c] & 0xff;
+      ++c;
+      final int n = Math.min(4, count - k);
+      p = VByteCoding.getPartialGroup(src, p, control, dst, dstOff + k, n);
+      k += n;
+    }
+    return p;
+  }
+
+  private static int decode(
+    final ByteBuffer src,
+    final int controlIndex,
+    final int dataIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int limit = src.limit();
+    int c = controlIndex;
+    int p = dataIndex;
+    int k = 0;
+    while (count - k >= 4 && limit - p >= 16) {
+      final int control = src.get(c) & 0xff;
+      p += VByteCoding.getGroup(src, p, control, dst, dstOff + k);
+      ++c;
+      k += 4;
+    }
+
+    while (k < count) {
+      final int control = src.get(c) & 0xff;
+      ++c;
+      final int n = Math.min(4, count - k);
+      p = VByteCoding.getPartialGroup(src, p, control, dst, dstOff + k, n);
+      k += n;
+    }
+    return p;
+  }
+}
@@ -19,6 +19,8 @@ package com.io7m.jintegers;
 import java.util.Objects;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -28,6 +30,13 @@ import java.nio.ByteOrder;
 
 public final class Unsigned16
 {
+  private static final VarHandle SHORT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Unsigned16()
   {
     throw new UnreachableCodeException();
@@ -54,8 +63,11 @@ public final class Unsigned16
     Objects.requireNonNull(r, "Buffer");
 
     final short x = (short) i;
-    r.put(index + 0, (byte) (x >> 8));
-    r.put(index + 1, (byte) (x & 0xff));
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      r.putShort(index, x);
+    } else {
+      r.putShort(index, Short.reverseBytes(x));
+    }
     return r;
   }
 
@@ -81,8 +93,11 @@ public final class Unsigned16
     Objects.requireNonNull(r, "Buffer");
 
     final short x = (short) i;
-    r.put(index + 0, (byte) (x & 0xff));
-    r.put(index + 1, (byte) (x >> 8));
+    if (r.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      r.putShort(index, x);
+    } else {
+      r.putShort(index, Short.reverseBytes(x));
+    }
     return r;
   }
 
@@ -101,11 +116,7 @@ public final class Unsigned16
   {
     Objects.requireNonNull(data, "Buffer");
 
-    if (data.order().equals(ByteOrder.BIG_ENDIAN)) {
-      packToBufferBigEndian(x, data, index);
-    } else {
-      packToBufferLittleEndian(x, data, index);
-    }
+    data.putShort(index, (short) x);
   }
 
   /**
@@ -126,9 +137,11 @@ public final class Unsigned16
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    final int b0 = (buffer.get(index + 0) & 0xff) << 8;
-    final int b1 = buffer.get(index + 1) & 0xff;
-    return b0 | b1;
+    final short x = buffer.getShort(index);
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return x & 0xffff;
+    }
+    return Short.reverseBytes(x) & 0xffff;
   }
 
   /**
@@ -146,10 +159,7 @@ public final class Unsigned16
   {
     Objects.requireNonNull(data, "Buffer");
 
-    if (data.order().equals(ByteOrder.BIG_ENDIAN)) {
-      return unpackFromBufferBigEndian(data, index);
-    }
-    return unpackFromBufferLittleEndian(data, index);
+    return data.getShort(index) & 0xffff;
   }
 
   /**
@@ -170,8 +180,531 @@ public final class Unsigned16
   {
     Objects.requireNonNull(buffer, "Buffer");
 
-    final int b0 = buffer.get(index + 0) & 0xff;
-    final int b1 = (buffer.get(index + 1) & 0xff) << 8;
-    return b0 | b1;
+    final short x = buffer.getShort(index);
+    if (buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x & 0xffff;
+    }
+    return Short.reverseBytes(x) & 0xffff;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a big-endian
+   * encoding such that the most significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesBigEndianAllocate(
+    final int i)
+  {
+    final byte[] r = new byte[2];
+    return packToBytesBigEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 2) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 2 (is " + r.length + ")");
+    }
+
+    SHORT_BE.set(r, 0, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    SHORT_BE.set(r, offset, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 16 bit unsigned integer value.
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 2) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 2 (is " + buffer.length + ")");
+    }
+
+    return (short) SHORT_BE.get(buffer, 0) & 0xffff;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 16 bit unsigned integer value.
+   */
+
+  public static int unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) SHORT_BE.get(buffer, offset) & 0xffff;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a little-endian
+   * encoding such that the least significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesLittleEndianAllocate(
+    final int i)
+  {
+    final byte[] r = new byte[2];
+    return packToBytesLittleEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 2) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 2 (is " + r.length + ")");
+    }
+
+    SHORT_LE.set(r, 0, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, r.length);
+
+    SHORT_LE.set(r, offset, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 16 bit unsigned integer value.
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 2) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 2 (is " + buffer.length + ")");
+    }
+
+    return (short) SHORT_LE.get(buffer, 0) & 0xffff;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 2 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 16 bit unsigned integer value.
+   */
+
+  public static int unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 2, buffer.length);
+
+    return (short) SHORT_LE.get(buffer, offset) & 0xffff;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 2L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      SHORT_BE.set(dst, dstOff + (k * 2), (short) src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 2L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (short) SHORT_BE.get(src, srcOff + (k * 2)) & 0xffff;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 2L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      SHORT_LE.set(dst, dstOff + (k * 2), (short) src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 2L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (short) SHORT_LE.get(src, srcOff + (k * 2)) & 0xffff;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      SHORT_BE.set(r, offset, (short) i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      SHORT_LE.set(r, offset, (short) i);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 16 bit integer value
+     */
+
+    public static int unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (short) SHORT_BE.get(buffer, offset) & 0xffff;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 16 bit integer value
+     */
+
+    public static int unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (short) SHORT_LE.get(buffer, offset) & 0xffff;
+    }
   }
 }
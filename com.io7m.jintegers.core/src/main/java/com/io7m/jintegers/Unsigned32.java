@@ -19,7 +19,10 @@ package com.io7m.jintegers;
 import java.util.Objects;
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Unsigned 32-bit integer handling.
@@ -27,6 +30,13 @@ import java.nio.ByteBuffer;
 
 public final class Unsigned32
 {
+  private static final VarHandle INT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+
   private Unsigned32()
   {
     throw new UnreachableCodeException();
@@ -66,4 +76,635 @@ public final class Unsigned32
     Objects.requireNonNull(data, "Buffer");
     data.putInt(index, (int) (x & 0xffffffffL));
   }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    final int x = (int) i;
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      r.putInt(index, x);
+    } else {
+      r.putInt(index, Integer.reverseBytes(x));
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit unsigned integer value.
+   */
+
+  public static long unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final int x = buffer.getInt(index);
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return x & 0xffffffffL;
+    }
+    return Integer.reverseBytes(x) & 0xffffffffL;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    final int x = (int) i;
+    if (r.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      r.putInt(index, x);
+    } else {
+      r.putInt(index, Integer.reverseBytes(x));
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit unsigned integer value.
+   */
+
+  public static long unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final int x = buffer.getInt(index);
+    if (buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x & 0xffffffffL;
+    }
+    return Integer.reverseBytes(x) & 0xffffffffL;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a big-endian
+   * encoding such that the most significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesBigEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[4];
+    return packToBytesBigEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 4) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 4 (is " + r.length + ")");
+    }
+
+    INT_BE.set(r, 0, (int) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    INT_BE.set(r, offset, (int) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 4) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 4 (is " + buffer.length + ")");
+    }
+
+    return (int) INT_BE.get(buffer, 0) & 0xffffffffL;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 32 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) INT_BE.get(buffer, offset) & 0xffffffffL;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a little-endian
+   * encoding such that the least significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesLittleEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[4];
+    return packToBytesLittleEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 4) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 4 (is " + r.length + ")");
+    }
+
+    INT_LE.set(r, 0, (int) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, r.length);
+
+    INT_LE.set(r, offset, (int) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 4) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 4 (is " + buffer.length + ")");
+    }
+
+    return (int) INT_LE.get(buffer, 0) & 0xffffffffL;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 4 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 32 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 4, buffer.length);
+
+    return (int) INT_LE.get(buffer, offset) & 0xffffffffL;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 4L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      INT_BE.set(dst, dstOff + (k * 4), (int) src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 4L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (int) INT_BE.get(src, srcOff + (k * 4)) & 0xffffffffL;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 4L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      INT_LE.set(dst, dstOff + (k * 4), (int) src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 4L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (int) INT_LE.get(src, srcOff + (k * 4)) & 0xffffffffL;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      INT_BE.set(r, offset, (int) i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      INT_LE.set(r, offset, (int) i);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 32 bit integer value
+     */
+
+    public static long unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (int) INT_BE.get(buffer, offset) & 0xffffffffL;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 32 bit integer value
+     */
+
+    public static long unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (int) INT_LE.get(buffer, offset) & 0xffffffffL;
+    }
+  }
 }
@@ -0,0 +1,1112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.Objects;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>
+ * Unsigned 48-bit integer packing/unpacking functions.
+ * </p>
+ * <p>
+ * Where the array or buffer has at least 2 bytes of room after a
+ * value, decoding uses a single overlapping 8-byte load followed by a
+ * mask, rather than 6 single-byte loads.
+ * </p>
+ */
+
+public final class Unsigned48
+{
+  private static final VarHandle LONG_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle INT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle SHORT_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle SHORT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      short[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_INT_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_INT_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_SHORT_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_SHORT_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      short[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private Unsigned48()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * The bulk functions decode 48-bit values with overlapping 8-byte loads.
+   * A load for element {@code k} reads 2 bytes past the end of that
+   * element, so it may only be used when those bytes still lie within the
+   * array or buffer.
+   *
+   * @param index The index of the first element
+   * @param count The number of elements
+   * @param limit The exclusive upper bound of readable bytes
+   *
+   * @return The number of leading elements that can use an 8-byte load
+   */
+
+  private static int wideCount(
+    final int index,
+    final int count,
+    final int limit)
+  {
+    final int room = limit - index - 8;
+    if (room < 0) {
+      return 0;
+    }
+    return Math.min(count, (room / 6) + 1);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a big-endian
+   * encoding such that the most significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesBigEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[6];
+    return packToBytesBigEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 6) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 6 (is " + r.length + ")");
+    }
+
+    return packToBytesBigEndian(i, r, 0);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 6 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 6, r.length);
+
+    INT_BE.set(r, offset, (int) (i >> 16));
+    SHORT_BE.set(r, offset + 4, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    BUFFER_INT_BE.set(r, index, (int) (i >> 16));
+    BUFFER_SHORT_BE.set(r, index + 4, (short) i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a little-endian
+   * encoding such that the least significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesLittleEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[6];
+    return packToBytesLittleEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 6) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 6 (is " + r.length + ")");
+    }
+
+    return packToBytesLittleEndian(i, r, 0);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 6 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 6, r.length);
+
+    INT_LE.set(r, offset, (int) i);
+    SHORT_LE.set(r, offset + 4, (short) (i >> 32));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    BUFFER_INT_LE.set(r, index, (int) i);
+    BUFFER_SHORT_LE.set(r, index + 4, (short) (i >> 32));
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using the encoding
+   * returned by {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBuffer(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return packToBufferBigEndian(i, r, index);
+    }
+    return packToBufferLittleEndian(i, r, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return A 48 bit unsigned integer value
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 6) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 6 (is " + buffer.length + ")");
+    }
+
+    return unpackFromBytesBigEndian(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 6 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 48 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 6, buffer.length);
+
+    if (buffer.length - offset >= 8) {
+      return (long) LONG_BE.get(buffer, offset) >>> 16;
+    }
+    long r = (buffer[offset + 0] & 0xffL) << 40;
+    r |= (buffer[offset + 1] & 0xffL) << 32;
+    r |= (buffer[offset + 2] & 0xffL) << 24;
+    r |= (buffer[offset + 3] & 0xffL) << 16;
+    r |= (buffer[offset + 4] & 0xffL) << 8;
+    r |= (buffer[offset + 5] & 0xffL);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 48 bit unsigned integer value.
+   */
+
+  public static long unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    if (buffer.limit() - index >= 8) {
+      long x = buffer.getLong(index);
+      if (!buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+        x = Long.reverseBytes(x);
+      }
+      return x >>> 16;
+    }
+    long r = (buffer.get(index + 0) & 0xffL) << 40;
+    r |= (buffer.get(index + 1) & 0xffL) << 32;
+    r |= (buffer.get(index + 2) & 0xffL) << 24;
+    r |= (buffer.get(index + 3) & 0xffL) << 16;
+    r |= (buffer.get(index + 4) & 0xffL) << 8;
+    r |= (buffer.get(index + 5) & 0xffL);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} using the encoding returned by
+   * {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 48 bit unsigned integer value.
+   */
+
+  public static long unpackFromBuffer(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return unpackFromBufferBigEndian(buffer, index);
+    }
+    return unpackFromBufferLittleEndian(buffer, index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return A 48 bit unsigned integer value
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 6) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 6 (is " + buffer.length + ")");
+    }
+
+    return unpackFromBytesLittleEndian(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 6 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 48 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 6, buffer.length);
+
+    if (buffer.length - offset >= 8) {
+      return (long) LONG_LE.get(buffer, offset) & 0xffffffffffffL;
+    }
+    long r = (buffer[offset + 0] & 0xffL);
+    r |= (buffer[offset + 1] & 0xffL) << 8;
+    r |= (buffer[offset + 2] & 0xffL) << 16;
+    r |= (buffer[offset + 3] & 0xffL) << 24;
+    r |= (buffer[offset + 4] & 0xffL) << 32;
+    r |= (buffer[offset + 5] & 0xffL) << 40;
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 48 bit unsigned integer value.
+   */
+
+  public static long unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    if (buffer.limit() - index >= 8) {
+      long x = buffer.getLong(index);
+      if (!buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+        x = Long.reverseBytes(x);
+      }
+      return x & 0xffffffffffffL;
+    }
+    long r = (buffer.get(index + 0) & 0xffL);
+    r |= (buffer.get(index + 1) & 0xffL) << 8;
+    r |= (buffer.get(index + 2) & 0xffL) << 16;
+    r |= (buffer.get(index + 3) & 0xffL) << 24;
+    r |= (buffer.get(index + 4) & 0xffL) << 32;
+    r |= (buffer.get(index + 5) & 0xffL) << 40;
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * All values except the last are written with a single 8-byte store
+   * whose extra bytes are overwritten by the following value. No byte
+   * outside the destination range is modified.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 6L, (long) dst.length);
+
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      LONG_BE.set(dst, dstOff + (k * 6), src[srcOff + k] << 16);
+    }
+    for (int k = wide; k < count; ++k) {
+      final long x = src[srcOff + k];
+      final int o = dstOff + (k * 6);
+      dst[o + 0] = (byte) (x >> 40);
+      dst[o + 1] = (byte) (x >> 32);
+      dst[o + 2] = (byte) (x >> 24);
+      dst[o + 3] = (byte) (x >> 16);
+      dst[o + 4] = (byte) (x >> 8);
+      dst[o + 5] = (byte) x;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * Each value is read with a single 8-byte load followed by a
+   * mask, except at the end of the array
+   * where there is no room for the extra bytes.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 6L, (long) src.length);
+
+    final int wide = wideCount(srcOff, count, src.length);
+    for (int k = 0; k < wide; ++k) {
+      dst[dstOff + k] =
+        (long) LONG_BE.get(src, srcOff + (k * 6)) >>> 16;
+    }
+    for (int k = wide; k < count; ++k) {
+      final int o = srcOff + (k * 6);
+      long r = (src[o + 0] & 0xffL) << 40;
+      r |= (src[o + 1] & 0xffL) << 32;
+      r |= (src[o + 2] & 0xffL) << 24;
+      r |= (src[o + 3] & 0xffL) << 16;
+      r |= (src[o + 4] & 0xffL) << 8;
+      r |= (src[o + 5] & 0xffL);
+      dst[dstOff + k] = r;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * All values except the last are written with a single 8-byte store
+   * whose extra bytes are overwritten by the following value. No byte
+   * outside the destination range is modified.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 6L, (long) dst.length);
+
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      LONG_LE.set(dst, dstOff + (k * 6), src[srcOff + k]);
+    }
+    for (int k = wide; k < count; ++k) {
+      final long x = src[srcOff + k];
+      final int o = dstOff + (k * 6);
+      dst[o + 0] = (byte) x;
+      dst[o + 1] = (byte) (x >> 8);
+      dst[o + 2] = (byte) (x >> 16);
+      dst[o + 3] = (byte) (x >> 24);
+      dst[o + 4] = (byte) (x >> 32);
+      dst[o + 5] = (byte) (x >> 40);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * Each value is read with a single 8-byte load followed by a
+   * mask, except at the end of the array
+   * where there is no room for the extra bytes.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 6L, (long) src.length);
+
+    final int wide = wideCount(srcOff, count, src.length);
+    for (int k = 0; k < wide; ++k) {
+      dst[dstOff + k] =
+        (long) LONG_LE.get(src, srcOff + (k * 6)) & 0xffffffffffffL;
+    }
+    for (int k = wide; k < count; ++k) {
+      final int o = srcOff + (k * 6);
+      long r = (src[o + 0] & 0xffL);
+      r |= (src[o + 1] & 0xffL) << 8;
+      r |= (src[o + 2] & 0xffL) << 16;
+      r |= (src[o + 3] & 0xffL) << 24;
+      r |= (src[o + 4] & 0xffL) << 32;
+      r |= (src[o + 5] & 0xffL) << 40;
+      dst[dstOff + k] = r;
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a big-endian encoding such that the most significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * All values except the last are written with a single 8-byte store
+   * whose extra bytes are overwritten by the following value. No byte
+   * outside the destination range is modified.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 6L, (long) dst.limit());
+
+    final boolean swap = !dst.order().equals(ByteOrder.BIG_ENDIAN);
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      long x = src[srcOff + k] << 16;
+      if (swap) {
+        x = Long.reverseBytes(x);
+      }
+      dst.putLong(dstIndex + (k * 6), x);
+    }
+    for (int k = wide; k < count; ++k) {
+      packToBufferBigEndian(src[srcOff + k], dst, dstIndex + (k * 6));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * Each value is read with a single 8-byte load followed by a
+   * mask, except at the end of the buffer
+   * where there is no room for the extra bytes.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 6L, (long) src.limit());
+
+    final boolean swap = !src.order().equals(ByteOrder.BIG_ENDIAN);
+    final int wide = wideCount(srcIndex, count, src.limit());
+    for (int k = 0; k < wide; ++k) {
+      long x = src.getLong(srcIndex + (k * 6));
+      if (swap) {
+        x = Long.reverseBytes(x);
+      }
+      dst[dstOff + k] = x >>> 16;
+    }
+    for (int k = wide; k < count; ++k) {
+      dst[dstOff + k] = unpackFromBufferBigEndian(src, srcIndex + (k * 6));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a little-endian encoding such that the least significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * All values except the last are written with a single 8-byte store
+   * whose extra bytes are overwritten by the following value. No byte
+   * outside the destination range is modified.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 6L, (long) dst.limit());
+
+    final boolean swap = !dst.order().equals(ByteOrder.LITTLE_ENDIAN);
+    final int wide = Math.max(count - 1, 0);
+    for (int k = 0; k < wide; ++k) {
+      long x = src[srcOff + k];
+      if (swap) {
+        x = Long.reverseBytes(x);
+      }
+      dst.putLong(dstIndex + (k * 6), x);
+    }
+    for (int k = wide; k < count; ++k) {
+      packToBufferLittleEndian(src[srcOff + k], dst, dstIndex + (k * 6));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * Each value is read with a single 8-byte load followed by a
+   * mask, except at the end of the buffer
+   * where there is no room for the extra bytes.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 6L, (long) src.limit());
+
+    final boolean swap = !src.order().equals(ByteOrder.LITTLE_ENDIAN);
+    final int wide = wideCount(srcIndex, count, src.limit());
+    for (int k = 0; k < wide; ++k) {
+      long x = src.getLong(srcIndex + (k * 6));
+      if (swap) {
+        x = Long.reverseBytes(x);
+      }
+      dst[dstOff + k] = x & 0xffffffffffffL;
+    }
+    for (int k = wide; k < count; ++k) {
+      dst[dstOff + k] = unpackFromBufferLittleEndian(src, srcIndex + (k * 6));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message, and possibly after some bytes have
+   * been written.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      INT_BE.set(r, offset, (int) (i >> 16));
+      SHORT_BE.set(r, offset + 4, (short) i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      INT_LE.set(r, offset, (int) i);
+      SHORT_LE.set(r, offset + 4, (short) (i >> 32));
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 48 bit unsigned integer value
+     */
+
+    public static long unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      long r = (buffer[offset + 0] & 0xffL) << 40;
+      r |= (buffer[offset + 1] & 0xffL) << 32;
+      r |= (buffer[offset + 2] & 0xffL) << 24;
+      r |= (buffer[offset + 3] & 0xffL) << 16;
+      r |= (buffer[offset + 4] & 0xffL) << 8;
+      r |= (buffer[offset + 5] & 0xffL);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 48 bit unsigned integer value
+     */
+
+    public static long unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      long r = (buffer[offset + 0] & 0xffL);
+      r |= (buffer[offset + 1] & 0xffL) << 8;
+      r |= (buffer[offset + 2] & 0xffL) << 16;
+      r |= (buffer[offset + 3] & 0xffL) << 24;
+      r |= (buffer[offset + 4] & 0xffL) << 32;
+      r |= (buffer[offset + 5] & 0xffL) << 40;
+      return r;
+    }
+  }
+}
@@ -0,0 +1,1196 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ * 
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.util.Objects;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>
+ * Unsigned 64-bit integer handling.
+ * </p>
+ * <p>
+ * Unsigned 64-bit values are held in a {@code long} that is interpreted
+ * as an unsigned bit pattern, so the packing functions produce the same
+ * bytes as those of {@link Signed64}. The arithmetic, formatting and
+ * parsing functions treat the value as unsigned and never allocate.
+ * </p>
+ */
+
+public final class Unsigned64
+{
+  private static final VarHandle LONG_BE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+  private static final VarHandle BUFFER_LONG_BE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle BUFFER_LONG_LE =
+    MethodHandles.byteBufferViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * The maximum number of decimal digits in an unsigned 64-bit integer.
+   */
+
+  public static final int DECIMAL_LENGTH_MAX = 20;
+
+  /**
+   * The largest value that can be multiplied by ten without overflowing,
+   * that is {@code (2 ^ 64 - 1) / 10}.
+   */
+
+  private static final long PARSE_LIMIT = 0x1999999999999999L;
+
+  /**
+   * The final digit of {@code 2 ^ 64 - 1}.
+   */
+
+  private static final int PARSE_LIMIT_DIGIT = 5;
+
+  /**
+   * {@code 10 ^ 19}, the smallest 20-digit value, as an unsigned pattern.
+   */
+
+  private static final long TEN_POW_19 = 0x8ac7230489e80000L;
+
+  private Unsigned64()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a big-endian
+   * encoding such that the most significant byte is in {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesBigEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[8];
+    return packToBytesBigEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 8) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 8 (is " + r.length + ")");
+    }
+
+    LONG_BE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesBigEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    LONG_BE.set(r, offset, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a big-endian
+   * encoding such that the most significant byte is in {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferBigEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    final long x = i;
+    if (r.order().equals(ByteOrder.BIG_ENDIAN)) {
+      r.putLong(index, x);
+    } else {
+      r.putLong(index, Long.reverseBytes(x));
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code b} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code b[0]}.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesLittleEndianAllocate(
+    final long i)
+  {
+    final byte[] r = new byte[8];
+    return packToBytesLittleEndian(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 8) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 8 (is " + r.length + ")");
+    }
+
+    LONG_LE.set(r, 0, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a little-endian
+   * encoding such that the least significant byte is in
+   * {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code r} does not have room for 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytesLittleEndian(
+    final long i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, r.length);
+
+    LONG_LE.set(r, offset, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using a
+   * little-endian encoding such that the least significant byte is in
+   * {@code r[index]}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBufferLittleEndian(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    final long x = i;
+    if (r.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      r.putLong(index, x);
+    } else {
+      r.putLong(index, Long.reverseBytes(x));
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into a byte buffer {@code r} using the encoding
+   * returned by {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public static ByteBuffer packToBuffer(
+    final long i,
+    final ByteBuffer r,
+    final int index)
+  {
+    Objects.requireNonNull(r, "Buffer");
+
+    r.putLong(index, i);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return A 64 bit unsigned integer value
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 8) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 8 (is " + buffer.length + ")");
+    }
+
+    return (long) LONG_BE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 64 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesBigEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) LONG_BE.get(buffer, offset);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a big-endian encoding
+   * such that the most significant byte is in {@code b[index]}.
+   * </p>
+   *
+   * @param index  The starting index in the buffer.
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 64 bit unsigned integer value.
+   */
+
+  public static long unpackFromBufferBigEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final long x = buffer.getLong(index);
+    if (buffer.order().equals(ByteOrder.BIG_ENDIAN)) {
+      return x;
+    }
+    return Long.reverseBytes(x);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} using the encoding returned by
+   * {@link ByteBuffer#order()}, starting at {@code index}.
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 32 bit integer value.
+   */
+
+  public static long unpackFromBuffer(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    return buffer.getLong(index);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data
+   *
+   * @return A 64 bit unsigned integer value
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 8) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 8 (is " + buffer.length + ")");
+    }
+
+    return (long) LONG_LE.get(buffer, 0);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian encoding
+   * such that the least significant byte is in {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code buffer} does not contain 8 bytes at {@code offset}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 64 bit unsigned integer value.
+   */
+
+  public static long unpackFromBytesLittleEndian(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkFromIndexSize(offset, 8, buffer.length);
+
+    return (long) LONG_LE.get(buffer, offset);
+  }
+
+  /**
+   * <p>
+   * Unpack an integer from {@code buffer} assuming a little-endian
+   * encoding such that the least significant byte is in {@code b[index]}
+   * .
+   * </p>
+   *
+   * @param index  The starting index
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 64 bit unsigned integer value.
+   */
+
+  public static long unpackFromBufferLittleEndian(
+    final ByteBuffer buffer,
+    final int index)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+
+    final long x = buffer.getLong(index);
+    if (buffer.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x;
+    }
+    return Long.reverseBytes(x);
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * big-endian encoding such that the most significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 8L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      LONG_BE.set(dst, dstOff + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 8L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (long) LONG_BE.get(src, srcOff + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using a
+   * little-endian encoding such that the least significant byte of each value
+   * is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstOff, (long) count * 8L, (long) dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      LONG_LE.set(dst, dstOff + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcOff, (long) count * 8L, (long) src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (long) LONG_LE.get(src, srcOff + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a big-endian encoding such that the most significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayBigEndian(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 8L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_LONG_BE.set(dst, dstIndex + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a big-endian encoding such that the most significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayBigEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 8L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (long) BUFFER_LONG_BE.get(src, srcIndex + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex} using
+   * a little-endian encoding such that the least significant byte of each value
+   * is at the lowest index. The buffer's own {@link ByteBuffer#order()}
+   * and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The values to be packed.
+   * @param srcOff   The starting index in {@code src}.
+   * @param dst      The destination buffer.
+   * @param dstIndex The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static ByteBuffer packArrayLittleEndian(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(
+      (long) dstIndex, (long) count * 8L, (long) dst.limit());
+
+    for (int k = 0; k < count; ++k) {
+      BUFFER_LONG_LE.set(dst, dstIndex + (k * 8), src[srcOff + k]);
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}
+   * assuming a little-endian encoding such that the least significant byte of
+   * each value is at the lowest index. The buffer's own
+   * {@link ByteBuffer#order()} and position are ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer.
+   * </p>
+   *
+   * @param src      The buffer from which to unpack data.
+   * @param srcIndex The starting index in {@code src}.
+   * @param dst      The destination array.
+   * @param dstOff   The starting index in {@code dst}.
+   * @param count    The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static long[] unpackArrayLittleEndian(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(
+      (long) srcIndex, (long) count * 8L, (long) src.limit());
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] =
+        (long) BUFFER_LONG_LE.get(src, srcIndex + (k * 8));
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Compare two unsigned 64-bit integers.
+   * </p>
+   * <p>
+   * The comparison is performed by biasing both values by
+   * {@link Long#MIN_VALUE} and comparing them as signed integers, which
+   * requires no branches on the values.
+   * </p>
+   *
+   * @param x The first value
+   * @param y The second value
+   *
+   * @return A negative integer, zero, or a positive integer as {@code x}
+   * is less than, equal to, or greater than {@code y}
+   */
+
+  public static int compare(
+    final long x,
+    final long y)
+  {
+    return Long.compare(x + Long.MIN_VALUE, y + Long.MIN_VALUE);
+  }
+
+  /**
+   * Divide two unsigned 64-bit integers.
+   *
+   * @param x The dividend
+   * @param y The divisor
+   *
+   * @return The unsigned quotient {@code x / y}
+   *
+   * @throws ArithmeticException If {@code y == 0}
+   * @see Long#divideUnsigned(long, long)
+   */
+
+  public static long divide(
+    final long x,
+    final long y)
+  {
+    return Long.divideUnsigned(x, y);
+  }
+
+  /**
+   * Compute the remainder of dividing two unsigned 64-bit integers.
+   *
+   * @param x The dividend
+   * @param y The divisor
+   *
+   * @return The unsigned remainder {@code x % y}
+   *
+   * @throws ArithmeticException If {@code y == 0}
+   * @see Long#remainderUnsigned(long, long)
+   */
+
+  public static long remainder(
+    final long x,
+    final long y)
+  {
+    return Long.remainderUnsigned(x, y);
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The number of decimal digits required to format {@code x}
+   */
+
+  public static int decimalLength(
+    final long x)
+  {
+    if (x < 0L) {
+      return compare(x, TEN_POW_19) >= 0 ? 20 : 19;
+    }
+
+    int length = 1;
+    for (long p = 10L; length < 19 && x >= p; p *= 10L) {
+      ++length;
+    }
+    return length;
+  }
+
+  /**
+   * <p>
+   * Format {@code x} as an unsigned decimal number into {@code dst}
+   * starting at {@code offset}, using ASCII digits and no sign or
+   * separators.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code dst} does not have room for {@link #decimalLength(long)}
+   * bytes at {@code offset}; at most {@link #DECIMAL_LENGTH_MAX} bytes
+   * are ever needed.
+   * </p>
+   *
+   * @param x      The value
+   * @param dst    The destination array
+   * @param offset The starting offset
+   *
+   * @return The number of bytes written
+   */
+
+  public static int formatDecimal(
+    final long x,
+    final byte[] dst,
+    final int offset)
+  {
+    Objects.requireNonNull(dst, "Buffer");
+    final int length = decimalLength(x);
+    Objects.checkFromIndexSize(offset, length, dst.length);
+
+    int o = offset + length;
+    long v = x;
+    if (v < 0L) {
+      final long q = Long.divideUnsigned(v, 10L);
+      dst[--o] = (byte) ('0' + (int) (v - (q * 10L)));
+      v = q;
+    }
+    do {
+      final long q = v / 10L;
+      dst[--o] = (byte) ('0' + (int) (v - (q * 10L)));
+      v = q;
+    } while (v != 0L);
+    return length;
+  }
+
+  /**
+   * <p>
+   * Format {@code x} as an unsigned decimal number into {@code dst}
+   * starting at {@code offset}, using ASCII digits and no sign or
+   * separators.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code dst} does not have room for {@link #decimalLength(long)}
+   * characters at {@code offset}; at most {@link #DECIMAL_LENGTH_MAX}
+   * characters are ever needed.
+   * </p>
+   *
+   * @param x      The value
+   * @param dst    The destination array
+   * @param offset The starting offset
+   *
+   * @return The number of characters written
+   */
+
+  public static int formatDecimal(
+    final long x,
+    final char[] dst,
+    final int offset)
+  {
+    Objects.requireNonNull(dst, "Buffer");
+    final int length = decimalLength(x);
+    Objects.checkFromIndexSize(offset, length, dst.length);
+
+    int o = offset + length;
+    long v = x;
+    if (v < 0L) {
+      final long q = Long.divideUnsigned(v, 10L);
+      dst[--o] = (char) ('0' + (int) (v - (q * 10L)));
+      v = q;
+    }
+    do {
+      final long q = v / 10L;
+      dst[--o] = (char) ('0' + (int) (v - (q * 10L)));
+      v = q;
+    } while (v != 0L);
+    return length;
+  }
+
+  /**
+   * <p>
+   * Parse an unsigned decimal number from the {@code length} bytes of
+   * {@code src} starting at {@code offset}. The bytes must all be ASCII
+   * digits; no sign, whitespace or separators are accepted.
+   * </p>
+   *
+   * @param src    The source array
+   * @param offset The starting offset
+   * @param length The number of bytes
+   *
+   * @return The parsed value, as an unsigned bit pattern
+   *
+   * @throws NumberFormatException     If the text is empty, contains a
+   *                                   non-digit, or exceeds
+   *                                   {@code 2 ^ 64 - 1}
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static long parseDecimal(
+    final byte[] src,
+    final int offset,
+    final int length)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.checkFromIndexSize(offset, length, src.length);
+    if (length == 0) {
+      throw new NumberFormatException(
+        "Empty decimal number at offset " + offset);
+    }
+
+    long r = 0L;
+    final int end = offset + length;
+    for (int o = offset; o < end; ++o) {
+      r = accumulateDigit(r, src[o] - '0', o - offset);
+    }
+    return r;
+  }
+
+  /**
+   * <p>
+   * Parse an unsigned decimal number from the {@code length} characters
+   * of {@code src} starting at {@code offset}. The characters must all
+   * be ASCII digits; no sign, whitespace or separators are accepted.
+   * </p>
+   *
+   * @param src    The source array
+   * @param offset The starting offset
+   * @param length The number of characters
+   *
+   * @return The parsed value, as an unsigned bit pattern
+   *
+   * @throws NumberFormatException     If the text is empty, contains a
+   *                                   non-digit, or exceeds
+   *                                   {@code 2 ^ 64 - 1}
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   */
+
+  public static long parseDecimal(
+    final char[] src,
+    final int offset,
+    final int length)
+  {
+    Objects.requireNonNull(src, "Buffer");
+    Objects.checkFromIndexSize(offset, length, src.length);
+    if (length == 0) {
+      throw new NumberFormatException(
+        "Empty decimal number at offset " + offset);
+    }
+
+    long r = 0L;
+    final int end = offset + length;
+    for (int o = offset; o < end; ++o) {
+      r = accumulateDigit(r, src[o] - '0', o - offset);
+    }
+    return r;
+  }
+
+  private static long accumulateDigit(
+    final long r,
+    final int digit,
+    final int position)
+  {
+    if (digit < 0 || digit > 9) {
+      throw new NumberFormatException(
+        "Non-digit character at position " + position);
+    }
+    if (compare(r, PARSE_LIMIT) > 0
+      || (r == PARSE_LIMIT && digit > PARSE_LIMIT_DIGIT)) {
+      throw new NumberFormatException(
+        "Decimal number exceeds 2^64 - 1 at position " + position);
+    }
+    return (r * 10L) + digit;
+  }
+
+  /**
+   * <p>
+   * Functions that perform no validation of their arguments beyond the
+   * bounds checks that the JVM performs on every array access.
+   * </p>
+   * <p>
+   * These are intended for loops in which the caller has already
+   * validated the entire range once, for example with
+   * {@link BoundsChecks#checkFrame(byte[], int, int)}. Passing a
+   * {@code null} array or an out-of-range offset still fails with a
+   * {@link NullPointerException} or an {@link IndexOutOfBoundsException},
+   * but without a descriptive message.
+   * </p>
+   */
+
+  public static final class Unchecked
+  {
+    private Unchecked()
+    {
+      throw new UnreachableCodeException();
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a big-endian encoding such
+     * that the most significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesBigEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      LONG_BE.set(r, offset, i);
+      return r;
+    }
+
+    /**
+     * Pack {@code i} into {@code r} using a little-endian encoding such
+     * that the least significant byte is in {@code r[offset]}.
+     *
+     * @param i      The value to be packed
+     * @param r      The buffer
+     * @param offset The starting offset
+     *
+     * @return {@code r}
+     */
+
+    public static byte[] packToBytesLittleEndian(
+      final long i,
+      final byte[] r,
+      final int offset)
+    {
+      LONG_LE.set(r, offset, i);
+      return r;
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a big-endian
+     * encoding such that the most significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 64 bit unsigned integer value
+     */
+
+    public static long unpackFromBytesBigEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (long) LONG_BE.get(buffer, offset);
+    }
+
+    /**
+     * Unpack an integer from {@code buffer} assuming a little-endian
+     * encoding such that the least significant byte is in
+     * {@code buffer[offset]}.
+     *
+     * @param buffer The buffer from which to unpack data
+     * @param offset The starting offset
+     *
+     * @return A 64 bit unsigned integer value
+     */
+
+    public static long unpackFromBytesLittleEndian(
+      final byte[] buffer,
+      final int offset)
+    {
+      return (long) LONG_LE.get(buffer, offset);
+    }
+  }
+}
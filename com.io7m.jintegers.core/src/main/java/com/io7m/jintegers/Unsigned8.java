@@ -66,4 +66,203 @@ public final class Unsigned8
     Objects.requireNonNull(data, "Buffer");
     data.put(index, (byte) (x & 0xff));
   }
+
+  /**
+   * <p>
+   * Pack {@code i} into a new single-element byte array.
+   * </p>
+   *
+   * @param i The value to be packed.
+   *
+   * @return A byte buffer containing the packed integer data.
+   */
+
+  public static byte[] packToBytesAllocate(
+    final int i)
+  {
+    final byte[] r = new byte[1];
+    return packToBytes(i, r);
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into {@code r[0]}.
+   * </p>
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytes(
+    final int i,
+    final byte[] r)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    if (r.length < 1) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 1 (is " + r.length + ")");
+    }
+
+    r[0] = (byte) (i & 0xff);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Pack {@code i} into {@code r[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code offset} is not a valid index in {@code r}.
+   * </p>
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The index.
+   *
+   * @return {@code r}
+   */
+
+  public static byte[] packToBytes(
+    final int i,
+    final byte[] r,
+    final int offset)
+  {
+    Objects.requireNonNull(r, "Buffer");
+    Objects.checkIndex(offset, r.length);
+
+    r[offset] = (byte) (i & 0xff);
+    return r;
+  }
+
+  /**
+   * <p>
+   * Unpack an unsigned 8-bit integer from {@code buffer[0]}.
+   * </p>
+   * <p>
+   * The function throws {@link NullPointerException} if
+   * {@code buffer == null} and {@link IllegalArgumentException} if
+   * {@code buffer.length} is too small to contain a packed integer value
+   * of this size.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return An 8 bit unsigned integer value.
+   */
+
+  public static int unpackFromBytes(
+    final byte[] buffer)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    if (buffer.length < 1) {
+      throw new IllegalArgumentException(
+        "Buffer.length must be >= 1 (is " + buffer.length + ")");
+    }
+
+    return buffer[0] & 0xff;
+  }
+
+  /**
+   * <p>
+   * Unpack an unsigned 8-bit integer from {@code buffer[offset]}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if
+   * {@code offset} is not a valid index in {@code buffer}.
+   * </p>
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The index.
+   *
+   * @return An 8 bit unsigned integer value.
+   */
+
+  public static int unpackFromBytes(
+    final byte[] buffer,
+    final int offset)
+  {
+    Objects.requireNonNull(buffer, "Buffer");
+    Objects.checkIndex(offset, buffer.length);
+
+    return buffer[offset] & 0xff;
+  }
+
+  /**
+   * <p>
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static byte[] packArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = (byte) src[srcOff + k];
+    }
+    return dst;
+  }
+
+  /**
+   * <p>
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array.
+   * </p>
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   */
+
+  public static int[] unpackArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+
+    for (int k = 0; k < count; ++k) {
+      dst[dstOff + k] = src[srcOff + k] & 0xff;
+    }
+    return dst;
+  }
 }
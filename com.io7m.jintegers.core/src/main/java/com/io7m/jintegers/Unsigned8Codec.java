@@ -0,0 +1,381 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Unsigned 8-bit integer packing/unpacking functions for a fixed byte order.
+ * </p>
+ * <p>
+ * The byte order is resolved once by {@link #forOrder(ByteOrder)} rather
+ * than on every call, and the returned instance is always one of two
+ * final implementations. A call site that only ever sees one byte order
+ * is therefore monomorphic and can be inlined.
+ * </p>
+ * <p>
+ * A single byte has no byte order, so both implementations produce
+ * identical encodings. The class exists so that 8-bit fields can be
+ * handled in the same way as the wider types.
+ * </p>
+ *
+ * @see Unsigned8
+ */
+
+public abstract class Unsigned8Codec
+{
+  private static final Unsigned8Codec BIG_ENDIAN = new BigEndian();
+  private static final Unsigned8Codec LITTLE_ENDIAN = new LittleEndian();
+
+  private Unsigned8Codec()
+  {
+
+  }
+
+  /**
+   * @param order The byte order
+   *
+   * @return A codec that uses the byte order {@code order}
+   */
+
+  public static Unsigned8Codec forOrder(
+    final ByteOrder order)
+  {
+    Objects.requireNonNull(order, "Order");
+
+    if (order.equals(ByteOrder.BIG_ENDIAN)) {
+      return BIG_ENDIAN;
+    }
+    return LITTLE_ENDIAN;
+  }
+
+  /**
+   * @return The byte order used by this codec
+   */
+
+  public abstract ByteOrder order();
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code index}. The
+   * buffer's own {@link ByteBuffer#order()} is ignored.
+   *
+   * @param r     The buffer.
+   * @param i     The value to be packed.
+   * @param index The starting index.
+   *
+   * @return {@code r}
+   */
+
+  public abstract ByteBuffer packToBuffer(
+    int i,
+    ByteBuffer r,
+    int index);
+
+  /**
+   * Unpack a 8 bit integer from {@code buffer} starting at
+   * {@code index}. The buffer's own {@link ByteBuffer#order()} is
+   * ignored.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param index  The starting index.
+   *
+   * @return A 8 bit integer value.
+   */
+
+  public abstract int unpackFromBuffer(
+    ByteBuffer buffer,
+    int index);
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code r[0]}.
+   *
+   * @param r The buffer.
+   * @param i The value to be packed.
+   *
+   * @return {@code r}
+   *
+   * @see Unsigned8#packToBytes(int, byte[])
+   */
+
+  public abstract byte[] packToBytes(
+    int i,
+    byte[] r);
+
+  /**
+   * Unpack a 8 bit integer from {@code buffer} starting at
+   * {@code buffer[0]}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   *
+   * @return A 8 bit integer value.
+   *
+   * @see Unsigned8#unpackFromBytes(byte[])
+   */
+
+  public abstract int unpackFromBytes(
+    byte[] buffer);
+
+  /**
+   * Pack {@code i} into {@code r} starting at {@code r[offset]}.
+   *
+   * @param r      The buffer.
+   * @param i      The value to be packed.
+   * @param offset The starting index.
+   *
+   * @return {@code r}
+   *
+   * @see Unsigned8#packToBytes(int, byte[], int)
+   */
+
+  public abstract byte[] packToBytes(
+    int i,
+    byte[] r,
+    int offset);
+
+  /**
+   * Unpack a 8 bit integer from {@code buffer} starting at
+   * {@code buffer[offset]}.
+   *
+   * @param buffer The buffer from which to unpack data.
+   * @param offset The starting index.
+   *
+   * @return A 8 bit integer value.
+   *
+   * @see Unsigned8#unpackFromBytes(byte[], int)
+   */
+
+  public abstract int unpackFromBytes(
+    byte[] buffer,
+    int offset);
+
+  /**
+   * Pack {@code count} values from {@code src} into {@code dst}.
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   *
+   * @see Unsigned8#packArray(int[], int, byte[], int, int)
+   */
+
+  public abstract byte[] packArray(
+    int[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Unpack {@code count} values from {@code src} into {@code dst}.
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   *
+   * @return {@code dst}
+   *
+   * @see Unsigned8#unpackArray(byte[], int, int[], int, int)
+   */
+
+  public abstract int[] unpackArray(
+    byte[] src,
+    int srcOff,
+    int[] dst,
+    int dstOff,
+    int count);
+
+  private static final class BigEndian extends Unsigned8Codec
+  {
+    BigEndian()
+    {
+
+    }
+
+    @Override
+    public ByteOrder order()
+    {
+      return ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public ByteBuffer packToBuffer(
+      final int i,
+      final ByteBuffer r,
+      final int index)
+    {
+      Unsigned8.packToBuffer(i, r, index);
+      return r;
+    }
+
+    @Override
+    public int unpackFromBuffer(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned8.unpackFromBuffer(buffer, index);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r)
+    {
+      return Unsigned8.packToBytes(i, r);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer)
+    {
+      return Unsigned8.unpackFromBytes(buffer);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      return Unsigned8.packToBytes(i, r, offset);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer,
+      final int offset)
+    {
+      return Unsigned8.unpackFromBytes(buffer, offset);
+    }
+
+    @Override
+    public byte[] packArray(
+      final int[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Unsigned8.packArray(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Unsigned8.unpackArray(src, srcOff, dst, dstOff, count);
+    }
+  }
+
+  private static final class LittleEndian extends Unsigned8Codec
+  {
+    LittleEndian()
+    {
+
+    }
+
+    @Override
+    public ByteOrder order()
+    {
+      return ByteOrder.LITTLE_ENDIAN;
+    }
+
+    @Override
+    public ByteBuffer packToBuffer(
+      final int i,
+      final ByteBuffer r,
+      final int index)
+    {
+      Unsigned8.packToBuffer(i, r, index);
+      return r;
+    }
+
+    @Override
+    public int unpackFromBuffer(
+      final ByteBuffer buffer,
+      final int index)
+    {
+      return Unsigned8.unpackFromBuffer(buffer, index);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r)
+    {
+      return Unsigned8.packToBytes(i, r);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer)
+    {
+      return Unsigned8.unpackFromBytes(buffer);
+    }
+
+    @Override
+    public byte[] packToBytes(
+      final int i,
+      final byte[] r,
+      final int offset)
+    {
+      return Unsigned8.packToBytes(i, r, offset);
+    }
+
+    @Override
+    public int unpackFromBytes(
+      final byte[] buffer,
+      final int offset)
+    {
+      return Unsigned8.unpackFromBytes(buffer, offset);
+    }
+
+    @Override
+    public byte[] packArray(
+      final int[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Unsigned8.packArray(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int[] unpackArray(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return Unsigned8.unpackArray(src, srcOff, dst, dstOff, count);
+    }
+  }
+}
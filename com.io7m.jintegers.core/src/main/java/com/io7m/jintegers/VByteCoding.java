@@ -0,0 +1,358 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Control byte tables and unchecked value access shared by
+ * {@link GroupVarInts} and {@link StreamVByte}.
+ * </p>
+ * <p>
+ * A control byte describes four values. Each 2-bit field, starting with
+ * the least significant, holds the number of bytes of the corresponding
+ * value minus one. The layout table gives, for each of the 256 control
+ * bytes, the offsets of the second, third and fourth values relative to
+ * the first, and the total number of data bytes, one per byte of an
+ * {@code int}.
+ * </p>
+ * <p>
+ * Values are stored in little-endian order. The caller is responsible
+ * for all range checks. The {@code wide} functions access 4 bytes
+ * regardless of the length of the value.
+ * </p>
+ */
+
+final class VByteCoding
+{
+  private static final VarHandle INT_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final int[] LAYOUTS = layouts();
+
+  private static final int[] MASKS = {
+    0xff,
+    0xffff,
+    0xffffff,
+    0xffffffff,
+  };
+
+  private VByteCoding()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int[] layouts()
+  {
+    final int[] r = new int[256];
+    for (int control = 0; control < 256; ++control) {
+      int layout = 0;
+      int offset = 0;
+      for (int field = 0; field < 4; ++field) {
+        offset += ((control >>> (field * 2)) & 3) + 1;
+        layout |= offset << (field * 8);
+      }
+      r[control] = layout;
+    }
+    return r;
+  }
+
+  /**
+   * @param x A value
+   *
+   * @return The number of bytes needed to hold {@code x}, at least 1
+   */
+
+  static int byteLength(
+    final int x)
+  {
+    return (39 - Integer.numberOfLeadingZeros(x | 1)) >>> 3;
+  }
+
+  /**
+   * @param count A number of values
+   *
+   * @return The number of control bytes needed for {@code count} values
+   */
+
+  static int controlLength(
+    final int count)
+  {
+    return (count + 3) >>> 2;
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The total number of data bytes needed for the values
+   */
+
+  static long dataLength(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    long size = 0L;
+    for (int k = 0; k < count; ++k) {
+      size += byteLength(src[srcOff + k]);
+    }
+    return size;
+  }
+
+  /**
+   * Check that {@code count} values from {@code src} fit between
+   * {@code index} and {@code limit}. The exact encoded length is only
+   * computed when the worst case does not fit.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param index  The index at which encoding starts
+   * @param limit  The end of the destination
+   * @param count  The number of values
+   *
+   * @throws IndexOutOfBoundsException If the encoded values do not fit
+   */
+
+  static void checkRoom(
+    final int[] src,
+    final int srcOff,
+    final int index,
+    final int limit,
+    final int count)
+  {
+    final long controls = controlLength(count);
+    final long max = controls + (long) count * 4L;
+    if (index < 0 || (long) limit - (long) index < max) {
+      Objects.checkFromIndexSize(
+        (long) index,
+        controls + dataLength(src, srcOff, count),
+        (long) limit);
+    }
+  }
+
+  static void putWide(
+    final byte[] dst,
+    final int offset,
+    final int x)
+  {
+    INT_LE.set(dst, offset, x);
+  }
+
+  static void putWide(
+    final ByteBuffer dst,
+    final int index,
+    final int x)
+  {
+    if (dst.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      dst.putInt(index, x);
+    } else {
+      dst.putInt(index, Integer.reverseBytes(x));
+    }
+  }
+
+  static void putNarrow(
+    final byte[] dst,
+    final int offset,
+    final int x,
+    final int length)
+  {
+    for (int k = 0; k < length; ++k) {
+      dst[offset + k] = (byte) (x >> (k * 8));
+    }
+  }
+
+  static void putNarrow(
+    final ByteBuffer dst,
+    final int index,
+    final int x,
+    final int length)
+  {
+    for (int k = 0; k < length; ++k) {
+      dst.put(index + k, (byte) (x >> (k * 8)));
+    }
+  }
+
+  private static int getWide(
+    final byte[] src,
+    final int offset,
+    final int code)
+  {
+    return (int) INT_LE.get(src, offset) & MASKS[code];
+  }
+
+  private static int getWide(
+    final ByteBuffer src,
+    final int index,
+    final int code)
+  {
+    final int x = src.getInt(index);
+    if (src.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x & MASKS[code];
+    }
+    return Integer.reverseBytes(x) & MASKS[code];
+  }
+
+  private static int getNarrow(
+    final byte[] src,
+    final int offset,
+    final int length)
+  {
+    int r = 0;
+    for (int k = 0; k < length; ++k) {
+      r |= (src[offset + k] & 0xff) << (k * 8);
+    }
+    return r;
+  }
+
+  private static int getNarrow(
+    final ByteBuffer src,
+    final int index,
+    final int length)
+  {
+    int r = 0;
+    for (int k = 0; k < length; ++k) {
+      r |= (src.get(index + k) & 0xff) << (k * 8);
+    }
+    return r;
+  }
+
+  /**
+   * Decode a full group of four values described by {@code control}
+   * from the data at {@code offset}. At least 16 bytes must be readable
+   * at {@code offset}.
+   *
+   * @return The number of data bytes in the group
+   */
+
+  static int getGroup(
+    final byte[] src,
+    final int offset,
+    final int control,
+    final int[] dst,
+    final int dstOff)
+  {
+    final int layout = LAYOUTS[control];
+    dst[dstOff] =
+      getWide(src, offset, control & 3);
+    dst[dstOff + 1] =
+      getWide(src, offset + (layout & 0xff), (control >>> 2) & 3);
+    dst[dstOff + 2] =
+      getWide(src, offset + ((layout >>> 8) & 0xff), (control >>> 4) & 3);
+    dst[dstOff + 3] =
+      getWide(src, offset + ((layout >>> 16) & 0xff), control >>> 6);
+    return layout >>> 24;
+  }
+
+  /**
+   * Decode a full group of four values described by {@code control}
+   * from the data at {@code index}. At least 16 bytes must be readable
+   * at {@code index}.
+   *
+   * @return The number of data bytes in the group
+   */
+
+  static int getGroup(
+    final ByteBuffer src,
+    final int index,
+    final int control,
+    final int[] dst,
+    final int dstOff)
+  {
+    final int layout = LAYOUTS[control];
+    dst[dstOff] =
+      getWide(src, index, control & 3);
+    dst[dstOff + 1] =
+      getWide(src, index + (layout & 0xff), (control >>> 2) & 3);
+    dst[dstOff + 2] =
+      getWide(src, index + ((layout >>> 8) & 0xff), (control >>> 4) & 3);
+    dst[dstOff + 3] =
+      getWide(src, index + ((layout >>> 16) & 0xff), control >>> 6);
+    return layout >>> 24;
+  }
+
+  /**
+   * Decode the first {@code n} values described by {@code control} from
+   * the data at {@code offset}, checking each against the array length.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int getPartialGroup(
+    final byte[] src,
+    final int offset,
+    final int control,
+    final int[] dst,
+    final int dstOff,
+    final int n)
+  {
+    int p = offset;
+    for (int j = 0; j < n; ++j) {
+      final int length = ((control >>> (j * 2)) & 3) + 1;
+      if (src.length - p < length) {
+        throw truncated(p);
+      }
+      dst[dstOff + j] = getNarrow(src, p, length);
+      p += length;
+    }
+    return p;
+  }
+
+  /**
+   * Decode the first {@code n} values described by {@code control} from
+   * the data at {@code index}, checking each against the buffer's limit.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int getPartialGroup(
+    final ByteBuffer src,
+    final int index,
+    final int control,
+    final int[] dst,
+    final int dstOff,
+    final int n)
+  {
+    final int limit = src.limit();
+    int p = index;
+    for (int j = 0; j < n; ++j) {
+      final int length = ((control >>> (j * 2)) & 3) + 1;
+      if (limit - p < length) {
+        throw truncated(p);
+      }
+      dst[dstOff + j] = getNarrow(src, p, length);
+      p += length;
+    }
+    return p;
+  }
+
+  static IndexOutOfBoundsException truncated(
+    final int index)
+  {
+    return new IndexOutOfBoundsException(
+      "Truncated encoding at index " + index);
+  }
+}
@@ -0,0 +1,529 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>
+ * Unchecked single-value encoding and decoding for {@link VarInts}.
+ * </p>
+ * <p>
+ * The encoding functions assume that the caller has checked that the
+ * destination has room for the whole encoding. The decoding functions
+ * assume only that the starting index is not negative: they detect
+ * truncated and malformed encodings themselves.
+ * </p>
+ */
+
+final class VarIntCoding
+{
+  private static final VarHandle LONG_LE =
+    MethodHandles.byteArrayViewVarHandle(
+      long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long CONTINUATION = 0x8080808080808080L;
+  private static final long PAYLOAD = 0x7f7f7f7f7f7f7f7fL;
+
+  private VarIntCoding()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  static int putInt(
+    final byte[] dst,
+    final int offset,
+    final int x)
+  {
+    int o = offset;
+    int v = x;
+    while ((v & ~0x7f) != 0) {
+      dst[o] = (byte) (v | 0x80);
+      v >>>= 7;
+      ++o;
+    }
+    dst[o] = (byte) v;
+    return o + 1;
+  }
+
+  static int putLong(
+    final byte[] dst,
+    final int offset,
+    final long x)
+  {
+    int o = offset;
+    long v = x;
+    while ((v & ~0x7fL) != 0L) {
+      dst[o] = (byte) (v | 0x80L);
+      v >>>= 7;
+      ++o;
+    }
+    dst[o] = (byte) v;
+    return o + 1;
+  }
+
+  static int putInt(
+    final ByteBuffer dst,
+    final int index,
+    final int x)
+  {
+    int o = index;
+    int v = x;
+    while ((v & ~0x7f) != 0) {
+      dst.put(o, (byte) (v | 0x80));
+      v >>>= 7;
+      ++o;
+    }
+    dst.put(o, (byte) v);
+    return o + 1;
+  }
+
+  static int putLong(
+    final ByteBuffer dst,
+    final int index,
+    final long x)
+  {
+    int o = index;
+    long v = x;
+    while ((v & ~0x7fL) != 0L) {
+      dst.put(o, (byte) (v | 0x80L));
+      v >>>= 7;
+      ++o;
+    }
+    dst.put(o, (byte) v);
+    return o + 1;
+  }
+
+  /**
+   * Gather the 7-bit payloads of the (at most 8) bytes of {@code word},
+   * least significant byte first, into a single 56-bit value. Each step
+   * merges adjacent groups, doubling their width, so no step depends on
+   * the number of bytes.
+   */
+
+  private static long gather(
+    final long word)
+  {
+    long x = word & PAYLOAD;
+    x = ((x & 0x7f007f007f007f00L) >>> 1) | (x & 0x007f007f007f007fL);
+    x = ((x & 0x3fff00003fff0000L) >>> 2) | (x & 0x00003fff00003fffL);
+    return ((x & 0x0fffffff00000000L) >>> 4) | (x & 0x000000000fffffffL);
+  }
+
+  /**
+   * @param word Up to 8 bytes of an encoding, in little-endian order
+   *
+   * @return The number of bytes in the encoding that begins {@code word},
+   * or 9 if {@code word} does not contain the final byte
+   */
+
+  private static int wordLength(
+    final long word)
+  {
+    final long stop = ~word & CONTINUATION;
+    return (Long.numberOfTrailingZeros(stop) >>> 3) + 1;
+  }
+
+  /**
+   * @param word   8 bytes of an encoding, in little-endian order
+   * @param length The length returned by {@link #wordLength(long)}
+   *
+   * @return {@code word} with the bytes following the encoding cleared
+   */
+
+  private static long wordTruncate(
+    final long word,
+    final int length)
+  {
+    return word & (-1L >>> (64 - (length << 3)));
+  }
+
+  /**
+   * @return {@code true} if the final byte of an encoding of
+   * {@code length} bytes with the value {@code r} carries no bits
+   */
+
+  private static boolean overlong(
+    final long r,
+    final int length)
+  {
+    return length > 1 && (r >>> (7 * (length - 1))) == 0L;
+  }
+
+  private static int checkInt(
+    final long r,
+    final int length,
+    final int offset)
+  {
+    if ((r >>> 32) != 0L || overlong(r, length)) {
+      throw malformed(offset);
+    }
+    return (int) r;
+  }
+
+  private static long checkLong(
+    final long r,
+    final int length,
+    final int offset)
+  {
+    if (overlong(r, length)) {
+      throw malformed(offset);
+    }
+    return r;
+  }
+
+  private static IllegalArgumentException malformed(
+    final int offset)
+  {
+    return new IllegalArgumentException(
+      "Malformed variable-length integer at index " + offset);
+  }
+
+  private static IndexOutOfBoundsException truncated(
+    final int offset)
+  {
+    return new IndexOutOfBoundsException(
+      "Truncated variable-length integer at index " + offset);
+  }
+
+  /*
+   * The same transform as VarInts#zigZagDecodeInt and
+   * VarInts#zigZagDecodeLong, repeated here so that the codec does not
+   * depend on the class that calls it.
+   */
+
+  private static int zigZagDecodeInt(
+    final int x)
+  {
+    return (x >>> 1) ^ -(x & 1);
+  }
+
+  private static long zigZagDecodeLong(
+    final long x)
+  {
+    return (x >>> 1) ^ -(x & 1L);
+  }
+
+  private static int wideInt(
+    final long word,
+    final int length,
+    final int offset)
+  {
+    if (length > VarInts.INT_LENGTH_MAX) {
+      throw malformed(offset);
+    }
+    return checkInt(gather(wordTruncate(word, length)), length, offset);
+  }
+
+  /**
+   * Find the length of an encoding that cannot be decoded from a single
+   * 8-byte word, one byte at a time.
+   *
+   * @return The number of bytes in the encoding at {@code offset}
+   */
+
+  private static int narrowLength(
+    final byte[] src,
+    final int offset,
+    final int lengthMax)
+  {
+    for (int k = 0; k < lengthMax; ++k) {
+      final int o = offset + k;
+      if (o >= src.length) {
+        throw truncated(offset);
+      }
+      if (src[o] >= 0) {
+        return k + 1;
+      }
+    }
+    throw malformed(offset);
+  }
+
+  private static int narrowLength(
+    final ByteBuffer src,
+    final int index,
+    final int lengthMax)
+  {
+    final int limit = src.limit();
+    for (int k = 0; k < lengthMax; ++k) {
+      final int o = index + k;
+      if (o >= limit) {
+        throw truncated(index);
+      }
+      if (src.get(o) >= 0) {
+        return k + 1;
+      }
+    }
+    throw malformed(index);
+  }
+
+  private static int narrowLongLength(
+    final byte[] src,
+    final int offset)
+  {
+    final int length = narrowLength(src, offset, VarInts.LONG_LENGTH_MAX);
+    if (length == VarInts.LONG_LENGTH_MAX && src[offset + 9] > 1) {
+      throw malformed(offset);
+    }
+    return length;
+  }
+
+  private static int narrowLongLength(
+    final ByteBuffer src,
+    final int index)
+  {
+    final int length = narrowLength(src, index, VarInts.LONG_LENGTH_MAX);
+    if (length == VarInts.LONG_LENGTH_MAX && src.get(index + 9) > 1) {
+      throw malformed(index);
+    }
+    return length;
+  }
+
+  private static long narrowValue(
+    final byte[] src,
+    final int offset,
+    final int length)
+  {
+    long r = 0L;
+    for (int k = 0; k < length; ++k) {
+      r |= (long) (src[offset + k] & 0x7f) << (7 * k);
+    }
+    return r;
+  }
+
+  private static long narrowValue(
+    final ByteBuffer src,
+    final int index,
+    final int length)
+  {
+    long r = 0L;
+    for (int k = 0; k < length; ++k) {
+      r |= (long) (src.get(index + k) & 0x7f) << (7 * k);
+    }
+    return r;
+  }
+
+  static int getInt(
+    final byte[] src,
+    final int offset)
+  {
+    if (src.length - offset >= 8) {
+      final long word = (long) LONG_LE.get(src, offset);
+      return wideInt(word, wordLength(word), offset);
+    }
+    final int length = narrowLength(src, offset, VarInts.INT_LENGTH_MAX);
+    return checkInt(narrowValue(src, offset, length), length, offset);
+  }
+
+  static int getInt(
+    final ByteBuffer src,
+    final int index)
+  {
+    if (src.limit() - index >= 8) {
+      final long word = littleEndianWord(src, index);
+      return wideInt(word, wordLength(word), index);
+    }
+    final int length = narrowLength(src, index, VarInts.INT_LENGTH_MAX);
+    return checkInt(narrowValue(src, index, length), length, index);
+  }
+
+  static long getLong(
+    final byte[] src,
+    final int offset)
+  {
+    if (src.length - offset >= 8) {
+      final long word = (long) LONG_LE.get(src, offset);
+      final int length = wordLength(word);
+      if (length <= 8) {
+        return checkLong(gather(wordTruncate(word, length)), length, offset);
+      }
+    }
+    final int length = narrowLongLength(src, offset);
+    return checkLong(narrowValue(src, offset, length), length, offset);
+  }
+
+  static long getLong(
+    final ByteBuffer src,
+    final int index)
+  {
+    if (src.limit() - index >= 8) {
+      final long word = littleEndianWord(src, index);
+      final int length = wordLength(word);
+      if (length <= 8) {
+        return checkLong(gather(wordTruncate(word, length)), length, index);
+      }
+    }
+    final int length = narrowLongLength(src, index);
+    return checkLong(narrowValue(src, index, length), length, index);
+  }
+
+  /**
+   * Decode {@code count} values starting at {@code offset}, advancing by
+   * the length of each encoding as it is found.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int getInts(
+    final byte[] src,
+    final int offset,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    int o = offset;
+    for (int k = 0; k < count; ++k) {
+      final int length;
+      final int x;
+      if (src.length - o >= 8) {
+        final long word = (long) LONG_LE.get(src, o);
+        length = wordLength(word);
+        x = wideInt(word, length, o);
+      } else {
+        length = narrowLength(src, o, VarInts.INT_LENGTH_MAX);
+        x = checkInt(narrowValue(src, o, length), length, o);
+      }
+      dst[dstOff + k] = zigzag ? zigZagDecodeInt(x) : x;
+      o += length;
+    }
+    return o;
+  }
+
+  /**
+   * Decode {@code count} values starting at {@code index}, advancing by
+   * the length of each encoding as it is found.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int getInts(
+    final ByteBuffer src,
+    final int index,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    final int limit = src.limit();
+    int o = index;
+    for (int k = 0; k < count; ++k) {
+      final int length;
+      final int x;
+      if (limit - o >= 8) {
+        final long word = littleEndianWord(src, o);
+        length = wordLength(word);
+        x = wideInt(word, length, o);
+      } else {
+        length = narrowLength(src, o, VarInts.INT_LENGTH_MAX);
+        x = checkInt(narrowValue(src, o, length), length, o);
+      }
+      dst[dstOff + k] = zigzag ? zigZagDecodeInt(x) : x;
+      o += length;
+    }
+    return o;
+  }
+
+  /**
+   * Decode {@code count} values starting at {@code offset}, advancing by
+   * the length of each encoding as it is found.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int getLongs(
+    final byte[] src,
+    final int offset,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    int o = offset;
+    for (int k = 0; k < count; ++k) {
+      int length = VarInts.LONG_LENGTH_MAX;
+      long word = 0L;
+      if (src.length - o >= 8) {
+        word = (long) LONG_LE.get(src, o);
+        length = wordLength(word);
+      }
+      final long x;
+      if (length <= 8) {
+        x = checkLong(gather(wordTruncate(word, length)), length, o);
+      } else {
+        length = narrowLongLength(src, o);
+        x = checkLong(narrowValue(src, o, length), length, o);
+      }
+      dst[dstOff + k] = zigzag ? zigZagDecodeLong(x) : x;
+      o += length;
+    }
+    return o;
+  }
+
+  /**
+   * Decode {@code count} values starting at {@code index}, advancing by
+   * the length of each encoding as it is found.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int getLongs(
+    final ByteBuffer src,
+    final int index,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    final int limit = src.limit();
+    int o = index;
+    for (int k = 0; k < count; ++k) {
+      int length = VarInts.LONG_LENGTH_MAX;
+      long word = 0L;
+      if (limit - o >= 8) {
+        word = littleEndianWord(src, o);
+        length = wordLength(word);
+      }
+      final long x;
+      if (length <= 8) {
+        x = checkLong(gather(wordTruncate(word, length)), length, o);
+      } else {
+        length = narrowLongLength(src, o);
+        x = checkLong(narrowValue(src, o, length), length, o);
+      }
+      dst[dstOff + k] = zigzag ? zigZagDecodeLong(x) : x;
+      o += length;
+    }
+    return o;
+  }
+
+  private static long littleEndianWord(
+    final ByteBuffer src,
+    final int index)
+  {
+    final long x = src.getLong(index);
+    if (src.order().equals(ByteOrder.LITTLE_ENDIAN)) {
+      return x;
+    }
+    return Long.reverseBytes(x);
+  }
+}
@@ -0,0 +1,1291 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Variable-length integer encoding functions.
+ * </p>
+ * <p>
+ * Values are encoded as unsigned LEB128: seven bits per byte, least
+ * significant group first, with the high bit of each byte set if another
+ * byte follows. An {@code int} occupies between 1 and
+ * {@link #INT_LENGTH_MAX} bytes, and a {@code long} between 1 and
+ * {@link #LONG_LENGTH_MAX} bytes. The {@code Signed} functions first map
+ * values through the zigzag encoding so that values of small magnitude
+ * produce short encodings regardless of sign.
+ * </p>
+ * <p>
+ * Decoding is strict: an encoding that is longer than necessary, or that
+ * holds more bits than the target type, is rejected with
+ * {@link IllegalArgumentException}. The number of bytes consumed by a
+ * decoding function is therefore always the encoded length of the value
+ * it returned. Where at least 8 bytes are available, a value is decoded
+ * from a single 8-byte load without examining each byte in turn.
+ * </p>
+ */
+
+public final class VarInts
+{
+  /**
+   * The maximum number of bytes in an encoded {@code int}.
+   */
+
+  public static final int INT_LENGTH_MAX = 5;
+
+  /**
+   * The maximum number of bytes in an encoded {@code long}.
+   */
+
+  public static final int LONG_LENGTH_MAX = 10;
+
+  private VarInts()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Map a signed value onto an unsigned value such that values of small
+   * magnitude map to small values: {@code 0, -1, 1, -2, 2} become
+   * {@code 0, 1, 2, 3, 4}.
+   *
+   * @param x The value
+   *
+   * @return The zigzag encoding of {@code x}
+   */
+
+  public static int zigZagEncodeInt(
+    final int x)
+  {
+    return (x << 1) ^ (x >> 31);
+  }
+
+  /**
+   * The inverse of {@link #zigZagEncodeInt(int)}.
+   *
+   * @param x The zigzag encoded value
+   *
+   * @return The decoded value
+   */
+
+  public static int zigZagDecodeInt(
+    final int x)
+  {
+    return (x >>> 1) ^ -(x & 1);
+  }
+
+  /**
+   * Map a signed value onto an unsigned value such that values of small
+   * magnitude map to small values: {@code 0, -1, 1, -2, 2} become
+   * {@code 0, 1, 2, 3, 4}.
+   *
+   * @param x The value
+   *
+   * @return The zigzag encoding of {@code x}
+   */
+
+  public static long zigZagEncodeLong(
+    final long x)
+  {
+    return (x << 1) ^ (x >> 63);
+  }
+
+  /**
+   * The inverse of {@link #zigZagEncodeLong(long)}.
+   *
+   * @param x The zigzag encoded value
+   *
+   * @return The decoded value
+   */
+
+  public static long zigZagDecodeLong(
+    final long x)
+  {
+    return (x >>> 1) ^ -(x & 1L);
+  }
+
+  /**
+   * @param x The value, treated as unsigned
+   *
+   * @return The number of bytes required to encode {@code x}
+   */
+
+  public static int encodedLengthInt(
+    final int x)
+  {
+    return (38 - Integer.numberOfLeadingZeros(x | 1)) / 7;
+  }
+
+  /**
+   * @param x The value, treated as unsigned
+   *
+   * @return The number of bytes required to encode {@code x}
+   */
+
+  public static int encodedLengthLong(
+    final long x)
+  {
+    return (70 - Long.numberOfLeadingZeros(x | 1L)) / 7;
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The number of bytes required to encode {@code x} with the
+   * zigzag encoding
+   */
+
+  public static int encodedLengthSignedInt(
+    final int x)
+  {
+    return encodedLengthInt(zigZagEncodeInt(x));
+  }
+
+  /**
+   * @param x The value
+   *
+   * @return The number of bytes required to encode {@code x} with the
+   * zigzag encoding
+   */
+
+  public static int encodedLengthSignedLong(
+    final long x)
+  {
+    return encodedLengthLong(zigZagEncodeLong(x));
+  }
+
+  /**
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLengthInts(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    return lengthInts(src, srcOff, count, false);
+  }
+
+  /**
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values
+   */
+
+  public static long encodedLengthLongs(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    return lengthLongs(src, srcOff, count, false);
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values with the
+   * zigzag encoding
+   */
+
+  public static long encodedLengthSignedInts(
+    final int[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    return lengthInts(src, srcOff, count, true);
+  }
+
+  /**
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param count  The number of values
+   *
+   * @return The number of bytes required to encode the values with the
+   * zigzag encoding
+   */
+
+  public static long encodedLengthSignedLongs(
+    final long[] src,
+    final int srcOff,
+    final int count)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    return lengthLongs(src, srcOff, count, true);
+  }
+
+  /**
+   * <p>
+   * Encode {@code x} into {@code dst} starting at {@code offset}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if {@code dst}
+   * does not have room for the encoded value at {@code offset}; nothing
+   * is written in that case.
+   * </p>
+   *
+   * @param x      The value, treated as unsigned
+   * @param dst    The destination array
+   * @param offset The starting index
+   *
+   * @return The index following the last byte written
+   */
+
+  public static int encodeInt(
+    final int x,
+    final byte[] dst,
+    final int offset)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(offset, encodedLengthInt(x), dst.length);
+    return VarIntCoding.putInt(dst, offset, x);
+  }
+
+  /**
+   * <p>
+   * Encode {@code x} into {@code dst} starting at {@code offset}.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if {@code dst}
+   * does not have room for the encoded value at {@code offset}; nothing
+   * is written in that case.
+   * </p>
+   *
+   * @param x      The value, treated as unsigned
+   * @param dst    The destination array
+   * @param offset The starting index
+   *
+   * @return The index following the last byte written
+   */
+
+  public static int encodeLong(
+    final long x,
+    final byte[] dst,
+    final int offset)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(offset, encodedLengthLong(x), dst.length);
+    return VarIntCoding.putLong(dst, offset, x);
+  }
+
+  /**
+   * Encode {@code x} with the zigzag encoding into {@code dst} starting
+   * at {@code offset}.
+   *
+   * @param x      The value
+   * @param dst    The destination array
+   * @param offset The starting index
+   *
+   * @return The index following the last byte written
+   *
+   * @see #encodeInt(int, byte[], int)
+   */
+
+  public static int encodeSignedInt(
+    final int x,
+    final byte[] dst,
+    final int offset)
+  {
+    return encodeInt(zigZagEncodeInt(x), dst, offset);
+  }
+
+  /**
+   * Encode {@code x} with the zigzag encoding into {@code dst} starting
+   * at {@code offset}.
+   *
+   * @param x      The value
+   * @param dst    The destination array
+   * @param offset The starting index
+   *
+   * @return The index following the last byte written
+   *
+   * @see #encodeLong(long, byte[], int)
+   */
+
+  public static int encodeSignedLong(
+    final long x,
+    final byte[] dst,
+    final int offset)
+  {
+    return encodeLong(zigZagEncodeLong(x), dst, offset);
+  }
+
+  /**
+   * <p>
+   * Encode {@code x} into {@code dst} starting at {@code index}. The
+   * buffer's position is ignored.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if {@code dst}
+   * does not have room before its limit for the encoded value at
+   * {@code index}; nothing is written in that case.
+   * </p>
+   *
+   * @param x     The value, treated as unsigned
+   * @param dst   The destination buffer
+   * @param index The starting index
+   *
+   * @return The index following the last byte written
+   */
+
+  public static int encodeInt(
+    final int x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(index, encodedLengthInt(x), dst.limit());
+    return VarIntCoding.putInt(dst, index, x);
+  }
+
+  /**
+   * <p>
+   * Encode {@code x} into {@code dst} starting at {@code index}. The
+   * buffer's position is ignored.
+   * </p>
+   * <p>
+   * The function throws {@link IndexOutOfBoundsException} if {@code dst}
+   * does not have room before its limit for the encoded value at
+   * {@code index}; nothing is written in that case.
+   * </p>
+   *
+   * @param x     The value, treated as unsigned
+   * @param dst   The destination buffer
+   * @param index The starting index
+   *
+   * @return The index following the last byte written
+   */
+
+  public static int encodeLong(
+    final long x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(index, encodedLengthLong(x), dst.limit());
+    return VarIntCoding.putLong(dst, index, x);
+  }
+
+  /**
+   * Encode {@code x} with the zigzag encoding into {@code dst} starting
+   * at {@code index}.
+   *
+   * @param x     The value
+   * @param dst   The destination buffer
+   * @param index The starting index
+   *
+   * @return The index following the last byte written
+   *
+   * @see #encodeInt(int, ByteBuffer, int)
+   */
+
+  public static int encodeSignedInt(
+    final int x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    return encodeInt(zigZagEncodeInt(x), dst, index);
+  }
+
+  /**
+   * Encode {@code x} with the zigzag encoding into {@code dst} starting
+   * at {@code index}.
+   *
+   * @param x     The value
+   * @param dst   The destination buffer
+   * @param index The starting index
+   *
+   * @return The index following the last byte written
+   *
+   * @see #encodeLong(long, ByteBuffer, int)
+   */
+
+  public static int encodeSignedLong(
+    final long x,
+    final ByteBuffer dst,
+    final int index)
+  {
+    return encodeLong(zigZagEncodeLong(x), dst, index);
+  }
+
+  /**
+   * <p>
+   * Decode a value from {@code src} starting at {@code offset}. The
+   * number of bytes consumed is {@link #encodedLengthInt(int)} of the
+   * result.
+   * </p>
+   *
+   * @param src    The source array
+   * @param offset The starting index
+   *
+   * @return The decoded value, as an unsigned bit pattern
+   *
+   * @throws IndexOutOfBoundsException If the encoding is truncated by
+   *                                   the end of the array
+   * @throws IllegalArgumentException  If the encoding is malformed
+   */
+
+  public static int decodeInt(
+    final byte[] src,
+    final int offset)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(offset, src.length);
+    return VarIntCoding.getInt(src, offset);
+  }
+
+  /**
+   * <p>
+   * Decode a value from {@code src} starting at {@code offset}. The
+   * number of bytes consumed is {@link #encodedLengthLong(long)} of the
+   * result.
+   * </p>
+   *
+   * @param src    The source array
+   * @param offset The starting index
+   *
+   * @return The decoded value, as an unsigned bit pattern
+   *
+   * @throws IndexOutOfBoundsException If the encoding is truncated by
+   *                                   the end of the array
+   * @throws IllegalArgumentException  If the encoding is malformed
+   */
+
+  public static long decodeLong(
+    final byte[] src,
+    final int offset)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(offset, src.length);
+    return VarIntCoding.getLong(src, offset);
+  }
+
+  /**
+   * Decode a zigzag encoded value from {@code src} starting at
+   * {@code offset}. The number of bytes consumed is
+   * {@link #encodedLengthSignedInt(int)} of the result.
+   *
+   * @param src    The source array
+   * @param offset The starting index
+   *
+   * @return The decoded value
+   *
+   * @see #decodeInt(byte[], int)
+   */
+
+  public static int decodeSignedInt(
+    final byte[] src,
+    final int offset)
+  {
+    return zigZagDecodeInt(decodeInt(src, offset));
+  }
+
+  /**
+   * Decode a zigzag encoded value from {@code src} starting at
+   * {@code offset}. The number of bytes consumed is
+   * {@link #encodedLengthSignedLong(long)} of the result.
+   *
+   * @param src    The source array
+   * @param offset The starting index
+   *
+   * @return The decoded value
+   *
+   * @see #decodeLong(byte[], int)
+   */
+
+  public static long decodeSignedLong(
+    final byte[] src,
+    final int offset)
+  {
+    return zigZagDecodeLong(decodeLong(src, offset));
+  }
+
+  /**
+   * <p>
+   * Decode a value from {@code src} starting at {@code index}. The
+   * buffer's position is ignored. The number of bytes consumed is
+   * {@link #encodedLengthInt(int)} of the result.
+   * </p>
+   *
+   * @param src   The source buffer
+   * @param index The starting index
+   *
+   * @return The decoded value, as an unsigned bit pattern
+   *
+   * @throws IndexOutOfBoundsException If the encoding is truncated by
+   *                                   the buffer's limit
+   * @throws IllegalArgumentException  If the encoding is malformed
+   */
+
+  public static int decodeInt(
+    final ByteBuffer src,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(index, src.limit());
+    return VarIntCoding.getInt(src, index);
+  }
+
+  /**
+   * <p>
+   * Decode a value from {@code src} starting at {@code index}. The
+   * buffer's position is ignored. The number of bytes consumed is
+   * {@link #encodedLengthLong(long)} of the result.
+   * </p>
+   *
+   * @param src   The source buffer
+   * @param index The starting index
+   *
+   * @return The decoded value, as an unsigned bit pattern
+   *
+   * @throws IndexOutOfBoundsException If the encoding is truncated by
+   *                                   the buffer's limit
+   * @throws IllegalArgumentException  If the encoding is malformed
+   */
+
+  public static long decodeLong(
+    final ByteBuffer src,
+    final int index)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.checkIndex(index, src.limit());
+    return VarIntCoding.getLong(src, index);
+  }
+
+  /**
+   * Decode a zigzag encoded value from {@code src} starting at
+   * {@code index}. The number of bytes consumed is
+   * {@link #encodedLengthSignedInt(int)} of the result.
+   *
+   * @param src   The source buffer
+   * @param index The starting index
+   *
+   * @return The decoded value
+   *
+   * @see #decodeInt(ByteBuffer, int)
+   */
+
+  public static int decodeSignedInt(
+    final ByteBuffer src,
+    final int index)
+  {
+    return zigZagDecodeInt(decodeInt(src, index));
+  }
+
+  /**
+   * Decode a zigzag encoded value from {@code src} starting at
+   * {@code index}. The number of bytes consumed is
+   * {@link #encodedLengthSignedLong(long)} of the result.
+   *
+   * @param src   The source buffer
+   * @param index The starting index
+   *
+   * @return The decoded value
+   *
+   * @see #decodeLong(ByteBuffer, int)
+   */
+
+  public static long decodeSignedLong(
+    final ByteBuffer src,
+    final int index)
+  {
+    return zigZagDecodeLong(decodeLong(src, index));
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return encodeInts(src, srcOff, dst, dstOff, count, false);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array, and nothing is written in that case.
+   * </p>
+   *
+   * @param src    The values, treated as unsigned
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return encodeLongs(src, srcOff, dst, dstOff, count, false);
+  }
+
+  /**
+   * Encode {@code count} values from {@code src} with the zigzag
+   * encoding.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @see #encodeIntArray(int[], int, byte[], int, int)
+   */
+
+  public static int encodeSignedIntArray(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return encodeInts(src, srcOff, dst, dstOff, count, true);
+  }
+
+  /**
+   * Encode {@code count} values from {@code src} with the zigzag
+   * encoding.
+   *
+   * @param src    The values
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @see #encodeLongArray(long[], int, byte[], int, int)
+   */
+
+  public static int encodeSignedLongArray(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return encodeLongs(src, srcOff, dst, dstOff, count, true);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the values decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If an encoding is malformed
+   */
+
+  public static int decodeIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeInts(src, srcOff, dst, dstOff, count, false);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff}.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the values decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If an encoding is malformed
+   */
+
+  public static int decodeLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeLongs(src, srcOff, dst, dstOff, count, false);
+  }
+
+  /**
+   * Decode {@code count} zigzag encoded values from {@code src}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @see #decodeIntArray(byte[], int, int[], int, int)
+   */
+
+  public static int decodeSignedIntArray(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeInts(src, srcOff, dst, dstOff, count, true);
+  }
+
+  /**
+   * Decode {@code count} zigzag encoded values from {@code src}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @see #decodeLongArray(byte[], int, long[], int, int)
+   */
+
+  public static int decodeSignedLongArray(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeLongs(src, srcOff, dst, dstOff, count, true);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position is ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values, treated as unsigned
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return encodeInts(src, srcOff, dst, dstIndex, count, false);
+  }
+
+  /**
+   * <p>
+   * Encode {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstIndex}. The
+   * buffer's position is ignored.
+   * </p>
+   * <p>
+   * The ranges are checked once for the whole batch: the function throws
+   * {@link IndexOutOfBoundsException} if either range lies outside its
+   * array or buffer, and nothing is written in that case.
+   * </p>
+   *
+   * @param src      The values, treated as unsigned
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   */
+
+  public static int encodeLongArray(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return encodeLongs(src, srcOff, dst, dstIndex, count, false);
+  }
+
+  /**
+   * Encode {@code count} values from {@code src} with the zigzag
+   * encoding.
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @see #encodeIntArray(int[], int, ByteBuffer, int, int)
+   */
+
+  public static int encodeSignedIntArray(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return encodeInts(src, srcOff, dst, dstIndex, count, true);
+  }
+
+  /**
+   * Encode {@code count} values from {@code src} with the zigzag
+   * encoding.
+   *
+   * @param src      The values
+   * @param srcOff   The starting index in {@code src}
+   * @param dst      The destination buffer
+   * @param dstIndex The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code dst} following the last byte written
+   *
+   * @see #encodeLongArray(long[], int, ByteBuffer, int, int)
+   */
+
+  public static int encodeSignedLongArray(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count)
+  {
+    return encodeLongs(src, srcOff, dst, dstIndex, count, true);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position is ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the values decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If an encoding is malformed
+   */
+
+  public static int decodeIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeInts(src, srcIndex, dst, dstOff, count, false);
+  }
+
+  /**
+   * <p>
+   * Decode {@code count} values from {@code src}, starting at
+   * {@code srcIndex}, into {@code dst} starting at {@code dstOff}. The
+   * buffer's position is ignored.
+   * </p>
+   * <p>
+   * The destination range is checked once. If the source is truncated
+   * or malformed, an exception is raised and the values decoded so far
+   * have already been written to {@code dst}.
+   * </p>
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @throws IllegalArgumentException  If an encoding is malformed
+   */
+
+  public static int decodeLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeLongs(src, srcIndex, dst, dstOff, count, false);
+  }
+
+  /**
+   * Decode {@code count} zigzag encoded values from {@code src}.
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @see #decodeIntArray(ByteBuffer, int, int[], int, int)
+   */
+
+  public static int decodeSignedIntArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeInts(src, srcIndex, dst, dstOff, count, true);
+  }
+
+  /**
+   * Decode {@code count} zigzag encoded values from {@code src}.
+   *
+   * @param src      The source buffer
+   * @param srcIndex The starting index in {@code src}
+   * @param dst      The destination array
+   * @param dstOff   The starting index in {@code dst}
+   * @param count    The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @see #decodeLongArray(ByteBuffer, int, long[], int, int)
+   */
+
+  public static int decodeSignedLongArray(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count)
+  {
+    return decodeLongs(src, srcIndex, dst, dstOff, count, true);
+  }
+
+  private static long lengthInts(
+    final int[] src,
+    final int srcOff,
+    final int count,
+    final boolean zigzag)
+  {
+    long size = 0L;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOff + k];
+      size += encodedLengthInt(zigzag ? zigZagEncodeInt(x) : x);
+    }
+    return size;
+  }
+
+  private static long lengthLongs(
+    final long[] src,
+    final int srcOff,
+    final int count,
+    final boolean zigzag)
+  {
+    long size = 0L;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOff + k];
+      size += encodedLengthLong(zigzag ? zigZagEncodeLong(x) : x);
+    }
+    return size;
+  }
+
+  /**
+   * @return {@code true} if {@code count} values of at most
+   * {@code lengthMax} bytes each are certain to fit at {@code index};
+   * only if they are not is the exact encoded size computed
+   */
+
+  private static boolean worstCaseFits(
+    final int index,
+    final int limit,
+    final int count,
+    final int lengthMax)
+  {
+    return index >= 0
+      && (long) limit - (long) index >= (long) count * (long) lengthMax;
+  }
+
+  private static int encodeInts(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (!worstCaseFits(dstOff, dst.length, count, INT_LENGTH_MAX)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff,
+        lengthInts(src, srcOff, count, zigzag),
+        (long) dst.length);
+    }
+
+    int o = dstOff;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOff + k];
+      o = VarIntCoding.putInt(dst, o, zigzag ? zigZagEncodeInt(x) : x);
+    }
+    return o;
+  }
+
+  private static int encodeLongs(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (!worstCaseFits(dstOff, dst.length, count, LONG_LENGTH_MAX)) {
+      Objects.checkFromIndexSize(
+        (long) dstOff,
+        lengthLongs(src, srcOff, count, zigzag),
+        (long) dst.length);
+    }
+
+    int o = dstOff;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOff + k];
+      o = VarIntCoding.putLong(dst, o, zigzag ? zigZagEncodeLong(x) : x);
+    }
+    return o;
+  }
+
+  private static int encodeInts(
+    final int[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (!worstCaseFits(dstIndex, dst.limit(), count, INT_LENGTH_MAX)) {
+      Objects.checkFromIndexSize(
+        (long) dstIndex,
+        lengthInts(src, srcOff, count, zigzag),
+        (long) dst.limit());
+    }
+
+    int o = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final int x = src[srcOff + k];
+      o = VarIntCoding.putInt(dst, o, zigzag ? zigZagEncodeInt(x) : x);
+    }
+    return o;
+  }
+
+  private static int encodeLongs(
+    final long[] src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstIndex,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(srcOff, count, src.length);
+    if (!worstCaseFits(dstIndex, dst.limit(), count, LONG_LENGTH_MAX)) {
+      Objects.checkFromIndexSize(
+        (long) dstIndex,
+        lengthLongs(src, srcOff, count, zigzag),
+        (long) dst.limit());
+    }
+
+    int o = dstIndex;
+    for (int k = 0; k < count; ++k) {
+      final long x = src[srcOff + k];
+      o = VarIntCoding.putLong(dst, o, zigzag ? zigZagEncodeLong(x) : x);
+    }
+    return o;
+  }
+
+  private static int decodeInts(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcOff, 0, src.length);
+
+    return VarIntCoding.getInts(src, srcOff, dst, dstOff, count, zigzag);
+  }
+
+  private static int decodeLongs(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcOff, 0, src.length);
+
+    return VarIntCoding.getLongs(src, srcOff, dst, dstOff, count, zigzag);
+  }
+
+  private static int decodeInts(
+    final ByteBuffer src,
+    final int srcIndex,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcIndex, 0, src.limit());
+
+    return VarIntCoding.getInts(src, srcIndex, dst, dstOff, count, zigzag);
+  }
+
+  private static int decodeLongs(
+    final ByteBuffer src,
+    final int srcIndex,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final boolean zigzag)
+  {
+    Objects.requireNonNull(src, "Source");
+    Objects.requireNonNull(dst, "Destination");
+    Objects.checkFromIndexSize(dstOff, count, dst.length);
+    Objects.checkFromIndexSize(srcIndex, 0, src.limit());
+
+    return VarIntCoding.getLongs(src, srcIndex, dst, dstOff, count, zigzag);
+  }
+}
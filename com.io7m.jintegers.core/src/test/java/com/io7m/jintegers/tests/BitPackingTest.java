@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.BitPacking;
+
+@SuppressWarnings({ "null", "static-method" }) public final class BitPackingTest
+{
+  private static long[] values(
+    final int count,
+    final int width)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 67L + width);
+    final long[] r = new long[count];
+    for (int k = 0; k < count; ++k) {
+      r[k] = random.nextLong() & (-1L >>> (64 - width));
+    }
+    return r;
+  }
+
+  private static long signExtend(
+    final long x,
+    final int width)
+  {
+    return (x << (64 - width)) >> (64 - width);
+  }
+
+  @Test public void testPackedLength()
+  {
+    Assert.assertEquals(0L, BitPacking.packedLengthBytes(0, 12));
+    Assert.assertEquals(2L, BitPacking.packedLengthBytes(1, 12));
+    Assert.assertEquals(3L, BitPacking.packedLengthBytes(2, 12));
+    Assert.assertEquals(1L, BitPacking.packedLengthLongs(5, 12));
+    Assert.assertEquals(2L, BitPacking.packedLengthLongs(6, 12));
+    Assert.assertEquals(
+      (long) Integer.MAX_VALUE * 8L,
+      BitPacking.packedLengthBytes(Integer.MAX_VALUE, 64));
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] b = new byte[3];
+    BitPacking.packIntArray(new int[]{0xabc, 0x123}, 0, b, 0, 2, 12);
+    Assert.assertArrayEquals(new byte[]{(byte) 0xbc, 0x3a, 0x12}, b);
+
+    final byte[] c = {(byte) 0xff, (byte) 0xff};
+    BitPacking.packIntArray(new int[]{0xff, 0x1}, 0, c, 0, 2, 3);
+    Assert.assertArrayEquals(new byte[]{0x0f, (byte) 0xff}, c);
+  }
+
+  @Test public void testBytesLongsAgree()
+  {
+    for (int width = 1; width <= 64; ++width) {
+      final int count = 77;
+      final long[] v = values(count, width);
+      final int nb = (int) BitPacking.packedLengthBytes(count, width);
+      final int nw = (int) BitPacking.packedLengthLongs(count, width);
+      final byte[] b = new byte[nw * 8];
+      final long[] w = new long[nw];
+      BitPacking.packLongArray(v, 0, b, 0, count, width);
+      BitPacking.packLongArray(v, 0, w, 0, count, width);
+
+      final ByteBuffer words =
+        ByteBuffer.allocate(nw * 8).order(ByteOrder.LITTLE_ENDIAN);
+      words.asLongBuffer().put(w);
+      Assert.assertArrayEquals(
+        Arrays.copyOf(words.array(), nb), Arrays.copyOf(b, nb));
+    }
+  }
+
+  @Test public void testBytesIdentity()
+  {
+    for (int width = 1; width <= 64; ++width) {
+      for (final int count : new int[]{0, 1, 7, 63, 64, 65, 200}) {
+        final long[] v = values(count, width);
+        final int size = (int) BitPacking.packedLengthBytes(count, width);
+        final byte[] b = new byte[3 + size + 2];
+        Arrays.fill(b, (byte) 0x5a);
+        BitPacking.packLongArray(v, 0, b, 3, count, width);
+        Assert.assertEquals(0x5a, b[3 + size]);
+        Assert.assertEquals(0x5a, b[2]);
+
+        final long[] r = new long[count];
+        BitPacking.unpackLongArray(b, 3, r, 0, count, width);
+        Assert.assertArrayEquals(v, r);
+
+        final byte[] exact = Arrays.copyOfRange(b, 3, 3 + size);
+        Arrays.fill(r, 0L);
+        BitPacking.unpackLongArray(exact, 0, r, 0, count, width);
+        Assert.assertArrayEquals(v, r);
+
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(v[k], BitPacking.get(exact, 0, k, width));
+          Assert.assertEquals(
+            signExtend(v[k], width),
+            BitPacking.getSigned(exact, 0, k, width));
+        }
+      }
+    }
+  }
+
+  @Test public void testLongsIdentity()
+  {
+    for (int width = 1; width <= 64; ++width) {
+      for (final int count : new int[]{0, 1, 7, 63, 64, 65, 200}) {
+        final long[] v = values(count, width);
+        final int size = (int) BitPacking.packedLengthLongs(count, width);
+        final long[] w = new long[1 + size];
+        BitPacking.packLongArray(v, 0, w, 1, count, width);
+
+        final long[] r = new long[count];
+        BitPacking.unpackLongArray(w, 1, r, 0, count, width);
+        Assert.assertArrayEquals(v, r);
+        BitPacking.unpackSignedLongArray(w, 1, r, 0, count, width);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(signExtend(v[k], width), r[k]);
+          Assert.assertEquals(v[k], BitPacking.get(w, 1, k, width));
+          Assert.assertEquals(
+            signExtend(v[k], width), BitPacking.getSigned(w, 1, k, width));
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final int width : new int[]{1, 10, 12, 20, 31, 57, 58, 63, 64}) {
+      final int count = 131;
+      final long[] v = values(count, width);
+      final int size = (int) BitPacking.packedLengthBytes(count, width);
+      final byte[] expected = new byte[size];
+      BitPacking.packLongArray(v, 0, expected, 0, count, width);
+
+      for (final ByteBuffer buf : TestBuffers.buffers(size + 1)) {
+        BitPacking.packLongArray(v, 0, buf, 1, count, width);
+        final byte[] got = new byte[size];
+        buf.get(1, got);
+        Assert.assertArrayEquals(expected, got);
+
+        final long[] r = new long[count];
+        BitPacking.unpackSignedLongArray(buf, 1, r, 0, count, width);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(signExtend(v[k], width), r[k]);
+          Assert.assertEquals(v[k], BitPacking.get(buf, 1, k, width));
+        }
+        BitPacking.unpackLongArray(buf, 1, r, 0, count, width);
+        Assert.assertArrayEquals(v, r);
+      }
+    }
+  }
+
+  @Test public void testIntsIdentity()
+  {
+    for (int width = 1; width <= 32; ++width) {
+      final int count = 99;
+      final long[] lv = values(count, width);
+      final int[] v = new int[count];
+      for (int k = 0; k < count; ++k) {
+        v[k] = (int) signExtend(lv[k], width);
+      }
+
+      final byte[] b =
+        new byte[(int) BitPacking.packedLengthBytes(count, width)];
+      final long[] w =
+        new long[(int) BitPacking.packedLengthLongs(count, width)];
+      BitPacking.packIntArray(v, 0, b, 0, count, width);
+      BitPacking.packIntArray(v, 0, w, 0, count, width);
+
+      final int[] r = new int[count];
+      BitPacking.unpackSignedIntArray(b, 0, r, 0, count, width);
+      Assert.assertArrayEquals(v, r);
+      BitPacking.unpackSignedIntArray(w, 0, r, 0, count, width);
+      Assert.assertArrayEquals(v, r);
+      BitPacking.unpackIntArray(b, 0, r, 0, count, width);
+      for (int k = 0; k < count; ++k) {
+        Assert.assertEquals(lv[k], r[k] & 0xffffffffL);
+      }
+
+      for (final ByteBuffer buf : TestBuffers.buffers(b.length)) {
+        BitPacking.packIntArray(v, 0, buf, 0, count, width);
+        Arrays.fill(r, 0);
+        BitPacking.unpackSignedIntArray(buf, 0, r, 0, count, width);
+        Assert.assertArrayEquals(v, r);
+        BitPacking.unpackIntArray(buf, 0, r, 0, count, width);
+        Assert.assertEquals(lv[5], r[5] & 0xffffffffL);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testWidthZero()
+  {
+    BitPacking.packLongArray(new long[1], 0, new byte[8], 0, 1, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testWidthLarge()
+  {
+    BitPacking.packLongArray(new long[1], 0, new byte[16], 0, 1, 65);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testIntWidth()
+  {
+    BitPacking.packIntArray(new int[1], 0, new byte[8], 0, 1, 33);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testPackRange()
+  {
+    BitPacking.packLongArray(new long[8], 0, new byte[10], 0, 8, 11);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testGetRange()
+  {
+    BitPacking.get(new byte[3], 0, 2, 12);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testGetNegative()
+  {
+    BitPacking.get(new long[3], 0, -1, 12);
+  }
+}
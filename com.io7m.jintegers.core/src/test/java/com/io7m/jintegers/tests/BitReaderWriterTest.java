@@ -0,0 +1,313 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.BitOrder;
+import com.io7m.jintegers.BitPacking;
+import com.io7m.jintegers.BitReader;
+import com.io7m.jintegers.BitWriter;
+
+@SuppressWarnings({ "null", "static-method" }) public final class BitReaderWriterTest
+{
+  private static int[] widths(
+    final int count)
+  {
+    final SplittableRandom random = new SplittableRandom(count);
+    final int[] r = new int[count];
+    for (int k = 0; k < count; ++k) {
+      r[k] = random.nextInt(BitReader.FIELD_BITS_MAX + 1);
+    }
+    return r;
+  }
+
+  private static long[] fields(
+    final int[] widths)
+  {
+    final SplittableRandom random = new SplittableRandom(widths.length * 3L);
+    final long[] r = new long[widths.length];
+    for (int k = 0; k < widths.length; ++k) {
+      r[k] = random.nextLong() & ~(-1L << widths[k]);
+    }
+    return r;
+  }
+
+  private static void checkRead(
+    final BitReader reader,
+    final int[] widths,
+    final long[] fields)
+  {
+    long position = 0L;
+    for (int k = 0; k < widths.length; ++k) {
+      Assert.assertEquals(position, reader.bitPosition());
+      Assert.assertEquals(fields[k], reader.peekBits(widths[k]));
+      Assert.assertEquals(fields[k], reader.readBits(widths[k]));
+      position += widths[k];
+    }
+    Assert.assertEquals(position, reader.bitPosition());
+  }
+
+  @Test public void testExactMSB()
+  {
+    final byte[] b = new byte[2];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    writer.writeBits(0b101L, 3).writeBits(0b00001L, 5).writeBit(true);
+    Assert.assertEquals(9L, writer.bitPosition());
+    Assert.assertEquals(2, writer.flush());
+    Assert.assertArrayEquals(new byte[]{(byte) 0xa1, (byte) 0x80}, b);
+
+    final BitReader reader = new BitReader(b, 0, BitOrder.MSB_FIRST);
+    Assert.assertEquals(0b1010L, reader.readBits(4));
+    Assert.assertEquals(0b00011L, reader.readBits(5));
+    Assert.assertEquals(7L, reader.bitsRemaining());
+  }
+
+  @Test public void testExactLSB()
+  {
+    final byte[] b = new byte[2];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.LSB_FIRST);
+    writer.writeBits(0b101L, 3).writeBits(0b00001L, 5).writeBit(true);
+    Assert.assertEquals(2, writer.flush());
+    Assert.assertArrayEquals(new byte[]{0x0d, 0x01}, b);
+
+    final BitReader reader = new BitReader(b, 0, BitOrder.LSB_FIRST);
+    Assert.assertEquals(0b1101L, reader.readBits(4));
+    Assert.assertEquals(0b10000L, reader.readBits(5));
+  }
+
+  @Test public void testRoundTrip()
+  {
+    for (final BitOrder order : BitOrder.values()) {
+      for (final int count : new int[]{0, 1, 2, 10, 1000}) {
+        final int[] w = widths(count);
+        final long[] v = fields(w);
+        final long bits = Arrays.stream(w).asLongStream().sum();
+        final int size = (int) ((bits + 7L) >>> 3);
+
+        final byte[] b = new byte[size + 1];
+        final BitWriter writer = new BitWriter(b, 1, order);
+        for (int k = 0; k < count; ++k) {
+          writer.writeBits(v[k] | (-1L << w[k]), w[k]);
+        }
+        Assert.assertEquals(bits, writer.bitPosition());
+        Assert.assertEquals(size + 1, writer.flush());
+        checkRead(new BitReader(b, 1, order), w, v);
+
+        for (final ByteBuffer buf : TestBuffers.buffers(size + 1)) {
+          final BitWriter bufferWriter = new BitWriter(buf, 1, order);
+          for (int k = 0; k < count; ++k) {
+            bufferWriter.writeBits(v[k], w[k]);
+          }
+          Assert.assertEquals(size + 1, bufferWriter.flush());
+          final byte[] got = new byte[size + 1];
+          buf.get(0, got);
+          Assert.assertArrayEquals(b, got);
+          checkRead(new BitReader(buf, 1, order), w, v);
+        }
+      }
+    }
+  }
+
+  @Test public void testBitPackingCompatible()
+  {
+    final long[] v = new long[100];
+    final SplittableRandom random = new SplittableRandom(1L);
+    for (int k = 0; k < v.length; ++k) {
+      v[k] = random.nextLong() >>> 51;
+    }
+    final byte[] packed = new byte[(int) BitPacking.packedLengthBytes(100, 13)];
+    BitPacking.packLongArray(v, 0, packed, 0, 100, 13);
+
+    final byte[] b = new byte[packed.length];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.LSB_FIRST);
+    for (final long x : v) {
+      writer.writeBits(x, 13);
+    }
+    writer.flush();
+    Assert.assertArrayEquals(packed, b);
+  }
+
+  @Test public void testSkip()
+  {
+    for (final BitOrder order : BitOrder.values()) {
+      final int[] w = widths(500);
+      final long[] v = fields(w);
+      final byte[] b = new byte[4000];
+      final BitWriter writer = new BitWriter(b, 0, order);
+      for (int k = 0; k < w.length; ++k) {
+        writer.writeBits(v[k], w[k]);
+      }
+      writer.flush();
+
+      for (final int from : new int[]{1, 3, 50, 499}) {
+        final BitReader reader = new BitReader(b, 0, order);
+        reader.readBits(w[0]);
+        long skip = 0L;
+        for (int k = 1; k < from; ++k) {
+          skip += w[k];
+        }
+        reader.skipBits(skip);
+        Assert.assertEquals(v[from], reader.readBits(w[from]));
+      }
+    }
+  }
+
+  @Test public void testUnary()
+  {
+    final long[] q = {0L, 1L, 7L, 56L, 57L, 63L, 64L, 200L, 3L};
+    for (final BitOrder order : BitOrder.values()) {
+      final byte[] b = new byte[64];
+      final BitWriter writer = new BitWriter(b, 0, order);
+      writer.writeBits(5L, 5);
+      for (final long x : q) {
+        writer.writeUnary(x);
+      }
+      writer.flush();
+
+      final BitReader reader = new BitReader(b, 0, order);
+      Assert.assertEquals(5L, reader.readBits(5));
+      long position = 5L;
+      for (final long x : q) {
+        Assert.assertEquals(x, reader.readUnary());
+        position += x + 1L;
+        Assert.assertEquals(position, reader.bitPosition());
+      }
+    }
+  }
+
+  @Test public void testUnaryTruncated()
+  {
+    final BitReader reader =
+      new BitReader(new byte[20], 0, BitOrder.LSB_FIRST);
+    reader.readBits(3);
+    try {
+      reader.readUnary();
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+    Assert.assertEquals(3L, reader.bitPosition());
+    Assert.assertEquals(157L, reader.bitsRemaining());
+  }
+
+  @Test public void testAlign()
+  {
+    final byte[] b = new byte[3];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    writer.writeBits(1L, 3).alignToByte().writeBits(0xffL, 8).alignToByte();
+    Assert.assertEquals(16L, writer.bitPosition());
+    Assert.assertEquals(2, writer.flush());
+
+    final BitReader reader = new BitReader(b, 0, BitOrder.MSB_FIRST);
+    Assert.assertEquals(1L, reader.readBits(3));
+    Assert.assertEquals(0xffL, reader.alignToByte().readBits(8));
+    Assert.assertEquals(16L, reader.alignToByte().bitPosition());
+  }
+
+  @Test public void testFlushContinue()
+  {
+    final byte[] b = new byte[20];
+    Arrays.fill(b, (byte) 0x55);
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.LSB_FIRST);
+    writer.writeBits(0x1fffL, 13);
+    Assert.assertEquals(2, writer.flush());
+    Assert.assertEquals((byte) 0x55, b[2]);
+
+    writer.writeBits(0L, 3).writeBits(-1L, 57).writeBits(-1L, 57);
+    Assert.assertEquals(17, writer.flush());
+    Assert.assertEquals((byte) 0x1f, b[1]);
+    Assert.assertEquals((byte) 0x55, b[17]);
+  }
+
+  @Test public void testTruncated()
+  {
+    final BitReader reader =
+      new BitReader(new byte[]{1, 2, 3}, 0, BitOrder.MSB_FIRST);
+    try {
+      reader.readBits(25);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+    Assert.assertEquals(0L, reader.bitPosition());
+    Assert.assertEquals(0x010203L, reader.readBits(24));
+    Assert.assertEquals(0L, reader.bitsRemaining());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testSkipTruncated()
+  {
+    new BitReader(new byte[100], 0, BitOrder.LSB_FIRST).skipBits(801L);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testTooWide()
+  {
+    new BitReader(new byte[100], 0, BitOrder.LSB_FIRST).readBits(58);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testNoRoom()
+  {
+    final BitWriter writer =
+      new BitWriter(new byte[7], 0, BitOrder.MSB_FIRST);
+    writer.writeBits(0L, 57).writeBits(0L, 7);
+  }
+
+  @Test public void testNoRoomBeforeWriting()
+  {
+    for (final BitOrder order : BitOrder.values()) {
+      final byte[] b = new byte[1];
+      final BitWriter writer = new BitWriter(b, 0, order);
+      writer.writeBits(0x1fL, 5);
+
+      try {
+        writer.writeBits(0L, 20);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException e) {
+        Assert.assertEquals(5L, writer.bitPosition());
+      }
+      try {
+        writer.writeUnary(3L);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException e) {
+        Assert.assertEquals(5L, writer.bitPosition());
+      }
+      try {
+        writer.writeUnary(Long.MAX_VALUE);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException e) {
+        Assert.assertEquals(5L, writer.bitPosition());
+      }
+
+      writer.writeBits(0L, 3);
+      Assert.assertEquals(1, writer.flush());
+      Assert.assertEquals(
+        order == BitOrder.MSB_FIRST ? (byte) 0xf8 : (byte) 0x1f, b[0]);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testFlushNoRoom()
+  {
+    final BitWriter writer =
+      new BitWriter(ByteBuffer.allocate(1), 0, BitOrder.MSB_FIRST);
+    writer.writeBits(0L, 9).flush();
+  }
+}
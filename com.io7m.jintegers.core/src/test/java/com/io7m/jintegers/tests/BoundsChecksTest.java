@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.BoundsChecks;
+import com.io7m.jintegers.Signed32;
+
+@SuppressWarnings({ "null", "static-method" }) public final class BoundsChecksTest
+{
+  @Test public void testCheckFrameBytes()
+  {
+    final byte[] b = new byte[8];
+    Assert.assertEquals(0, BoundsChecks.checkFrame(b, 0, 8));
+    Assert.assertEquals(3, BoundsChecks.checkFrame(b, 3, 5));
+    Assert.assertEquals(8, BoundsChecks.checkFrame(b, 8, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testCheckFrameBytesTooLarge()
+  {
+    BoundsChecks.checkFrame(new byte[8], 4, 5);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testCheckFrameBytesNegative()
+  {
+    BoundsChecks.checkFrame(new byte[8], -1, 1);
+  }
+
+  @Test(expected = NullPointerException.class) public void testCheckFrameBytesNull()
+  {
+    BoundsChecks.checkFrame((byte[]) null, 0, 0);
+  }
+
+  @Test public void testCheckFrameBuffer()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    Assert.assertEquals(2, BoundsChecks.checkFrame(b, 2, 6));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testCheckFrameBufferLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    b.limit(6);
+    BoundsChecks.checkFrame(b, 2, 6);
+  }
+
+  @Test public void testCheckElementsBytes()
+  {
+    final byte[] b = new byte[16];
+    Assert.assertEquals(4, BoundsChecks.checkElements(b, 4, 3, 4));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testCheckElementsBytesTooMany()
+  {
+    BoundsChecks.checkElements(new byte[16], 4, 4, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testCheckElementsBytesOverflow()
+  {
+    BoundsChecks.checkElements(new byte[16], 0, 0x40000001, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testCheckElementsBufferLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(16);
+    b.limit(12);
+    BoundsChecks.checkElements(b, 0, 2, 8);
+  }
+
+  @Test public void testCheckedFrameDecode()
+  {
+    final byte[] b = new byte[12];
+    Signed32.packToBytesBigEndian(1, b, 0);
+    Signed32.packToBytesBigEndian(2, b, 4);
+    Signed32.packToBytesBigEndian(3, b, 8);
+
+    final int base = BoundsChecks.checkElements(b, 0, 3, 4);
+    int sum = 0;
+    for (int index = 0; index < 3; ++index) {
+      sum += Signed32.Unchecked.unpackFromBytesBigEndian(b, base + index * 4);
+    }
+    Assert.assertEquals(6, sum);
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.ByteSwapping;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+
+@SuppressWarnings({ "null", "static-method" }) public final class ByteSwappingTest
+{
+  private static final int[] COUNTS = {0, 1, 2, 3, 5, 17, 100};
+
+  private static byte[] random(
+    final int size)
+  {
+    final byte[] data = new byte[size];
+    new Random(0x5eedL + size).nextBytes(data);
+    return data;
+  }
+
+  private static byte[] reversed(
+    final byte[] data,
+    final int offset,
+    final int count,
+    final int width)
+  {
+    final byte[] r = data.clone();
+    for (int k = 0; k < count; ++k) {
+      final int o = offset + (k * width);
+      for (int j = 0; j < width; ++j) {
+        r[o + j] = data[o + (width - 1) - j];
+      }
+    }
+    return r;
+  }
+
+  private static void swapInPlace(
+    final int width,
+    final byte[] data,
+    final int offset,
+    final int count)
+  {
+    switch (width) {
+      case 2 -> ByteSwapping.swap16(data, offset, count);
+      case 3 -> ByteSwapping.swap24(data, offset, count);
+      case 4 -> ByteSwapping.swap32(data, offset, count);
+      default -> ByteSwapping.swap64(data, offset, count);
+    }
+  }
+
+  private static void swapInPlace(
+    final int width,
+    final ByteBuffer data,
+    final int offset,
+    final int count)
+  {
+    switch (width) {
+      case 2 -> ByteSwapping.swap16(data, offset, count);
+      case 3 -> ByteSwapping.swap24(data, offset, count);
+      case 4 -> ByteSwapping.swap32(data, offset, count);
+      default -> ByteSwapping.swap64(data, offset, count);
+    }
+  }
+
+  private static void copySwap(
+    final int width,
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    switch (width) {
+      case 2 -> ByteSwapping.copySwap16(src, srcOff, dst, dstOff, count);
+      case 3 -> ByteSwapping.copySwap24(src, srcOff, dst, dstOff, count);
+      case 4 -> ByteSwapping.copySwap32(src, srcOff, dst, dstOff, count);
+      default -> ByteSwapping.copySwap64(src, srcOff, dst, dstOff, count);
+    }
+  }
+
+  private static void copySwap(
+    final int width,
+    final ByteBuffer src,
+    final int srcOff,
+    final ByteBuffer dst,
+    final int dstOff,
+    final int count)
+  {
+    switch (width) {
+      case 2 -> ByteSwapping.copySwap16(src, srcOff, dst, dstOff, count);
+      case 3 -> ByteSwapping.copySwap24(src, srcOff, dst, dstOff, count);
+      case 4 -> ByteSwapping.copySwap32(src, srcOff, dst, dstOff, count);
+      default -> ByteSwapping.copySwap64(src, srcOff, dst, dstOff, count);
+    }
+  }
+
+  @Test public void testSwapBytes()
+  {
+    for (final int width : new int[]{2, 3, 4, 8}) {
+      for (final int count : COUNTS) {
+        final byte[] data = random((count * width) + 5);
+        final byte[] expected = reversed(data, 3, count, width);
+
+        swapInPlace(width, data, 3, count);
+        Assert.assertArrayEquals(expected, data);
+
+        final byte[] copy = new byte[data.length];
+        copySwap(width, data, 3, copy, 1, count);
+        for (int k = 0; k < count * width; ++k) {
+          Assert.assertEquals(
+            reversed(expected, 3, count, width)[3 + k], copy[1 + k]);
+        }
+      }
+    }
+  }
+
+  @Test public void testSwapBuffers()
+  {
+    for (final int width : new int[]{2, 3, 4, 8}) {
+      for (final int count : COUNTS) {
+        final byte[] data = random((count * width) + 5);
+        final byte[] expected = reversed(data, 3, count, width);
+
+        for (final ByteBuffer b : new ByteBuffer[]{
+          ByteBuffer.allocate(data.length),
+          ByteBuffer.allocateDirect(data.length),
+          ByteBuffer.allocateDirect(data.length)
+            .order(ByteOrder.LITTLE_ENDIAN),
+        }) {
+          b.put(0, data);
+          swapInPlace(width, b, 3, count);
+          for (int k = 0; k < data.length; ++k) {
+            Assert.assertEquals(expected[k], b.get(k));
+          }
+
+          final ByteBuffer c = ByteBuffer.allocateDirect(data.length);
+          copySwap(width, b, 3, c, 1, count);
+          for (int k = 0; k < count * width; ++k) {
+            Assert.assertEquals(data[3 + k], c.get(1 + k));
+          }
+        }
+      }
+    }
+  }
+
+  @Test public void testSwapConvertsOrder()
+  {
+    final byte[] b16 = new byte[2 * 9];
+    final byte[] b24 = new byte[3 * 9];
+    final byte[] b32 = new byte[4 * 9];
+    final byte[] b64 = new byte[8 * 9];
+
+    for (int k = 0; k < 9; ++k) {
+      Signed16.packToBytesBigEndian(k * 1237, b16, k * 2);
+      Signed24.packToBytesBigEndian(k * 123457, b24, k * 3);
+      Signed32.packToBytesBigEndian(k * 0x9e3779b1, b32, k * 4);
+      Signed64.packToBytesBigEndian(k * 0x9e3779b97f4a7c15L, b64, k * 8);
+    }
+
+    ByteSwapping.swap16(b16, 0, 9);
+    ByteSwapping.swap24(b24, 0, 9);
+    ByteSwapping.swap32(b32, 0, 9);
+    ByteSwapping.swap64(b64, 0, 9);
+
+    for (int k = 0; k < 9; ++k) {
+      Assert.assertEquals(
+        (short) (k * 1237), Signed16.unpackFromBytesLittleEndian(b16, k * 2));
+      Assert.assertEquals(
+        k * 123457, Signed24.unpackFromBytesLittleEndian(b24, k * 3));
+      Assert.assertEquals(
+        k * 0x9e3779b1, Signed32.unpackFromBytesLittleEndian(b32, k * 4));
+      Assert.assertEquals(
+        k * 0x9e3779b97f4a7c15L,
+        Signed64.unpackFromBytesLittleEndian(b64, k * 8));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSwapTooSmall_0()
+  {
+    ByteSwapping.swap32(new byte[15], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testSwapTooSmall_1()
+  {
+    ByteSwapping.copySwap64(
+      ByteBuffer.allocate(32), 0, ByteBuffer.allocate(32), 1, 4);
+  }
+}
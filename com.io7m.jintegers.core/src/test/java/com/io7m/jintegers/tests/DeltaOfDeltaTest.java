@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.DeltaOfDeltaDecoder;
+import com.io7m.jintegers.DeltaOfDeltaEncoder;
+
+@SuppressWarnings({ "null", "static-method" }) public final class DeltaOfDeltaTest
+{
+  private static void checkIdentity(
+    final long[] v)
+  {
+    final byte[] b = new byte[3 + v.length * 9 + 8];
+    final DeltaOfDeltaEncoder e = new DeltaOfDeltaEncoder(b, 3);
+    for (final long x : v) {
+      e.append(x);
+    }
+    Assert.assertEquals(v.length, e.count());
+    final int end = e.flush();
+    Assert.assertEquals(3L + (e.bitLength() + 7L) / 8L, (long) end);
+
+    final DeltaOfDeltaDecoder d = new DeltaOfDeltaDecoder(b, 3, v.length);
+    for (final long x : v) {
+      Assert.assertTrue(d.hasNext());
+      Assert.assertEquals(x, d.nextLong());
+    }
+    Assert.assertFalse(d.hasNext());
+    Assert.assertEquals(0, d.remaining());
+  }
+
+  @Test public void testExact()
+  {
+    final byte[] b = new byte[16];
+    final DeltaOfDeltaEncoder e = new DeltaOfDeltaEncoder(b, 0);
+    e.append(0x0102030405060708L);
+    e.append(0x0102030405060708L + 60L);
+    e.append(0x0102030405060708L + 120L);
+    e.append(0x0102030405060708L + 181L);
+    Assert.assertEquals(64L + 9L + 1L + 9L, e.bitLength());
+    Assert.assertEquals(11, e.flush());
+    Assert.assertArrayEquals(
+      new byte[]{
+        1, 2, 3, 4, 5, 6, 7, 8,
+        // 10 0111100, 0, 10 0000001, padding
+        (byte) 0b10011110, (byte) 0b00100000, (byte) 0b00100000,
+        0, 0, 0, 0, 0,
+      },
+      b);
+  }
+
+  @Test public void testRegular()
+  {
+    final long[] v = new long[1000];
+    for (int k = 0; k < v.length; ++k) {
+      v[k] = 1_700_000_000_000L + k * 10_000L;
+    }
+    checkIdentity(v);
+
+    final DeltaOfDeltaEncoder e = new DeltaOfDeltaEncoder(new byte[256], 0);
+    for (final long x : v) {
+      e.append(x);
+    }
+    Assert.assertEquals(64L + 68L + 998L, e.bitLength());
+  }
+
+  @Test public void testJitter()
+  {
+    final SplittableRandom random = new SplittableRandom(7L);
+    for (final int spread : new int[]{2, 100, 500, 4000, 1 << 30}) {
+      final long[] v = new long[500];
+      long x = 1_700_000_000_000L;
+      for (int k = 0; k < v.length; ++k) {
+        x += 60_000L + random.nextInt(spread);
+        v[k] = x;
+      }
+      checkIdentity(v);
+    }
+  }
+
+  @Test public void testExtremes()
+  {
+    checkIdentity(new long[]{});
+    checkIdentity(new long[]{Long.MIN_VALUE});
+    checkIdentity(new long[]{
+      Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 0L, -1L, Long.MAX_VALUE,
+    });
+    final SplittableRandom random = new SplittableRandom(11L);
+    final long[] v = new long[300];
+    for (int k = 0; k < v.length; ++k) {
+      v[k] = random.nextLong();
+    }
+    checkIdentity(v);
+  }
+
+  @Test public void testFlushThenAppend()
+  {
+    final byte[] b = new byte[64];
+    final DeltaOfDeltaEncoder e = new DeltaOfDeltaEncoder(b, 0);
+    final long[] v = {1000L, 1010L, 1020L, 1031L, 1041L, 5000L, 5001L};
+    for (final long x : v) {
+      e.append(x);
+      e.flush();
+    }
+
+    final DeltaOfDeltaDecoder d = new DeltaOfDeltaDecoder(b, 0, v.length);
+    for (final long x : v) {
+      Assert.assertEquals(x, d.nextLong());
+    }
+  }
+
+  @Test public void testReset()
+  {
+    final byte[] b = new byte[32];
+    final DeltaOfDeltaEncoder e = new DeltaOfDeltaEncoder(b, 0);
+    e.append(10L).append(20L);
+    e.reset(b, 4).append(30L).append(35L);
+    Assert.assertEquals(2, e.count());
+    e.flush();
+
+    final DeltaOfDeltaDecoder d = new DeltaOfDeltaDecoder(b, 0, 0);
+    Assert.assertFalse(d.hasNext());
+    d.reset(b, 4, 2);
+    Assert.assertEquals(30L, d.nextLong());
+    Assert.assertEquals(35L, d.nextLong());
+  }
+
+  @Test public void testFull()
+  {
+    final DeltaOfDeltaEncoder e = new DeltaOfDeltaEncoder(new byte[9], 0);
+    e.append(100L);
+    e.append(100L);
+    try {
+      e.append(500L);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException ex) {
+      // Expected
+    }
+    Assert.assertEquals(2, e.count());
+    Assert.assertEquals(65L, e.bitLength());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    new DeltaOfDeltaDecoder(new byte[7], 0, 1).nextLong();
+  }
+
+  @Test(expected = NoSuchElementException.class) public void testExhausted()
+  {
+    new DeltaOfDeltaDecoder(new byte[8], 0, 1).next();
+    new DeltaOfDeltaDecoder(new byte[8], 0, 0).nextLong();
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.DeltaPacking;
+
+@SuppressWarnings({ "null", "static-method" }) public final class DeltaPackingTest
+{
+  private static final int[] COUNTS = {0, 1, 2, 127, 128, 129, 300};
+
+  private static long[] timestamps(
+    final int count)
+  {
+    final SplittableRandom random = new SplittableRandom(count);
+    final long[] r = new long[count];
+    long x = 1_700_000_000_000L;
+    for (int k = 0; k < count; ++k) {
+      x += random.nextInt(1000);
+      r[k] = x;
+    }
+    return r;
+  }
+
+  private static long[] arbitrary(
+    final int count)
+  {
+    final SplittableRandom random = new SplittableRandom(count);
+    final long[] r = new long[count];
+    for (int k = 0; k < count; ++k) {
+      r[k] = random.nextLong() >> random.nextInt(64);
+    }
+    return r;
+  }
+
+  private static void checkLongs(
+    final long[] v)
+  {
+    final int count = v.length;
+    final int size = (int) DeltaPacking.encodedLength(v, 0, count);
+    Assert.assertTrue(size <= DeltaPacking.encodedLengthMax(count));
+
+    final byte[] b = new byte[2 + size + 2];
+    Arrays.fill(b, (byte) 0x5a);
+    Assert.assertEquals(2 + size, DeltaPacking.encodeLongArray(v, 0, b, 2, count));
+    Assert.assertEquals(0x5a, b[2 + size]);
+
+    final long[] r = new long[count + 1];
+    Assert.assertEquals(2 + size, DeltaPacking.decodeLongArray(b, 2, r, 1, count));
+    Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 1, count + 1));
+
+    for (final ByteBuffer buf : TestBuffers.buffers(size + 1)) {
+      Assert.assertEquals(1 + size, DeltaPacking.encodeLongArray(v, 0, buf, 1, count));
+      final byte[] got = new byte[size];
+      buf.get(1, got);
+      Assert.assertArrayEquals(Arrays.copyOfRange(b, 2, 2 + size), got);
+
+      final long[] s = new long[count];
+      Assert.assertEquals(1 + size, DeltaPacking.decodeLongArray(buf, 1, s, 0, count));
+      Assert.assertArrayEquals(v, s);
+    }
+  }
+
+  @Test public void testExact()
+  {
+    final long[] v = {100L, 101L, 103L, 102L};
+    final byte[] b = new byte[(int) DeltaPacking.encodedLength(v, 0, 4)];
+    DeltaPacking.encodeLongArray(v, 0, b, 0, 4);
+    // Width 3, zigzag(100) = 200 as a varint, then deltas 2, 4, 1.
+    Assert.assertArrayEquals(
+      new byte[]{3, (byte) 0xc8, 0x01, 0x62, 0x00},
+      b);
+  }
+
+  @Test public void testConstant()
+  {
+    final long[] v = new long[200];
+    Arrays.fill(v, -5L);
+    Assert.assertEquals(4L, DeltaPacking.encodedLength(v, 0, 200));
+    checkLongs(v);
+  }
+
+  @Test public void testTimestamps()
+  {
+    for (final int count : COUNTS) {
+      checkLongs(timestamps(count));
+    }
+    final long[] v = timestamps(1024);
+    Assert.assertTrue(DeltaPacking.encodedLength(v, 0, 1024) < 1024L * 2L);
+  }
+
+  @Test public void testArbitrary()
+  {
+    for (final int count : COUNTS) {
+      checkLongs(arbitrary(count));
+    }
+    checkLongs(new long[]{Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 0L});
+  }
+
+  @Test public void testInts()
+  {
+    final SplittableRandom random = new SplittableRandom(23L);
+    for (final int count : COUNTS) {
+      for (final int shift : new int[]{0, 20, 31}) {
+        final int[] v = new int[count];
+        final long[] w = new long[count];
+        for (int k = 0; k < count; ++k) {
+          v[k] = random.nextInt() >> shift;
+          w[k] = v[k];
+        }
+
+        final int size = (int) DeltaPacking.encodedLength(v, 0, count);
+        Assert.assertEquals(DeltaPacking.encodedLength(w, 0, count), size);
+        final byte[] b = new byte[size];
+        final byte[] c = new byte[size];
+        DeltaPacking.encodeIntArray(v, 0, b, 0, count);
+        DeltaPacking.encodeLongArray(w, 0, c, 0, count);
+        Assert.assertArrayEquals(c, b);
+
+        final int[] r = new int[count];
+        Assert.assertEquals(size, DeltaPacking.decodeIntArray(b, 0, r, 0, count));
+        Assert.assertArrayEquals(v, r);
+
+        for (final ByteBuffer buf : TestBuffers.buffers(size)) {
+          DeltaPacking.encodeIntArray(v, 0, buf, 0, count);
+          Arrays.fill(r, 0);
+          Assert.assertEquals(size, DeltaPacking.decodeIntArray(buf, 0, r, 0, count));
+          Assert.assertArrayEquals(v, r);
+        }
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    final long[] v = timestamps(100);
+    final byte[] b = new byte[(int) DeltaPacking.encodedLength(v, 0, 100)];
+    DeltaPacking.encodeLongArray(v, 0, b, 0, 100);
+    DeltaPacking.decodeLongArray(
+      Arrays.copyOf(b, b.length - 1), 0, new long[100], 0, 100);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testNoRoom()
+  {
+    final long[] v = timestamps(100);
+    final int size = (int) DeltaPacking.encodedLength(v, 0, 100);
+    DeltaPacking.encodeLongArray(v, 0, new byte[size - 1], 0, 100);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testBadWidth()
+  {
+    DeltaPacking.decodeLongArray(new byte[]{65, 0, 0}, 0, new long[2], 0, 2);
+  }
+}
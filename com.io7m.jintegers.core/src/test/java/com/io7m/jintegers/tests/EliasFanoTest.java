@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.EliasFano;
+import com.io7m.jintegers.EliasFanoIterator;
+
+@SuppressWarnings({ "null", "static-method" }) public final class EliasFanoTest
+{
+  private static final int[] COUNTS = {0, 1, 2, 255, 256, 257, 5000};
+
+  private static long[] values(
+    final int count,
+    final long gapMax)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 17L + gapMax);
+    final long[] r = new long[count];
+    long x = random.nextLong(gapMax);
+    for (int k = 0; k < count; ++k) {
+      r[k] = x;
+      x += random.nextLong(gapMax);
+    }
+    return r;
+  }
+
+  private static int lowerBound(
+    final long[] v,
+    final long x)
+  {
+    int k = 0;
+    while (k < v.length && v[k] < x) {
+      ++k;
+    }
+    return k;
+  }
+
+  private static void check(
+    final EliasFano s,
+    final long[] v)
+  {
+    Assert.assertEquals(v.length, s.size());
+    for (int k = 0; k < v.length; ++k) {
+      Assert.assertEquals(v[k], s.get(k));
+    }
+
+    final EliasFanoIterator iter = new EliasFanoIterator(s, 0);
+    for (int k = 0; k < v.length; ++k) {
+      Assert.assertTrue(iter.hasNext());
+      Assert.assertEquals(v[k], iter.nextLong());
+    }
+    Assert.assertFalse(iter.hasNext());
+
+    final SplittableRandom random = new SplittableRandom(v.length);
+    final long last = v.length == 0 ? 0L : v[v.length - 1];
+    for (int k = 0; k < 200; ++k) {
+      final long x = random.nextLong(-1L, Math.max(last, last + 2L));
+      final int i = lowerBound(v, x);
+      Assert.assertEquals(i, s.nextGEQ(x));
+      iter.skipTo(x);
+      Assert.assertEquals(i, iter.index());
+      if (i < v.length) {
+        Assert.assertEquals(v[i], iter.nextLong());
+      } else {
+        Assert.assertFalse(iter.hasNext());
+      }
+    }
+    for (final long x : v) {
+      Assert.assertEquals(lowerBound(v, x), s.nextGEQ(x));
+    }
+    Assert.assertEquals(lowerBound(v, Long.MAX_VALUE), s.nextGEQ(Long.MAX_VALUE));
+  }
+
+  @Test public void testSequences()
+  {
+    for (final int count : COUNTS) {
+      for (final long gap : new long[]{1L, 2L, 3L, 100L, 1L << 40}) {
+        final long[] v = values(count, gap);
+        check(EliasFano.encode(v, 0, count), v);
+      }
+    }
+  }
+
+  @Test public void testExtremes()
+  {
+    final long[] v = {0L, 0L, 0L, Long.MAX_VALUE - 1L, Long.MAX_VALUE};
+    check(EliasFano.encode(v, 0, v.length), v);
+
+    final long[] w = {Long.MAX_VALUE};
+    final EliasFano s = EliasFano.encode(w, 0, 1);
+    Assert.assertEquals(62, s.lowBits());
+    check(s, w);
+  }
+
+  @Test public void testSize()
+  {
+    final long[] v = values(100000, 64L);
+    final EliasFano s = EliasFano.encode(v, 0, v.length);
+    Assert.assertEquals(4, s.lowBits());
+    Assert.assertTrue(s.encodedLength() * 8L <= v.length * (3L + 4L) + 200L);
+  }
+
+  @Test public void testBuffers()
+  {
+    for (final int count : COUNTS) {
+      final long[] v = values(count, 1000L);
+      final EliasFano s = EliasFano.encode(v, 0, count);
+      final int size = (int) s.encodedLength();
+      for (final ByteBuffer buf : TestBuffers.buffers(size + 3)) {
+        Assert.assertEquals(size + 3, s.encodeToBuffer(buf, 3));
+        check(EliasFano.decodeFromBuffer(buf, 3), v);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testDecreasing()
+  {
+    EliasFano.encode(new long[]{3L, 2L}, 0, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testNegative()
+  {
+    EliasFano.encode(new long[]{-1L, 2L}, 0, 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testMalformed()
+  {
+    final long[] v = values(100, 10L);
+    final EliasFano s = EliasFano.encode(v, 0, 100);
+    final ByteBuffer buf = ByteBuffer.allocate((int) s.encodedLength());
+    s.encodeToBuffer(buf, 0);
+    buf.put(0, (byte) 101);
+    EliasFano.decodeFromBuffer(buf, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    final long[] v = values(100, 10L);
+    final EliasFano s = EliasFano.encode(v, 0, 100);
+    final ByteBuffer buf = ByteBuffer.allocate((int) s.encodedLength());
+    s.encodeToBuffer(buf, 0);
+    EliasFano.decodeFromBuffer(buf.limit(buf.limit() - 1), 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testGetOutOfRange()
+  {
+    EliasFano.encode(new long[]{1L}, 0, 1).get(1);
+  }
+
+  @Test(expected = NoSuchElementException.class) public void testExhausted()
+  {
+    final EliasFanoIterator iter =
+      new EliasFanoIterator(EliasFano.encode(new long[]{1L}, 0, 1), 0);
+    Assert.assertEquals(1L, iter.nextLong());
+    iter.nextLong();
+  }
+}
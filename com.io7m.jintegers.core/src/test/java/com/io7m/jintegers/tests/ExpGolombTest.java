@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.BitOrder;
+import com.io7m.jintegers.BitReader;
+import com.io7m.jintegers.BitWriter;
+import com.io7m.jintegers.ExpGolomb;
+
+@SuppressWarnings({ "null", "static-method" }) public final class ExpGolombTest
+{
+  private static int[] values(
+    final int count,
+    final int bitsMax)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 13L + bitsMax);
+    final int[] r = new int[count];
+    for (int k = 0; k < count; ++k) {
+      final int bits = random.nextInt(bitsMax + 1);
+      r[k] = bits == 0 ? 0 : random.nextInt() >>> (32 - bits);
+      if (random.nextBoolean()) {
+        r[k] = -r[k];
+      }
+    }
+    return r;
+  }
+
+  @Test public void testExact()
+  {
+    final byte[] b = new byte[4];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    ExpGolomb.writeUnsigned(writer, 0);
+    ExpGolomb.writeUnsigned(writer, 1);
+    ExpGolomb.writeUnsigned(writer, 2);
+    ExpGolomb.writeUnsigned(writer, 3);
+    ExpGolomb.writeSigned(writer, 1);
+    ExpGolomb.writeSigned(writer, -1);
+    Assert.assertEquals(18L, writer.bitPosition());
+    Assert.assertEquals(3, writer.flush());
+    Assert.assertArrayEquals(
+      new byte[]{(byte) 0b1010_0110, (byte) 0b0100_0100, (byte) 0b1100_0000, 0},
+      b);
+
+    final BitReader reader = new BitReader(b, 0, BitOrder.MSB_FIRST);
+    Assert.assertEquals(0, ExpGolomb.readUnsigned(reader));
+    Assert.assertEquals(1, ExpGolomb.readUnsigned(reader));
+    Assert.assertEquals(2, ExpGolomb.readUnsigned(reader));
+    Assert.assertEquals(3, ExpGolomb.readUnsigned(reader));
+    Assert.assertEquals(1, ExpGolomb.readSigned(reader));
+    Assert.assertEquals(-1, ExpGolomb.readSigned(reader));
+  }
+
+  @Test public void testBits()
+  {
+    Assert.assertEquals(1, ExpGolomb.encodedBitsUnsigned(0));
+    Assert.assertEquals(3, ExpGolomb.encodedBitsUnsigned(2));
+    Assert.assertEquals(5, ExpGolomb.encodedBitsUnsigned(3));
+    Assert.assertEquals(65, ExpGolomb.encodedBitsUnsigned(-1));
+    Assert.assertEquals(1, ExpGolomb.encodedBitsSigned(0));
+    Assert.assertEquals(65, ExpGolomb.encodedBitsSigned(Integer.MIN_VALUE));
+    Assert.assertEquals(63, ExpGolomb.encodedBitsSigned(Integer.MAX_VALUE));
+  }
+
+  @Test public void testArrays()
+  {
+    for (final BitOrder order : BitOrder.values()) {
+      for (final int bitsMax : new int[]{0, 4, 16, 32}) {
+        final int[] v = values(1000, bitsMax);
+        v[0] = Integer.MIN_VALUE;
+        v[1] = Integer.MAX_VALUE;
+        v[2] = -1;
+
+        long bits = 0L;
+        long signedBits = 0L;
+        for (final int x : v) {
+          bits += ExpGolomb.encodedBitsUnsigned(x);
+          signedBits += ExpGolomb.encodedBitsSigned(x);
+        }
+
+        final byte[] b = new byte[(int) ((bits + signedBits + 7L) >>> 3)];
+        final BitWriter writer = new BitWriter(b, 0, order);
+        ExpGolomb.encodeUnsignedArray(v, 0, writer, v.length);
+        Assert.assertEquals(bits, writer.bitPosition());
+        ExpGolomb.encodeSignedArray(v, 0, writer, v.length);
+        Assert.assertEquals(bits + signedBits, writer.bitPosition());
+        Assert.assertEquals(b.length, writer.flush());
+
+        final BitReader reader = new BitReader(b, 0, order);
+        final int[] r = new int[v.length];
+        ExpGolomb.decodeUnsignedArray(reader, r, 0, v.length);
+        Assert.assertArrayEquals(v, r);
+        ExpGolomb.decodeSignedArray(reader, r, 0, v.length);
+        Assert.assertArrayEquals(v, r);
+        Assert.assertEquals(bits + signedBits, reader.bitPosition());
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testPrefixTooLong()
+  {
+    final byte[] b = new byte[8];
+    b[4] = (byte) 0x40;
+    ExpGolomb.readUnsigned(new BitReader(b, 0, BitOrder.MSB_FIRST));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testUnsignedTooLarge()
+  {
+    final byte[] b = new byte[9];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    ExpGolomb.writeSigned(writer, Integer.MIN_VALUE).flush();
+    ExpGolomb.readUnsigned(new BitReader(b, 0, BitOrder.MSB_FIRST));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    ExpGolomb.readUnsigned(
+      new BitReader(new byte[]{0, 0, 1}, 0, BitOrder.MSB_FIRST));
+  }
+
+  @Test public void testNoRoom()
+  {
+    final BitWriter writer =
+      new BitWriter(new byte[1], 0, BitOrder.MSB_FIRST);
+    writer.writeBits(0L, 1);
+    try {
+      ExpGolomb.writeUnsigned(writer, 100);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(1L, writer.bitPosition());
+    }
+  }
+}
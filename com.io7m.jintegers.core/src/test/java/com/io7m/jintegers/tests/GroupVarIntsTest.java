@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.GroupVarInts;
+
+@SuppressWarnings({ "null", "static-method" }) public final class GroupVarIntsTest
+{
+  @Test public void testBytesExact()
+  {
+    final int[] v = {1, 0x100, 0x10000, 0x1000000, 5};
+    final byte[] b = new byte[13];
+    Assert.assertEquals(13, GroupVarInts.encodeIntArray(v, 0, b, 0, 5));
+    Assert.assertArrayEquals(
+      new byte[]{
+        (byte) 0xe4,
+        1,
+        0, 1,
+        0, 0, 1,
+        0, 0, 0, 1,
+        0,
+        5,
+      },
+      b);
+  }
+
+  @Test public void testBytesIdentity()
+  {
+    for (int count = 0; count < 70; ++count) {
+      final int[] v = TestBuffers.mixedInts(count);
+      final int size = (int) GroupVarInts.encodedLength(v, 0, count);
+      final byte[] b = new byte[3 + size + 20];
+      Arrays.fill(b, (byte) 0x5a);
+
+      final int end = GroupVarInts.encodeIntArray(v, 0, b, 3, count);
+      Assert.assertEquals(3 + size, end);
+      for (int k = end; k < b.length; ++k) {
+        Assert.assertEquals((byte) 0x5a, b[k]);
+      }
+
+      final int[] r = new int[count + 1];
+      Assert.assertEquals(end, GroupVarInts.decodeIntArray(b, 3, r, 1, count));
+      Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 1, r.length));
+
+      final byte[] exact = Arrays.copyOfRange(b, 3, end);
+      Assert.assertEquals(size, GroupVarInts.decodeIntArray(exact, 0, r, 0, count));
+      Assert.assertArrayEquals(v, Arrays.copyOf(r, count));
+      Assert.assertEquals(
+        size, GroupVarInts.encodeIntArray(v, 0, new byte[size], 0, count));
+    }
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (int count = 0; count < 70; ++count) {
+      final int[] v = TestBuffers.mixedInts(count);
+      final int size = (int) GroupVarInts.encodedLength(v, 0, count);
+      final byte[] e = new byte[size];
+      GroupVarInts.encodeIntArray(v, 0, e, 0, count);
+
+      for (final ByteBuffer b : TestBuffers.buffers(2 + size)) {
+        final int end = GroupVarInts.encodeIntArray(v, 0, b, 2, count);
+        Assert.assertEquals(2 + size, end);
+        final byte[] c = new byte[size];
+        b.get(2, c);
+        Assert.assertArrayEquals(e, c);
+
+        final int[] r = new int[count];
+        Assert.assertEquals(end, GroupVarInts.decodeIntArray(b, 2, r, 0, count));
+        Assert.assertArrayEquals(v, r);
+        Assert.assertEquals(0, b.position());
+      }
+    }
+  }
+
+  @Test public void testEncodedLengthMax()
+  {
+    final int[] v = new int[9];
+    Arrays.fill(v, -1);
+    Assert.assertEquals(0L, GroupVarInts.encodedLengthMax(0));
+    Assert.assertEquals(3L + 36L, GroupVarInts.encodedLengthMax(9));
+    Assert.assertEquals(
+      GroupVarInts.encodedLengthMax(9), GroupVarInts.encodedLength(v, 0, 9));
+  }
+
+  @Test public void testEncodeNoRoom()
+  {
+    final int[] v = TestBuffers.mixedInts(9);
+    final int size = (int) GroupVarInts.encodedLength(v, 0, 9);
+    final byte[] b = new byte[size - 1];
+    try {
+      GroupVarInts.encodeIntArray(v, 0, b, 0, 9);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertArrayEquals(new byte[b.length], b);
+    }
+  }
+
+  @Test public void testDecodeTruncated()
+  {
+    final int[] v = new int[33];
+    Arrays.fill(v, 0x01020304);
+    final byte[] b = new byte[(int) GroupVarInts.encodedLength(v, 0, 33)];
+    GroupVarInts.encodeIntArray(v, 0, b, 0, 33);
+
+    final byte[] c = Arrays.copyOf(b, b.length - 1);
+    try {
+      GroupVarInts.decodeIntArray(c, 0, new int[33], 0, 33);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+    try {
+      GroupVarInts.decodeIntArray(ByteBuffer.wrap(c), 0, new int[33], 0, 33);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+}
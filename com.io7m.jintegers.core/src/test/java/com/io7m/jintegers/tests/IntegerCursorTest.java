@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.IntegerCursor;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Unsigned16;
+import com.io7m.jintegers.Unsigned32;
+
+@SuppressWarnings({ "null", "static-method" }) public final class IntegerCursorTest
+{
+  private static final ByteOrder[] ORDERS = {
+    ByteOrder.BIG_ENDIAN,
+    ByteOrder.LITTLE_ENDIAN,
+  };
+
+  @Test public void testIdentity()
+  {
+    for (final ByteOrder order : ORDERS) {
+      final ByteBuffer b = ByteBuffer.allocate(24);
+      final IntegerCursor c = new IntegerCursor(b, order);
+      Assert.assertEquals(order, c.order());
+      Assert.assertSame(b, c.buffer());
+
+      c.writeU8(0xfe)
+        .writeS16(-2)
+        .writeU16(0xfedc)
+        .writeS24(-3)
+        .writeS32(-4)
+        .writeU32(0xfedcba98L)
+        .writeS64(-5L);
+      Assert.assertEquals(24, c.position());
+      Assert.assertEquals(0, c.remaining());
+      Assert.assertEquals(0, b.position());
+
+      c.reset(b);
+      Assert.assertEquals(0xfe, c.readU8());
+      Assert.assertEquals(-2, c.readS16());
+      Assert.assertEquals(0xfedc, c.readU16());
+      Assert.assertEquals(-3, c.readS24());
+      Assert.assertEquals(-4, c.readS32());
+      Assert.assertEquals(0xfedcba98L, c.readU32());
+      Assert.assertEquals(-5L, c.readS64());
+      Assert.assertEquals(24, c.position());
+    }
+  }
+
+  @Test public void testEncodingMatchesStatic()
+  {
+    for (final ByteOrder order : ORDERS) {
+      final boolean big = order.equals(ByteOrder.BIG_ENDIAN);
+      final ByteBuffer b = ByteBuffer.allocate(23);
+      final ByteBuffer e = ByteBuffer.allocate(23);
+
+      new IntegerCursor(b, order)
+        .writeS16(0x1234)
+        .writeU16(0xfedc)
+        .writeS24(0x123456)
+        .writeS32(0x12345678)
+        .writeU32(0xfedcba98L)
+        .writeS64(0x123456789abcdef0L);
+
+      if (big) {
+        Signed16.packToBufferBigEndian(0x1234, e, 0);
+        Unsigned16.packToBufferBigEndian(0xfedc, e, 2);
+        Signed24.packToBufferBigEndian(0x123456, e, 4);
+        Signed32.packToBufferBigEndian(0x12345678, e, 7);
+        Unsigned32.packToBufferBigEndian(0xfedcba98L, e, 11);
+        Signed64.packToBufferBigEndian(0x123456789abcdef0L, e, 15);
+      } else {
+        Signed16.packToBufferLittleEndian(0x1234, e, 0);
+        Unsigned16.packToBufferLittleEndian(0xfedc, e, 2);
+        Signed24.packToBufferLittleEndian(0x123456, e, 4);
+        Signed32.packToBufferLittleEndian(0x12345678, e, 7);
+        Unsigned32.packToBufferLittleEndian(0xfedcba98L, e, 11);
+        Signed64.packToBufferLittleEndian(0x123456789abcdef0L, e, 15);
+      }
+      Assert.assertEquals(e, b);
+    }
+  }
+
+  @Test public void testBufferOrderIgnored()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+    new IntegerCursor(b, ByteOrder.BIG_ENDIAN).writeS32(0x12345678);
+    Assert.assertEquals(0x12, b.get(0));
+    Assert.assertEquals(0x78, b.get(3));
+    Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, b.order());
+  }
+
+  @Test public void testStartsAtBufferPosition()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    b.putInt(4, 0x12345678);
+    b.position(4);
+    final IntegerCursor c = new IntegerCursor(b, ByteOrder.BIG_ENDIAN);
+    Assert.assertEquals(4, c.position());
+    Assert.assertEquals(4, c.remaining());
+    Assert.assertEquals(0x12345678, c.readS32());
+    Assert.assertEquals(4, b.position());
+  }
+
+  @Test public void testResetReuses()
+  {
+    final ByteBuffer b0 = ByteBuffer.allocate(2);
+    final ByteBuffer b1 = ByteBuffer.allocate(2);
+    b0.putShort(0, (short) 1);
+    b1.putShort(0, (short) 2);
+
+    final IntegerCursor c = new IntegerCursor(b0, ByteOrder.BIG_ENDIAN);
+    Assert.assertEquals(1, c.readS16());
+    Assert.assertSame(c, c.reset(b1));
+    Assert.assertSame(b1, c.buffer());
+    Assert.assertEquals(0, c.position());
+    Assert.assertEquals(2, c.readS16());
+  }
+
+  @Test public void testArrays()
+  {
+    for (final ByteOrder order : ORDERS) {
+      final short[] s16 = {1, -2, 3};
+      final int[] s24 = {-0x800000, 0x7fffff};
+      final int[] s32 = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+      final long[] s64 = {Long.MIN_VALUE, Long.MAX_VALUE};
+
+      final ByteBuffer b = ByteBuffer.allocate(6 + 6 + 8 + 16);
+      final IntegerCursor c = new IntegerCursor(b, order);
+      c.writeS16Array(s16, 0, 3)
+        .writeS24Array(s24, 0, 2)
+        .writeS32Array(s32, 0, 2)
+        .writeS64Array(s64, 0, 2);
+      Assert.assertEquals(36, c.position());
+
+      c.position(0);
+      Assert.assertArrayEquals(s16, c.readS16Array(new short[3], 0, 3));
+      Assert.assertArrayEquals(s24, c.readS24Array(new int[2], 0, 2));
+      Assert.assertArrayEquals(s32, c.readS32Array(new int[2], 0, 2));
+      Assert.assertArrayEquals(s64, c.readS64Array(new long[2], 0, 2));
+      Assert.assertEquals(36, c.position());
+
+      c.position(0);
+      Assert.assertEquals(1, c.readS16());
+      Assert.assertEquals(-2, c.readS16());
+    }
+  }
+
+  @Test public void testSkip()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(4);
+    b.put(3, (byte) 0x7f);
+    final IntegerCursor c = new IntegerCursor(b, ByteOrder.BIG_ENDIAN);
+    c.skip(3);
+    Assert.assertEquals(0x7f, c.readU8());
+  }
+
+  @Test public void testRequire()
+  {
+    final IntegerCursor c =
+      new IntegerCursor(ByteBuffer.allocate(8), ByteOrder.BIG_ENDIAN);
+    c.require(8);
+    c.readS32();
+    c.require(4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testRequireTooMany()
+  {
+    final IntegerCursor c =
+      new IntegerCursor(ByteBuffer.allocate(8), ByteOrder.BIG_ENDIAN);
+    c.readS32();
+    c.require(5);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testSkipTooMany()
+  {
+    final IntegerCursor c =
+      new IntegerCursor(ByteBuffer.allocate(8), ByteOrder.BIG_ENDIAN);
+    c.skip(9);
+  }
+
+  @Test public void testReadPastLimitKeepsPosition()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(8);
+    b.limit(6);
+    final IntegerCursor c = new IntegerCursor(b, ByteOrder.BIG_ENDIAN);
+    c.readS32();
+    try {
+      c.readS32();
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(4, c.position());
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testWritePastLimit()
+  {
+    final IntegerCursor c =
+      new IntegerCursor(ByteBuffer.allocate(7), ByteOrder.LITTLE_ENDIAN);
+    c.writeS64(0L);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testReadArrayPastLimit()
+  {
+    final IntegerCursor c =
+      new IntegerCursor(ByteBuffer.allocate(7), ByteOrder.LITTLE_ENDIAN);
+    c.readS16Array(new short[4], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testPositionPastLimit()
+  {
+    final IntegerCursor c =
+      new IntegerCursor(ByteBuffer.allocate(4), ByteOrder.BIG_ENDIAN);
+    c.position(4);
+    c.position(5);
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.PatchedFrameOfReference;
+
+@SuppressWarnings({ "null", "static-method" }) public final class PatchedFrameOfReferenceTest
+{
+  private static final int[] COUNTS = {0, 1, 2, 127, 128, 129, 300};
+
+  /**
+   * Values of about {@code bits} bits around {@code base}, with roughly
+   * one in {@code every} replaced by a large outlier above it.
+   */
+
+  private static long[] outliers(
+    final int count,
+    final long base,
+    final int bits,
+    final int every)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 31L + bits);
+    final long[] r = new long[count];
+    for (int k = 0; k < count; ++k) {
+      if (random.nextInt(every) == 0) {
+        r[k] = base + (random.nextLong() >>> 1);
+      } else {
+        r[k] = base + (random.nextLong() >>> (64 - bits));
+      }
+    }
+    return r;
+  }
+
+  private static void checkLongs(
+    final long[] v)
+  {
+    final int count = v.length;
+    final int size = (int) PatchedFrameOfReference.encodedLength(v, 0, count);
+    Assert.assertTrue(
+      size <= PatchedFrameOfReference.encodedLengthMaxLongs(count));
+
+    final byte[] b = new byte[2 + size + 2];
+    Arrays.fill(b, (byte) 0x5a);
+    Assert.assertEquals(
+      2 + size, PatchedFrameOfReference.encodeLongArray(v, 0, b, 2, count));
+    Assert.assertEquals(0x5a, b[2 + size]);
+
+    final long[] r = new long[count + 1];
+    Assert.assertEquals(
+      2 + size, PatchedFrameOfReference.decodeLongArray(b, 2, r, 1, count));
+    Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 1, count + 1));
+
+    for (final ByteBuffer buf : TestBuffers.buffers(size + 1)) {
+      Assert.assertEquals(
+        1 + size,
+        PatchedFrameOfReference.encodeLongArray(v, 0, buf, 1, count));
+      final byte[] got = new byte[size];
+      buf.get(1, got);
+      Assert.assertArrayEquals(Arrays.copyOfRange(b, 2, 2 + size), got);
+
+      final long[] s = new long[count];
+      Assert.assertEquals(
+        1 + size,
+        PatchedFrameOfReference.decodeLongArray(buf, 1, s, 0, count));
+      Assert.assertArrayEquals(v, s);
+    }
+  }
+
+  private static void checkInts(
+    final int[] v)
+  {
+    final int count = v.length;
+    final int size = (int) PatchedFrameOfReference.encodedLength(v, 0, count);
+    Assert.assertTrue(
+      size <= PatchedFrameOfReference.encodedLengthMaxInts(count));
+
+    final byte[] b = new byte[size];
+    Assert.assertEquals(
+      size, PatchedFrameOfReference.encodeIntArray(v, 0, b, 0, count));
+    final int[] r = new int[count];
+    Assert.assertEquals(
+      size, PatchedFrameOfReference.decodeIntArray(b, 0, r, 0, count));
+    Assert.assertArrayEquals(v, r);
+
+    for (final ByteBuffer buf : TestBuffers.buffers(size)) {
+      PatchedFrameOfReference.encodeIntArray(v, 0, buf, 0, count);
+      final byte[] got = new byte[size];
+      buf.get(0, got);
+      Assert.assertArrayEquals(b, got);
+
+      Arrays.fill(r, 0);
+      Assert.assertEquals(
+        size, PatchedFrameOfReference.decodeIntArray(buf, 0, r, 0, count));
+      Assert.assertArrayEquals(v, r);
+    }
+  }
+
+  @Test public void testExact()
+  {
+    final int[] v = {
+      10, 11, 12, 13, 10, 11, 12, 13, 10, 11, 12, 13, 10, 11, 12, 1000,
+    };
+    final byte[] b = new byte[17];
+    Assert.assertEquals(
+      15, PatchedFrameOfReference.encodeIntArray(v, 0, b, 0, 16));
+    Assert.assertArrayEquals(
+      new byte[]{
+        // Width 2, one exception, minimum 10
+        2, 1, 10, 0, 0, 0,
+        // Offsets 0, 1, 2, 3, ..., 0, 1, 2, 990 & 3
+        (byte) 0xe4, (byte) 0xe4, (byte) 0xe4, (byte) 0xa4,
+        // Position 15, high part 990 >>> 2
+        15, (byte) 247, 0, 0, 0,
+        0, 0,
+      },
+      b);
+
+    final int[] r = new int[16];
+    PatchedFrameOfReference.decodeIntArray(b, 0, r, 0, 16);
+    Assert.assertArrayEquals(v, r);
+  }
+
+  @Test public void testOutliersShrink()
+  {
+    final long[] v = outliers(1024, 5000L, 10, 64);
+    final long size = PatchedFrameOfReference.encodedLength(v, 0, 1024);
+    Assert.assertTrue(size < 1024L * 3L);
+  }
+
+  @Test public void testLongs()
+  {
+    for (final int count : COUNTS) {
+      for (final int bits : new int[]{1, 12, 40, 64}) {
+        checkLongs(outliers(count, -1000L, bits, 20));
+        checkLongs(outliers(count, Long.MAX_VALUE - 5000L, bits, 1000));
+      }
+    }
+    final long[] c = new long[200];
+    Arrays.fill(c, Long.MIN_VALUE);
+    checkLongs(c);
+    checkLongs(new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0L});
+  }
+
+  @Test public void testInts()
+  {
+    for (final int count : COUNTS) {
+      for (final int bits : new int[]{1, 12, 20, 32}) {
+        for (final int every : new int[]{2, 20, 1000}) {
+          final long[] w = outliers(count, -100L, bits, every);
+          final int[] v = new int[count];
+          for (int k = 0; k < count; ++k) {
+            v[k] = (int) w[k];
+          }
+          checkInts(v);
+        }
+      }
+    }
+    checkInts(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0});
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testNoRoom()
+  {
+    final int[] v = {10, 11, 12, 1000};
+    final int size = (int) PatchedFrameOfReference.encodedLength(v, 0, 4);
+    PatchedFrameOfReference.encodeIntArray(v, 0, new byte[size - 1], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    final long[] v = outliers(300, 0L, 12, 10);
+    final byte[] b =
+      new byte[(int) PatchedFrameOfReference.encodedLength(v, 0, 300)];
+    PatchedFrameOfReference.encodeLongArray(v, 0, b, 0, 300);
+    PatchedFrameOfReference.decodeLongArray(
+      Arrays.copyOf(b, b.length - 1), 0, new long[300], 0, 300);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testBadWidth()
+  {
+    PatchedFrameOfReference.decodeIntArray(
+      new byte[]{33, 0, 0, 0, 0, 0, 0, 0, 0, 0}, 0, new int[1], 0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testBadPosition()
+  {
+    PatchedFrameOfReference.decodeIntArray(
+      new byte[]{0, 1, 0, 0, 0, 0, 2, 1, 0, 0, 0}, 0, new int[2], 0, 2);
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.BitOrder;
+import com.io7m.jintegers.BitReader;
+import com.io7m.jintegers.BitWriter;
+import com.io7m.jintegers.Rice;
+
+@SuppressWarnings({ "null", "static-method" }) public final class RiceTest
+{
+  private static int[] residuals(
+    final int count,
+    final int scale)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 7L + scale);
+    final int[] r = new int[count];
+    for (int k = 0; k < count; ++k) {
+      r[k] = (int) Math.round(random.nextGaussian() * scale);
+    }
+    return r;
+  }
+
+  @Test public void testExact()
+  {
+    final byte[] b = new byte[2];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    Rice.writeUnsigned(writer, 9, 2);
+    Rice.writeSigned(writer, -2, 1);
+    Assert.assertEquals(8L, writer.bitPosition());
+    Assert.assertEquals(1, writer.flush());
+    Assert.assertArrayEquals(new byte[]{0b0010_1011, 0}, b);
+
+    final BitReader reader = new BitReader(b, 0, BitOrder.MSB_FIRST);
+    Assert.assertEquals(9, Rice.readUnsigned(reader, 2));
+    Assert.assertEquals(-2, Rice.readSigned(reader, 1));
+  }
+
+  @Test public void testArrays()
+  {
+    for (final BitOrder order : BitOrder.values()) {
+      for (final int scale : new int[]{1, 30, 5000}) {
+        final int[] v = residuals(1000, scale);
+        for (final int k : new int[]{0, 3, 8, 31}) {
+          long bits = 0L;
+          for (final int x : v) {
+            bits += Rice.encodedBitsSigned(x, k);
+          }
+          if (bits > 1L << 20) {
+            continue;
+          }
+
+          final ByteBuffer buf = ByteBuffer.allocate((int) ((bits + 7L) >>> 3));
+          final BitWriter writer = new BitWriter(buf, 0, order);
+          Rice.encodeSignedArray(v, 0, writer, v.length, k);
+          Assert.assertEquals(bits, writer.bitPosition());
+          writer.flush();
+
+          final int[] r = new int[v.length];
+          final BitReader reader = new BitReader(buf, 0, order);
+          Rice.decodeSignedArray(reader, r, 0, v.length, k);
+          Assert.assertArrayEquals(v, r);
+          Assert.assertEquals(bits, reader.bitPosition());
+        }
+      }
+    }
+  }
+
+  @Test public void testUnsigned()
+  {
+    final int[] v = {0, 1, 255, 256, 1000, -1, Integer.MIN_VALUE};
+    final int k = 28;
+    final byte[] b = new byte[64];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.LSB_FIRST);
+    Rice.encodeUnsignedArray(v, 0, writer, v.length, k);
+    long bits = 0L;
+    for (final int x : v) {
+      bits += Rice.encodedBitsUnsigned(x, k);
+    }
+    Assert.assertEquals(bits, writer.bitPosition());
+    writer.flush();
+
+    final int[] r = new int[v.length];
+    Rice.decodeUnsignedArray(
+      new BitReader(b, 0, BitOrder.LSB_FIRST), r, 0, v.length, k);
+    Assert.assertArrayEquals(v, r);
+  }
+
+  @Test public void testLongQuotient()
+  {
+    final byte[] b = new byte[40];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    Rice.writeUnsigned(writer, 300, 0);
+    Rice.writeUnsigned(writer, 5, 0);
+    writer.flush();
+
+    final BitReader reader = new BitReader(b, 0, BitOrder.MSB_FIRST);
+    Assert.assertEquals(300, Rice.readUnsigned(reader, 0));
+    Assert.assertEquals(5, Rice.readUnsigned(reader, 0));
+    Assert.assertEquals(307L, reader.bitPosition());
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testParameter()
+  {
+    Rice.encodedBitsUnsigned(0, 32);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testTooLarge()
+  {
+    final byte[] b = new byte[8];
+    final BitWriter writer = new BitWriter(b, 0, BitOrder.MSB_FIRST);
+    writer.writeUnary(16L).writeBits(0L, 31).flush();
+    Rice.readUnsigned(new BitReader(b, 0, BitOrder.MSB_FIRST), 28);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    Rice.readUnsigned(new BitReader(new byte[4], 0, BitOrder.MSB_FIRST), 3);
+  }
+
+  @Test public void testNoRoom()
+  {
+    final BitWriter writer =
+      new BitWriter(new byte[1], 0, BitOrder.MSB_FIRST);
+    writer.writeBits(0L, 1);
+    try {
+      Rice.writeUnsigned(writer, 40, 2);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertEquals(1L, writer.bitPosition());
+    }
+  }
+}
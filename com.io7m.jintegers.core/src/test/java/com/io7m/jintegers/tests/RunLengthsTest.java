@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.RunLengthReader;
+import com.io7m.jintegers.RunLengths;
+import com.io7m.jintegers.Unsigned16;
+
+@SuppressWarnings({ "null", "static-method" }) public final class RunLengthsTest
+{
+  private static final int[] COUNTS = {0, 1, 2, 3, 100, 1000};
+
+  private static long[] values(
+    final int count,
+    final int runMax)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 31L + runMax);
+    final long[] r = new long[count];
+    int k = 0;
+    while (k < count) {
+      final int n = Math.min(count - k, 1 + random.nextInt(runMax));
+      final long x = random.nextBoolean()
+        ? random.nextLong() : random.nextLong(-8L, 8L);
+      Arrays.fill(r, k, k + n, x);
+      k += n;
+    }
+    return r;
+  }
+
+  private static void checkLongs(
+    final long[] v)
+  {
+    final int count = v.length;
+    final int size = (int) RunLengths.encodedLength(v, 0, count);
+    final byte[] b = new byte[size + 3];
+    Assert.assertEquals(size + 3, RunLengths.encodeLongArray(v, 0, b, 3, count));
+
+    final long[] r = new long[count + 1];
+    Assert.assertEquals(size + 3, RunLengths.decodeLongArray(b, 3, r, 1, count));
+    Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 1, count + 1));
+
+    final RunLengthReader reader = new RunLengthReader(b, 3, count);
+    Arrays.fill(r, -1L);
+    Assert.assertEquals(count, reader.read(r, 1, count));
+    Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 1, count + 1));
+    Assert.assertEquals(size + 3, reader.position());
+    Assert.assertFalse(reader.hasNext());
+
+    reader.reset(b, 3, count);
+    for (int k = 0; k < count; ++k) {
+      Assert.assertEquals(v[k], reader.nextLong());
+    }
+    Assert.assertFalse(reader.hasNext());
+  }
+
+  @Test public void testExact()
+  {
+    final long[] v = {7L, 7L, 7L, -1L, 300L, 300L};
+    final byte[] b = new byte[16];
+    Assert.assertEquals(7L, RunLengths.encodedLength(v, 0, 6));
+    Assert.assertEquals(7, RunLengths.encodeLongArray(v, 0, b, 0, 6));
+    Assert.assertArrayEquals(
+      new byte[]{14, 3, 1, 1, (byte) 0xd8, 0x04, 2},
+      Arrays.copyOf(b, 7));
+  }
+
+  @Test public void testLongs()
+  {
+    for (final int count : COUNTS) {
+      checkLongs(values(count, 1));
+      checkLongs(values(count, 20));
+      checkLongs(values(count, 1000));
+    }
+  }
+
+  @Test public void testInts()
+  {
+    for (final int count : COUNTS) {
+      final long[] w = values(count, 20);
+      final int[] v = new int[count];
+      for (int k = 0; k < count; ++k) {
+        v[k] = (int) w[k];
+        w[k] = v[k];
+      }
+
+      final int size = (int) RunLengths.encodedLength(v, 0, count);
+      Assert.assertEquals(size, RunLengths.encodedLength(w, 0, count));
+      final byte[] b = new byte[size];
+      Assert.assertEquals(size, RunLengths.encodeIntArray(v, 0, b, 0, count));
+
+      final byte[] c = new byte[size];
+      RunLengths.encodeLongArray(w, 0, c, 0, count);
+      Assert.assertArrayEquals(b, c);
+
+      final int[] r = new int[count];
+      Assert.assertEquals(size, RunLengths.decodeIntArray(b, 0, r, 0, count));
+      Assert.assertArrayEquals(v, r);
+
+      Arrays.fill(r, -1);
+      Assert.assertEquals(count, new RunLengthReader(b, 0, count).read(r, 0, count));
+      Assert.assertArrayEquals(v, r);
+    }
+  }
+
+  @Test public void testSkip()
+  {
+    final long[] v = values(1000, 50);
+    final byte[] b = new byte[(int) RunLengths.encodedLength(v, 0, 1000)];
+    RunLengths.encodeLongArray(v, 0, b, 0, 1000);
+
+    final RunLengthReader reader = new RunLengthReader(b, 0, 1000);
+    int k = 0;
+    while (reader.hasNext()) {
+      Assert.assertEquals(v[k], reader.runValue());
+      final int n = reader.runLength();
+      Assert.assertEquals(n, reader.skipRun());
+      k += n;
+      Assert.assertTrue(k == 1000 || v[k] != v[k - 1]);
+    }
+    Assert.assertEquals(1000, k);
+    Assert.assertEquals(0, reader.runLength());
+    Assert.assertEquals(0, reader.skipRun());
+
+    for (final int step : new int[]{1, 7, 64, 333}) {
+      reader.reset(b, 0, 1000);
+      for (int at = 0; at < 1000; at += step) {
+        Assert.assertEquals(v[at], reader.runValue());
+        Assert.assertEquals(Math.min(step, 1000 - at), reader.skip(step));
+      }
+      Assert.assertEquals(0, reader.skip(1));
+    }
+  }
+
+  @Test public void testPacked()
+  {
+    final int count = 1000;
+    final long[] v = values(count, 30);
+    for (int width = 1; width <= 8; ++width) {
+      final byte[] p = new byte[count * width];
+      for (int k = 0; k < count; ++k) {
+        for (int j = 0; j < width; ++j) {
+          p[k * width + j] = (byte) (v[k] >> (j * 8));
+        }
+      }
+
+      final int size = (int) RunLengths.encodedLengthPacked(p, 0, count, width);
+      final byte[] b = new byte[size + 1];
+      Assert.assertEquals(
+        size + 1, RunLengths.encodePacked(p, 0, b, 1, count, width));
+
+      final byte[] r = new byte[p.length];
+      Assert.assertEquals(
+        size + 1, RunLengths.decodePacked(b, 1, r, 0, count, width));
+      Assert.assertArrayEquals(p, r);
+
+      for (final ByteBuffer buf : TestBuffers.buffers(p.length + 2)) {
+        buf.put(2, p);
+        Assert.assertEquals(
+          size, RunLengths.encodedLengthPacked(buf, 2, count, width));
+        final byte[] c = new byte[size + 1];
+        Assert.assertEquals(
+          size + 1, RunLengths.encodePacked(buf, 2, c, 1, count, width));
+        Assert.assertArrayEquals(b, c);
+
+        buf.put(2, new byte[p.length]);
+        Assert.assertEquals(
+          size + 1, RunLengths.decodePacked(b, 1, buf, 2, count, width));
+        final byte[] got = new byte[p.length];
+        buf.get(2, got);
+        Assert.assertArrayEquals(p, got);
+      }
+    }
+  }
+
+  @Test public void testPackedUnsigned16()
+  {
+    final ByteBuffer buf = ByteBuffer.allocate(200);
+    for (int k = 0; k < 100; ++k) {
+      Unsigned16.packToBuffer(k < 60 ? 0xffff : 3, buf, k * 2);
+    }
+    Assert.assertEquals(6L, RunLengths.encodedLengthPacked(buf, 0, 100, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testWidth()
+  {
+    RunLengths.encodedLengthPacked(new byte[9], 0, 1, 9);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testRunTooLong()
+  {
+    final long[] v = new long[10];
+    final byte[] b = new byte[2];
+    RunLengths.encodeLongArray(v, 0, b, 0, 10);
+    RunLengths.decodeLongArray(b, 0, new long[9], 0, 9);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testRunEmpty()
+  {
+    RunLengths.decodeLongArray(new byte[]{0, 0}, 0, new long[1], 0, 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testNoRoom()
+  {
+    RunLengths.encodeLongArray(new long[]{1L, 2L}, 0, new byte[3], 0, 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    final long[] v = {1L, 2L};
+    final byte[] b = new byte[4];
+    RunLengths.encodeLongArray(v, 0, b, 0, 2);
+    RunLengths.decodeLongArray(Arrays.copyOf(b, 3), 0, new long[2], 0, 2);
+  }
+
+  @Test(expected = NoSuchElementException.class) public void testExhausted()
+  {
+    final RunLengthReader reader =
+      new RunLengthReader(new byte[]{2, 1}, 0, 1);
+    Assert.assertEquals(1L, reader.nextLong());
+    reader.nextLong();
+  }
+}
@@ -112,4 +112,257 @@ import com.io7m.jintegers.Signed16;
   {
     Signed16.packToBytesLittleEndian(0, new byte[1]);
   }
+
+  @Test public void testArrayIdentityBE()
+  {
+    final short[] x = new short[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = (short) ((k * 1237) - 30000);
+    }
+
+    final byte[] b = new byte[(x.length * 2) + 3];
+    Signed16.packArrayBigEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed16.packToBytesBigEndianAllocate(x[k]);
+      for (int j = 0; j < 2; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 2) + j]);
+      }
+    }
+
+    final short[] y = new short[x.length + 1];
+    Signed16.unpackArrayBigEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test public void testArrayIdentityLE()
+  {
+    final short[] x = new short[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = (short) ((k * 1237) - 30000);
+    }
+
+    final byte[] b = new byte[(x.length * 2) + 3];
+    Signed16.packArrayLittleEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed16.packToBytesLittleEndianAllocate(x[k]);
+      for (int j = 0; j < 2; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 2) + j]);
+      }
+    }
+
+    final short[] y = new short[x.length + 1];
+    Signed16.unpackArrayLittleEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_0()
+  {
+    Signed16.packArrayBigEndian(new short[4], 0, new byte[7], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_1()
+  {
+    Signed16.unpackArrayLittleEndian(new byte[8], 1, new short[4], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_2()
+  {
+    Signed16.unpackArrayBigEndian(new byte[8], 0, new short[3], 0, 4);
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] be = new byte[]{(byte) 1, (byte) 2};
+    final byte[] le = new byte[]{(byte) 2, (byte) 1};
+
+    Assert.assertArrayEquals(be,
+      Signed16.packToBytesBigEndianAllocate((short) 0x0102));
+    Assert.assertArrayEquals(le,
+      Signed16.packToBytesLittleEndianAllocate((short) 0x0102));
+    Assert.assertEquals((short) 0x0102, Signed16.unpackFromBytesBigEndian(be));
+    Assert.assertEquals((short) 0x0102,
+      Signed16.unpackFromBytesLittleEndian(le));
+  }
+
+  @Test public void testBufferExactDirect()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocateDirect(2 + 1).order(order);
+
+      Signed16.packToBufferBigEndian(0x0102, b, 1);
+      Assert.assertEquals((byte) 1, b.get(1));
+      Assert.assertEquals((byte) 2, b.get(2));
+      Assert.assertEquals(0x0102, Signed16.unpackFromBufferBigEndian(b, 1));
+
+      Signed16.packToBufferLittleEndian(0x0102, b, 1);
+      Assert.assertEquals((byte) 2, b.get(1));
+      Assert.assertEquals((byte) 1, b.get(2));
+      Assert.assertEquals(0x0102, Signed16.unpackFromBufferLittleEndian(b, 1));
+    }
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final int x = -12345;
+    final byte[] be = Signed16.packToBytesBigEndianAllocate(x);
+    final byte[] le = Signed16.packToBytesLittleEndianAllocate(x);
+
+    for (int offset = 0; offset <= 4; ++offset) {
+      final byte[] b = new byte[2 + 4];
+
+      Signed16.packToBytesBigEndian(x, b, offset);
+      for (int k = 0; k < 2; ++k) {
+        Assert.assertEquals(be[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed16.unpackFromBytesBigEndian(b, offset));
+
+      Signed16.packToBytesLittleEndian(x, b, offset);
+      for (int k = 0; k < 2; ++k) {
+        Assert.assertEquals(le[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed16.unpackFromBytesLittleEndian(b, offset));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Signed16.packToBytesBigEndian(0, new byte[3], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_1()
+  {
+    Signed16.unpackFromBytesLittleEndian(new byte[3], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_2()
+  {
+    Signed16.unpackFromBytesBigEndian(new byte[2], -1);
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    for (final int count : new int[]{0, 1, 63, 64, 1000}) {
+      final short[] x = new short[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = (short) (k * 40503);
+      }
+
+      for (final ByteBuffer b : new ByteBuffer[]{
+        ByteBuffer.allocate((count * 2) + 1),
+        ByteBuffer.allocateDirect((count * 2) + 1),
+        ByteBuffer.allocateDirect((count * 2) + 1)
+          .order(ByteOrder.LITTLE_ENDIAN),
+      }) {
+        final ByteOrder order = b.order();
+
+        Signed16.packArrayBigEndian(x, 0, b, 1, count);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed16.unpackFromBufferBigEndian(b, 1 + (k * 2)));
+        }
+        final short[] y = new short[count];
+        Signed16.unpackArrayBigEndian(b, 1, y, 0, count);
+        Assert.assertArrayEquals(x, y);
+
+        Signed16.packArrayLittleEndian(x, 0, b, 1, count);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed16.unpackFromBufferLittleEndian(b, 1 + (k * 2)));
+        }
+        final short[] z = new short[count];
+        Signed16.unpackArrayLittleEndian(b, 1, z, 0, count);
+        Assert.assertArrayEquals(x, z);
+
+        Assert.assertEquals(order, b.order());
+        Assert.assertEquals(0, b.position());
+      }
+
+      final byte[] be = new byte[count * 2];
+      final byte[] le = new byte[count * 2];
+      Signed16.packArrayBigEndian(x, 0, be, 0, count);
+      Signed16.packArrayLittleEndian(x, 0, le, 0, count);
+      for (int k = 0; k < count; ++k) {
+        Assert.assertEquals(x[k], Signed16.unpackFromBytesBigEndian(be, k * 2));
+        Assert.assertEquals(
+          x[k], Signed16.unpackFromBytesLittleEndian(le, k * 2));
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_0()
+  {
+    Signed16.packArrayBigEndian(
+      new short[100], 0, ByteBuffer.allocate((100 * 2) - 1), 0, 100);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_1()
+  {
+    Signed16.unpackArrayLittleEndian(
+      ByteBuffer.allocate(100 * 2), 1, new short[100], 0, 100);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final int[] values = {
+      -0x8000,
+      -1,
+      0,
+      1,
+      0x1234,
+      0x7fff,
+    };
+    final byte[] e = new byte[2 + 3];
+    final byte[] b = new byte[2 + 3];
+
+    for (final int x : values) {
+      Signed16.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Signed16.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed16.unpackFromBytesBigEndian(e, 3),
+        Signed16.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Signed16.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Signed16.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed16.unpackFromBytesLittleEndian(e, 3),
+        Signed16.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedPackOutOfRange()
+  {
+    Signed16.Unchecked.packToBytesBigEndian(0, new byte[2], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedUnpackOutOfRange()
+  {
+    Signed16.Unchecked.unpackFromBytesLittleEndian(new byte[2], -1);
+  }
 }
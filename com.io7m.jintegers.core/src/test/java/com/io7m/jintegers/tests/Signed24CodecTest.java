@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed24;
+import com.io7m.jintegers.Signed24Codec;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Signed24CodecTest
+{
+  private static final int[] VALUES = {
+    -8388608,
+    -1,
+    0,
+    1,
+    0x123456,
+    8388607,
+  };
+
+  @Test public void testForOrder()
+  {
+    final Signed24Codec be = Signed24Codec.forOrder(ByteOrder.BIG_ENDIAN);
+    final Signed24Codec le = Signed24Codec.forOrder(ByteOrder.LITTLE_ENDIAN);
+    Assert.assertEquals(ByteOrder.BIG_ENDIAN, be.order());
+    Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, le.order());
+    Assert.assertSame(be, Signed24Codec.forOrder(ByteOrder.BIG_ENDIAN));
+    Assert.assertSame(le, Signed24Codec.forOrder(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed24Codec c = Signed24Codec.forOrder(order);
+      final ByteBuffer b = ByteBuffer.allocate(3 + 1);
+      final ByteBuffer e = ByteBuffer.allocate(3 + 1).order(order);
+
+      for (final int x : VALUES) {
+        b.order(order.equals(ByteOrder.BIG_ENDIAN)
+                  ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        c.packToBuffer(x, b, 1);
+        Signed24.packToBuffer(x, e, 1);
+        b.order(order);
+        Assert.assertEquals(e, b);
+        Assert.assertEquals(x, c.unpackFromBuffer(b, 1));
+      }
+    }
+  }
+
+  @Test public void testBytesIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed24Codec c = Signed24Codec.forOrder(order);
+      final byte[] b = new byte[3];
+
+      for (final int x : VALUES) {
+        c.packToBytes(x, b);
+        final ByteBuffer e = ByteBuffer.allocate(3).order(order);
+        Signed24.packToBuffer(x, e, 0);
+        Assert.assertArrayEquals(e.array(), b);
+        Assert.assertEquals(x, c.unpackFromBytes(b));
+      }
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed24Codec c = Signed24Codec.forOrder(order);
+      final int[] x = new int[64];
+      for (int k = 0; k < x.length; ++k) {
+        x[k] = (k * 32749) - 8388608;
+      }
+
+      final byte[] b = c.packArray(x, 0, new byte[x.length * 3], 0, x.length);
+      final int[] y = c.unpackArray(b, 0, new int[x.length], 0, x.length);
+      Assert.assertArrayEquals(x, y);
+    }
+  }
+
+  @Test public void testBytesOffsetIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed24Codec c = Signed24Codec.forOrder(order);
+      final byte[] b = new byte[3 + 3];
+
+      for (final int x : VALUES) {
+        c.packToBytes(x, b, 3);
+        Assert.assertEquals(x, c.unpackFromBytes(b, 3));
+        Assert.assertEquals(x, c.unpackFromBuffer(ByteBuffer.wrap(b), 3));
+      }
+    }
+  }
+}
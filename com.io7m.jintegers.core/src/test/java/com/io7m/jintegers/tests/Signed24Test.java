@@ -18,6 +18,7 @@ package com.io7m.jintegers.tests;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -225,4 +226,245 @@ import com.io7m.jintegers.Signed24;
   {
     Signed24.packToBytesLittleEndian(0, new byte[1]);
   }
+
+  @Test public void testArrayIdentityBE()
+  {
+    final int[] x = new int[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = (k * 32749) - 8388608;
+    }
+
+    final byte[] b = new byte[(x.length * 3) + 3];
+    Signed24.packArrayBigEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed24.packToBytesBigEndianAllocate(x[k]);
+      for (int j = 0; j < 3; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 3) + j]);
+      }
+    }
+
+    final int[] y = new int[x.length + 1];
+    Signed24.unpackArrayBigEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test public void testArrayIdentityLE()
+  {
+    final int[] x = new int[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = (k * 32749) - 8388608;
+    }
+
+    final byte[] b = new byte[(x.length * 3) + 3];
+    Signed24.packArrayLittleEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed24.packToBytesLittleEndianAllocate(x[k]);
+      for (int j = 0; j < 3; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 3) + j]);
+      }
+    }
+
+    final int[] y = new int[x.length + 1];
+    Signed24.unpackArrayLittleEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_0()
+  {
+    Signed24.packArrayBigEndian(new int[4], 0, new byte[11], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_1()
+  {
+    Signed24.unpackArrayLittleEndian(new byte[12], 1, new int[4], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_2()
+  {
+    Signed24.unpackArrayBigEndian(new byte[12], 0, new int[3], 0, 4);
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final int x = -1234567;
+    final byte[] be = Signed24.packToBytesBigEndianAllocate(x);
+    final byte[] le = Signed24.packToBytesLittleEndianAllocate(x);
+
+    for (int offset = 0; offset <= 4; ++offset) {
+      final byte[] b = new byte[3 + 4];
+
+      Signed24.packToBytesBigEndian(x, b, offset);
+      for (int k = 0; k < 3; ++k) {
+        Assert.assertEquals(be[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed24.unpackFromBytesBigEndian(b, offset));
+
+      Signed24.packToBytesLittleEndian(x, b, offset);
+      for (int k = 0; k < 3; ++k) {
+        Assert.assertEquals(le[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed24.unpackFromBytesLittleEndian(b, offset));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Signed24.packToBytesBigEndian(0, new byte[4], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_1()
+  {
+    Signed24.unpackFromBytesLittleEndian(new byte[4], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_2()
+  {
+    Signed24.unpackFromBytesBigEndian(new byte[3], -1);
+  }
+
+  @Test public void testArrayBoundaries()
+  {
+    for (final int count : new int[]{0, 1, 2, 3, 100}) {
+      final int[] x = new int[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = ((k * 0x9e3779b1) << 8) >> 8;
+      }
+
+      for (final int slack : new int[]{0, 1, 4}) {
+        final byte[] be = new byte[(count * 3) + 2 + slack];
+        final byte[] le = new byte[(count * 3) + 2 + slack];
+        Arrays.fill(be, (byte) 0x5a);
+        Arrays.fill(le, (byte) 0x5a);
+
+        Signed24.packArrayBigEndian(x, 0, be, 2, count);
+        Signed24.packArrayLittleEndian(x, 0, le, 2, count);
+        for (final byte[] b : new byte[][]{be, le}) {
+          Assert.assertEquals((byte) 0x5a, b[0]);
+          Assert.assertEquals((byte) 0x5a, b[1]);
+          for (int k = (count * 3) + 2; k < b.length; ++k) {
+            Assert.assertEquals((byte) 0x5a, b[k]);
+          }
+        }
+
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed24.unpackFromBytesBigEndian(be, 2 + (k * 3)));
+          Assert.assertEquals(
+            x[k], Signed24.unpackFromBytesLittleEndian(le, 2 + (k * 3)));
+        }
+
+        final int[] y = new int[count];
+        Signed24.unpackArrayBigEndian(be, 2, y, 0, count);
+        Assert.assertArrayEquals(x, y);
+        final int[] z = new int[count];
+        Signed24.unpackArrayLittleEndian(le, 2, z, 0, count);
+        Assert.assertArrayEquals(x, z);
+      }
+    }
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    for (final int count : new int[]{0, 1, 2, 3, 100}) {
+      final int[] x = new int[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = ((k * 0x9e3779b1) << 8) >> 8;
+      }
+
+      for (final ByteBuffer b : new ByteBuffer[]{
+        ByteBuffer.allocate((count * 3) + 1),
+        ByteBuffer.allocateDirect((count * 3) + 1),
+        ByteBuffer.allocateDirect((count * 3) + 1)
+          .order(ByteOrder.LITTLE_ENDIAN),
+        ByteBuffer.allocateDirect((count * 3) + 8)
+          .order(ByteOrder.LITTLE_ENDIAN),
+      }) {
+        final byte[] e = new byte[count * 3];
+
+        Signed24.packArrayBigEndian(x, 0, b, 1, count);
+        Signed24.packArrayBigEndian(x, 0, e, 0, count);
+        for (int k = 0; k < e.length; ++k) {
+          Assert.assertEquals(e[k], b.get(k + 1));
+        }
+        final int[] y = new int[count];
+        Signed24.unpackArrayBigEndian(b, 1, y, 0, count);
+        Assert.assertArrayEquals(x, y);
+
+        Signed24.packArrayLittleEndian(x, 0, b, 1, count);
+        Signed24.packArrayLittleEndian(x, 0, e, 0, count);
+        for (int k = 0; k < e.length; ++k) {
+          Assert.assertEquals(e[k], b.get(k + 1));
+        }
+        final int[] z = new int[count];
+        Signed24.unpackArrayLittleEndian(b, 1, z, 0, count);
+        Assert.assertArrayEquals(x, z);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_0()
+  {
+    Signed24.unpackArrayBigEndian(
+      ByteBuffer.allocate(11), 0, new int[4], 0, 4);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final int[] values = {
+      -0x800000,
+      -1,
+      0,
+      1,
+      0x123456,
+      0x7fffff,
+    };
+    final byte[] e = new byte[3 + 3];
+    final byte[] b = new byte[3 + 3];
+
+    for (final int x : values) {
+      Signed24.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Signed24.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed24.unpackFromBytesBigEndian(e, 3),
+        Signed24.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Signed24.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Signed24.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed24.unpackFromBytesLittleEndian(e, 3),
+        Signed24.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedPackOutOfRange()
+  {
+    Signed24.Unchecked.packToBytesBigEndian(0, new byte[3], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedUnpackOutOfRange()
+  {
+    Signed24.Unchecked.unpackFromBytesLittleEndian(new byte[3], -1);
+  }
 }
@@ -225,4 +225,257 @@ import com.io7m.jintegers.Signed32;
   {
     Signed32.packToBytesLittleEndian(0, new byte[3]);
   }
+
+  @Test public void testArrayIdentityBE()
+  {
+    final int[] x = new int[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = k * 0x9e3779b1;
+    }
+
+    final byte[] b = new byte[(x.length * 4) + 3];
+    Signed32.packArrayBigEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed32.packToBytesBigEndianAllocate(x[k]);
+      for (int j = 0; j < 4; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 4) + j]);
+      }
+    }
+
+    final int[] y = new int[x.length + 1];
+    Signed32.unpackArrayBigEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test public void testArrayIdentityLE()
+  {
+    final int[] x = new int[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = k * 0x9e3779b1;
+    }
+
+    final byte[] b = new byte[(x.length * 4) + 3];
+    Signed32.packArrayLittleEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed32.packToBytesLittleEndianAllocate(x[k]);
+      for (int j = 0; j < 4; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 4) + j]);
+      }
+    }
+
+    final int[] y = new int[x.length + 1];
+    Signed32.unpackArrayLittleEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_0()
+  {
+    Signed32.packArrayBigEndian(new int[4], 0, new byte[15], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_1()
+  {
+    Signed32.unpackArrayLittleEndian(new byte[16], 1, new int[4], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_2()
+  {
+    Signed32.unpackArrayBigEndian(new byte[16], 0, new int[3], 0, 4);
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] be = new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4};
+    final byte[] le = new byte[]{(byte) 4, (byte) 3, (byte) 2, (byte) 1};
+
+    Assert.assertArrayEquals(be,
+      Signed32.packToBytesBigEndianAllocate(0x01020304));
+    Assert.assertArrayEquals(le,
+      Signed32.packToBytesLittleEndianAllocate(0x01020304));
+    Assert.assertEquals(0x01020304, Signed32.unpackFromBytesBigEndian(be));
+    Assert.assertEquals(0x01020304, Signed32.unpackFromBytesLittleEndian(le));
+  }
+
+  @Test public void testBufferExactDirect()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocateDirect(4 + 1).order(order);
+
+      Signed32.packToBufferBigEndian(0x01020304, b, 1);
+      Assert.assertEquals((byte) 1, b.get(1));
+      Assert.assertEquals((byte) 4, b.get(4));
+      Assert.assertEquals(0x01020304, Signed32.unpackFromBufferBigEndian(b, 1));
+
+      Signed32.packToBufferLittleEndian(0x01020304, b, 1);
+      Assert.assertEquals((byte) 4, b.get(1));
+      Assert.assertEquals((byte) 1, b.get(4));
+      Assert.assertEquals(0x01020304,
+        Signed32.unpackFromBufferLittleEndian(b, 1));
+    }
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final int x = -123456789;
+    final byte[] be = Signed32.packToBytesBigEndianAllocate(x);
+    final byte[] le = Signed32.packToBytesLittleEndianAllocate(x);
+
+    for (int offset = 0; offset <= 4; ++offset) {
+      final byte[] b = new byte[4 + 4];
+
+      Signed32.packToBytesBigEndian(x, b, offset);
+      for (int k = 0; k < 4; ++k) {
+        Assert.assertEquals(be[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed32.unpackFromBytesBigEndian(b, offset));
+
+      Signed32.packToBytesLittleEndian(x, b, offset);
+      for (int k = 0; k < 4; ++k) {
+        Assert.assertEquals(le[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed32.unpackFromBytesLittleEndian(b, offset));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Signed32.packToBytesBigEndian(0, new byte[5], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_1()
+  {
+    Signed32.unpackFromBytesLittleEndian(new byte[5], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_2()
+  {
+    Signed32.unpackFromBytesBigEndian(new byte[4], -1);
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    for (final int count : new int[]{0, 1, 63, 64, 1000}) {
+      final int[] x = new int[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = k * 0x9e3779b1;
+      }
+
+      for (final ByteBuffer b : new ByteBuffer[]{
+        ByteBuffer.allocate((count * 4) + 1),
+        ByteBuffer.allocateDirect((count * 4) + 1),
+        ByteBuffer.allocateDirect((count * 4) + 1)
+          .order(ByteOrder.LITTLE_ENDIAN),
+      }) {
+        final ByteOrder order = b.order();
+
+        Signed32.packArrayBigEndian(x, 0, b, 1, count);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed32.unpackFromBufferBigEndian(b, 1 + (k * 4)));
+        }
+        final int[] y = new int[count];
+        Signed32.unpackArrayBigEndian(b, 1, y, 0, count);
+        Assert.assertArrayEquals(x, y);
+
+        Signed32.packArrayLittleEndian(x, 0, b, 1, count);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed32.unpackFromBufferLittleEndian(b, 1 + (k * 4)));
+        }
+        final int[] z = new int[count];
+        Signed32.unpackArrayLittleEndian(b, 1, z, 0, count);
+        Assert.assertArrayEquals(x, z);
+
+        Assert.assertEquals(order, b.order());
+        Assert.assertEquals(0, b.position());
+      }
+
+      final byte[] be = new byte[count * 4];
+      final byte[] le = new byte[count * 4];
+      Signed32.packArrayBigEndian(x, 0, be, 0, count);
+      Signed32.packArrayLittleEndian(x, 0, le, 0, count);
+      for (int k = 0; k < count; ++k) {
+        Assert.assertEquals(x[k], Signed32.unpackFromBytesBigEndian(be, k * 4));
+        Assert.assertEquals(
+          x[k], Signed32.unpackFromBytesLittleEndian(le, k * 4));
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_0()
+  {
+    Signed32.packArrayBigEndian(
+      new int[100], 0, ByteBuffer.allocate((100 * 4) - 1), 0, 100);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_1()
+  {
+    Signed32.unpackArrayLittleEndian(
+      ByteBuffer.allocate(100 * 4), 1, new int[100], 0, 100);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final int[] values = {
+      Integer.MIN_VALUE,
+      -1,
+      0,
+      1,
+      0x12345678,
+      Integer.MAX_VALUE,
+    };
+    final byte[] e = new byte[4 + 3];
+    final byte[] b = new byte[4 + 3];
+
+    for (final int x : values) {
+      Signed32.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Signed32.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed32.unpackFromBytesBigEndian(e, 3),
+        Signed32.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Signed32.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Signed32.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed32.unpackFromBytesLittleEndian(e, 3),
+        Signed32.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedPackOutOfRange()
+  {
+    Signed32.Unchecked.packToBytesBigEndian(0, new byte[4], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedUnpackOutOfRange()
+  {
+    Signed32.Unchecked.unpackFromBytesLittleEndian(new byte[4], -1);
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Signed64Codec;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Signed64CodecTest
+{
+  private static final long[] VALUES = {
+    Long.MIN_VALUE,
+    -1L,
+    0L,
+    1L,
+    0x123456789abcdefL,
+    Long.MAX_VALUE,
+  };
+
+  @Test public void testForOrder()
+  {
+    final Signed64Codec be = Signed64Codec.forOrder(ByteOrder.BIG_ENDIAN);
+    final Signed64Codec le = Signed64Codec.forOrder(ByteOrder.LITTLE_ENDIAN);
+    Assert.assertEquals(ByteOrder.BIG_ENDIAN, be.order());
+    Assert.assertEquals(ByteOrder.LITTLE_ENDIAN, le.order());
+    Assert.assertSame(be, Signed64Codec.forOrder(ByteOrder.BIG_ENDIAN));
+    Assert.assertSame(le, Signed64Codec.forOrder(ByteOrder.LITTLE_ENDIAN));
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed64Codec c = Signed64Codec.forOrder(order);
+      final ByteBuffer b = ByteBuffer.allocate(8 + 1);
+      final ByteBuffer e = ByteBuffer.allocate(8 + 1).order(order);
+
+      for (final long x : VALUES) {
+        b.order(order.equals(ByteOrder.BIG_ENDIAN)
+                  ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        c.packToBuffer(x, b, 1);
+        Signed64.packToBuffer(x, e, 1);
+        b.order(order);
+        Assert.assertEquals(e, b);
+        Assert.assertEquals(x, c.unpackFromBuffer(b, 1));
+      }
+    }
+  }
+
+  @Test public void testBytesIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed64Codec c = Signed64Codec.forOrder(order);
+      final byte[] b = new byte[8];
+
+      for (final long x : VALUES) {
+        c.packToBytes(x, b);
+        final ByteBuffer e = ByteBuffer.allocate(8).order(order);
+        Signed64.packToBuffer(x, e, 0);
+        Assert.assertArrayEquals(e.array(), b);
+        Assert.assertEquals(x, c.unpackFromBytes(b));
+      }
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed64Codec c = Signed64Codec.forOrder(order);
+      final long[] x = new long[64];
+      for (int k = 0; k < x.length; ++k) {
+        x[k] = k * 0x9e3779b97f4a7c15L;
+      }
+
+      final byte[] b = c.packArray(x, 0, new byte[x.length * 8], 0, x.length);
+      final long[] y = c.unpackArray(b, 0, new long[x.length], 0, x.length);
+      Assert.assertArrayEquals(x, y);
+    }
+  }
+
+  @Test public void testBytesOffsetIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final Signed64Codec c = Signed64Codec.forOrder(order);
+      final byte[] b = new byte[8 + 3];
+
+      for (final long x : VALUES) {
+        c.packToBytes(x, b, 3);
+        Assert.assertEquals(x, c.unpackFromBytes(b, 3));
+        Assert.assertEquals(x, c.unpackFromBuffer(ByteBuffer.wrap(b), 3));
+      }
+    }
+  }
+}
@@ -225,4 +225,266 @@ import com.io7m.jintegers.Signed64;
   {
     Signed64.packToBytesLittleEndian(0, new byte[7]);
   }
+
+  @Test public void testArrayIdentityBE()
+  {
+    final long[] x = new long[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = k * 0x9e3779b97f4a7c15L;
+    }
+
+    final byte[] b = new byte[(x.length * 8) + 3];
+    Signed64.packArrayBigEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed64.packToBytesBigEndianAllocate(x[k]);
+      for (int j = 0; j < 8; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 8) + j]);
+      }
+    }
+
+    final long[] y = new long[x.length + 1];
+    Signed64.unpackArrayBigEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test public void testArrayIdentityLE()
+  {
+    final long[] x = new long[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = k * 0x9e3779b97f4a7c15L;
+    }
+
+    final byte[] b = new byte[(x.length * 8) + 3];
+    Signed64.packArrayLittleEndian(x, 0, b, 3, x.length);
+
+    for (int k = 0; k < x.length; ++k) {
+      final byte[] e = Signed64.packToBytesLittleEndianAllocate(x[k]);
+      for (int j = 0; j < 8; ++j) {
+        Assert.assertEquals(e[j], b[3 + (k * 8) + j]);
+      }
+    }
+
+    final long[] y = new long[x.length + 1];
+    Signed64.unpackArrayLittleEndian(b, 3, y, 1, x.length);
+    for (int k = 0; k < x.length; ++k) {
+      Assert.assertEquals(x[k], y[k + 1]);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_0()
+  {
+    Signed64.packArrayBigEndian(new long[4], 0, new byte[31], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_1()
+  {
+    Signed64.unpackArrayLittleEndian(new byte[32], 1, new long[4], 0, 4);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayTooSmall_2()
+  {
+    Signed64.unpackArrayBigEndian(new byte[32], 0, new long[3], 0, 4);
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] be = new byte[]{
+      (byte) 1, (byte) 2, (byte) 3, (byte) 4,
+      (byte) 5, (byte) 6, (byte) 7, (byte) 8
+    };
+    final byte[] le = new byte[]{
+      (byte) 8, (byte) 7, (byte) 6, (byte) 5,
+      (byte) 4, (byte) 3, (byte) 2, (byte) 1
+    };
+
+    Assert.assertArrayEquals(be,
+      Signed64.packToBytesBigEndianAllocate(0x0102030405060708L));
+    Assert.assertArrayEquals(le,
+      Signed64.packToBytesLittleEndianAllocate(0x0102030405060708L));
+    Assert.assertEquals(0x0102030405060708L,
+      Signed64.unpackFromBytesBigEndian(be));
+    Assert.assertEquals(0x0102030405060708L,
+      Signed64.unpackFromBytesLittleEndian(le));
+  }
+
+  @Test public void testBufferExactDirect()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocateDirect(8 + 1).order(order);
+
+      Signed64.packToBufferBigEndian(0x0102030405060708L, b, 1);
+      Assert.assertEquals((byte) 1, b.get(1));
+      Assert.assertEquals((byte) 8, b.get(8));
+      Assert.assertEquals(0x0102030405060708L,
+        Signed64.unpackFromBufferBigEndian(b, 1));
+
+      Signed64.packToBufferLittleEndian(0x0102030405060708L, b, 1);
+      Assert.assertEquals((byte) 8, b.get(1));
+      Assert.assertEquals((byte) 1, b.get(8));
+      Assert.assertEquals(0x0102030405060708L,
+        Signed64.unpackFromBufferLittleEndian(b, 1));
+    }
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final long x = -1234567890123456789L;
+    final byte[] be = Signed64.packToBytesBigEndianAllocate(x);
+    final byte[] le = Signed64.packToBytesLittleEndianAllocate(x);
+
+    for (int offset = 0; offset <= 4; ++offset) {
+      final byte[] b = new byte[8 + 4];
+
+      Signed64.packToBytesBigEndian(x, b, offset);
+      for (int k = 0; k < 8; ++k) {
+        Assert.assertEquals(be[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed64.unpackFromBytesBigEndian(b, offset));
+
+      Signed64.packToBytesLittleEndian(x, b, offset);
+      for (int k = 0; k < 8; ++k) {
+        Assert.assertEquals(le[k], b[offset + k]);
+      }
+      Assert.assertEquals(x, Signed64.unpackFromBytesLittleEndian(b, offset));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Signed64.packToBytesBigEndian(0, new byte[9], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_1()
+  {
+    Signed64.unpackFromBytesLittleEndian(new byte[9], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_2()
+  {
+    Signed64.unpackFromBytesBigEndian(new byte[8], -1);
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    for (final int count : new int[]{0, 1, 63, 64, 1000}) {
+      final long[] x = new long[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = k * 0x9e3779b97f4a7c15L;
+      }
+
+      for (final ByteBuffer b : new ByteBuffer[]{
+        ByteBuffer.allocate((count * 8) + 1),
+        ByteBuffer.allocateDirect((count * 8) + 1),
+        ByteBuffer.allocateDirect((count * 8) + 1)
+          .order(ByteOrder.LITTLE_ENDIAN),
+      }) {
+        final ByteOrder order = b.order();
+
+        Signed64.packArrayBigEndian(x, 0, b, 1, count);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed64.unpackFromBufferBigEndian(b, 1 + (k * 8)));
+        }
+        final long[] y = new long[count];
+        Signed64.unpackArrayBigEndian(b, 1, y, 0, count);
+        Assert.assertArrayEquals(x, y);
+
+        Signed64.packArrayLittleEndian(x, 0, b, 1, count);
+        for (int k = 0; k < count; ++k) {
+          Assert.assertEquals(
+            x[k], Signed64.unpackFromBufferLittleEndian(b, 1 + (k * 8)));
+        }
+        final long[] z = new long[count];
+        Signed64.unpackArrayLittleEndian(b, 1, z, 0, count);
+        Assert.assertArrayEquals(x, z);
+
+        Assert.assertEquals(order, b.order());
+        Assert.assertEquals(0, b.position());
+      }
+
+      final byte[] be = new byte[count * 8];
+      final byte[] le = new byte[count * 8];
+      Signed64.packArrayBigEndian(x, 0, be, 0, count);
+      Signed64.packArrayLittleEndian(x, 0, le, 0, count);
+      for (int k = 0; k < count; ++k) {
+        Assert.assertEquals(x[k], Signed64.unpackFromBytesBigEndian(be, k * 8));
+        Assert.assertEquals(
+          x[k], Signed64.unpackFromBytesLittleEndian(le, k * 8));
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_0()
+  {
+    Signed64.packArrayBigEndian(
+      new long[100], 0, ByteBuffer.allocate((100 * 8) - 1), 0, 100);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testArrayBufferTooSmall_1()
+  {
+    Signed64.unpackArrayLittleEndian(
+      ByteBuffer.allocate(100 * 8), 1, new long[100], 0, 100);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final long[] values = {
+      Long.MIN_VALUE,
+      -1L,
+      0L,
+      1L,
+      0x123456789abcdef0L,
+      Long.MAX_VALUE,
+    };
+    final byte[] e = new byte[8 + 3];
+    final byte[] b = new byte[8 + 3];
+
+    for (final long x : values) {
+      Signed64.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Signed64.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed64.unpackFromBytesBigEndian(e, 3),
+        Signed64.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Signed64.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Signed64.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Signed64.unpackFromBytesLittleEndian(e, 3),
+        Signed64.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedPackOutOfRange()
+  {
+    Signed64.Unchecked.packToBytesBigEndian(0, new byte[8], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedUnpackOutOfRange()
+  {
+    Signed64.Unchecked.unpackFromBytesLittleEndian(new byte[8], -1);
+  }
 }
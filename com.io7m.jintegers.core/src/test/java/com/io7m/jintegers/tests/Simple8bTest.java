@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Simple8b;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Simple8bTest
+{
+  private static final int[] COUNTS = {0, 1, 2, 59, 60, 61, 239, 240, 241, 1000};
+
+  private static long[] values(
+    final int count,
+    final int bitsMax)
+  {
+    final SplittableRandom random = new SplittableRandom(count * 61L + bitsMax);
+    final long[] r = new long[count];
+    for (int k = 0; k < count; ++k) {
+      final int bits = random.nextInt(bitsMax + 1);
+      r[k] = bits == 0 ? 0L : random.nextLong() >>> (64 - bits);
+    }
+    return r;
+  }
+
+  private static void checkLongs(
+    final long[] v)
+  {
+    final int count = v.length;
+    final int words = Simple8b.encodedWords(v, 0, count);
+    final long[] w = new long[words + 1];
+    Assert.assertEquals(words + 1, Simple8b.encodeLongArray(v, 0, w, 1, count));
+
+    final long[] r = new long[count];
+    Assert.assertEquals(words + 1, Simple8b.decodeLongArray(w, 1, r, 0, count));
+    Assert.assertArrayEquals(v, r);
+
+    final byte[] b = new byte[words * 8 + 3];
+    Assert.assertEquals(
+      words * 8 + 3, Simple8b.encodeLongArray(v, 0, b, 3, count));
+    final ByteBuffer expected = ByteBuffer.allocate(words * 8);
+    expected.asLongBuffer().put(w, 1, words);
+    Assert.assertArrayEquals(
+      expected.array(), Arrays.copyOfRange(b, 3, b.length));
+
+    Arrays.fill(r, -1L);
+    Assert.assertEquals(
+      words * 8 + 3, Simple8b.decodeLongArray(b, 3, r, 0, count));
+    Assert.assertArrayEquals(v, r);
+
+    for (final ByteBuffer buf : TestBuffers.buffers(words * 8)) {
+      Assert.assertEquals(
+        words * 8, Simple8b.encodeLongArray(v, 0, buf, 0, count));
+      final byte[] got = new byte[words * 8];
+      buf.get(0, got);
+      Assert.assertArrayEquals(expected.array(), got);
+
+      Arrays.fill(r, -1L);
+      Assert.assertEquals(
+        words * 8, Simple8b.decodeLongArray(buf, 0, r, 0, count));
+      Assert.assertArrayEquals(v, r);
+    }
+  }
+
+  @Test public void testSelectors()
+  {
+    final long[] w = new long[1];
+
+    Simple8b.encodeLongArray(new long[240], 0, w, 0, 240);
+    Assert.assertEquals(0L, w[0] >>> 60);
+
+    final long[] v = new long[60];
+    Arrays.fill(v, 1L);
+    Simple8b.encodeLongArray(v, 0, w, 0, 60);
+    Assert.assertEquals(0x2fffffffffffffffL, w[0]);
+
+    Simple8b.encodeLongArray(new long[]{5L, 1000L, 3L}, 0, w, 0, 3);
+    Assert.assertEquals((10L << 60) | 5L | (1000L << 10) | (3L << 20), w[0]);
+
+    Simple8b.encodeLongArray(new long[]{Simple8b.VALUE_MAX}, 0, w, 0, 1);
+    Assert.assertEquals(-1L, w[0]);
+  }
+
+  @Test public void testRuns()
+  {
+    final long[] v = new long[1000];
+    Assert.assertEquals(5, Simple8b.encodedWords(v, 0, 1000));
+    v[500] = 1L;
+    checkLongs(v);
+  }
+
+  @Test public void testLongs()
+  {
+    for (final int count : COUNTS) {
+      for (final int bits : new int[]{1, 4, 9, 20, 40, 60}) {
+        checkLongs(values(count, bits));
+      }
+    }
+  }
+
+  @Test public void testInts()
+  {
+    for (final int count : COUNTS) {
+      final long[] lv = values(count, 60);
+      final int[] v = new int[count];
+      final long[] widened = new long[count];
+      for (int k = 0; k < count; ++k) {
+        v[k] = (int) (lv[k] >>> 28);
+        widened[k] = v[k] & 0xffffffffL;
+      }
+
+      final int words = Simple8b.encodedWords(v, 0, count);
+      Assert.assertEquals(Simple8b.encodedWords(widened, 0, count), words);
+      final long[] w = new long[words];
+      final long[] x = new long[words];
+      Simple8b.encodeIntArray(v, 0, w, 0, count);
+      Simple8b.encodeLongArray(widened, 0, x, 0, count);
+      Assert.assertArrayEquals(x, w);
+
+      final int[] r = new int[count];
+      Simple8b.decodeIntArray(w, 0, r, 0, count);
+      Assert.assertArrayEquals(v, r);
+
+      final byte[] b = new byte[words * 8];
+      Simple8b.encodeIntArray(v, 0, b, 0, count);
+      Arrays.fill(r, 0);
+      Simple8b.decodeIntArray(b, 0, r, 0, count);
+      Assert.assertArrayEquals(v, r);
+
+      for (final ByteBuffer buf : TestBuffers.buffers(words * 8)) {
+        Simple8b.encodeIntArray(v, 0, buf, 0, count);
+        Arrays.fill(r, 0);
+        Simple8b.decodeIntArray(buf, 0, r, 0, count);
+        Assert.assertArrayEquals(v, r);
+      }
+    }
+  }
+
+  @Test public void testOutOfRange()
+  {
+    for (final long x : new long[]{-1L, Simple8b.VALUE_MAX + 1L}) {
+      for (final int size : new int[]{8, 16}) {
+        final byte[] b = new byte[size];
+        try {
+          Simple8b.encodeLongArray(new long[]{1L, x}, 0, b, 0, 2);
+          Assert.fail();
+        } catch (final IllegalArgumentException e) {
+          // Expected
+        }
+        Assert.assertArrayEquals(new byte[size], b);
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testNoRoom()
+  {
+    final long[] v = values(100, 20);
+    final int words = Simple8b.encodedWords(v, 0, 100);
+    Simple8b.encodeLongArray(v, 0, new byte[words * 8 - 1], 0, 100);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testTruncated()
+  {
+    final long[] v = values(100, 20);
+    final long[] w = new long[Simple8b.encodedWords(v, 0, 100)];
+    Simple8b.encodeLongArray(v, 0, w, 0, 100);
+    Simple8b.decodeLongArray(
+      Arrays.copyOf(w, w.length - 1), 0, new long[100], 0, 100);
+  }
+}
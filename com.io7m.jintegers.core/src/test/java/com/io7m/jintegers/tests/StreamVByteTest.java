@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.GroupVarInts;
+import com.io7m.jintegers.StreamVByte;
+
+@SuppressWarnings({ "null", "static-method" }) public final class StreamVByteTest
+{
+  /**
+   * Rearrange Group Varint data, in which each control byte precedes the
+   * data of its group, into the Stream VByte layout in which all of the
+   * control bytes come first.
+   */
+
+  private static byte[] controlsFirst(
+    final byte[] groups,
+    final int count)
+  {
+    final int controls = (count + 3) / 4;
+    final byte[] r = new byte[groups.length];
+    int in = 0;
+    int data = controls;
+    for (int g = 0; g < controls; ++g) {
+      final int c = groups[in] & 0xff;
+      r[g] = (byte) c;
+      ++in;
+      final int n = Math.min(4, count - (g * 4));
+      for (int k = 0; k < n; ++k) {
+        final int length = ((c >>> (k * 2)) & 3) + 1;
+        System.arraycopy(groups, in, r, data, length);
+        in += length;
+        data += length;
+      }
+    }
+    return r;
+  }
+
+  @Test public void testControlBytesFirst()
+  {
+    final int[] v = {1, 0x100, 0x10000, 0x1000000, 0x200, 7};
+    final byte[] b = new byte[15];
+    Assert.assertEquals(15, StreamVByte.encodeIntArray(v, 0, b, 0, 6));
+    Assert.assertArrayEquals(
+      new byte[]{
+        (byte) 0xe4,
+        0x01,
+        1,
+        0, 1,
+        0, 0, 1,
+        0, 0, 0, 1,
+        0, 2,
+        7,
+      },
+      b);
+  }
+
+  @Test public void testPartialGroupControl()
+  {
+    final byte[] controls = {0x03, 0x0f, 0x3f};
+    for (int count = 1; count <= 3; ++count) {
+      final int[] v = new int[count];
+      Arrays.fill(v, -1);
+
+      final byte[] b = new byte[1 + (count * 4)];
+      Assert.assertEquals(
+        b.length, StreamVByte.encodeIntArray(v, 0, b, 0, count));
+
+      final byte[] e = new byte[b.length];
+      Arrays.fill(e, (byte) 0xff);
+      e[0] = controls[count - 1];
+      Assert.assertArrayEquals(e, b);
+    }
+  }
+
+  @Test public void testSameDataAsGroupVarInts()
+  {
+    for (int count = 0; count < 70; ++count) {
+      final int[] v = TestBuffers.mixedInts(count);
+      final int size = (int) StreamVByte.encodedLength(v, 0, count);
+      Assert.assertEquals(GroupVarInts.encodedLength(v, 0, count), size);
+
+      final byte[] groups = new byte[size];
+      GroupVarInts.encodeIntArray(v, 0, groups, 0, count);
+      final byte[] e = controlsFirst(groups, count);
+
+      final byte[] b = new byte[size];
+      Assert.assertEquals(size, StreamVByte.encodeIntArray(v, 0, b, 0, count));
+      Assert.assertArrayEquals(e, b);
+
+      final int[] r = new int[count];
+      Assert.assertEquals(size, StreamVByte.decodeIntArray(e, 0, r, 0, count));
+      Assert.assertArrayEquals(v, r);
+
+      for (final ByteBuffer bb : TestBuffers.buffers(size)) {
+        Assert.assertEquals(
+          size, StreamVByte.encodeIntArray(v, 0, bb, 0, count));
+        final byte[] c = new byte[size];
+        bb.get(0, c);
+        Assert.assertArrayEquals(e, c);
+
+        final int[] rb = new int[count];
+        Assert.assertEquals(
+          size, StreamVByte.decodeIntArray(bb, 0, rb, 0, count));
+        Assert.assertArrayEquals(v, rb);
+        Assert.assertEquals(0, bb.position());
+      }
+    }
+  }
+
+  @Test public void testDecodeResume()
+  {
+    final int[] v = TestBuffers.mixedInts(70);
+    final int size = (int) StreamVByte.encodedLength(v, 0, 70);
+    final byte[] b = new byte[size];
+    StreamVByte.encodeIntArray(v, 0, b, 0, 70);
+    final int controls = 18;
+
+    for (int first = 0; first <= 68; first += 4) {
+      final int[] r = new int[70];
+      final int p =
+        StreamVByte.decodeIntArray(b, 0, controls, r, 0, first);
+      Assert.assertEquals(
+        size,
+        StreamVByte.decodeIntArray(b, first / 4, p, r, first, 70 - first));
+      Assert.assertArrayEquals(v, r);
+
+      final ByteBuffer bb = ByteBuffer.wrap(b);
+      final int[] rb = new int[70];
+      final int pb =
+        StreamVByte.decodeIntArray(bb, 0, controls, rb, 0, first);
+      Assert.assertEquals(p, pb);
+      Assert.assertEquals(
+        size,
+        StreamVByte.decodeIntArray(bb, first / 4, pb, rb, first, 70 - first));
+      Assert.assertArrayEquals(v, rb);
+    }
+  }
+
+  @Test public void testEncodeNoRoom()
+  {
+    final int[] v = TestBuffers.mixedInts(9);
+    final int size = (int) StreamVByte.encodedLength(v, 0, 9);
+    final byte[] b = new byte[size - 1];
+    try {
+      StreamVByte.encodeIntArray(v, 0, b, 0, 9);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertArrayEquals(new byte[b.length], b);
+    }
+  }
+
+  @Test public void testDecodeTruncatedControls()
+  {
+    final int[] v = new int[33];
+    Arrays.fill(v, 1);
+    final byte[] b = new byte[(int) StreamVByte.encodedLength(v, 0, 33)];
+    StreamVByte.encodeIntArray(v, 0, b, 0, 33);
+
+    final byte[] c = Arrays.copyOf(b, 5);
+    try {
+      StreamVByte.decodeIntArray(c, 0, new int[33], 0, 33);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+    try {
+      StreamVByte.decodeIntArray(ByteBuffer.wrap(c), 0, new int[33], 0, 33);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+
+  @Test public void testDecodeTruncatedData()
+  {
+    final int[] v = new int[33];
+    Arrays.fill(v, 0x01020304);
+    final byte[] b = new byte[(int) StreamVByte.encodedLength(v, 0, 33)];
+    StreamVByte.encodeIntArray(v, 0, b, 0, 33);
+
+    final byte[] c = Arrays.copyOf(b, b.length - 1);
+    try {
+      StreamVByte.decodeIntArray(c, 0, new int[33], 0, 33);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+    try {
+      StreamVByte.decodeIntArray(ByteBuffer.wrap(c), 0, new int[33], 0, 33);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+}
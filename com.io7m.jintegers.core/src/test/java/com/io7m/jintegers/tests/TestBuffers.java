@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+/**
+ * Buffers and values shared by the tests.
+ */
+
+final class TestBuffers
+{
+  private TestBuffers()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @param size The size of each buffer
+   *
+   * @return Heap and direct buffers of {@code size} bytes, in both byte
+   * orders
+   */
+
+  static ByteBuffer[] buffers(
+    final int size)
+  {
+    return new ByteBuffer[]{
+      ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN),
+      ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN),
+      ByteBuffer.allocateDirect(size).order(ByteOrder.BIG_ENDIAN),
+      ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN),
+    };
+  }
+
+  /**
+   * @param count The number of values
+   *
+   * @return {@code count} values of every byte length, always the same
+   * for a given {@code count}
+   */
+
+  static int[] mixedInts(
+    final int count)
+  {
+    final SplittableRandom random = new SplittableRandom(count);
+    final int[] r = new int[count];
+    for (int k = 0; k < count; ++k) {
+      r[k] = random.nextInt() >>> random.nextInt(32);
+    }
+    return r;
+  }
+}
@@ -66,4 +66,127 @@ import com.io7m.jintegers.Unsigned16;
       Assert.assertEquals(x, y);
     }
   }
+
+  @Test public void testBufferExactDirect()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocateDirect(2 + 1).order(order);
+
+      Unsigned16.packToBufferBigEndian(0xfe02, b, 1);
+      Assert.assertEquals((byte) 0xfe, b.get(1));
+      Assert.assertEquals((byte) 2, b.get(2));
+      Assert.assertEquals(0xfe02, Unsigned16.unpackFromBufferBigEndian(b, 1));
+
+      Unsigned16.packToBufferLittleEndian(0xfe02, b, 1);
+      Assert.assertEquals((byte) 2, b.get(1));
+      Assert.assertEquals((byte) 0xfe, b.get(2));
+      Assert.assertEquals(0xfe02,
+        Unsigned16.unpackFromBufferLittleEndian(b, 1));
+    }
+  }
+
+  @Test public void testIdentityBE_All()
+  {
+    for (int x = 0; x <= 0xffff; ++x) {
+      final byte[] b = Unsigned16.packToBytesBigEndianAllocate(x);
+      Assert.assertEquals(x, Unsigned16.unpackFromBytesBigEndian(b));
+      Assert.assertEquals((byte) (x >> 8), b[0]);
+    }
+  }
+
+  @Test public void testIdentityLE_All()
+  {
+    for (int x = 0; x <= 0xffff; ++x) {
+      final byte[] b = Unsigned16.packToBytesLittleEndianAllocate(x);
+      Assert.assertEquals(x, Unsigned16.unpackFromBytesLittleEndian(b));
+      Assert.assertEquals((byte) x, b[0]);
+    }
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final byte[] b = new byte[5];
+    for (int offset = 0; offset <= 3; ++offset) {
+      Unsigned16.packToBytesBigEndian(0xfedc, b, offset);
+      Assert.assertEquals((byte) 0xfe, b[offset]);
+      Assert.assertEquals(0xfedc, Unsigned16.unpackFromBytesBigEndian(b, offset));
+      Unsigned16.packToBytesLittleEndian(0xfedc, b, offset);
+      Assert.assertEquals((byte) 0xdc, b[offset]);
+      Assert.assertEquals(
+        0xfedc, Unsigned16.unpackFromBytesLittleEndian(b, offset));
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    final int[] x = new int[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = (k * 1237) & 0xffff;
+    }
+
+    final byte[] be = new byte[x.length * 2];
+    final byte[] le = new byte[x.length * 2];
+    Unsigned16.packArrayBigEndian(x, 0, be, 0, x.length);
+    Unsigned16.packArrayLittleEndian(x, 0, le, 0, x.length);
+    Assert.assertArrayEquals(
+      x, Unsigned16.unpackArrayBigEndian(be, 0, new int[100], 0, 100));
+    Assert.assertArrayEquals(
+      x, Unsigned16.unpackArrayLittleEndian(le, 0, new int[100], 0, 100));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Unsigned16.unpackFromBytesBigEndian(new byte[2], 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_0()
+  {
+    Unsigned16.packToBytesLittleEndian(0, new byte[1]);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final int[] values = {
+      0,
+      1,
+      0x1234,
+      0xfedc,
+      0xffff,
+    };
+    final byte[] e = new byte[2 + 3];
+    final byte[] b = new byte[2 + 3];
+
+    for (final int x : values) {
+      Unsigned16.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned16.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Unsigned16.unpackFromBytesBigEndian(e, 3),
+        Unsigned16.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Unsigned16.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned16.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Unsigned16.unpackFromBytesLittleEndian(e, 3),
+        Unsigned16.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedPackOutOfRange()
+  {
+    Unsigned16.Unchecked.packToBytesBigEndian(0, new byte[2], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedUnpackOutOfRange()
+  {
+    Unsigned16.Unchecked.unpackFromBytesLittleEndian(new byte[2], -1);
+  }
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Unsigned24;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Unsigned24Test
+{
+  private static int value(
+    final int k)
+  {
+    final int x = k * 0x9e3779b1;
+    return (x & 0xffffff);
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] b = Unsigned24.packToBytesBigEndianAllocate(0x123456);
+    Assert.assertEquals((byte) 0x12, b[0]);
+    Assert.assertEquals((byte) 0x34, b[1]);
+    Assert.assertEquals((byte) 0x56, b[2]);
+    Assert.assertEquals(0x123456, Unsigned24.unpackFromBytesBigEndian(b));
+
+    final byte[] c = Unsigned24.packToBytesLittleEndianAllocate(0x123456);
+    Assert.assertEquals((byte) 0x12, c[2]);
+    Assert.assertEquals((byte) 0x34, c[1]);
+    Assert.assertEquals((byte) 0x56, c[0]);
+    Assert.assertEquals(0x123456, Unsigned24.unpackFromBytesLittleEndian(c));
+  }
+
+  @Test public void testTopBit()
+  {
+    final byte[] b = Unsigned24.packToBytesBigEndianAllocate(0x800000);
+    Assert.assertEquals((byte) 0x80, b[0]);
+    Assert.assertEquals(0x800000, Unsigned24.unpackFromBytesBigEndian(b));
+
+    final byte[] c = Unsigned24.packToBytesLittleEndianAllocate(0x800000);
+    Assert.assertEquals((byte) 0x80, c[2]);
+    Assert.assertEquals(0x800000, Unsigned24.unpackFromBytesLittleEndian(c));
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final byte[] b = new byte[3 + 3];
+    for (int offset = 0; offset <= 3; ++offset) {
+      for (int k = 0; k < 1000; ++k) {
+        final int x = value(k);
+        Arrays.fill(b, (byte) 0x55);
+        Unsigned24.packToBytesBigEndian(x, b, offset);
+        Assert.assertEquals(x, Unsigned24.unpackFromBytesBigEndian(b, offset));
+        for (int i = 0; i < b.length; ++i) {
+          if (i < offset || i >= offset + 3) {
+            Assert.assertEquals((byte) 0x55, b[i]);
+          }
+        }
+
+        Unsigned24.packToBytesLittleEndian(x, b, offset);
+        Assert.assertEquals(x, Unsigned24.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final ByteBuffer b : TestBuffers.buffers(3 + 3)) {
+      for (int index = 0; index <= 3; ++index) {
+        for (int k = 0; k < 1000; ++k) {
+          final int x = value(k);
+          Unsigned24.packToBufferBigEndian(x, b, index);
+          Assert.assertEquals(x, Unsigned24.unpackFromBufferBigEndian(b, index));
+          Assert.assertEquals(
+            Unsigned24.packToBytesBigEndianAllocate(x)[0], b.get(index));
+
+          Unsigned24.packToBufferLittleEndian(x, b, index);
+          Assert.assertEquals(
+            x, Unsigned24.unpackFromBufferLittleEndian(b, index));
+          Assert.assertEquals(
+            Unsigned24.packToBytesLittleEndianAllocate(x)[0], b.get(index));
+
+          Unsigned24.packToBuffer(x, b, index);
+          Assert.assertEquals(x, Unsigned24.unpackFromBuffer(b, index));
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(3 + 8);
+    for (int k = 0; k < b.capacity(); ++k) {
+      b.put(k, (byte) 0xff);
+    }
+    b.limit(3);
+    Unsigned24.packToBufferBigEndian(0x123456, b, 0);
+    Assert.assertEquals(0x123456, Unsigned24.unpackFromBufferBigEndian(b, 0));
+    Unsigned24.packToBufferLittleEndian(0x123456, b, 0);
+    Assert.assertEquals(0x123456, Unsigned24.unpackFromBufferLittleEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testBufferTooSmall()
+  {
+    Unsigned24.unpackFromBufferBigEndian(ByteBuffer.allocate(3), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testPackTooSmall()
+  {
+    Unsigned24.packToBytesBigEndian(0, new byte[2]);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testUnpackTooSmall()
+  {
+    Unsigned24.unpackFromBytesLittleEndian(new byte[2]);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testOffsetPackTooSmall()
+  {
+    Unsigned24.packToBytesLittleEndian(0, new byte[4], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testOffsetUnpackTooSmall()
+  {
+    Unsigned24.unpackFromBytesBigEndian(new byte[4], 2);
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    for (final int count : new int[]{0, 1, 2, 3, 100}) {
+      final int[] x = new int[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = value(k);
+      }
+
+      for (final int slack : new int[]{0, 1, 8}) {
+        final byte[] b = new byte[1 + (count * 3) + slack];
+        final byte[] e = new byte[3];
+
+        Arrays.fill(b, (byte) 0x55);
+        Unsigned24.packArrayBigEndian(x, 0, b, 1, count);
+        Assert.assertEquals((byte) 0x55, b[0]);
+        for (int k = 0; k < count; ++k) {
+          Unsigned24.packToBytesBigEndian(x[k], e, 0);
+          Assert.assertArrayEquals(
+            e, Arrays.copyOfRange(b, 1 + (k * 3), 1 + ((k + 1) * 3)));
+        }
+        for (int k = 1 + (count * 3); k < b.length; ++k) {
+          Assert.assertEquals((byte) 0x55, b[k]);
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned24.unpackArrayBigEndian(b, 1, new int[count], 0, count));
+
+        Arrays.fill(b, (byte) 0x55);
+        Unsigned24.packArrayLittleEndian(x, 0, b, 1, count);
+        Assert.assertEquals((byte) 0x55, b[0]);
+        for (int k = 0; k < count; ++k) {
+          Unsigned24.packToBytesLittleEndian(x[k], e, 0);
+          Assert.assertArrayEquals(
+            e, Arrays.copyOfRange(b, 1 + (k * 3), 1 + ((k + 1) * 3)));
+        }
+        for (int k = 1 + (count * 3); k < b.length; ++k) {
+          Assert.assertEquals((byte) 0x55, b[k]);
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned24.unpackArrayLittleEndian(b, 1, new int[count], 0, count));
+      }
+    }
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    for (final int count : new int[]{0, 1, 2, 3, 100}) {
+      final int[] x = new int[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = value(k);
+      }
+
+      for (final ByteBuffer b : TestBuffers.buffers((count * 3) + 1)) {
+        final byte[] e = new byte[count * 3];
+
+        Unsigned24.packArrayBigEndian(x, 0, b, 1, count);
+        Unsigned24.packArrayBigEndian(x, 0, e, 0, count);
+        for (int k = 0; k < e.length; ++k) {
+          Assert.assertEquals(e[k], b.get(k + 1));
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned24.unpackArrayBigEndian(b, 1, new int[count], 0, count));
+
+        Unsigned24.packArrayLittleEndian(x, 0, b, 1, count);
+        Unsigned24.packArrayLittleEndian(x, 0, e, 0, count);
+        for (int k = 0; k < e.length; ++k) {
+          Assert.assertEquals(e[k], b.get(k + 1));
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned24.unpackArrayLittleEndian(b, 1, new int[count], 0, count));
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testArrayTooSmall()
+  {
+    Unsigned24.packArrayBigEndian(new int[3], 0, new byte[8], 0, 3);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testArrayBufferTooSmall()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(9);
+    b.limit(8);
+    Unsigned24.unpackArrayLittleEndian(b, 0, new int[3], 0, 3);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final byte[] e = new byte[3 + 3];
+    final byte[] b = new byte[3 + 3];
+
+    for (int k = 0; k < 1000; ++k) {
+      final int x = value(k);
+      Unsigned24.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned24.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(x, Unsigned24.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Unsigned24.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned24.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        x, Unsigned24.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedOutOfRange()
+  {
+    Unsigned24.Unchecked.unpackFromBytesBigEndian(new byte[3], 1);
+  }
+}
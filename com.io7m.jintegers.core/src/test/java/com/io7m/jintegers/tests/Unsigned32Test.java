@@ -85,4 +85,111 @@ import com.io7m.jintegers.Unsigned32;
       Assert.assertEquals(x, y);
     }
   }
+
+  @Test public void testExplicitBuffer()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocateDirect(4).order(order);
+
+      Unsigned32.packToBufferBigEndian(0xfedcba98L, b, 0);
+      Assert.assertEquals((byte) 0xfe, b.get(0));
+      Assert.assertEquals(0xfedcba98L, Unsigned32.unpackFromBufferBigEndian(b, 0));
+
+      Unsigned32.packToBufferLittleEndian(0xfedcba98L, b, 0);
+      Assert.assertEquals((byte) 0x98, b.get(0));
+      Assert.assertEquals(
+        0xfedcba98L, Unsigned32.unpackFromBufferLittleEndian(b, 0));
+    }
+  }
+
+  @Test public void testBytes()
+  {
+    for (int i = 0; i <= 32; ++i) {
+      final long x = (long) Math.pow(2, i) - 1;
+
+      final byte[] be = Unsigned32.packToBytesBigEndianAllocate(x);
+      Assert.assertEquals(x, Unsigned32.unpackFromBytesBigEndian(be));
+      final byte[] le = Unsigned32.packToBytesLittleEndianAllocate(x);
+      Assert.assertEquals(x, Unsigned32.unpackFromBytesLittleEndian(le));
+
+      final byte[] c = new byte[6];
+      Unsigned32.packToBytesBigEndian(x, c, 2);
+      Assert.assertEquals(x, Unsigned32.unpackFromBytesBigEndian(c, 2));
+      Unsigned32.packToBytesLittleEndian(x, c, 2);
+      Assert.assertEquals(x, Unsigned32.unpackFromBytesLittleEndian(c, 2));
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    final long[] x = new long[100];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = (k * 0x9e3779b1L) & 0xffffffffL;
+    }
+
+    final byte[] be = new byte[x.length * 4];
+    final byte[] le = new byte[x.length * 4];
+    Unsigned32.packArrayBigEndian(x, 0, be, 0, x.length);
+    Unsigned32.packArrayLittleEndian(x, 0, le, 0, x.length);
+    Assert.assertArrayEquals(
+      x, Unsigned32.unpackArrayBigEndian(be, 0, new long[100], 0, 100));
+    Assert.assertArrayEquals(
+      x, Unsigned32.unpackArrayLittleEndian(le, 0, new long[100], 0, 100));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Unsigned32.unpackFromBytesBigEndian(new byte[4], 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_0()
+  {
+    Unsigned32.packToBytesLittleEndian(0L, new byte[3]);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final long[] values = {
+      0L,
+      1L,
+      0x12345678L,
+      0xfedcba98L,
+      0xffffffffL,
+    };
+    final byte[] e = new byte[4 + 3];
+    final byte[] b = new byte[4 + 3];
+
+    for (final long x : values) {
+      Unsigned32.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned32.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Unsigned32.unpackFromBytesBigEndian(e, 3),
+        Unsigned32.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Unsigned32.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned32.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        Unsigned32.unpackFromBytesLittleEndian(e, 3),
+        Unsigned32.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedPackOutOfRange()
+  {
+    Unsigned32.Unchecked.packToBytesBigEndian(0, new byte[4], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedUnpackOutOfRange()
+  {
+    Unsigned32.Unchecked.unpackFromBytesLittleEndian(new byte[4], -1);
+  }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Unsigned48;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Unsigned48Test
+{
+  private static long value(
+    final int k)
+  {
+    final long x = k * 0x9e3779b97f4a7c15L;
+    return (x & 0xffffffffffffL);
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] b = Unsigned48.packToBytesBigEndianAllocate(0x123456789abcL);
+    Assert.assertEquals((byte) 0x12, b[0]);
+    Assert.assertEquals((byte) 0x34, b[1]);
+    Assert.assertEquals((byte) 0x56, b[2]);
+    Assert.assertEquals((byte) 0x78, b[3]);
+    Assert.assertEquals((byte) 0x9a, b[4]);
+    Assert.assertEquals((byte) 0xbc, b[5]);
+    Assert.assertEquals(0x123456789abcL, Unsigned48.unpackFromBytesBigEndian(b));
+
+    final byte[] c = Unsigned48.packToBytesLittleEndianAllocate(0x123456789abcL);
+    Assert.assertEquals((byte) 0x12, c[5]);
+    Assert.assertEquals((byte) 0x34, c[4]);
+    Assert.assertEquals((byte) 0x56, c[3]);
+    Assert.assertEquals((byte) 0x78, c[2]);
+    Assert.assertEquals((byte) 0x9a, c[1]);
+    Assert.assertEquals((byte) 0xbc, c[0]);
+    Assert.assertEquals(0x123456789abcL, Unsigned48.unpackFromBytesLittleEndian(c));
+  }
+
+  @Test public void testTopBit()
+  {
+    final byte[] b = Unsigned48.packToBytesBigEndianAllocate(0x800000000000L);
+    Assert.assertEquals((byte) 0x80, b[0]);
+    Assert.assertEquals(0x800000000000L, Unsigned48.unpackFromBytesBigEndian(b));
+
+    final byte[] c = Unsigned48.packToBytesLittleEndianAllocate(0x800000000000L);
+    Assert.assertEquals((byte) 0x80, c[5]);
+    Assert.assertEquals(0x800000000000L, Unsigned48.unpackFromBytesLittleEndian(c));
+  }
+
+  @Test public void testOffsetIdentity()
+  {
+    final byte[] b = new byte[6 + 6];
+    for (int offset = 0; offset <= 6; ++offset) {
+      for (int k = 0; k < 1000; ++k) {
+        final long x = value(k);
+        Arrays.fill(b, (byte) 0x55);
+        Unsigned48.packToBytesBigEndian(x, b, offset);
+        Assert.assertEquals(x, Unsigned48.unpackFromBytesBigEndian(b, offset));
+        for (int i = 0; i < b.length; ++i) {
+          if (i < offset || i >= offset + 6) {
+            Assert.assertEquals((byte) 0x55, b[i]);
+          }
+        }
+
+        Unsigned48.packToBytesLittleEndian(x, b, offset);
+        Assert.assertEquals(x, Unsigned48.unpackFromBytesLittleEndian(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final ByteBuffer b : TestBuffers.buffers(6 + 6)) {
+      for (int index = 0; index <= 6; ++index) {
+        for (int k = 0; k < 1000; ++k) {
+          final long x = value(k);
+          Unsigned48.packToBufferBigEndian(x, b, index);
+          Assert.assertEquals(x, Unsigned48.unpackFromBufferBigEndian(b, index));
+          Assert.assertEquals(
+            Unsigned48.packToBytesBigEndianAllocate(x)[0], b.get(index));
+
+          Unsigned48.packToBufferLittleEndian(x, b, index);
+          Assert.assertEquals(
+            x, Unsigned48.unpackFromBufferLittleEndian(b, index));
+          Assert.assertEquals(
+            Unsigned48.packToBytesLittleEndianAllocate(x)[0], b.get(index));
+
+          Unsigned48.packToBuffer(x, b, index);
+          Assert.assertEquals(x, Unsigned48.unpackFromBuffer(b, index));
+        }
+      }
+    }
+  }
+
+  @Test public void testBufferLimit()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(6 + 8);
+    for (int k = 0; k < b.capacity(); ++k) {
+      b.put(k, (byte) 0xff);
+    }
+    b.limit(6);
+    Unsigned48.packToBufferBigEndian(0x123456789abcL, b, 0);
+    Assert.assertEquals(0x123456789abcL, Unsigned48.unpackFromBufferBigEndian(b, 0));
+    Unsigned48.packToBufferLittleEndian(0x123456789abcL, b, 0);
+    Assert.assertEquals(0x123456789abcL, Unsigned48.unpackFromBufferLittleEndian(b, 0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testBufferTooSmall()
+  {
+    Unsigned48.unpackFromBufferBigEndian(ByteBuffer.allocate(6), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testPackTooSmall()
+  {
+    Unsigned48.packToBytesBigEndian(0, new byte[5]);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testUnpackTooSmall()
+  {
+    Unsigned48.unpackFromBytesLittleEndian(new byte[5]);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testOffsetPackTooSmall()
+  {
+    Unsigned48.packToBytesLittleEndian(0, new byte[7], 2);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testOffsetUnpackTooSmall()
+  {
+    Unsigned48.unpackFromBytesBigEndian(new byte[7], 2);
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    for (final int count : new int[]{0, 1, 2, 3, 100}) {
+      final long[] x = new long[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = value(k);
+      }
+
+      for (final int slack : new int[]{0, 1, 8}) {
+        final byte[] b = new byte[1 + (count * 6) + slack];
+        final byte[] e = new byte[6];
+
+        Arrays.fill(b, (byte) 0x55);
+        Unsigned48.packArrayBigEndian(x, 0, b, 1, count);
+        Assert.assertEquals((byte) 0x55, b[0]);
+        for (int k = 0; k < count; ++k) {
+          Unsigned48.packToBytesBigEndian(x[k], e, 0);
+          Assert.assertArrayEquals(
+            e, Arrays.copyOfRange(b, 1 + (k * 6), 1 + ((k + 1) * 6)));
+        }
+        for (int k = 1 + (count * 6); k < b.length; ++k) {
+          Assert.assertEquals((byte) 0x55, b[k]);
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned48.unpackArrayBigEndian(b, 1, new long[count], 0, count));
+
+        Arrays.fill(b, (byte) 0x55);
+        Unsigned48.packArrayLittleEndian(x, 0, b, 1, count);
+        Assert.assertEquals((byte) 0x55, b[0]);
+        for (int k = 0; k < count; ++k) {
+          Unsigned48.packToBytesLittleEndian(x[k], e, 0);
+          Assert.assertArrayEquals(
+            e, Arrays.copyOfRange(b, 1 + (k * 6), 1 + ((k + 1) * 6)));
+        }
+        for (int k = 1 + (count * 6); k < b.length; ++k) {
+          Assert.assertEquals((byte) 0x55, b[k]);
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned48.unpackArrayLittleEndian(b, 1, new long[count], 0, count));
+      }
+    }
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    for (final int count : new int[]{0, 1, 2, 3, 100}) {
+      final long[] x = new long[count];
+      for (int k = 0; k < count; ++k) {
+        x[k] = value(k);
+      }
+
+      for (final ByteBuffer b : TestBuffers.buffers((count * 6) + 1)) {
+        final byte[] e = new byte[count * 6];
+
+        Unsigned48.packArrayBigEndian(x, 0, b, 1, count);
+        Unsigned48.packArrayBigEndian(x, 0, e, 0, count);
+        for (int k = 0; k < e.length; ++k) {
+          Assert.assertEquals(e[k], b.get(k + 1));
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned48.unpackArrayBigEndian(b, 1, new long[count], 0, count));
+
+        Unsigned48.packArrayLittleEndian(x, 0, b, 1, count);
+        Unsigned48.packArrayLittleEndian(x, 0, e, 0, count);
+        for (int k = 0; k < e.length; ++k) {
+          Assert.assertEquals(e[k], b.get(k + 1));
+        }
+        Assert.assertArrayEquals(
+          x, Unsigned48.unpackArrayLittleEndian(b, 1, new long[count], 0, count));
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testArrayTooSmall()
+  {
+    Unsigned48.packArrayBigEndian(new long[3], 0, new byte[17], 0, 3);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testArrayBufferTooSmall()
+  {
+    final ByteBuffer b = ByteBuffer.allocate(18);
+    b.limit(17);
+    Unsigned48.unpackArrayLittleEndian(b, 0, new long[3], 0, 3);
+  }
+
+  @Test public void testUncheckedIdentity()
+  {
+    final byte[] e = new byte[6 + 3];
+    final byte[] b = new byte[6 + 3];
+
+    for (int k = 0; k < 1000; ++k) {
+      final long x = value(k);
+      Unsigned48.packToBytesBigEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned48.Unchecked.packToBytesBigEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(x, Unsigned48.Unchecked.unpackFromBytesBigEndian(b, 3));
+
+      Unsigned48.packToBytesLittleEndian(x, e, 3);
+      Assert.assertSame(b, Unsigned48.Unchecked.packToBytesLittleEndian(x, b, 3));
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(
+        x, Unsigned48.Unchecked.unpackFromBytesLittleEndian(b, 3));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testUncheckedOutOfRange()
+  {
+    Unsigned48.Unchecked.unpackFromBytesBigEndian(new byte[6], 1);
+  }
+}
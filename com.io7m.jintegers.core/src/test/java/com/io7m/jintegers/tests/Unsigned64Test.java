@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.Unsigned64;
+
+@SuppressWarnings({ "null", "static-method" }) public final class Unsigned64Test
+{
+  private static final long[] VALUES = {
+    0L,
+    1L,
+    9L,
+    10L,
+    0x123456789abcdef0L,
+    Long.MAX_VALUE,
+    Long.MIN_VALUE,
+    0x8ac7230489e7ffffL,
+    0x8ac7230489e80000L,
+    0xfedcba9876543210L,
+    -1L,
+  };
+
+  @Test public void testBytesIdentity()
+  {
+    final byte[] b = new byte[8 + 2];
+    final byte[] e = new byte[8 + 2];
+    for (final long x : VALUES) {
+      Unsigned64.packToBytesBigEndian(x, b, 2);
+      Signed64.packToBytesBigEndian(x, e, 2);
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(x, Unsigned64.unpackFromBytesBigEndian(b, 2));
+
+      Unsigned64.packToBytesLittleEndian(x, b, 2);
+      Signed64.packToBytesLittleEndian(x, e, 2);
+      Assert.assertArrayEquals(e, b);
+      Assert.assertEquals(x, Unsigned64.unpackFromBytesLittleEndian(b, 2));
+    }
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] b =
+      Unsigned64.packToBytesBigEndianAllocate(0xfedcba9876543210L);
+    Assert.assertEquals((byte) 0xfe, b[0]);
+    Assert.assertEquals((byte) 0x10, b[7]);
+
+    final byte[] c =
+      Unsigned64.packToBytesLittleEndianAllocate(0xfedcba9876543210L);
+    Assert.assertEquals((byte) 0x10, c[0]);
+    Assert.assertEquals((byte) 0xfe, c[7]);
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final ByteOrder order : new ByteOrder[]{
+      ByteOrder.BIG_ENDIAN,
+      ByteOrder.LITTLE_ENDIAN,
+    }) {
+      final ByteBuffer b = ByteBuffer.allocateDirect(8).order(order);
+      for (final long x : VALUES) {
+        Unsigned64.packToBufferBigEndian(x, b, 0);
+        Assert.assertEquals(x, Unsigned64.unpackFromBufferBigEndian(b, 0));
+        Assert.assertEquals((byte) (x >>> 56), b.get(0));
+
+        Unsigned64.packToBufferLittleEndian(x, b, 0);
+        Assert.assertEquals(x, Unsigned64.unpackFromBufferLittleEndian(b, 0));
+        Assert.assertEquals((byte) x, b.get(0));
+
+        Unsigned64.packToBuffer(x, b, 0);
+        Assert.assertEquals(x, b.getLong(0));
+        Assert.assertEquals(x, Unsigned64.unpackFromBuffer(b, 0));
+      }
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    final byte[] b = new byte[VALUES.length * 8];
+    final long[] r = new long[VALUES.length];
+
+    Unsigned64.packArrayBigEndian(VALUES, 0, b, 0, VALUES.length);
+    Unsigned64.unpackArrayBigEndian(b, 0, r, 0, VALUES.length);
+    Assert.assertArrayEquals(VALUES, r);
+
+    Unsigned64.packArrayLittleEndian(VALUES, 0, b, 0, VALUES.length);
+    Unsigned64.unpackArrayLittleEndian(b, 0, r, 0, VALUES.length);
+    Assert.assertArrayEquals(VALUES, r);
+  }
+
+  @Test public void testCompare()
+  {
+    for (final long x : VALUES) {
+      for (final long y : VALUES) {
+        Assert.assertEquals(
+          Integer.signum(Long.compareUnsigned(x, y)),
+          Integer.signum(Unsigned64.compare(x, y)));
+      }
+    }
+    Assert.assertTrue(Unsigned64.compare(-1L, 0L) > 0);
+    Assert.assertTrue(Unsigned64.compare(Long.MAX_VALUE, Long.MIN_VALUE) < 0);
+  }
+
+  @Test public void testDivideRemainder()
+  {
+    for (final long x : VALUES) {
+      for (final long y : VALUES) {
+        if (y == 0L) {
+          continue;
+        }
+        Assert.assertEquals(
+          Long.divideUnsigned(x, y), Unsigned64.divide(x, y));
+        Assert.assertEquals(
+          Long.remainderUnsigned(x, y), Unsigned64.remainder(x, y));
+      }
+    }
+    Assert.assertEquals(0x7fffffffffffffffL, Unsigned64.divide(-1L, 2L));
+    Assert.assertEquals(1L, Unsigned64.remainder(-1L, 2L));
+  }
+
+  @Test(expected = ArithmeticException.class) public void testDivideZero()
+  {
+    Unsigned64.divide(1L, 0L);
+  }
+
+  @Test public void testDecimalLength()
+  {
+    Assert.assertEquals(1, Unsigned64.decimalLength(0L));
+    Assert.assertEquals(1, Unsigned64.decimalLength(9L));
+    Assert.assertEquals(2, Unsigned64.decimalLength(10L));
+    Assert.assertEquals(19, Unsigned64.decimalLength(Long.MAX_VALUE));
+    Assert.assertEquals(19, Unsigned64.decimalLength(Long.MIN_VALUE));
+    Assert.assertEquals(19, Unsigned64.decimalLength(0x8ac7230489e7ffffL));
+    Assert.assertEquals(20, Unsigned64.decimalLength(0x8ac7230489e80000L));
+    Assert.assertEquals(20, Unsigned64.decimalLength(-1L));
+
+    long p = 1L;
+    for (int digits = 1; digits <= 19; ++digits) {
+      Assert.assertEquals(digits, Unsigned64.decimalLength(p));
+      Assert.assertEquals(digits, Unsigned64.decimalLength((p * 10L) - 1L));
+      p *= 10L;
+    }
+  }
+
+  @Test public void testFormatBytes()
+  {
+    final byte[] b = new byte[2 + Unsigned64.DECIMAL_LENGTH_MAX];
+    for (final long x : VALUES) {
+      final String expected = Long.toUnsignedString(x);
+      final int n = Unsigned64.formatDecimal(x, b, 2);
+      Assert.assertEquals(expected.length(), n);
+      Assert.assertEquals(
+        expected, new String(b, 2, n, StandardCharsets.US_ASCII));
+      Assert.assertEquals(x, Unsigned64.parseDecimal(b, 2, n));
+    }
+  }
+
+  @Test public void testFormatChars()
+  {
+    final char[] b = new char[2 + Unsigned64.DECIMAL_LENGTH_MAX];
+    for (final long x : VALUES) {
+      final String expected = Long.toUnsignedString(x);
+      final int n = Unsigned64.formatDecimal(x, b, 2);
+      Assert.assertEquals(expected.length(), n);
+      Assert.assertEquals(expected, new String(b, 2, n));
+      Assert.assertEquals(x, Unsigned64.parseDecimal(b, 2, n));
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testFormatTooSmall()
+  {
+    Unsigned64.formatDecimal(100L, new byte[3], 1);
+  }
+
+  @Test public void testParseLeadingZeros()
+  {
+    final char[] c = "00000000000000000000000042".toCharArray();
+    Assert.assertEquals(42L, Unsigned64.parseDecimal(c, 0, c.length));
+  }
+
+  @Test public void testParseMax()
+  {
+    final char[] c = "18446744073709551615".toCharArray();
+    Assert.assertEquals(-1L, Unsigned64.parseDecimal(c, 0, c.length));
+  }
+
+  @Test(expected = NumberFormatException.class) public void testParseOverflowLastDigit()
+  {
+    final char[] c = "18446744073709551616".toCharArray();
+    Unsigned64.parseDecimal(c, 0, c.length);
+  }
+
+  @Test(expected = NumberFormatException.class) public void testParseOverflowLength()
+  {
+    final char[] c = "100000000000000000000".toCharArray();
+    Unsigned64.parseDecimal(c, 0, c.length);
+  }
+
+  @Test(expected = NumberFormatException.class) public void testParseEmpty()
+  {
+    Unsigned64.parseDecimal(new byte[4], 2, 0);
+  }
+
+  @Test(expected = NumberFormatException.class) public void testParseSign()
+  {
+    final byte[] b = "-1".getBytes(StandardCharsets.US_ASCII);
+    Unsigned64.parseDecimal(b, 0, b.length);
+  }
+
+  @Test(expected = NumberFormatException.class) public void testParseNonDigit()
+  {
+    final byte[] b = "12a".getBytes(StandardCharsets.US_ASCII);
+    Unsigned64.parseDecimal(b, 0, b.length);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public void testParseOutOfRange()
+  {
+    Unsigned64.parseDecimal(new char[4], 2, 3);
+  }
+}
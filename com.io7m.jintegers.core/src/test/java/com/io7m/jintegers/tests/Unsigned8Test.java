@@ -79,4 +79,42 @@ import com.io7m.jintegers.Unsigned8;
       Assert.assertEquals(x, y);
     }
   }
+
+  @Test public void testBytesAll()
+  {
+    for (int x = 0; x <= 0xff; ++x) {
+      final byte[] b = Unsigned8.packToBytesAllocate(x);
+      Assert.assertEquals(x, Unsigned8.unpackFromBytes(b));
+
+      final byte[] c = new byte[3];
+      Unsigned8.packToBytes(x, c, 2);
+      Assert.assertEquals(x, Unsigned8.unpackFromBytes(c, 2));
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    final int[] x = new int[256];
+    for (int k = 0; k < x.length; ++k) {
+      x[k] = k;
+    }
+
+    final byte[] b = Unsigned8.packArray(x, 0, new byte[257], 1, x.length);
+    final int[] y = Unsigned8.unpackArray(b, 1, new int[256], 0, x.length);
+    Assert.assertArrayEquals(x, y);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class) public
+    void
+    testOffsetTooSmall_0()
+  {
+    Unsigned8.unpackFromBytes(new byte[2], 2);
+  }
+
+  @Test(expected = IllegalArgumentException.class) public
+    void
+    testTooSmall_0()
+  {
+    Unsigned8.packToBytes(0, new byte[0]);
+  }
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jintegers.tests;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.VarInts;
+
+@SuppressWarnings({ "null", "static-method" }) public final class VarIntsTest
+{
+  private static long[] longValues()
+  {
+    final long[] r = new long[64 * 3 + 4];
+    int k = 0;
+    for (int bit = 0; bit < 64; ++bit) {
+      r[k++] = 1L << bit;
+      r[k++] = (1L << bit) - 1L;
+      r[k++] = -(1L << bit);
+    }
+    r[k++] = 300L;
+    r[k++] = Long.MAX_VALUE;
+    r[k++] = Long.MIN_VALUE;
+    r[k] = 0x0123456789abcdefL;
+    return r;
+  }
+
+  private static int[] intValues()
+  {
+    final long[] v = longValues();
+    final int[] r = new int[v.length];
+    for (int k = 0; k < v.length; ++k) {
+      r[k] = (int) v[k];
+    }
+    return r;
+  }
+
+  @Test public void testZigZag()
+  {
+    Assert.assertEquals(0, VarInts.zigZagEncodeInt(0));
+    Assert.assertEquals(1, VarInts.zigZagEncodeInt(-1));
+    Assert.assertEquals(2, VarInts.zigZagEncodeInt(1));
+    Assert.assertEquals(-1, VarInts.zigZagEncodeInt(Integer.MIN_VALUE));
+    Assert.assertEquals(-2, VarInts.zigZagEncodeInt(Integer.MAX_VALUE));
+    Assert.assertEquals(-1L, VarInts.zigZagEncodeLong(Long.MIN_VALUE));
+    Assert.assertEquals(3L, VarInts.zigZagEncodeLong(-2L));
+
+    for (final long x : longValues()) {
+      Assert.assertEquals(
+        x, VarInts.zigZagDecodeLong(VarInts.zigZagEncodeLong(x)));
+      Assert.assertEquals(
+        (int) x, VarInts.zigZagDecodeInt(VarInts.zigZagEncodeInt((int) x)));
+    }
+  }
+
+  @Test public void testEncodedLength()
+  {
+    Assert.assertEquals(1, VarInts.encodedLengthInt(0));
+    Assert.assertEquals(1, VarInts.encodedLengthInt(127));
+    Assert.assertEquals(2, VarInts.encodedLengthInt(128));
+    Assert.assertEquals(5, VarInts.encodedLengthInt(-1));
+    Assert.assertEquals(1, VarInts.encodedLengthLong(0L));
+    Assert.assertEquals(8, VarInts.encodedLengthLong((1L << 56) - 1L));
+    Assert.assertEquals(9, VarInts.encodedLengthLong(1L << 56));
+    Assert.assertEquals(10, VarInts.encodedLengthLong(-1L));
+    Assert.assertEquals(1, VarInts.encodedLengthSignedInt(-64));
+    Assert.assertEquals(2, VarInts.encodedLengthSignedInt(64));
+    Assert.assertEquals(10, VarInts.encodedLengthSignedLong(Long.MIN_VALUE));
+  }
+
+  @Test public void testBytesExact()
+  {
+    final byte[] b = new byte[4];
+    Assert.assertEquals(2, VarInts.encodeInt(300, b, 0));
+    Assert.assertEquals((byte) 0xac, b[0]);
+    Assert.assertEquals((byte) 0x02, b[1]);
+    Assert.assertEquals(0, b[2]);
+    Assert.assertEquals(300, VarInts.decodeInt(b, 0));
+
+    Assert.assertEquals(4, VarInts.encodeSignedLong(-1L, b, 3));
+    Assert.assertEquals((byte) 0x01, b[3]);
+    Assert.assertEquals(-1L, VarInts.decodeSignedLong(b, 3));
+  }
+
+  @Test public void testBytesIdentity()
+  {
+    final byte[] b = new byte[32];
+    for (final long x : longValues()) {
+      final int n = VarInts.encodedLengthLong(x);
+      for (final int offset : new int[]{0, 3, b.length - n}) {
+        Assert.assertEquals(offset + n, VarInts.encodeLong(x, b, offset));
+        Assert.assertEquals(x, VarInts.decodeLong(b, offset));
+      }
+      final int s = VarInts.encodedLengthSignedLong(x);
+      for (final int offset : new int[]{0, 3, b.length - s}) {
+        Assert.assertEquals(
+          offset + s, VarInts.encodeSignedLong(x, b, offset));
+        Assert.assertEquals(x, VarInts.decodeSignedLong(b, offset));
+      }
+    }
+
+    for (final int x : intValues()) {
+      final int n = VarInts.encodedLengthInt(x);
+      for (final int offset : new int[]{0, 3, b.length - n}) {
+        Assert.assertEquals(offset + n, VarInts.encodeInt(x, b, offset));
+        Assert.assertEquals(x, VarInts.decodeInt(b, offset));
+      }
+      final int s = VarInts.encodedLengthSignedInt(x);
+      for (final int offset : new int[]{0, 3, b.length - s}) {
+        Assert.assertEquals(
+          offset + s, VarInts.encodeSignedInt(x, b, offset));
+        Assert.assertEquals(x, VarInts.decodeSignedInt(b, offset));
+      }
+    }
+  }
+
+  @Test public void testBufferIdentity()
+  {
+    for (final ByteBuffer b : TestBuffers.buffers(32)) {
+      for (final long x : longValues()) {
+        final int n = VarInts.encodedLengthLong(x);
+        for (final int index : new int[]{0, 5, b.limit() - n}) {
+          Assert.assertEquals(index + n, VarInts.encodeLong(x, b, index));
+          Assert.assertEquals(x, VarInts.decodeLong(b, index));
+        }
+        final int s = VarInts.encodedLengthSignedLong(x);
+        for (final int index : new int[]{0, 5, b.limit() - s}) {
+          VarInts.encodeSignedLong(x, b, index);
+          Assert.assertEquals(x, VarInts.decodeSignedLong(b, index));
+        }
+      }
+      for (final int x : intValues()) {
+        final int n = VarInts.encodedLengthInt(x);
+        for (final int index : new int[]{0, 5, b.limit() - n}) {
+          Assert.assertEquals(index + n, VarInts.encodeInt(x, b, index));
+          Assert.assertEquals(x, VarInts.decodeInt(b, index));
+        }
+        final int s = VarInts.encodedLengthSignedInt(x);
+        for (final int index : new int[]{0, 5, b.limit() - s}) {
+          VarInts.encodeSignedInt(x, b, index);
+          Assert.assertEquals(x, VarInts.decodeSignedInt(b, index));
+        }
+      }
+      Assert.assertEquals(0, b.position());
+    }
+  }
+
+  @Test public void testBytesBufferAgree()
+  {
+    for (final ByteBuffer b : TestBuffers.buffers(16)) {
+      for (final long x : longValues()) {
+        final byte[] a = new byte[16];
+        b.put(0, new byte[16]);
+        VarInts.encodeLong(x, a, 1);
+        VarInts.encodeLong(x, b, 1);
+        final byte[] c = new byte[16];
+        b.get(0, c);
+        Assert.assertArrayEquals(a, c);
+      }
+    }
+  }
+
+  @Test public void testArrayIdentity()
+  {
+    final long[] v = longValues();
+    final byte[] b = new byte[3 + v.length * VarInts.LONG_LENGTH_MAX];
+    final long[] r = new long[v.length + 2];
+
+    final int end = VarInts.encodeLongArray(v, 0, b, 3, v.length);
+    Assert.assertEquals(3L + VarInts.encodedLengthLongs(v, 0, v.length), end);
+    Assert.assertEquals(end, VarInts.decodeLongArray(b, 3, r, 2, v.length));
+    Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 2, r.length));
+
+    final int send = VarInts.encodeSignedLongArray(v, 0, b, 3, v.length);
+    Assert.assertEquals(
+      3L + VarInts.encodedLengthSignedLongs(v, 0, v.length), send);
+    Assert.assertEquals(
+      send, VarInts.decodeSignedLongArray(b, 3, r, 2, v.length));
+    Assert.assertArrayEquals(v, Arrays.copyOfRange(r, 2, r.length));
+
+    final int[] w = intValues();
+    final int[] s = new int[w.length];
+    final int iend = VarInts.encodeIntArray(w, 0, b, 0, w.length);
+    Assert.assertEquals(VarInts.encodedLengthInts(w, 0, w.length), iend);
+    Assert.assertEquals(iend, VarInts.decodeIntArray(b, 0, s, 0, w.length));
+    Assert.assertArrayEquals(w, s);
+
+    final int siend = VarInts.encodeSignedIntArray(w, 0, b, 0, w.length);
+    Assert.assertEquals(
+      VarInts.encodedLengthSignedInts(w, 0, w.length), siend);
+    Assert.assertEquals(
+      siend, VarInts.decodeSignedIntArray(b, 0, s, 0, w.length));
+    Assert.assertArrayEquals(w, s);
+  }
+
+  @Test public void testArrayBufferIdentity()
+  {
+    final long[] v = longValues();
+    final int[] w = intValues();
+    for (final ByteBuffer b : TestBuffers.buffers(v.length * VarInts.LONG_LENGTH_MAX)) {
+      final long[] r = new long[v.length];
+      final int end = VarInts.encodeLongArray(v, 0, b, 0, v.length);
+      Assert.assertEquals(end, VarInts.decodeLongArray(b, 0, r, 0, v.length));
+      Assert.assertArrayEquals(v, r);
+
+      VarInts.encodeSignedLongArray(v, 0, b, 0, v.length);
+      VarInts.decodeSignedLongArray(b, 0, r, 0, v.length);
+      Assert.assertArrayEquals(v, r);
+
+      final int[] s = new int[w.length];
+      final int iend = VarInts.encodeIntArray(w, 0, b, 0, w.length);
+      Assert.assertEquals(iend, VarInts.decodeIntArray(b, 0, s, 0, w.length));
+      Assert.assertArrayEquals(w, s);
+
+      VarInts.encodeSignedIntArray(w, 0, b, 0, w.length);
+      VarInts.decodeSignedIntArray(b, 0, s, 0, w.length);
+      Assert.assertArrayEquals(w, s);
+      Assert.assertEquals(0, b.position());
+    }
+  }
+
+  @Test public void testArrayExactRoom()
+  {
+    final long[] v = {1L, 300L, -1L};
+    final byte[] b = new byte[1 + 2 + 10];
+    Assert.assertEquals(b.length, VarInts.encodeLongArray(v, 0, b, 0, 3));
+
+    final byte[] c = new byte[b.length - 1];
+    try {
+      VarInts.encodeLongArray(v, 0, c, 0, 3);
+      Assert.fail();
+    } catch (final IndexOutOfBoundsException e) {
+      Assert.assertArrayEquals(new byte[c.length], c);
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testEncodeNoRoom()
+  {
+    VarInts.encodeInt(128, new byte[2], 1);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testDecodeTruncated()
+  {
+    VarInts.decodeInt(new byte[]{(byte) 0x80, (byte) 0x80}, 0);
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testDecodeBufferTruncated()
+  {
+    VarInts.decodeLong(ByteBuffer.wrap(new byte[]{(byte) 0xff}), 0);
+  }
+
+  @Test public void testDecodeOverlong()
+  {
+    final byte[][] cases = {
+      {(byte) 0x80, 0x00},
+      {(byte) 0x80, 0x00, 0, 0, 0, 0, 0, 0, 0},
+      {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x1f},
+      {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x1f,
+        0, 0, 0, 0},
+      {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+        0x01, 0, 0, 0},
+    };
+    for (final byte[] c : cases) {
+      try {
+        VarInts.decodeInt(c, 0);
+        Assert.fail();
+      } catch (final IllegalArgumentException e) {
+        // Expected
+      }
+      try {
+        VarInts.decodeInt(ByteBuffer.wrap(c), 0);
+        Assert.fail();
+      } catch (final IllegalArgumentException e) {
+        // Expected
+      }
+    }
+  }
+
+  @Test public void testDecodeLongTooWide()
+  {
+    final byte[] c = new byte[12];
+    Arrays.fill(c, 0, 9, (byte) 0xff);
+    c[9] = 0x02;
+    try {
+      VarInts.decodeLong(c, 0);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      // Expected
+    }
+
+    c[9] = 0x01;
+    Assert.assertEquals(-1L, VarInts.decodeLong(c, 0));
+
+    c[9] = (byte) 0x81;
+    try {
+      VarInts.decodeLong(c, 0);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,930 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.vector;
+
+import com.io7m.jintegers.ByteSwapping;
+import com.io7m.jintegers.GroupVarInts;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.StreamVByte;
+
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Bulk packing, unpacking and byte swapping of 16, 32 and 64-bit integers,
+ * and bulk decoding of Group Varint and Stream VByte encoded integers.
+ * </p>
+ * <p>
+ * {@link #best()} returns an engine built on the incubating
+ * {@code jdk.incubator.vector} module when that module has been resolved
+ * (for example with {@code --add-modules jdk.incubator.vector}) and the
+ * platform has vector registers, and a scalar engine otherwise. The
+ * scalar engine delegates to {@link Signed16}, {@link Signed32},
+ * {@link Signed64}, {@link ByteSwapping}, {@link GroupVarInts} and
+ * {@link StreamVByte}; the vectorized engine processes whole vectors at a
+ * time and uses the scalar engine for the remainder, so both engines
+ * produce identical results. HotSpot already compiles the scalar pack and
+ * unpack loops to vector instructions, so the largest gains are in the
+ * byte swaps of 16 and 32-bit elements and in the decoders, which replace
+ * the table-driven reads of each group with a single byte shuffle.
+ * </p>
+ * <p>
+ * The functions check their ranges once for the whole batch, in the same
+ * manner as the scalar functions they replace: they throw
+ * {@link IndexOutOfBoundsException} if either range lies outside its
+ * array.
+ * </p>
+ */
+
+public abstract class BulkEngine
+{
+  private static final BulkEngine SCALAR = new Scalar();
+  private static final BulkEngine BEST = probe();
+
+  private BulkEngine()
+  {
+
+  }
+
+  private static BulkEngine probe()
+  {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return SCALAR;
+    }
+
+    try {
+      if (VectorKernels.isUsable()) {
+        return new Vectorized();
+      }
+    } catch (final LinkageError e) {
+      return SCALAR;
+    }
+    return SCALAR;
+  }
+
+  /**
+   * @return The scalar engine
+   */
+
+  public static BulkEngine scalar()
+  {
+    return SCALAR;
+  }
+
+  /**
+   * @return The fastest engine available in the running JVM
+   */
+
+  public static BulkEngine best()
+  {
+    return BEST;
+  }
+
+  private static boolean isBigEndian(
+    final ByteOrder order)
+  {
+    return Objects.requireNonNull(order, "Order").equals(ByteOrder.BIG_ENDIAN);
+  }
+
+  /**
+   * @return {@code true} if this engine uses the Vector API
+   */
+
+  public abstract boolean isVectorized();
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using the
+   * byte order {@code order}.
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   * @param order  The byte order.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed16#packArrayBigEndian(short[], int, byte[], int, int)
+   * @see Signed16#packArrayLittleEndian(short[], int, byte[], int, int)
+   */
+
+  public abstract byte[] packArray16(
+    short[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count,
+    ByteOrder order);
+
+  /**
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} assuming
+   * the byte order {@code order}.
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   * @param order  The byte order.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed16#unpackArrayBigEndian(byte[], int, short[], int, int)
+   * @see Signed16#unpackArrayLittleEndian(byte[], int, short[], int, int)
+   */
+
+  public abstract short[] unpackArray16(
+    byte[] src,
+    int srcOff,
+    short[] dst,
+    int dstOff,
+    int count,
+    ByteOrder order);
+
+  /**
+   * Reverse the byte order of {@code count} packed 16-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   *
+   * @see ByteSwapping#swap16(byte[], int, int)
+   */
+
+  public abstract byte[] swap16(
+    byte[] data,
+    int offset,
+    int count);
+
+  /**
+   * Copy {@code count} packed 16-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   *
+   * @see ByteSwapping#copySwap16(byte[], int, byte[], int, int)
+   */
+
+  public abstract byte[] copySwap16(
+    byte[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using the
+   * byte order {@code order}.
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   * @param order  The byte order.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed32#packArrayBigEndian(int[], int, byte[], int, int)
+   * @see Signed32#packArrayLittleEndian(int[], int, byte[], int, int)
+   */
+
+  public abstract byte[] packArray32(
+    int[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count,
+    ByteOrder order);
+
+  /**
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} assuming
+   * the byte order {@code order}.
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   * @param order  The byte order.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed32#unpackArrayBigEndian(byte[], int, int[], int, int)
+   * @see Signed32#unpackArrayLittleEndian(byte[], int, int[], int, int)
+   */
+
+  public abstract int[] unpackArray32(
+    byte[] src,
+    int srcOff,
+    int[] dst,
+    int dstOff,
+    int count,
+    ByteOrder order);
+
+  /**
+   * Reverse the byte order of {@code count} packed 32-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   *
+   * @see ByteSwapping#swap32(byte[], int, int)
+   */
+
+  public abstract byte[] swap32(
+    byte[] data,
+    int offset,
+    int count);
+
+  /**
+   * Copy {@code count} packed 32-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   *
+   * @see ByteSwapping#copySwap32(byte[], int, byte[], int, int)
+   */
+
+  public abstract byte[] copySwap32(
+    byte[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Pack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} using the
+   * byte order {@code order}.
+   *
+   * @param src    The values to be packed.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination buffer.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   * @param order  The byte order.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed64#packArrayBigEndian(long[], int, byte[], int, int)
+   * @see Signed64#packArrayLittleEndian(long[], int, byte[], int, int)
+   */
+
+  public abstract byte[] packArray64(
+    long[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count,
+    ByteOrder order);
+
+  /**
+   * Unpack {@code count} values from {@code src}, starting at
+   * {@code srcOff}, into {@code dst} starting at {@code dstOff} assuming
+   * the byte order {@code order}.
+   *
+   * @param src    The buffer from which to unpack data.
+   * @param srcOff The starting index in {@code src}.
+   * @param dst    The destination array.
+   * @param dstOff The starting index in {@code dst}.
+   * @param count  The number of values.
+   * @param order  The byte order.
+   *
+   * @return {@code dst}
+   *
+   * @see Signed64#unpackArrayBigEndian(byte[], int, long[], int, int)
+   * @see Signed64#unpackArrayLittleEndian(byte[], int, long[], int, int)
+   */
+
+  public abstract long[] unpackArray64(
+    byte[] src,
+    int srcOff,
+    long[] dst,
+    int dstOff,
+    int count,
+    ByteOrder order);
+
+  /**
+   * Reverse the byte order of {@code count} packed 64-bit integers in
+   * {@code data}, starting at {@code offset}.
+   *
+   * @param data   The array
+   * @param offset The starting index
+   * @param count  The number of elements
+   *
+   * @return {@code data}
+   *
+   * @see ByteSwapping#swap64(byte[], int, int)
+   */
+
+  public abstract byte[] swap64(
+    byte[] data,
+    int offset,
+    int count);
+
+  /**
+   * Copy {@code count} packed 64-bit integers from {@code src} to
+   * {@code dst}, reversing the byte order of each element in the same
+   * pass. The two regions must not overlap unless they are identical.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of elements
+   *
+   * @return {@code dst}
+   *
+   * @see ByteSwapping#copySwap64(byte[], int, byte[], int, int)
+   */
+
+  public abstract byte[] copySwap64(
+    byte[] src,
+    int srcOff,
+    byte[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Decode {@code count} Group Varint encoded values from {@code src},
+   * starting at {@code srcOff}, into {@code dst} starting at
+   * {@code dstOff}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @see GroupVarInts#decodeIntArray(byte[], int, int[], int, int)
+   */
+
+  public abstract int decodeGroupVarInts(
+    byte[] src,
+    int srcOff,
+    int[] dst,
+    int dstOff,
+    int count);
+
+  /**
+   * Decode {@code count} Stream VByte encoded values from {@code src},
+   * starting at {@code srcOff}, into {@code dst} starting at
+   * {@code dstOff}.
+   *
+   * @param src    The source array
+   * @param srcOff The starting index in {@code src}
+   * @param dst    The destination array
+   * @param dstOff The starting index in {@code dst}
+   * @param count  The number of values
+   *
+   * @return The index in {@code src} following the last byte read
+   *
+   * @throws IndexOutOfBoundsException If a range is out of bounds
+   * @see StreamVByte#decodeIntArray(byte[], int, int[], int, int)
+   */
+
+  public abstract int decodeStreamVByte(
+    byte[] src,
+    int srcOff,
+    int[] dst,
+    int dstOff,
+    int count);
+
+  private static final class Scalar extends BulkEngine
+  {
+    Scalar()
+    {
+
+    }
+
+    @Override
+    public boolean isVectorized()
+    {
+      return false;
+    }
+
+    @Override
+    public byte[] packArray16(
+      final short[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      if (isBigEndian(order)) {
+        return Signed16.packArrayBigEndian(src, srcOff, dst, dstOff, count);
+      }
+      return Signed16.packArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public short[] unpackArray16(
+      final byte[] src,
+      final int srcOff,
+      final short[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      if (isBigEndian(order)) {
+        return Signed16.unpackArrayBigEndian(src, srcOff, dst, dstOff, count);
+      }
+      return Signed16.unpackArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public byte[] swap16(
+      final byte[] data,
+      final int offset,
+      final int count)
+    {
+      return ByteSwapping.swap16(data, offset, count);
+    }
+
+    @Override
+    public byte[] copySwap16(
+      final byte[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return ByteSwapping.copySwap16(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public byte[] packArray32(
+      final int[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      if (isBigEndian(order)) {
+        return Signed32.packArrayBigEndian(src, srcOff, dst, dstOff, count);
+      }
+      return Signed32.packArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int[] unpackArray32(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      if (isBigEndian(order)) {
+        return Signed32.unpackArrayBigEndian(src, srcOff, dst, dstOff, count);
+      }
+      return Signed32.unpackArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public byte[] swap32(
+      final byte[] data,
+      final int offset,
+      final int count)
+    {
+      return ByteSwapping.swap32(data, offset, count);
+    }
+
+    @Override
+    public byte[] copySwap32(
+      final byte[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return ByteSwapping.copySwap32(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public byte[] packArray64(
+      final long[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      if (isBigEndian(order)) {
+        return Signed64.packArrayBigEndian(src, srcOff, dst, dstOff, count);
+      }
+      return Signed64.packArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public long[] unpackArray64(
+      final byte[] src,
+      final int srcOff,
+      final long[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      if (isBigEndian(order)) {
+        return Signed64.unpackArrayBigEndian(src, srcOff, dst, dstOff, count);
+      }
+      return Signed64.unpackArrayLittleEndian(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public byte[] swap64(
+      final byte[] data,
+      final int offset,
+      final int count)
+    {
+      return ByteSwapping.swap64(data, offset, count);
+    }
+
+    @Override
+    public byte[] copySwap64(
+      final byte[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return ByteSwapping.copySwap64(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int decodeGroupVarInts(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return GroupVarInts.decodeIntArray(src, srcOff, dst, dstOff, count);
+    }
+
+    @Override
+    public int decodeStreamVByte(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      return StreamVByte.decodeIntArray(src, srcOff, dst, dstOff, count);
+    }
+  }
+
+  private static final class Vectorized extends BulkEngine
+  {
+    Vectorized()
+    {
+
+    }
+
+    @Override
+    public boolean isVectorized()
+    {
+      return true;
+    }
+
+    @Override
+    public byte[] packArray16(
+      final short[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      final boolean big = isBigEndian(order);
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(srcOff, count, src.length);
+      Objects.checkFromIndexSize(
+        (long) dstOff, (long) count * 2L, (long) dst.length);
+
+      final int k =
+        VectorKernels.packShorts(src, srcOff, dst, dstOff, count, big);
+      return SCALAR.packArray16(
+        src, srcOff + k, dst, dstOff + (k * 2), count - k, order);
+    }
+
+    @Override
+    public short[] unpackArray16(
+      final byte[] src,
+      final int srcOff,
+      final short[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      final boolean big = isBigEndian(order);
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(dstOff, count, dst.length);
+      Objects.checkFromIndexSize(
+        (long) srcOff, (long) count * 2L, (long) src.length);
+
+      final int k =
+        VectorKernels.unpackShorts(src, srcOff, dst, dstOff, count, big);
+      return SCALAR.unpackArray16(
+        src, srcOff + (k * 2), dst, dstOff + k, count - k, order);
+    }
+
+    @Override
+    public byte[] swap16(
+      final byte[] data,
+      final int offset,
+      final int count)
+    {
+      return this.copySwap16(data, offset, data, offset, count);
+    }
+
+    @Override
+    public byte[] copySwap16(
+      final byte[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(
+        (long) srcOff, (long) count * 2L, (long) src.length);
+      Objects.checkFromIndexSize(
+        (long) dstOff, (long) count * 2L, (long) dst.length);
+
+      final int k =
+        VectorKernels.swapShorts(src, srcOff, dst, dstOff, count);
+      final int o = k * 2;
+      return SCALAR.copySwap16(src, srcOff + o, dst, dstOff + o, count - k);
+    }
+
+    @Override
+    public byte[] packArray32(
+      final int[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      final boolean big = isBigEndian(order);
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(srcOff, count, src.length);
+      Objects.checkFromIndexSize(
+        (long) dstOff, (long) count * 4L, (long) dst.length);
+
+      final int k =
+        VectorKernels.packInts(src, srcOff, dst, dstOff, count, big);
+      return SCALAR.packArray32(
+        src, srcOff + k, dst, dstOff + (k * 4), count - k, order);
+    }
+
+    @Override
+    public int[] unpackArray32(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      final boolean big = isBigEndian(order);
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(dstOff, count, dst.length);
+      Objects.checkFromIndexSize(
+        (long) srcOff, (long) count * 4L, (long) src.length);
+
+      final int k =
+        VectorKernels.unpackInts(src, srcOff, dst, dstOff, count, big);
+      return SCALAR.unpackArray32(
+        src, srcOff + (k * 4), dst, dstOff + k, count - k, order);
+    }
+
+    @Override
+    public byte[] swap32(
+      final byte[] data,
+      final int offset,
+      final int count)
+    {
+      return this.copySwap32(data, offset, data, offset, count);
+    }
+
+    @Override
+    public byte[] copySwap32(
+      final byte[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(
+        (long) srcOff, (long) count * 4L, (long) src.length);
+      Objects.checkFromIndexSize(
+        (long) dstOff, (long) count * 4L, (long) dst.length);
+
+      final int k =
+        VectorKernels.swapInts(src, srcOff, dst, dstOff, count);
+      final int o = k * 4;
+      return SCALAR.copySwap32(src, srcOff + o, dst, dstOff + o, count - k);
+    }
+
+    @Override
+    public byte[] packArray64(
+      final long[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      final boolean big = isBigEndian(order);
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(srcOff, count, src.length);
+      Objects.checkFromIndexSize(
+        (long) dstOff, (long) count * 8L, (long) dst.length);
+
+      final int k =
+        VectorKernels.packLongs(src, srcOff, dst, dstOff, count, big);
+      return SCALAR.packArray64(
+        src, srcOff + k, dst, dstOff + (k * 8), count - k, order);
+    }
+
+    @Override
+    public long[] unpackArray64(
+      final byte[] src,
+      final int srcOff,
+      final long[] dst,
+      final int dstOff,
+      final int count,
+      final ByteOrder order)
+    {
+      final boolean big = isBigEndian(order);
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(dstOff, count, dst.length);
+      Objects.checkFromIndexSize(
+        (long) srcOff, (long) count * 8L, (long) src.length);
+
+      final int k =
+        VectorKernels.unpackLongs(src, srcOff, dst, dstOff, count, big);
+      return SCALAR.unpackArray64(
+        src, srcOff + (k * 8), dst, dstOff + k, count - k, order);
+    }
+
+    @Override
+    public byte[] swap64(
+      final byte[] data,
+      final int offset,
+      final int count)
+    {
+      return this.copySwap64(data, offset, data, offset, count);
+    }
+
+    @Override
+    public byte[] copySwap64(
+      final byte[] src,
+      final int srcOff,
+      final byte[] dst,
+      final int dstOff,
+      final int count)
+    {
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(
+        (long) srcOff, (long) count * 8L, (long) src.length);
+      Objects.checkFromIndexSize(
+        (long) dstOff, (long) count * 8L, (long) dst.length);
+
+      final int k =
+        VectorKernels.swapLongs(src, srcOff, dst, dstOff, count);
+      final int o = k * 8;
+      return SCALAR.copySwap64(src, srcOff + o, dst, dstOff + o, count - k);
+    }
+
+    @Override
+    public int decodeGroupVarInts(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(dstOff, count, dst.length);
+      Objects.checkFromIndexSize(srcOff, 0, src.length);
+
+      /*
+       * A group occupies at most 17 bytes, so the number of groups that
+       * can be decoded without reading past the end of the array is
+       * recomputed until fewer than 17 bytes or 4 values remain.
+       */
+
+      final int limit = src.length;
+      int p = srcOff;
+      int k = 0;
+      while (true) {
+        final int groups = Math.min((count - k) >>> 2, (limit - p) / 17);
+        if (groups == 0) {
+          break;
+        }
+        p = VectorKernels.decodeGroupVarInts(src, p, dst, dstOff + k, groups);
+        k += groups * 4;
+      }
+      return SCALAR.decodeGroupVarInts(src, p, dst, dstOff + k, count - k);
+    }
+
+    @Override
+    public int decodeStreamVByte(
+      final byte[] src,
+      final int srcOff,
+      final int[] dst,
+      final int dstOff,
+      final int count)
+    {
+      Objects.requireNonNull(src, "Source");
+      Objects.requireNonNull(dst, "Destination");
+      Objects.checkFromIndexSize(dstOff, count, dst.length);
+
+      final int limit = src.length;
+      final int controls = (count + 3) >>> 2;
+      Objects.checkFromIndexSize(srcOff, controls, limit);
+
+      /*
+       * The data of a group occupies at most 16 bytes; see
+       * decodeGroupVarInts.
+       */
+
+      int p = srcOff + controls;
+      int k = 0;
+      while (true) {
+        final int groups = Math.min((count - k) >>> 2, (limit - p) >>> 4);
+        if (groups == 0) {
+          break;
+        }
+        p = VectorKernels.decodeStreamVByte(
+          src, srcOff + (k >>> 2), p, dst, dstOff + k, groups);
+        k += groups * 4;
+      }
+      return StreamVByte.decodeIntArray(
+        src, srcOff + (k >>> 2), p, dst, dstOff + k, count - k);
+    }
+  }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.vector;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>
+ * The vectorized loops behind {@link BulkEngine}.
+ * </p>
+ * <p>
+ * This is the only class that refers to {@code jdk.incubator.vector}, and
+ * it is only loaded once {@link #isUsable()} has been called from a
+ * context that can recover from a {@link LinkageError}. Every species has
+ * the platform's preferred shape, so a vector of bytes and a vector of
+ * wider lanes always have the same size and can be reinterpreted as one
+ * another. Reinterpretation lays lanes out in little-endian order on
+ * every platform, so big-endian data is produced and consumed by reversing
+ * the bytes of each lane.
+ * </p>
+ * <p>
+ * Each function processes the largest multiple of the vector length that
+ * fits in {@code count} and returns that number of elements; the caller
+ * handles the remainder with a scalar loop. The caller is also responsible
+ * for all range checks.
+ * </p>
+ * <p>
+ * The Group Varint and Stream VByte decoders work on 128-bit vectors, one
+ * group of four values at a time. For each of the 256 control bytes, a
+ * precomputed shuffle moves the bytes of each value to the start of its
+ * 32-bit lane, and a precomputed mask clears the bytes that belong to the
+ * following values.
+ * </p>
+ */
+
+final class VectorKernels
+{
+  private static final VectorSpecies<Byte> BYTES =
+    ByteVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Short> SHORTS =
+    ShortVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> INTS =
+    IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS =
+    LongVector.SPECIES_PREFERRED;
+
+  private static final VectorSpecies<Byte> GROUP_BYTES =
+    ByteVector.SPECIES_128;
+  private static final VectorSpecies<Integer> GROUP_INTS =
+    IntVector.SPECIES_128;
+
+  private static final VectorShuffle<Byte>[] GROUP_SHUFFLES =
+    groupShuffles();
+  private static final int[] GROUP_MASKS = groupMasks();
+
+  private VectorKernels()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return {@code true} if the preferred vector shape is wide enough to
+   * hold at least two 64-bit lanes
+   */
+
+  static boolean isUsable()
+  {
+    return LONGS.length() >= 2;
+  }
+
+  private static int fieldLength(
+    final int control,
+    final int field)
+  {
+    return ((control >>> (field * 2)) & 3) + 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static VectorShuffle<Byte>[] groupShuffles()
+  {
+    final VectorShuffle<Byte>[] r = new VectorShuffle[256];
+    final int[] indices = new int[16];
+    for (int control = 0; control < 256; ++control) {
+      int offset = 0;
+      for (int field = 0; field < 4; ++field) {
+        final int length = fieldLength(control, field);
+        for (int b = 0; b < 4; ++b) {
+          indices[(field * 4) + b] = b < length ? offset + b : 0;
+        }
+        offset += length;
+      }
+      r[control] = VectorShuffle.fromArray(GROUP_BYTES, indices, 0);
+    }
+    return r;
+  }
+
+  private static int[] groupMasks()
+  {
+    final int[] r = new int[256 * 4];
+    for (int control = 0; control < 256; ++control) {
+      for (int field = 0; field < 4; ++field) {
+        final int length = fieldLength(control, field);
+        r[(control * 4) + field] = (int) ((1L << (length * 8)) - 1L);
+      }
+    }
+    return r;
+  }
+
+  private static int decodeGroup(
+    final byte[] src,
+    final int offset,
+    final int control,
+    final int[] dst,
+    final int dstOff)
+  {
+    ByteVector.fromArray(GROUP_BYTES, src, offset)
+      .rearrange(GROUP_SHUFFLES[control])
+      .reinterpretAsInts()
+      .and(IntVector.fromArray(GROUP_INTS, GROUP_MASKS, control * 4))
+      .intoArray(dst, dstOff);
+    return 4
+      + (control & 3)
+      + ((control >>> 2) & 3)
+      + ((control >>> 4) & 3)
+      + (control >>> 6);
+  }
+
+  /**
+   * Decode {@code groups} Group Varint groups starting at {@code offset}.
+   * At least 17 bytes must be readable at the start of every group.
+   *
+   * @return The index following the last byte read
+   */
+
+  static int decodeGroupVarInts(
+    final byte[] src,
+    final int offset,
+    final int[] dst,
+    final int dstOff,
+    final int groups)
+  {
+    int p = offset;
+    for (int g = 0; g < groups; ++g) {
+      final int control = src[p] & 0xff;
+      final int d = p + 1;
+      p = d + decodeGroup(src, d, control, dst, dstOff + (g * 4));
+    }
+    return p;
+  }
+
+  /**
+   * Decode {@code groups} Stream VByte groups whose control bytes start at
+   * {@code controlOff} and whose data starts at {@code dataOff}. At least
+   * 16 bytes must be readable at the start of the data of every group.
+   *
+   * @return The index following the last data byte read
+   */
+
+  static int decodeStreamVByte(
+    final byte[] src,
+    final int controlOff,
+    final int dataOff,
+    final int[] dst,
+    final int dstOff,
+    final int groups)
+  {
+    int p = dataOff;
+    for (int g = 0; g < groups; ++g) {
+      final int control = src[controlOff + g] & 0xff;
+      p += decodeGroup(src, p, control, dst, dstOff + (g * 4));
+    }
+    return p;
+  }
+
+  static int packShorts(
+    final short[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final boolean swap)
+  {
+    final int bound = SHORTS.loopBound(count);
+    for (int k = 0; k < bound; k += SHORTS.length()) {
+      ShortVector v = ShortVector.fromArray(SHORTS, src, srcOff + k);
+      if (swap) {
+        v = v.lanewise(VectorOperators.REVERSE_BYTES);
+      }
+      v.reinterpretAsBytes().intoArray(dst, dstOff + (k * 2));
+    }
+    return bound;
+  }
+
+  static int unpackShorts(
+    final byte[] src,
+    final int srcOff,
+    final short[] dst,
+    final int dstOff,
+    final int count,
+    final boolean swap)
+  {
+    final int bound = SHORTS.loopBound(count);
+    for (int k = 0; k < bound; k += SHORTS.length()) {
+      ShortVector v =
+        ByteVector.fromArray(BYTES, src, srcOff + (k * 2))
+          .reinterpretAsShorts();
+      if (swap) {
+        v = v.lanewise(VectorOperators.REVERSE_BYTES);
+      }
+      v.intoArray(dst, dstOff + k);
+    }
+    return bound;
+  }
+
+  static int swapShorts(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int bound = SHORTS.loopBound(count);
+    for (int k = 0; k < bound; k += SHORTS.length()) {
+      ByteVector.fromArray(BYTES, src, srcOff + (k * 2))
+        .reinterpretAsShorts()
+        .lanewise(VectorOperators.REVERSE_BYTES)
+        .reinterpretAsBytes()
+        .intoArray(dst, dstOff + (k * 2));
+    }
+    return bound;
+  }
+
+  static int packInts(
+    final int[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final boolean swap)
+  {
+    final int bound = INTS.loopBound(count);
+    for (int k = 0; k < bound; k += INTS.length()) {
+      IntVector v = IntVector.fromArray(INTS, src, srcOff + k);
+      if (swap) {
+        v = v.lanewise(VectorOperators.REVERSE_BYTES);
+      }
+      v.reinterpretAsBytes().intoArray(dst, dstOff + (k * 4));
+    }
+    return bound;
+  }
+
+  static int unpackInts(
+    final byte[] src,
+    final int srcOff,
+    final int[] dst,
+    final int dstOff,
+    final int count,
+    final boolean swap)
+  {
+    final int bound = INTS.loopBound(count);
+    for (int k = 0; k < bound; k += INTS.length()) {
+      IntVector v =
+        ByteVector.fromArray(BYTES, src, srcOff + (k * 4))
+          .reinterpretAsInts();
+      if (swap) {
+        v = v.lanewise(VectorOperators.REVERSE_BYTES);
+      }
+      v.intoArray(dst, dstOff + k);
+    }
+    return bound;
+  }
+
+  static int swapInts(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int bound = INTS.loopBound(count);
+    for (int k = 0; k < bound; k += INTS.length()) {
+      ByteVector.fromArray(BYTES, src, srcOff + (k * 4))
+        .reinterpretAsInts()
+        .lanewise(VectorOperators.REVERSE_BYTES)
+        .reinterpretAsBytes()
+        .intoArray(dst, dstOff + (k * 4));
+    }
+    return bound;
+  }
+
+  static int packLongs(
+    final long[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count,
+    final boolean swap)
+  {
+    final int bound = LONGS.loopBound(count);
+    for (int k = 0; k < bound; k += LONGS.length()) {
+      LongVector v = LongVector.fromArray(LONGS, src, srcOff + k);
+      if (swap) {
+        v = v.lanewise(VectorOperators.REVERSE_BYTES);
+      }
+      v.reinterpretAsBytes().intoArray(dst, dstOff + (k * 8));
+    }
+    return bound;
+  }
+
+  static int unpackLongs(
+    final byte[] src,
+    final int srcOff,
+    final long[] dst,
+    final int dstOff,
+    final int count,
+    final boolean swap)
+  {
+    final int bound = LONGS.loopBound(count);
+    for (int k = 0; k < bound; k += LONGS.length()) {
+      LongVector v =
+        ByteVector.fromArray(BYTES, src, srcOff + (k * 8))
+          .reinterpretAsLongs();
+      if (swap) {
+        v = v.lanewise(VectorOperators.REVERSE_BYTES);
+      }
+      v.intoArray(dst, dstOff + k);
+    }
+    return bound;
+  }
+
+  static int swapLongs(
+    final byte[] src,
+    final int srcOff,
+    final byte[] dst,
+    final int dstOff,
+    final int count)
+  {
+    final int bound = LONGS.loopBound(count);
+    for (int k = 0; k < bound; k += LONGS.length()) {
+      ByteVector.fromArray(BYTES, src, srcOff + (k * 8))
+        .reinterpretAsLongs()
+        .lanewise(VectorOperators.REVERSE_BYTES)
+        .reinterpretAsBytes()
+        .intoArray(dst, dstOff + (k * 8));
+    }
+    return bound;
+  }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright © 2014 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+
+package com.io7m.jintegers.vector.tests;
+
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.io7m.jintegers.ByteSwapping;
+import com.io7m.jintegers.GroupVarInts;
+import com.io7m.jintegers.Signed16;
+import com.io7m.jintegers.Signed32;
+import com.io7m.jintegers.Signed64;
+import com.io7m.jintegers.StreamVByte;
+import com.io7m.jintegers.vector.BulkEngine;
+
+@SuppressWarnings({ "null", "static-method" }) public final class BulkEngineTest
+{
+  private static final int[] COUNTS =
+    {0, 1, 3, 7, 8, 15, 16, 17, 31, 32, 33, 64, 100, 257};
+
+  private static final ByteOrder[] ORDERS =
+    {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN};
+
+  private static BulkEngine[] engines()
+  {
+    return new BulkEngine[]{BulkEngine.scalar(), BulkEngine.best()};
+  }
+
+  private static byte[] random(
+    final int size)
+  {
+    final byte[] data = new byte[size];
+    new Random(0x5eedL + size).nextBytes(data);
+    return data;
+  }
+
+  private static int[] encodable(
+    final int count)
+  {
+    final int[] values = new int[count];
+    final Random r = new Random(count);
+    for (int k = 0; k < count; ++k) {
+      values[k] = r.nextInt() >>> (r.nextInt(4) * 8);
+    }
+    return values;
+  }
+
+  @Test public void testEngines()
+  {
+    Assert.assertFalse(BulkEngine.scalar().isVectorized());
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      Assert.assertFalse(BulkEngine.best().isVectorized());
+    }
+  }
+
+  @Test public void testPackUnpack16()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final ByteOrder order : ORDERS) {
+        final boolean big = order.equals(ByteOrder.BIG_ENDIAN);
+        for (final int count : COUNTS) {
+          final short[] values = new short[count + 3];
+          final Random r = new Random(count);
+          for (int k = 0; k < values.length; ++k) {
+            values[k] = (short) r.nextInt();
+          }
+
+          final byte[] expected = new byte[(count * 2) + 5];
+          if (big) {
+            Signed16.packArrayBigEndian(values, 3, expected, 5, count);
+          } else {
+            Signed16.packArrayLittleEndian(values, 3, expected, 5, count);
+          }
+
+          final byte[] packed = new byte[(count * 2) + 5];
+          Assert.assertSame(
+            packed, e.packArray16(values, 3, packed, 5, count, order));
+          Assert.assertArrayEquals(expected, packed);
+
+          final short[] unpacked = new short[count + 3];
+          Assert.assertSame(
+            unpacked, e.unpackArray16(packed, 5, unpacked, 3, count, order));
+          Assert.assertArrayEquals(
+            Arrays.copyOfRange(values, 3, count + 3),
+            Arrays.copyOfRange(unpacked, 3, count + 3));
+        }
+      }
+    }
+  }
+
+  @Test public void testPackUnpack32()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final ByteOrder order : ORDERS) {
+        final boolean big = order.equals(ByteOrder.BIG_ENDIAN);
+        for (final int count : COUNTS) {
+          final int[] values = new Random(count).ints(count + 3L).toArray();
+
+          final byte[] expected = new byte[(count * 4) + 5];
+          if (big) {
+            Signed32.packArrayBigEndian(values, 3, expected, 5, count);
+          } else {
+            Signed32.packArrayLittleEndian(values, 3, expected, 5, count);
+          }
+
+          final byte[] packed = new byte[(count * 4) + 5];
+          Assert.assertSame(
+            packed, e.packArray32(values, 3, packed, 5, count, order));
+          Assert.assertArrayEquals(expected, packed);
+
+          final int[] unpacked = new int[count + 3];
+          Assert.assertSame(
+            unpacked, e.unpackArray32(packed, 5, unpacked, 3, count, order));
+          Assert.assertArrayEquals(
+            Arrays.copyOfRange(values, 3, count + 3),
+            Arrays.copyOfRange(unpacked, 3, count + 3));
+        }
+      }
+    }
+  }
+
+  @Test public void testPackUnpack64()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final ByteOrder order : ORDERS) {
+        final boolean big = order.equals(ByteOrder.BIG_ENDIAN);
+        for (final int count : COUNTS) {
+          final long[] values = new Random(count).longs(count + 3L).toArray();
+
+          final byte[] expected = new byte[(count * 8) + 5];
+          if (big) {
+            Signed64.packArrayBigEndian(values, 3, expected, 5, count);
+          } else {
+            Signed64.packArrayLittleEndian(values, 3, expected, 5, count);
+          }
+
+          final byte[] packed = new byte[(count * 8) + 5];
+          Assert.assertSame(
+            packed, e.packArray64(values, 3, packed, 5, count, order));
+          Assert.assertArrayEquals(expected, packed);
+
+          final long[] unpacked = new long[count + 3];
+          Assert.assertSame(
+            unpacked, e.unpackArray64(packed, 5, unpacked, 3, count, order));
+          Assert.assertArrayEquals(
+            Arrays.copyOfRange(values, 3, count + 3),
+            Arrays.copyOfRange(unpacked, 3, count + 3));
+        }
+      }
+    }
+  }
+
+  @Test public void testSwap()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final int count : COUNTS) {
+        final byte[] data = random((count * 8) + 3);
+
+        final byte[] e16 = ByteSwapping.swap16(data.clone(), 3, count);
+        final byte[] e32 = ByteSwapping.swap32(data.clone(), 3, count);
+        final byte[] e64 = ByteSwapping.swap64(data.clone(), 3, count);
+
+        Assert.assertArrayEquals(e16, e.swap16(data.clone(), 3, count));
+        Assert.assertArrayEquals(e32, e.swap32(data.clone(), 3, count));
+        Assert.assertArrayEquals(e64, e.swap64(data.clone(), 3, count));
+      }
+    }
+  }
+
+  @Test public void testCopySwap()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final int count : COUNTS) {
+        final byte[] data = random((count * 8) + 3);
+        final int size = (count * 8) + 1;
+
+        Assert.assertArrayEquals(
+          ByteSwapping.copySwap16(data, 3, new byte[size], 1, count),
+          e.copySwap16(data, 3, new byte[size], 1, count));
+        Assert.assertArrayEquals(
+          ByteSwapping.copySwap32(data, 3, new byte[size], 1, count),
+          e.copySwap32(data, 3, new byte[size], 1, count));
+        Assert.assertArrayEquals(
+          ByteSwapping.copySwap64(data, 3, new byte[size], 1, count),
+          e.copySwap64(data, 3, new byte[size], 1, count));
+      }
+    }
+  }
+
+  @Test public void testPackRangeChecked()
+  {
+    for (final BulkEngine e : engines()) {
+      final int[] values = new int[64];
+      try {
+        e.packArray32(values, 0, new byte[255], 0, 64, ByteOrder.BIG_ENDIAN);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+      try {
+        e.packArray32(values, 1, new byte[256], 0, 64, ByteOrder.BIG_ENDIAN);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+    }
+  }
+
+  @Test public void testUnpackRangeChecked()
+  {
+    for (final BulkEngine e : engines()) {
+      final long[] values = new long[32];
+      try {
+        e.unpackArray64(
+          new byte[255], 0, values, 0, 32, ByteOrder.LITTLE_ENDIAN);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+      try {
+        e.unpackArray64(
+          new byte[256], 0, values, 1, 32, ByteOrder.LITTLE_ENDIAN);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+    }
+  }
+
+  @Test public void testSwapRangeChecked()
+  {
+    for (final BulkEngine e : engines()) {
+      try {
+        e.swap16(new byte[127], 0, 64);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+      try {
+        e.copySwap32(new byte[256], 0, new byte[256], 4, 64);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+    }
+  }
+
+  @Test(expected = NullPointerException.class) public void testNullOrder()
+  {
+    BulkEngine.best().packArray16(
+      new short[1], 0, new byte[2], 0, 1, null);
+  }
+
+  @Test public void testDecodeGroupVarInts()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final int count : COUNTS) {
+        final int[] values = encodable(count);
+        final int size = (int) GroupVarInts.encodedLength(values, 0, count);
+        final byte[] data = new byte[size + 2];
+        final int end = GroupVarInts.encodeIntArray(values, 0, data, 2, count);
+
+        final int[] decoded = new int[count + 1];
+        Assert.assertEquals(
+          end, e.decodeGroupVarInts(data, 2, decoded, 1, count));
+        Assert.assertArrayEquals(
+          values, Arrays.copyOfRange(decoded, 1, count + 1));
+      }
+    }
+  }
+
+  @Test public void testDecodeStreamVByte()
+  {
+    for (final BulkEngine e : engines()) {
+      for (final int count : COUNTS) {
+        final int[] values = encodable(count);
+        final int size = (int) StreamVByte.encodedLength(values, 0, count);
+        final byte[] data = new byte[size + 2];
+        final int end = StreamVByte.encodeIntArray(values, 0, data, 2, count);
+
+        final int[] decoded = new int[count + 1];
+        Assert.assertEquals(
+          end, e.decodeStreamVByte(data, 2, decoded, 1, count));
+        Assert.assertArrayEquals(
+          values, Arrays.copyOfRange(decoded, 1, count + 1));
+      }
+    }
+  }
+
+  @Test public void testDecodeTruncated()
+  {
+    final int[] values = encodable(100);
+    final byte[] group =
+      new byte[(int) GroupVarInts.encodedLength(values, 0, 100)];
+    final byte[] stream =
+      new byte[(int) StreamVByte.encodedLength(values, 0, 100)];
+    GroupVarInts.encodeIntArray(values, 0, group, 0, 100);
+    StreamVByte.encodeIntArray(values, 0, stream, 0, 100);
+
+    for (final BulkEngine e : engines()) {
+      try {
+        e.decodeGroupVarInts(
+          Arrays.copyOf(group, group.length - 1), 0, new int[100], 0, 100);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+      try {
+        e.decodeStreamVByte(
+          Arrays.copyOf(stream, stream.length - 1), 0, new int[100], 0, 100);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+      try {
+        e.decodeStreamVByte(new byte[24], 0, new int[100], 0, 100);
+        Assert.fail();
+      } catch (final IndexOutOfBoundsException ex) {
+        // Expected
+      }
+    }
+  }
+}